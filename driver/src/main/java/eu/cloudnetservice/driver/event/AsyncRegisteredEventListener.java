@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event;
+
+import java.time.Duration;
+import lombok.NonNull;
+
+/**
+ * A registered event listener which receives events asynchronously. Events passed to this listener are queued and
+ * delivered to the underlying listener method from an executor owned by the event manager, in the order in which they
+ * were called. A listener is never invoked simultaneously, even if events are called from multiple threads.
+ * <p>
+ * Events which are {@link Cancelable} are always delivered synchronously to the listener, as the caller of the event
+ * needs to be able to observe the cancellation state after the event call. These events are not ordered with the
+ * queued events, a cancelable event might be delivered before events which were called earlier but are still queued.
+ *
+ * @see EventListener#async()
+ * @see EventManager#registerListener(Object, boolean)
+ * @since 4.0
+ */
+public interface AsyncRegisteredEventListener extends RegisteredEventListener {
+
+  /**
+   * Get the amount of events which are queued for delivery to this listener right now.
+   *
+   * @return the amount of events queued for delivery to this listener.
+   */
+  int queuedEvents();
+
+  /**
+   * Get the maximum amount of events which can be queued for delivery to this listener. Events which are called while
+   * the queue of this listener is full are delivered synchronously instead and are therefore not ordered with the
+   * queued events.
+   *
+   * @return the maximum amount of events which can be queued for delivery.
+   */
+  int queueCapacity();
+
+  /**
+   * Get the amount of events which were delivered to this listener, including the events which were delivered
+   * synchronously and events which caused the listener to throw an exception.
+   *
+   * @return the amount of events which were delivered to this listener.
+   */
+  long deliveredEvents();
+
+  /**
+   * Get the average time an event spent in the queue of this listener before it was delivered.
+   *
+   * @return the average time an event waited for delivery to this listener.
+   */
+  @NonNull Duration averageQueueLatency();
+
+  /**
+   * Get the average time this listener needed to process an event.
+   *
+   * @return the average processing time of an event in this listener.
+   */
+  @NonNull Duration averageListenerLatency();
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.event;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.NonNull;
+
+/**
+ * The default implementation of an async registered event listener. Events are put into a bounded queue and drained by
+ * at most one task at a time which is scheduled on the given executor, ensuring that the events are delivered in order.
+ * <p>
+ * Events which are cancelable or which are called while the queue is full are delivered synchronously, the caller is
+ * never blocked. These events are not ordered with the queued events.
+ *
+ * @since 4.0
+ */
+final class DefaultAsyncRegisteredEventListener implements AsyncRegisteredEventListener {
+
+  private static final Logger LOGGER = LogManager.logger(DefaultAsyncRegisteredEventListener.class);
+
+  private final Executor executor;
+  private final RegisteredEventListener delegate;
+
+  private final BlockingQueue<QueuedEvent> eventQueue;
+  private final AtomicBoolean drainScheduled = new AtomicBoolean();
+  private final Lock invocationLock = new ReentrantLock();
+
+  private final LongAdder deliveredEvents = new LongAdder();
+  private final LongAdder totalQueueNanos = new LongAdder();
+  private final LongAdder totalListenerNanos = new LongAdder();
+
+  /**
+   * Constructs a new default async registered event listener.
+   *
+   * @param delegate      the listener to deliver the events to.
+   * @param executor      the executor to drain the event queue on.
+   * @param queueCapacity the maximum amount of events which can be queued for delivery.
+   * @throws NullPointerException     if the given delegate or executor is null.
+   * @throws IllegalArgumentException if the given queue capacity is less than 1.
+   */
+  DefaultAsyncRegisteredEventListener(
+    @NonNull RegisteredEventListener delegate,
+    @NonNull Executor executor,
+    int queueCapacity
+  ) {
+    this.delegate = delegate;
+    this.executor = executor;
+    this.eventQueue = new ArrayBlockingQueue<>(queueCapacity);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void fireEvent(@NonNull Event event) {
+    // cancelable events must be delivered synchronously, the caller must be able to see the cancellation state. note
+    // that these events are therefore not ordered with the events which are still queued
+    if (event instanceof Cancelable) {
+      this.deliverEvent(event, System.nanoTime());
+      return;
+    }
+
+    // never block the caller, if the listener is not able to keep up with the called events the event is delivered
+    // synchronously instead. this also applies to the draining thread, which is the only thread freeing space in the
+    // queue (for example when the listener calls an event it listens to)
+    var queueTime = System.nanoTime();
+    if (!this.eventQueue.offer(new QueuedEvent(event, queueTime))) {
+      this.deliverEvent(event, queueTime);
+      return;
+    }
+
+    this.scheduleDrain();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull EventListener eventListener() {
+    return this.delegate.eventListener();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull InvocationOrder order() {
+    return this.delegate.order();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull String channel() {
+    return this.delegate.channel();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Object instance() {
+    return this.delegate.instance();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Class<?> eventClass() {
+    return this.delegate.eventClass();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int queuedEvents() {
+    return this.eventQueue.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int queueCapacity() {
+    return this.eventQueue.size() + this.eventQueue.remainingCapacity();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long deliveredEvents() {
+    return this.deliveredEvents.sum();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Duration averageQueueLatency() {
+    return this.average(this.totalQueueNanos);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Duration averageListenerLatency() {
+    return this.average(this.totalListenerNanos);
+  }
+
+  /**
+   * Schedules a drain of the event queue on the executor if there are queued events and no drain is scheduled yet.
+   */
+  private void scheduleDrain() {
+    if (!this.eventQueue.isEmpty() && this.drainScheduled.compareAndSet(false, true)) {
+      this.executor.execute(this::drainQueue);
+    }
+  }
+
+  /**
+   * Delivers all queued events to the underlying listener. Exceptions thrown by the listener are logged, as there is no
+   * caller they could be propagated to.
+   */
+  private void drainQueue() {
+    try {
+      QueuedEvent queuedEvent;
+      while ((queuedEvent = this.eventQueue.poll()) != null) {
+        try {
+          this.deliverEvent(queuedEvent.event(), queuedEvent.queueTime());
+        } catch (EventListenerException exception) {
+          LOGGER.severe("Exception while asynchronously handling event %s", exception, queuedEvent.event());
+        }
+      }
+    } finally {
+      // events might have been queued after the last poll but before the drain marker was reset
+      this.drainScheduled.set(false);
+      this.scheduleDrain();
+    }
+  }
+
+  /**
+   * Delivers the given event to the underlying listener and records the latency metrics of the delivery.
+   *
+   * @param event     the event to deliver.
+   * @param queueTime the nano time at which the event was called.
+   * @throws NullPointerException   if the given event is null.
+   * @throws EventListenerException if the underlying listener throws an exception while handling the event.
+   */
+  private void deliverEvent(@NonNull Event event, long queueTime) {
+    this.invocationLock.lock();
+    try {
+      var startTime = System.nanoTime();
+      this.totalQueueNanos.add(startTime - queueTime);
+      try {
+        this.delegate.fireEvent(event);
+      } finally {
+        this.totalListenerNanos.add(System.nanoTime() - startTime);
+        this.deliveredEvents.increment();
+      }
+    } finally {
+      this.invocationLock.unlock();
+    }
+  }
+
+  /**
+   * Computes the average duration based on the given total nanos and the amount of delivered events.
+   *
+   * @param totalNanos the total nanos to compute the average of.
+   * @return the average duration per delivered event.
+   * @throws NullPointerException if the given total nanos adder is null.
+   */
+  private @NonNull Duration average(@NonNull LongAdder totalNanos) {
+    var delivered = this.deliveredEvents.sum();
+    return delivered == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos.sum() / delivered);
+  }
+
+  /**
+   * An event which is queued for delivery.
+   *
+   * @param event     the queued event.
+   * @param queueTime the nano time at which the event was queued.
+   * @since 4.0
+   */
+  private record QueuedEvent(@NonNull Event event, long queueTime) {
+
+  }
+}
@@ -18,14 +18,22 @@
 
 import dev.derklaro.aerogel.auto.Provides;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Predicate;
@@ -33,6 +41,14 @@
 
 /**
  * The default implementation of an event manager.
+ * <p>
+ * The registered listeners are published as an immutable snapshot which gets swapped when listeners are registered or
+ * unregistered, calling an event never needs to acquire a lock. For each called event type the listeners of the event
+ * type and all of its supertypes are compiled into a dispatch chain, grouped by the channel they are listening to. The
+ * chains are compiled lazily and cached until the registered listeners change.
+ * <p>
+ * Async listeners have a bounded queue of events, which gets drained on a shared executor (using virtual threads if
+ * available). At most one drain task is running per listener at a time, ensuring that events are delivered in order.
  *
  * @since 4.0
  */
@@ -40,8 +56,29 @@
 @Provides(EventManager.class)
 public class DefaultEventManager implements EventManager {
 
+  protected static final int ASYNC_LISTENER_QUEUE_CAPACITY = Integer.getInteger(
+    "cloudnet.event.async.queue-capacity",
+    1024);
+  protected static final RegisteredEventListener[] EMPTY_LISTENER_ARRAY = new RegisteredEventListener[0];
+
   protected final Lock bakeLock = new ReentrantLock(true);
-  protected final Map<Class<?>, List<RegisteredEventListener>> listeners = new HashMap<>();
+  protected final ExecutorService asyncListenerExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Event-Dispatcher-",
+    threadFactory -> {
+      var threads = Runtime.getRuntime().availableProcessors();
+      var executor = new ThreadPoolExecutor(
+        threads,
+        threads,
+        30L,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        threadFactory);
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    });
+
+  protected volatile Map<Class<?>, List<RegisteredEventListener>> listeners = Map.of();
+  protected volatile Map<Class<?>, Map<String, RegisteredEventListener[]>> dispatchChains = new ConcurrentHashMap<>();
 
   /**
    * {@inheritDoc}
@@ -69,25 +106,18 @@ public class DefaultEventManager implements EventManager {
    */
   @Override
   public <T extends Event> @NonNull T callEvent(@NonNull String channel, @NonNull T event) {
-    // get all registered listeners of the event
-    var listeners = this.listeners.get(event.getClass());
-    if (listeners != null && !listeners.isEmpty()) {
-      // check if there is only one listener
-      if (listeners.size() == 1) {
-        var listener = listeners.get(0);
-        // check if the event gets called on the same channel as the listener is listening to
-        if (listener.channel().equals(channel)) {
-          listener.fireEvent(event);
-        }
-      } else {
-        // post the event to the listeners
-        for (var listener : listeners) {
-          // check if the event gets called on the same channel as the listener is listening to
-          if (listener.channel().equals(channel)) {
-            listener.fireEvent(event);
-          }
-        }
-      }
+    // get the compiled dispatch chain of the event type, the chains must be read before the listeners as they are
+    // published in the opposite order
+    var dispatchChains = this.dispatchChains;
+    var chain = dispatchChains.get(event.getClass());
+    if (chain == null) {
+      chain = dispatchChains.computeIfAbsent(event.getClass(), this::compileDispatchChain);
+    }
+
+    // post the event to all listeners which are listening to the channel
+    var listeners = chain.getOrDefault(channel, EMPTY_LISTENER_ARRAY);
+    for (var listener : listeners) {
+      listener.fireEvent(event);
     }
     // for chaining
     return event;
@@ -111,6 +141,31 @@ public class DefaultEventManager implements EventManager {
     return this.registerListener(injectionLayer, listener);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull EventManager registerListener(@NonNull Object listener, boolean async) {
+    var injectionLayer = InjectionLayer.findLayerOf(listener);
+    return this.registerListener(injectionLayer, listener, async);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Collection<AsyncRegisteredEventListener> asyncListeners() {
+    List<AsyncRegisteredEventListener> asyncListeners = new ArrayList<>();
+    for (var eventListeners : this.listeners.values()) {
+      for (var eventListener : eventListeners) {
+        if (eventListener instanceof AsyncRegisteredEventListener asyncListener) {
+          asyncListeners.add(asyncListener);
+        }
+      }
+    }
+    return Collections.unmodifiableList(asyncListeners);
+  }
+
   /**
    * Registers all methods in the given listener class which are annotated with {@link EventListener} and are taking
    * only one argument with a subtype of {@link Event}.
@@ -128,7 +183,34 @@ public class DefaultEventManager implements EventManager {
    * @throws IllegalArgumentException if an event listener target doesn't take an event as it's first argument.
    */
   protected @NonNull EventManager registerListener(@NonNull InjectionLayer<?> layer, @NonNull Object listener) {
+    return this.registerListener(layer, listener, false);
+  }
+
+  /**
+   * Registers all methods in the given listener class which are annotated with {@link EventListener} and are taking
+   * only one argument with a subtype of {@link Event}. If async is set to true all listeners in the class will receive
+   * events asynchronously, regardless of the value of {@link EventListener#async()}.
+   * <p>
+   * This method accepts public, protected, default (package) access, and private methods but will not include inherited
+   * methods at all.
+   * <p>
+   * All methods which are not annotated with {@link EventListener}, are static and are not taking one or more arguments
+   * are silently ignored.
+   *
+   * @param layer    the injection layer to use to get instances needed for event listeners.
+   * @param listener the instance of the listener to register the methods in.
+   * @param async    true if all listeners in the given class should receive events asynchronously.
+   * @return the same event manager as used to call the method, for chaining.
+   * @throws NullPointerException     if the given listener or injection layer is null.
+   * @throws IllegalArgumentException if an event listener target doesn't take an event as it's first argument.
+   */
+  protected @NonNull EventManager registerListener(
+    @NonNull InjectionLayer<?> layer,
+    @NonNull Object listener,
+    boolean async
+  ) {
     // get all methods of the listener
+    List<RegisteredEventListener> eventListeners = new ArrayList<>();
     for (var method : listener.getClass().getDeclaredMethods()) {
       // check if the method can be used
       var annotation = method.getAnnotation(EventListener.class);
@@ -144,20 +226,26 @@ public class DefaultEventManager implements EventManager {
         }
 
         // bring the information together
-        var eventListener = new DefaultRegisteredEventListener(listener, method, annotation, layer);
-
-        this.bakeLock.lock();
-        try {
-          // bake an event listener from the information
-          var listeners = this.listeners.computeIfAbsent(eventClass, $ -> new CopyOnWriteArrayList<>());
-          listeners.add(eventListener);
-          // sort now - we don't need to sort lather then
-          Collections.sort(listeners);
-        } finally {
-          this.bakeLock.unlock();
+        RegisteredEventListener eventListener = new DefaultRegisteredEventListener(listener, method, annotation, layer);
+        if (async || annotation.async()) {
+          eventListener = new DefaultAsyncRegisteredEventListener(
+            eventListener,
+            this.asyncListenerExecutor,
+            ASYNC_LISTENER_QUEUE_CAPACITY);
         }
+
+        eventListeners.add(eventListener);
       }
     }
+
+    // publish all listeners of the class at once
+    if (!eventListeners.isEmpty()) {
+      this.modifyListeners(listeners -> {
+        for (var eventListener : eventListeners) {
+          listeners.computeIfAbsent(eventListener.eventClass(), $ -> new ArrayList<>()).add(eventListener);
+        }
+      });
+    }
     // for chaining
     return this;
   }
@@ -169,9 +257,8 @@ public class DefaultEventManager implements EventManager {
    * @throws NullPointerException if the given predicate is null.
    */
   protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate) {
-    this.bakeLock.lock();
-    try {
-      var iterator = this.listeners.values().iterator();
+    this.modifyListeners(listeners -> {
+      var iterator = listeners.values().iterator();
       while (iterator.hasNext()) {
         // remove all listeners which are matching the predicate
         var entry = iterator.next();
@@ -181,8 +268,88 @@ protected void safeRemove(@NonNull Predicate<RegisteredEventListener> predicate)
           iterator.remove();
         }
       }
+    });
+  }
+
+  /**
+   * Applies the given modification to a mutable copy of the registered listeners and publishes the result as the new
+   * snapshot of the registered listeners. All compiled dispatch chains are discarded afterwards.
+   *
+   * @param modifier the modification to apply to the registered listeners.
+   * @throws NullPointerException if the given modifier is null.
+   */
+  protected void modifyListeners(@NonNull ListenerModifier modifier) {
+    this.bakeLock.lock();
+    try {
+      // copy the current listeners into a mutable map
+      Map<Class<?>, List<RegisteredEventListener>> listeners = new LinkedHashMap<>();
+      for (var entry : this.listeners.entrySet()) {
+        listeners.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+      }
+
+      // apply the modification, then re-sort the listeners and publish them
+      modifier.modify(listeners);
+      Map<Class<?>, List<RegisteredEventListener>> snapshot = new LinkedHashMap<>();
+      listeners.forEach((eventClass, eventListeners) -> {
+        // sort now - we don't need to sort later then
+        Collections.sort(eventListeners);
+        snapshot.put(eventClass, List.copyOf(eventListeners));
+      });
+
+      // publish the listeners before the dispatch chains, callers are reading them in the opposite order
+      this.listeners = Collections.unmodifiableMap(snapshot);
+      this.dispatchChains = new ConcurrentHashMap<>();
     } finally {
       this.bakeLock.unlock();
     }
   }
+
+  /**
+   * Compiles the dispatch chain for the given event type. The chain contains all listeners which are listening to the
+   * event type or one of its supertypes, in the order in which they should be called, grouped by the channel they are
+   * listening to.
+   *
+   * @param eventClass the event type to compile the dispatch chain for.
+   * @return the compiled dispatch chain, grouped by the channel the listeners are listening to.
+   * @throws NullPointerException if the given event class is null.
+   */
+  protected @NonNull Map<String, RegisteredEventListener[]> compileDispatchChain(@NonNull Class<?> eventClass) {
+    // collect all listeners which are listening to the event or one of its supertypes
+    List<RegisteredEventListener> eventListeners = new ArrayList<>();
+    for (var entry : this.listeners.entrySet()) {
+      if (entry.getKey().isAssignableFrom(eventClass)) {
+        eventListeners.addAll(entry.getValue());
+      }
+    }
+
+    // sort the listeners (the sort is stable, the registration order is kept for listeners with the same order)
+    Collections.sort(eventListeners);
+
+    // group the listeners by their channel
+    Map<String, List<RegisteredEventListener>> listenersByChannel = new HashMap<>();
+    for (var listener : eventListeners) {
+      listenersByChannel.computeIfAbsent(listener.channel(), $ -> new ArrayList<>()).add(listener);
+    }
+
+    Map<String, RegisteredEventListener[]> chain = new HashMap<>();
+    listenersByChannel.forEach((channel, listeners) -> chain.put(channel, listeners.toArray(EMPTY_LISTENER_ARRAY)));
+    return Map.copyOf(chain);
+  }
+
+  /**
+   * A modification which gets applied to a mutable copy of the registered listeners.
+   *
+   * @since 4.0
+   */
+  @FunctionalInterface
+  protected interface ListenerModifier {
+
+    /**
+     * Applies the modification to the given mutable copy of the registered listeners.
+     *
+     * @param listeners the mutable copy of the registered listeners, mapped by the event type they are listening to.
+     * @throws NullPointerException if the given listener map is null.
+     */
+    void modify(@NonNull Map<Class<?>, List<RegisteredEventListener>> listeners);
+  }
 }
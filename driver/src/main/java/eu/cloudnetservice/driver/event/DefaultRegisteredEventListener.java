@@ -17,23 +17,30 @@
 package eu.cloudnetservice.driver.event;
 
 import dev.derklaro.aerogel.Element;
-import dev.derklaro.reflexion.MethodAccessor;
-import dev.derklaro.reflexion.Reflexion;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.inject.InjectUtil;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * The default implementation of a registered event listener.
+ * The default implementation of a registered event listener. The target method is compiled into an invoker once when
+ * constructing the listener, which is either a call site generated using the lambda metafactory (if the listener class
+ * allows full privilege access) or an exactly typed method handle.
  *
  * @since 4.0
  */
 final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private static final Logger LOGGER = LogManager.logger(DefaultRegisteredEventListener.class);
+  private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class, Object.class, Event.class);
 
   private final Object instance;
   private final Class<?> eventClass;
@@ -41,7 +48,7 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
 
   private final String methodName;
   private final Element[] methodArguments;
-  private final MethodAccessor<?> methodAccessor;
+  private final EventInvoker invoker;
 
   private final InjectionLayer<?> injectionLayer;
 
@@ -52,7 +59,8 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
    * @param targetMethod   the method of the event listener.
    * @param eventListener  the annotation used to identify the target method.
    * @param injectionLayer the injection layer to use when additional parameters are present on the target method.
-   * @throws NullPointerException if one of the given arguments is null.
+   * @throws NullPointerException  if one of the given arguments is null.
+   * @throws IllegalStateException if the target method is not accessible.
    */
   DefaultRegisteredEventListener(
     @NonNull Object instance,
@@ -69,12 +77,11 @@ final class DefaultRegisteredEventListener implements RegisteredEventListener {
     this.methodName = targetMethod.getName();
     this.eventClass = targetMethod.getParameterTypes()[0];
 
-    // method access
-    var reflexion = Reflexion.onBound(instance);
-    this.methodAccessor = reflexion.unreflect(targetMethod);
-
     // injection stuff, ignore the first element (the event itself)
     this.methodArguments = InjectUtil.buildElementsForParameters(targetMethod.getParameters(), 1);
+
+    // method access
+    this.invoker = this.compileInvoker(targetMethod);
   }
 
   /**
@@ -88,18 +95,15 @@ public void fireEvent(@NonNull Event event) {
       event.getClass().getName(),
       this.instance().getClass().getName());
 
-    // find the parameter instances, set the first argument to the event instance
-    var instances = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
-    instances[0] = event;
-
     // invoke the event listener & rethrow any thrown exceptions wrapped
-    var result = this.methodAccessor.invokeWithArgs(instances);
-    if (result.wasExceptional()) {
+    try {
+      this.invoker.invoke(this.instance, event);
+    } catch (Throwable throwable) {
       throw new EventListenerException(String.format(
         "Error while invoking event listener %s in class %s",
         this.methodName,
         this.instance.getClass().getName()
-      ), result.getException());
+      ), throwable);
     }
   }
 
@@ -142,4 +146,115 @@ public void fireEvent(@NonNull Event event) {
   public @NonNull EventListener eventListener() {
     return this.eventListener;
   }
+
+  /**
+   * Compiles the invoker for the given target method. Methods which only take the event as their argument are invoked
+   * directly, for all other methods the additional arguments are requested from the injection layer on each call.
+   *
+   * @param targetMethod the method to compile the invoker for.
+   * @return the compiled invoker for the given method.
+   * @throws NullPointerException  if the given method is null.
+   * @throws IllegalStateException if the target method is not accessible.
+   */
+  private @NonNull EventInvoker compileInvoker(@NonNull Method targetMethod) {
+    var lookup = this.resolveLookup(targetMethod);
+    try {
+      var methodHandle = lookup.unreflect(targetMethod);
+      if (this.methodArguments.length == 0) {
+        // try to generate a call site first, fall back to the method handle if that's not possible
+        var generatedInvoker = this.generateInvoker(lookup, methodHandle);
+        if (generatedInvoker != null) {
+          return generatedInvoker;
+        }
+
+        var exactHandle = methodHandle.asType(INVOKER_TYPE);
+        return (instance, event) -> exactHandle.invokeExact(instance, event);
+      }
+
+      // spread the event and the injected arguments into the method call
+      var spreadHandle = methodHandle
+        .asSpreader(Object[].class, targetMethod.getParameterCount())
+        .asType(MethodType.methodType(void.class, Object.class, Object[].class));
+      return (instance, event) -> {
+        var arguments = InjectUtil.findAllInstances(this.injectionLayer, this.methodArguments, 1);
+        arguments[0] = event;
+        spreadHandle.invokeExact(instance, arguments);
+      };
+    } catch (IllegalAccessException exception) {
+      throw new IllegalStateException("Unable to access event listener method " + targetMethod, exception);
+    }
+  }
+
+  /**
+   * Resolves the lookup to use to access the given target method. This method tries to get a lookup with private
+   * access in the declaring class of the method first, and falls back to a lookup in this class if that's not
+   * possible (for example if the package of the class is not opened to this module).
+   *
+   * @param targetMethod the target method to get the lookup for.
+   * @return a lookup which is able to access the given method.
+   * @throws NullPointerException if the given method is null.
+   */
+  private @NonNull MethodHandles.Lookup resolveLookup(@NonNull Method targetMethod) {
+    try {
+      return MethodHandles.privateLookupIn(targetMethod.getDeclaringClass(), MethodHandles.lookup());
+    } catch (IllegalAccessException exception) {
+      targetMethod.trySetAccessible();
+      return MethodHandles.lookup();
+    }
+  }
+
+  /**
+   * Tries to generate a call site using the lambda metafactory for the given method handle. This is only possible if
+   * the given lookup has full privilege access to the listener class.
+   *
+   * @param lookup       the lookup which was used to resolve the method handle.
+   * @param methodHandle the method handle to the listener method.
+   * @return the generated invoker, null if the invoker cannot be generated.
+   * @throws NullPointerException if the given lookup or method handle is null.
+   */
+  private @Nullable EventInvoker generateInvoker(
+    @NonNull MethodHandles.Lookup lookup,
+    @NonNull MethodHandle methodHandle
+  ) {
+    if (!lookup.hasFullPrivilegeAccess()) {
+      return null;
+    }
+
+    try {
+      // the generated class is defined in the listener class loader, therefore we need to implement an interface which
+      // is visible from there. exceptions thrown by the listener are still passed through as the generated class does
+      // not check for them
+      var callSite = LambdaMetafactory.metafactory(
+        lookup,
+        "accept",
+        MethodType.methodType(BiConsumer.class),
+        MethodType.methodType(void.class, Object.class, Object.class),
+        methodHandle,
+        methodHandle.type().changeReturnType(void.class));
+      @SuppressWarnings("unchecked")
+      var consumer = (BiConsumer<Object, Event>) callSite.getTarget().invokeExact();
+      return consumer::accept;
+    } catch (Throwable throwable) {
+      LOGGER.fine("Unable to generate invoker for event listener %s", throwable, this.methodName);
+      return null;
+    }
+  }
+
+  /**
+   * An invoker of an event listener method.
+   *
+   * @since 4.0
+   */
+  @FunctionalInterface
+  interface EventInvoker {
+
+    /**
+     * Invokes the event listener method on the given listener instance with the given event.
+     *
+     * @param instance the instance of the listener to invoke the method on.
+     * @param event    the event to pass to the listener method.
+     * @throws Throwable if the listener method throws an exception.
+     */
+    void invoke(@NonNull Object instance, @NonNull Event event) throws Throwable;
+  }
 }
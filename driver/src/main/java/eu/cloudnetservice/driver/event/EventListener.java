@@ -69,4 +69,17 @@
    * @return the priority of the listener.
    */
   InvocationOrder order() default InvocationOrder.NORMAL;
+
+  /**
+   * Sets if this listener should receive events asynchronously. An async listener receives events in the order in which
+   * they were called, but on a thread owned by the event manager rather than the thread calling the event. Events
+   * which are {@link Cancelable} are always delivered synchronously. Defaults to false.
+   * <p>
+   * Async listeners should not modify the received events, as the caller of the event might have already finished
+   * processing the event when the listener gets called.
+   *
+   * @return true if the listener should receive events asynchronously, false otherwise.
+   * @see AsyncRegisteredEventListener
+   */
+  boolean async() default false;
 }
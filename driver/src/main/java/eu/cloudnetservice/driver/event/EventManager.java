@@ -16,7 +16,9 @@
 
 package eu.cloudnetservice.driver.event;
 
+import java.util.Collection;
 import lombok.NonNull;
+import org.jetbrains.annotations.UnmodifiableView;
 
 /**
  * Dispatches events to listeners, and provides ways for listeners to register themselves.
@@ -34,7 +36,8 @@
  * Note: event execution is always a blocking operation, <strong>NEVER</strong> should an event listener receive event
  * notifications simultaneously. By default, no event listener will be called when any event publish is ongoing. Other
  * implementations are free to change this behaviour as long as there are no calls to the same event listener
- * simultaneously.
+ * simultaneously. Listeners which are marked as async are called on a thread owned by the event manager instead, but
+ * are never called simultaneously as well.
  *
  * @see EventListener
  * @see RegisteredEventListener
@@ -123,6 +126,35 @@ public interface EventManager {
    */
   @NonNull EventManager registerListener(@NonNull Object listener);
 
+  /**
+   * Registers all methods in the given listener class which are annotated with {@link EventListener} and are taking
+   * only one argument with a subtype of {@link Event}. If async is set to true all listeners in the class will receive
+   * events asynchronously, regardless of the value of {@link EventListener#async()}.
+   * <p>
+   * This method accepts public, protected, default (package) access, and private methods but will not include inherited
+   * methods at all.
+   * <p>
+   * All methods which are not annotated with {@link EventListener}, are static and are not taking one or more arguments
+   * are silently ignored.
+   *
+   * @param listener the instance of the listener to register the methods in.
+   * @param async    true if all listeners in the given class should receive events asynchronously.
+   * @return the same event manager as used to call the method, for chaining.
+   * @throws NullPointerException     if the given listener is null.
+   * @throws IllegalArgumentException if an event listener target doesn't take an event as it's first argument.
+   * @see AsyncRegisteredEventListener
+   */
+  @NonNull EventManager registerListener(@NonNull Object listener, boolean async);
+
+  /**
+   * Get all listeners which are registered to this event manager and receive events asynchronously. The returned
+   * listeners can be used to get information about the event delivery, for example the amount of queued events.
+   *
+   * @return all registered listeners which receive events asynchronously.
+   */
+  @UnmodifiableView
+  @NonNull Collection<AsyncRegisteredEventListener> asyncListeners();
+
   /**
    * Registers all listeners which are in the given listener classes individually to this event manager.
    *
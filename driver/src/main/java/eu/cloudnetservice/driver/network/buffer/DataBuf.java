@@ -17,7 +17,9 @@
 package eu.cloudnetservice.driver.network.buffer;
 
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.nio.channels.WritableByteChannel;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -158,6 +160,20 @@ public interface DataBuf extends AutoCloseable {
    */
   byte[] readByteArray();
 
+  /**
+   * Reads the next array of bytes from the buffer and writes the bytes directly into the given channel, without copying
+   * them into an intermediate array first. The expected format is the same as described in {@link #readByteArray()}.
+   * The bytes are written at the current position of the given channel.
+   *
+   * @param target the channel to write the bytes of the array to.
+   * @return the number of bytes which were written into the given channel.
+   * @throws NullPointerException      if the given target channel is null.
+   * @throws IndexOutOfBoundsException if there are fewer bytes than expected in the buffer.
+   * @throws IllegalStateException     if this buffer was released.
+   * @throws UncheckedIOException      if an i/o error occurs while writing the bytes to the given channel.
+   */
+  int readByteArray(@NonNull WritableByteChannel target);
+
   /**
    * Reads the next unique id from the buffer at the current reader index. The operation reads two longs from the
    * buffer: the most significant bits of the unique id, and the least significant bits of the unique id. This totals to
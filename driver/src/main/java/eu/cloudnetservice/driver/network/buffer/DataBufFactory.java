@@ -71,6 +71,24 @@ public interface DataBufFactory {
    */
   @NonNull DataBuf copyOf(@NonNull DataBuf dataBuf);
 
+  /**
+   * Converts the given data buffer into a readonly buffer. Copies of the returned buffer created using
+   * {@link #copyOf(DataBuf)} share the memory with it rather than copying the content, which makes it cheap to write
+   * the same content to multiple targets. The ownership of the given buffer is transferred to the returned buffer, the
+   * given buffer must no longer be used after calling this method.
+   * <p>
+   * A factory is only expected to be able to convert a buffer created by it. The default implementation returns the
+   * given buffer, copies of it are full copies of the content in that case.
+   *
+   * @param dataBuf the buffer to convert.
+   * @return a readonly buffer owning the content of the given buffer.
+   * @throws IllegalArgumentException if the buffer cannot be converted.
+   * @throws NullPointerException     if the given buffer is null.
+   */
+  default @NonNull DataBuf readOnlyOf(@NonNull DataBuf dataBuf) {
+    return dataBuf;
+  }
+
   /**
    * Creates a mutable copy of the given data buffer. The copied variant of the buffer will start the read and write
    * process from the first byte rather than re-using the current index of the original buffer.
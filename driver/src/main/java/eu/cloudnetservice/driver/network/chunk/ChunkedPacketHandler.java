@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.BitSet;
 import lombok.NonNull;
 
 /**
@@ -54,6 +55,38 @@ public interface ChunkedPacketHandler extends ChunkedPacketProvider {
    */
   boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf);
 
+  /**
+   * Get if the chunk at the given position was handled successfully by this handler. If a chunk was not handled (for
+   * example because it was corrupted during the transfer) while the transfer is still running, the sender is requested
+   * to send the chunk again. By default, this method assumes that all chunks were handled successfully.
+   *
+   * @param chunkPosition the position of the chunk, starting from 0.
+   * @return true if the chunk was handled successfully, false otherwise.
+   */
+  default boolean chunkHandled(int chunkPosition) {
+    return true;
+  }
+
+  /**
+   * Get the positions of all chunks which were already handled by this handler. A handler which is able to resume an
+   * interrupted transfer returns the chunks which were handled in a previous attempt of the transfer, allowing the
+   * sender to skip them. By default, this method returns an empty set.
+   *
+   * @return the positions of all chunks which were already handled.
+   */
+  default @NonNull BitSet handledChunks() {
+    return new BitSet();
+  }
+
+  /**
+   * Closes this handler, releasing all resources which are held by it. This method is called when the session of the
+   * handler completed or was abandoned by the sender. A handler which is able to resume an interrupted transfer should
+   * keep its progress, allowing a handler for the same session to resume the transfer later. By default, this method
+   * does nothing.
+   */
+  default void close() {
+  }
+
   /**
    * A callback called once the full data of the chunk session was received successfully.
    *
@@ -90,7 +90,20 @@ interface Builder {
     @NonNull Builder chunkSize(int chunkSize);
 
     /**
-     * Sets the unique id of the session. This defaults to a random id.
+     * Sets the amount of chunks which can be sent to the receivers before waiting for them to acknowledge the receipt
+     * of the chunks. This option only has an effect when the target channels are set using one of the
+     * {@code toChannels} methods, a custom packet splitter disables the flow control. This defaults to 8. The supplied
+     * value must be greater than 0.
+     *
+     * @param windowSize the amount of chunks which can be sent without being acknowledged.
+     * @return the same builder as used to call the method, for chaining.
+     */
+    @NonNull Builder windowSize(int windowSize);
+
+    /**
+     * Sets the unique id of the session. This defaults to a random id, unless the transferred data is read from a file
+     * in which case the id is derived from the file and the transfer target, allowing the receivers to resume an
+     * interrupted transfer of the same file.
      *
      * @param uuid the session id to use.
      * @return the same builder as used to call the method, for chaining.
@@ -180,7 +193,7 @@ interface Builder {
      *
      * @return the instance build from the information.
      * @throws NullPointerException     if no source, splitter or channel were given.
-     * @throws IllegalArgumentException if the chunk size is not greater than 0.
+     * @throws IllegalArgumentException if the chunk or window size is not greater than 0.
      */
     @NonNull ChunkedPacketSender build();
   }
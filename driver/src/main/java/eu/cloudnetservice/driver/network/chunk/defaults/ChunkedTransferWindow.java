@@ -0,0 +1,273 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.chunk.defaults;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A credit based flow control window for a chunked transfer. Each receiver acknowledges a chunk after handling it,
+ * granting the sender a credit. The sender needs one credit of each receiver before sending the next chunk. This limits
+ * the amount of chunks which are buffered (either in the outbound buffer of the sender or in the inbound queue of the
+ * receiver) to the size of the window.
+ * <p>
+ * The window retains each sent chunk until all receivers acknowledged it, allowing receivers to request chunks again
+ * which were corrupted during the transfer. When the session is opened, each receiver informs the window about the
+ * chunks which it already received in a previous attempt of the transfer, these chunks are then skipped by the sender.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class ChunkedTransferWindow {
+
+  private static final Map<UUID, ChunkedTransferWindow> OPEN_WINDOWS = new ConcurrentHashMap<>();
+
+  private final UUID sessionUniqueId;
+  private final int windowSize;
+  private final int receivers;
+  private final Semaphore credits;
+  private final CountDownLatch presentChunkReports;
+
+  private final Map<Integer, RetainedChunk> retainedChunks = new ConcurrentHashMap<>();
+  private final Map<Integer, Integer> presentChunks = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new transfer window.
+   *
+   * @param sessionUniqueId the unique id of the session the window is associated with.
+   * @param windowSize      the amount of chunks which can be sent before waiting for credits of the receivers.
+   * @param receivers       the amount of receivers which are granting credits.
+   * @throws NullPointerException if the given session id is null.
+   */
+  private ChunkedTransferWindow(@NonNull UUID sessionUniqueId, int windowSize, int receivers) {
+    this.sessionUniqueId = sessionUniqueId;
+    this.windowSize = windowSize;
+    this.receivers = receivers;
+    this.credits = new Semaphore(windowSize * receivers);
+    this.presentChunkReports = new CountDownLatch(receivers);
+  }
+
+  /**
+   * Opens a new transfer window for the chunked session with the given id. The window must be closed when the transfer
+   * completed in order to stop accepting credits for the session and to release the retained chunks.
+   *
+   * @param sessionUniqueId the unique id of the session to open the window for.
+   * @param windowSize      the amount of chunks which can be sent before waiting for credits of the receivers.
+   * @param receivers       the amount of receivers which are granting credits.
+   * @return the opened transfer window.
+   * @throws NullPointerException     if the given session id is null.
+   * @throws IllegalArgumentException if the window size or receiver count is not positive.
+   * @throws IllegalStateException    if a window for the given session is already open.
+   */
+  public static @NonNull ChunkedTransferWindow open(@NonNull UUID sessionUniqueId, int windowSize, int receivers) {
+    if (windowSize <= 0 || receivers <= 0) {
+      throw new IllegalArgumentException("Window size and receiver count must be positive");
+    }
+
+    var window = new ChunkedTransferWindow(sessionUniqueId, windowSize, receivers);
+    if (OPEN_WINDOWS.putIfAbsent(sessionUniqueId, window) != null) {
+      throw new IllegalStateException("Transfer window for session " + sessionUniqueId + " is already open");
+    }
+    return window;
+  }
+
+  /**
+   * Acknowledges that the receiver behind the given channel handled the chunk with the given index, granting one
+   * credit to the window of the session with the given id. This method does nothing if no window for the session is
+   * open, the chunk is not retained by the window (for example if the acknowledgement belongs to a previous attempt of
+   * the transfer) or the receiver already acknowledged the chunk before.
+   *
+   * @param sessionUniqueId the unique id of the session to acknowledge the chunk in.
+   * @param chunkIndex      the index of the chunk which was handled.
+   * @param channel         the channel of the receiver which acknowledged the chunk.
+   * @throws NullPointerException if the given session id or channel is null.
+   */
+  public static void acknowledgeChunk(@NonNull UUID sessionUniqueId, int chunkIndex, @NonNull NetworkChannel channel) {
+    var window = OPEN_WINDOWS.get(sessionUniqueId);
+    if (window != null) {
+      var chunk = window.retainedChunks.get(chunkIndex);
+      if (chunk != null && chunk.acknowledgedReceivers().add(channel.channelId())) {
+        // release the chunk once all receivers acknowledged it
+        if (chunk.acknowledgedReceivers().size() >= window.receivers) {
+          window.releaseChunk(chunkIndex, chunk);
+        }
+
+        window.credits.release();
+      }
+    }
+  }
+
+  /**
+   * Sends the chunk with the given index again to the given channel, if the chunk is still retained by the window of
+   * the session with the given id. This method does nothing if no window for the session is open.
+   *
+   * @param sessionUniqueId the unique id of the session the chunk belongs to.
+   * @param chunkIndex      the index of the chunk to send again.
+   * @param channel         the channel of the receiver which requested the chunk.
+   * @throws NullPointerException if the given session id or channel is null.
+   */
+  public static void resendChunk(@NonNull UUID sessionUniqueId, int chunkIndex, @NonNull NetworkChannel channel) {
+    var window = OPEN_WINDOWS.get(sessionUniqueId);
+    if (window != null) {
+      var chunk = window.retainedChunks.get(chunkIndex);
+      if (chunk != null) {
+        // the packet might be sent to other channels at the same time
+        var packet = chunk.packet();
+        synchronized (packet) {
+          if (packet.content().accessible()) {
+            try {
+              packet.content().acquire().startTransaction();
+              channel.sendPacketSync(packet);
+            } finally {
+              packet.content().redoTransaction();
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Marks the given chunks as present on one receiver of the session with the given id. Each receiver reports its
+   * present chunks once when the session is opened, a chunk which is present on all receivers is skipped by the
+   * sender. This method does nothing if no window for the session is open.
+   *
+   * @param sessionUniqueId the unique id of the session the chunks belong to.
+   * @param presentChunks   the indexes of the chunks which are present on the receiver.
+   * @throws NullPointerException if the given session id or chunk set is null.
+   */
+  public static void markPresentChunks(@NonNull UUID sessionUniqueId, @NonNull BitSet presentChunks) {
+    var window = OPEN_WINDOWS.get(sessionUniqueId);
+    if (window != null) {
+      presentChunks.stream().forEach(index -> window.presentChunks.merge(index, 1, Integer::sum));
+      window.presentChunkReports.countDown();
+    }
+  }
+
+  /**
+   * Waits until each receiver reported the chunks which are already present on its side, at most for the given time.
+   *
+   * @param timeout the maximum time to wait for the reports.
+   * @param unit    the unit of the given timeout.
+   * @return true if all receivers reported their present chunks, false if the timeout elapsed before.
+   * @throws NullPointerException if the given time unit is null.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public boolean awaitPresentChunks(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+    return this.presentChunkReports.await(timeout, unit);
+  }
+
+  /**
+   * Waits until each receiver granted a credit for the next chunk, at most for the given time.
+   *
+   * @param timeout the maximum time to wait for the credits.
+   * @param unit    the unit of the given timeout.
+   * @return true if the credits were acquired, false if the timeout elapsed before.
+   * @throws NullPointerException if the given time unit is null.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public boolean acquireChunkCredits(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+    return this.credits.tryAcquire(this.receivers, timeout, unit);
+  }
+
+  /**
+   * Waits until all receivers acknowledged all chunks which were sent, at most for the given time.
+   *
+   * @param timeout the maximum time to wait for the acknowledgements.
+   * @param unit    the unit of the given timeout.
+   * @return true if all chunks were acknowledged, false if the timeout elapsed before.
+   * @throws NullPointerException if the given time unit is null.
+   * @throws InterruptedException if the current thread is interrupted while waiting.
+   */
+  public boolean awaitAcknowledgements(long timeout, @NonNull TimeUnit unit) throws InterruptedException {
+    // all credits are only available again once each sent chunk was acknowledged
+    var permits = this.windowSize * this.receivers;
+    if (this.credits.tryAcquire(permits, timeout, unit)) {
+      this.credits.release(permits);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Get if the chunk with the given index is present on all receivers and does not need to be sent.
+   *
+   * @param chunkIndex the index of the chunk to check.
+   * @return true if the chunk is present on all receivers, false otherwise.
+   */
+  public boolean chunkPresent(int chunkIndex) {
+    return this.presentChunks.getOrDefault(chunkIndex, 0) >= this.receivers;
+  }
+
+  /**
+   * Retains the given chunk packet until all receivers acknowledged it. The content of the packet is acquired once
+   * and released when the last receiver acknowledged the chunk or the window gets closed.
+   *
+   * @param chunkIndex the index of the chunk to retain.
+   * @param packet     the packet of the chunk to retain.
+   * @throws NullPointerException if the given packet is null.
+   */
+  public void retainChunk(int chunkIndex, @NonNull Packet packet) {
+    packet.content().acquire();
+    this.retainedChunks.put(chunkIndex, new RetainedChunk(packet, ConcurrentHashMap.newKeySet()));
+  }
+
+  /**
+   * Closes this window, all credits which are granted for the session afterwards are ignored and all retained chunks
+   * are released.
+   */
+  public void close() {
+    OPEN_WINDOWS.remove(this.sessionUniqueId, this);
+    this.retainedChunks.forEach(this::releaseChunk);
+  }
+
+  /**
+   * Releases the content of the given retained chunk, if it is still retained by this window.
+   *
+   * @param chunkIndex the index of the chunk to release.
+   * @param chunk      the retained chunk to release.
+   * @throws NullPointerException if the given chunk is null.
+   */
+  private void releaseChunk(int chunkIndex, @NonNull RetainedChunk chunk) {
+    if (this.retainedChunks.remove(chunkIndex, chunk)) {
+      synchronized (chunk.packet()) {
+        chunk.packet().content().release();
+      }
+    }
+  }
+
+  /**
+   * A chunk which was sent to the receivers but was not acknowledged by all of them yet.
+   *
+   * @param packet                the packet of the chunk.
+   * @param acknowledgedReceivers the ids of the channels of the receivers which acknowledged the chunk.
+   * @since 4.0
+   */
+  private record RetainedChunk(@NonNull Packet packet, @NonNull Set<Long> acknowledgedReceivers) {
+
+  }
+}
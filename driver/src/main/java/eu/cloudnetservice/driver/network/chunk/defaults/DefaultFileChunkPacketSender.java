@@ -23,13 +23,19 @@
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.io.InputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a default implementation of a chunked packet sender specifically created for chunked transferring of a
  * huge file, e.g. a zip archive.
  * <p>
+ * If the source of the transfer can be opened again, a failed transfer is retried in the same session. The receivers
+ * report the chunks which they already received when the session gets opened again, these chunks are then skipped.
+ * <p>
  * This class shouldn't get instantiated directly, use {@link ChunkedPacketSender#forFileTransfer()} instead.
  *
  * @since 4.0
@@ -37,12 +43,20 @@
 public class DefaultFileChunkPacketSender extends DefaultChunkedPacketProvider implements ChunkedPacketSender {
 
   protected static final byte[] EMPTY_BYTE_ARRAY = new byte[0];
+  protected static final long CREDIT_TIMEOUT_SECONDS = 30;
 
   protected final InputStream source;
   protected final Consumer<Packet> packetSplitter;
 
+  protected final int windowSize;
+  protected final int creditReceivers;
+
+  protected final int transferAttempts;
+  protected final Callable<InputStream> sourceOpener;
+
   /**
-   * Constructs a new chunked packet sender for file transfer.
+   * Constructs a new chunked packet sender for file transfer. The sender does not wait for the receivers to handle the
+   * sent chunks.
    *
    * @param sessionInformation the information about the chunked session.
    * @param source             the source stream of the file, will be closed automatically.
@@ -53,11 +67,63 @@ public DefaultFileChunkPacketSender(
     @NonNull ChunkSessionInformation sessionInformation,
     @NonNull InputStream source,
     @NonNull Consumer<Packet> packetSplitter
+  ) {
+    this(sessionInformation, source, packetSplitter, 0, 0);
+  }
+
+  /**
+   * Constructs a new chunked packet sender for file transfer. If the given credit receiver count is positive, the
+   * sender only sends the given window size of chunks before waiting for credits from all receivers.
+   *
+   * @param sessionInformation the information about the chunked session.
+   * @param source             the source stream of the file, will be closed automatically.
+   * @param packetSplitter     the splitter for each chunk part to transfer.
+   * @param windowSize         the amount of chunks which can be sent before waiting for the receivers.
+   * @param creditReceivers    the amount of receivers which grant credits, 0 to disable the flow control.
+   * @throws NullPointerException if either the information, source or splitter is null.
+   */
+  public DefaultFileChunkPacketSender(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull InputStream source,
+    @NonNull Consumer<Packet> packetSplitter,
+    int windowSize,
+    int creditReceivers
+  ) {
+    this(sessionInformation, source, packetSplitter, windowSize, creditReceivers, 1, null);
+  }
+
+  /**
+   * Constructs a new chunked packet sender for file transfer. If the given credit receiver count is positive, the
+   * sender only sends the given window size of chunks before waiting for credits from all receivers. If a source
+   * opener is given, a failed transfer is retried in the same session using a newly opened source until the given
+   * amount of attempts is reached.
+   *
+   * @param sessionInformation the information about the chunked session.
+   * @param source             the source stream of the file, will be closed automatically.
+   * @param packetSplitter     the splitter for each chunk part to transfer.
+   * @param windowSize         the amount of chunks which can be sent before waiting for the receivers.
+   * @param creditReceivers    the amount of receivers which grant credits, 0 to disable the flow control.
+   * @param transferAttempts   the maximum amount of attempts to transfer the data.
+   * @param sourceOpener       the opener for a new source stream of the file when retrying the transfer, can be null.
+   * @throws NullPointerException if either the information, source or splitter is null.
+   */
+  public DefaultFileChunkPacketSender(
+    @NonNull ChunkSessionInformation sessionInformation,
+    @NonNull InputStream source,
+    @NonNull Consumer<Packet> packetSplitter,
+    int windowSize,
+    int creditReceivers,
+    int transferAttempts,
+    @Nullable Callable<InputStream> sourceOpener
   ) {
     super(sessionInformation);
 
     this.source = source;
     this.packetSplitter = packetSplitter;
+    this.windowSize = windowSize;
+    this.creditReceivers = creditReceivers;
+    this.transferAttempts = transferAttempts;
+    this.sourceOpener = sourceOpener;
   }
 
   /**
@@ -82,34 +148,144 @@ public DefaultFileChunkPacketSender(
   @Override
   public @NonNull Task<TransferStatus> transferChunkedData() {
     return Task.supply(() -> {
+      var source = this.source;
+      try {
+        for (var attempt = 1; ; attempt++) {
+          try {
+            this.transferChunks(source);
+
+            // successful transfer
+            this.transferStatus = TransferStatus.SUCCESS;
+            return TransferStatus.SUCCESS;
+          } catch (InterruptedException exception) {
+            throw exception;
+          } catch (Exception exception) {
+            if (this.sourceOpener == null || attempt >= this.transferAttempts) {
+              throw exception;
+            }
+
+            // retry the transfer in the same session, the receivers are skipping the chunks they already received
+            source = this.sourceOpener.call();
+          }
+        }
+      } catch (Exception exception) {
+        this.transferStatus = TransferStatus.FAILURE;
+        throw exception;
+      } finally {
+        // the transfer information was acquired for each packet it was written into, release it now
+        this.chunkSessionInformation.transferInformation().release();
+      }
+    });
+  }
+
+  /**
+   * Transfers all chunks of the given source to the receivers. If the flow control is enabled, the session is opened
+   * on the receivers first, chunks which all receivers already received in a previous attempt are not sent again.
+   *
+   * @param source the source stream to read the chunks from, closed after the transfer.
+   * @throws Exception            if any exception occurs during the transfer.
+   * @throws NullPointerException if the given source is null.
+   */
+  protected void transferChunks(@NonNull InputStream source) throws Exception {
+    // open the flow control window if the receivers are known
+    var sessionUniqueId = this.chunkSessionInformation.sessionUniqueId();
+    var window = this.creditReceivers > 0
+      ? ChunkedTransferWindow.open(sessionUniqueId, this.windowSize, this.creditReceivers)
+      : null;
+
+    try (source) {
+      // open the session on the receivers and wait for them to report the chunks they already received
+      if (window != null) {
+        this.chunkSessionInformation.transferInformation().acquire();
+        this.packetSplitter.accept(ChunkedPacket.createSessionOpen(this.chunkSessionInformation));
+        if (!window.awaitPresentChunks(CREDIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+          throw new IllegalStateException(String.format(
+            "Receivers of session %s did not report their present chunks in time",
+            sessionUniqueId));
+        }
+      }
+
       var readCalls = 0;
       var backingArray = new byte[this.chunkSessionInformation.chunkSize()];
-
       while (true) {
-        var bytesRead = this.source.read(backingArray);
-        if (bytesRead != -1 && bytesRead == backingArray.length) {
+        // fill the whole chunk, a short read of the stream does not mean that the end of the stream was reached
+        var chunkIndex = readCalls++;
+        var bytesRead = source.readNBytes(backingArray, 0, backingArray.length);
+        var finalChunk = bytesRead != backingArray.length;
+
+        // skip the chunk if all receivers already received it during a previous attempt of the transfer. the final
+        // chunk is always sent to ensure that the receivers are able to complete the transfer
+        if (window == null || finalChunk || !window.chunkPresent(chunkIndex)) {
+          this.awaitChunkCredits(window, chunkIndex);
           // acquire the transfer information once before writing the data of the chunk
           this.chunkSessionInformation.transferInformation().acquire();
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls++,
-            backingArray));
-        } else {
-          this.packetSplitter.accept(ChunkedPacket.createChunk(
-            this.chunkSessionInformation,
-            readCalls,
-            readCalls,
-            bytesRead == -1 ? 0 : bytesRead,
-            bytesRead == -1 ? EMPTY_BYTE_ARRAY : backingArray));
-
-          // close the stream after reading the final chunk & release the extra content now
-          this.source.close();
-          this.chunkSessionInformation.transferInformation().release();
-
-          // successful transfer
-          return TransferStatus.SUCCESS;
+          if (finalChunk) {
+            this.sendChunk(window, chunkIndex, ChunkedPacket.createChunk(
+              this.chunkSessionInformation,
+              chunkIndex,
+              chunkIndex,
+              bytesRead,
+              bytesRead == 0 ? EMPTY_BYTE_ARRAY : backingArray));
+          } else {
+            this.sendChunk(window, chunkIndex, ChunkedPacket.createChunk(
+              this.chunkSessionInformation,
+              chunkIndex,
+              backingArray));
+          }
+        }
+
+        if (finalChunk) {
+          // wait for the receivers to acknowledge all chunks, they might still request corrupted chunks again
+          if (window != null && !window.awaitAcknowledgements(CREDIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException(String.format(
+              "Receivers of session %s did not acknowledge all chunks in time",
+              sessionUniqueId));
+          }
+          return;
         }
       }
-    });
+    } finally {
+      if (window != null) {
+        window.close();
+      }
+    }
+  }
+
+  /**
+   * Sends the given chunk packet to all receivers of the transfer. If the flow control is enabled, the chunk is
+   * retained by the given window until all receivers acknowledged it, allowing them to request the chunk again.
+   *
+   * @param window     the transfer window of this transfer, null if the flow control is disabled.
+   * @param chunkIndex the index of the chunk to send.
+   * @param packet     the packet of the chunk to send.
+   * @throws NullPointerException if the given packet is null.
+   */
+  protected void sendChunk(@Nullable ChunkedTransferWindow window, int chunkIndex, @NonNull Packet packet) {
+    if (window == null) {
+      this.packetSplitter.accept(packet);
+    } else {
+      window.retainChunk(chunkIndex, packet);
+      // a receiver might request the chunk again while it is still sent to other receivers
+      synchronized (packet) {
+        this.packetSplitter.accept(packet);
+      }
+    }
+  }
+
+  /**
+   * Waits until all receivers granted a credit for the next chunk, if the flow control is enabled for this transfer.
+   *
+   * @param window     the transfer window of this transfer, null if the flow control is disabled.
+   * @param chunkIndex the index of the chunk which is about to be sent.
+   * @throws InterruptedException  if the current thread is interrupted while waiting.
+   * @throws IllegalStateException if the receivers did not grant a credit in time.
+   */
+  protected void awaitChunkCredits(@Nullable ChunkedTransferWindow window, int chunkIndex) throws InterruptedException {
+    if (window != null && !window.acquireChunkCredits(CREDIT_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+      throw new IllegalStateException(String.format(
+        "Receivers of session %s did not acknowledge the chunks before chunk %d in time",
+        this.chunkSessionInformation.sessionUniqueId(),
+        chunkIndex));
+    }
   }
 }
@@ -22,34 +22,53 @@
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketHandler;
 import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32C;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents a handler for a chunked packet transfer which transfers a file.
+ * <p>
+ * The checksum of each received chunk is validated before the chunk is marked as written. Each written chunk is
+ * recorded in a progress file next to the target file, allowing a handler for the same session to resume the transfer
+ * after it was interrupted (for example because the connection to the sender was lost).
  *
  * @since 4.0
  */
 public class DefaultFileChunkedPacketHandler extends DefaultChunkedPacketProvider implements ChunkedPacketHandler {
 
+  protected static final String PROGRESS_FILE_SUFFIX = ".progress";
+  // index, length, checksum and chunk amount of the chunk
+  protected static final int PROGRESS_RECORD_SIZE = Integer.BYTES * 4;
+
   protected final Path tempFilePath;
-  protected final RandomAccessFile targetFile;
+  protected final Path progressFilePath;
+  protected final FileChannel targetFile;
+  protected final FileChannel progressFile;
   protected final Callback writeCompleteHandler;
   protected final Lock lock = new ReentrantLock(true);
 
-  protected int writtenFileParts = -1;
+  protected final BitSet writtenChunks = new BitSet();
   protected Integer expectedFileParts;
 
   /**
    * Creates the session handler initially. Sessions should be manged by some sort of handler which is responsible for
-   * handling incoming chunk parts as well.
+   * handling incoming chunk parts as well. The received data is written to a temp file which is associated with the
+   * session, allowing to resume an interrupted transfer of the same session.
    *
    * @param sessionInformation the information transferred by the sender initially.
    * @param completeHandler    the handler to call when the file transfer finished successfully.
@@ -59,7 +78,7 @@ public DefaultFileChunkedPacketHandler(
     @NonNull ChunkSessionInformation sessionInformation,
     @Nullable Callback completeHandler
   ) {
-    this(sessionInformation, completeHandler, FileUtil.createTempFile());
+    this(sessionInformation, completeHandler, sessionTempFile(sessionInformation));
   }
 
   /**
@@ -80,20 +99,39 @@ public DefaultFileChunkedPacketHandler(
 
     // general information
     this.tempFilePath = tempFilePath;
+    this.progressFilePath = tempFilePath.resolveSibling(tempFilePath.getFileName() + PROGRESS_FILE_SUFFIX);
     this.writeCompleteHandler = completeHandler;
-    // open the temp file raf access
+    // open the temp file channel, the content is synced to the disk once when all chunks were written
     try {
-      // create the file
-      if (Files.notExists(tempFilePath)) {
-        Files.createFile(tempFilePath);
-      }
-      // open the file
-      this.targetFile = new RandomAccessFile(this.tempFilePath.toFile(), "rwd");
+      this.targetFile = FileChannel.open(
+        tempFilePath,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+      // restore the progress of a previous attempt of the transfer
+      this.restoreProgress();
+      this.progressFile = FileChannel.open(
+        this.progressFilePath,
+        StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE,
+        StandardOpenOption.APPEND);
     } catch (IOException exception) {
-      throw new AssertionError("Unable to open raf to temp file, this should not happen", exception);
+      throw new AssertionError("Unable to open channel to temp file, this should not happen", exception);
     }
   }
 
+  /**
+   * Resolves the path to the temp file to which the data of the given session should be written.
+   *
+   * @param sessionInformation the information of the session to get the temp file of.
+   * @return the path to the temp file of the session.
+   * @throws NullPointerException if the given session information is null.
+   */
+  protected static @NonNull Path sessionTempFile(@NonNull ChunkSessionInformation sessionInformation) {
+    FileUtil.createDirectory(FileUtil.TEMP_DIR);
+    return FileUtil.TEMP_DIR.resolve(sessionInformation.sessionUniqueId().toString());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -107,21 +145,28 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
     Preconditions.checkState(this.transferStatus == TransferStatus.RUNNING, "Received transfer part after success");
     // extract some information from the body
     var isFinalPacket = dataBuf.readBoolean();
-    if (isFinalPacket) {
-      this.expectedFileParts = dataBuf.readInt();
-    }
+    var chunkAmount = isFinalPacket ? dataBuf.readInt() : -1;
     // execute the write operation with the content of the packet
     try {
       // we can only perform one write operation at a time
       this.lock.lock();
-      // execute
-      this.writePacketContent(chunkPosition, dataBuf);
+      // execute, skip the chunk if it is corrupted (the sender is requested to send it again)
+      if (!this.writePacketContent(chunkPosition, chunkAmount, dataBuf)) {
+        return false;
+      }
       // update the data transfer status
+      if (isFinalPacket) {
+        this.expectedFileParts = chunkAmount;
+      }
       this.updateStatus();
       // check if the expected ending is reached
       if (this.transferStatus == TransferStatus.SUCCESS) {
-        // the file was written completely
+        // the file was written completely, sync it to the disk once
+        this.targetFile.force(true);
         this.targetFile.close();
+        // the progress is no longer needed
+        this.progressFile.close();
+        Files.deleteIfExists(this.progressFilePath);
         // post the result to the complete handler
         if (this.writeCompleteHandler == null) {
           // no handler - will be handled otherwise
@@ -135,7 +180,7 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
       }
       // not completed yet
       return false;
-    } catch (IOException exception) {
+    } catch (IOException | UncheckedIOException exception) {
       this.transferStatus = TransferStatus.FAILURE;
       throw new IllegalStateException("Unexpected exception handling chunk part", exception);
     } finally {
@@ -143,6 +188,53 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean chunkHandled(int chunkPosition) {
+    try {
+      this.lock.lock();
+      return this.writtenChunks.get(chunkPosition);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull BitSet handledChunks() {
+    try {
+      this.lock.lock();
+      return (BitSet) this.writtenChunks.clone();
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void close() {
+    try {
+      this.lock.lock();
+      // the transfer can no longer complete, the progress file is kept to allow resuming the transfer later
+      if (this.transferStatus == TransferStatus.RUNNING) {
+        this.transferStatus = TransferStatus.FAILURE;
+      }
+
+      this.targetFile.close();
+      this.progressFile.close();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to close files of chunked session", exception);
+    } finally {
+      this.lock.unlock();
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -152,22 +244,101 @@ public boolean handleChunkPart(int chunkPosition, @NonNull DataBuf dataBuf) {
   }
 
   /**
-   * Writes the content of a chunk part to the backing file, increasing the amount of written bytes by one.
+   * Writes the content of a chunk part to the backing file. The chunk is only marked as written if the checksum of the
+   * written data matches the checksum sent with the chunk.
    *
    * @param chunkPosition the index of the chunk to write.
+   * @param chunkAmount   the amount of chunks in the transfer if the chunk is the final chunk, -1 otherwise.
    * @param dataBuf       the buf transferred to this handler, the next content should be the actual chunk data.
+   * @return true if the chunk was written successfully, false if the chunk is corrupted.
    * @throws IOException          if an i/o error occurs during the chunk write.
    * @throws NullPointerException if the given buffer is null.
    */
-  protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) throws IOException {
+  protected boolean writePacketContent(
+    int chunkPosition,
+    int chunkAmount,
+    @NonNull DataBuf dataBuf
+  ) throws IOException {
+    // a chunk which was already written (for example in a previous attempt of the transfer) is not written again to
+    // prevent that a corrupted duplicate overrides the valid data, the content is still read to release the buffer
+    if (this.writtenChunks.get(chunkPosition)) {
+      dataBuf.readByteArray();
+      dataBuf.readInt();
+      return true;
+    }
     // calculate the index of to which we need to sink in order to write
-    var targetIndex = chunkPosition * this.chunkSessionInformation.chunkSize();
+    var targetIndex = (long) chunkPosition * this.chunkSessionInformation.chunkSize();
     // sink to the index of the chunk position we need to write to
-    this.targetFile.seek(targetIndex);
-    // write the content into the file at the current offset we sunk to
-    this.targetFile.write(dataBuf.readByteArray());
-    // notify our index about the write operation
-    this.writtenFileParts++;
+    this.targetFile.position(targetIndex);
+    // write the content directly from the buffer into the file at the current offset we sunk to
+    var checksum = new CRC32C();
+    var length = dataBuf.readByteArray(new ChecksumByteChannel(this.targetFile, checksum));
+    // validate the written content, a corrupted chunk will be overridden when the sender sends it again
+    var expectedChecksum = dataBuf.readInt();
+    if ((int) checksum.getValue() != expectedChecksum) {
+      return false;
+    }
+    // notify our index about the write operation & persist the progress
+    this.writtenChunks.set(chunkPosition);
+    this.progressFile.write(ByteBuffer.allocate(PROGRESS_RECORD_SIZE)
+      .putInt(chunkPosition)
+      .putInt(length)
+      .putInt(expectedChecksum)
+      .putInt(chunkAmount)
+      .flip());
+    return true;
+  }
+
+  /**
+   * Restores the progress of a previous attempt of the transfer from the progress file. Each chunk which is recorded
+   * in the progress file is validated against the data in the target file, chunks which do not match their recorded
+   * checksum (for example because the data was not flushed to the disk) are not restored. If no chunk could be
+   * restored, the target file is truncated to ensure that no stale data is left in it.
+   *
+   * @throws IOException if an i/o error occurs while reading the progress.
+   */
+  protected void restoreProgress() throws IOException {
+    if (Files.notExists(this.progressFilePath)) {
+      this.targetFile.truncate(0);
+      return;
+    }
+
+    var chunkSize = this.chunkSessionInformation.chunkSize();
+    var chunkBuffer = ByteBuffer.allocate(chunkSize);
+    try (var stream = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.progressFilePath)))) {
+      while (true) {
+        var chunkPosition = stream.readInt();
+        var length = stream.readInt();
+        var checksum = stream.readInt();
+        var chunkAmount = stream.readInt();
+
+        // read the data of the chunk from the target file and validate it
+        chunkBuffer.clear().limit(Math.min(length, chunkSize));
+        var position = (long) chunkPosition * chunkSize;
+        while (chunkBuffer.hasRemaining()) {
+          // stop reading when the end of the file is reached
+          if (this.targetFile.read(chunkBuffer, position + chunkBuffer.position()) == -1) {
+            break;
+          }
+        }
+
+        var dataChecksum = new CRC32C();
+        dataChecksum.update(chunkBuffer.flip());
+        if (length <= chunkSize && (int) dataChecksum.getValue() == checksum) {
+          this.writtenChunks.set(chunkPosition);
+          if (chunkAmount >= 0) {
+            this.expectedFileParts = chunkAmount;
+          }
+        }
+      }
+    } catch (EOFException exception) {
+      // reached the end of the progress file
+    }
+
+    // ensure that no stale data is left in the file if no chunk could be restored
+    if (this.writtenChunks.isEmpty()) {
+      this.targetFile.truncate(0);
+    }
   }
 
   /**
@@ -175,16 +346,58 @@ protected void writePacketContent(int chunkPosition, @NonNull DataBuf dataBuf) t
    * <ol>
    *   <li>The current status is {@code RUNNING}.
    *   <li>The amount of chunk parts of the transfer is known.
-   *   <li>The amount of written chunk parts matches the amount of expected chunk parts.
+   *   <li>All chunk parts up to the expected amount of chunk parts were written.
    * </ol>
    */
   protected void updateStatus() {
     // we only need to update the status when the transfer is running but the whole content was written
     if (this.transferStatus == TransferStatus.RUNNING
       && this.expectedFileParts != null
-      && this.expectedFileParts == this.writtenFileParts
+      && this.writtenChunks.nextClearBit(0) > this.expectedFileParts
     ) {
       this.transferStatus = TransferStatus.SUCCESS;
     }
   }
+
+  /**
+   * A byte channel which updates the given checksum with all bytes written to it before writing them into the
+   * delegate channel.
+   *
+   * @param delegate the channel to write the data to.
+   * @param checksum the checksum to update with the written data.
+   * @since 4.0
+   */
+  protected record ChecksumByteChannel(
+    @NonNull WritableByteChannel delegate,
+    @NonNull CRC32C checksum
+  ) implements WritableByteChannel {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int write(@NonNull ByteBuffer src) throws IOException {
+      var position = src.position();
+      var written = this.delegate.write(src);
+      // only update the checksum with the bytes which were actually written
+      this.checksum.update(src.duplicate().position(position).limit(position + written));
+      return written;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOpen() {
+      return this.delegate.isOpen();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+      this.delegate.close();
+    }
+  }
 }
@@ -39,14 +39,17 @@
  */
 public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacketSender.Builder {
 
-  public static final int DEFAULT_CHUNK_SIZE = 50 * 1024 * 1024;
+  public static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+  public static final int DEFAULT_WINDOW_SIZE = 8;
 
   protected InputStream source;
   protected String transferChannel;
   protected Consumer<Packet> packetSplitter;
 
   protected int chunkSize = DEFAULT_CHUNK_SIZE;
-  protected UUID sessionUniqueId = UUID.randomUUID();
+  protected int windowSize = DEFAULT_WINDOW_SIZE;
+  protected int creditReceivers;
+  protected UUID sessionUniqueId;
   protected DataBuf transferInformation = DataBuf.empty();
 
   /**
@@ -58,6 +61,15 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     return this;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder windowSize(int windowSize) {
+    this.windowSize = windowSize;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -98,7 +110,10 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
    */
   @Override
   public @NonNull ChunkedPacketSender.Builder toChannels(@NonNull Collection<NetworkChannel> channels) {
-    return this.packetSplitter(new NetworkChannelsPacketSplitter(channels));
+    this.packetSplitter(new NetworkChannelsPacketSplitter(channels));
+    // each of the channels grants credits for the flow control of the transfer
+    this.creditReceivers = channels.size();
+    return this;
   }
 
   /**
@@ -107,6 +122,8 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
   @Override
   public @NonNull ChunkedPacketSender.Builder packetSplitter(@NonNull Consumer<Packet> splitter) {
     this.packetSplitter = splitter;
+    // the receivers of a custom splitter are unknown, the flow control is disabled
+    this.creditReceivers = 0;
     return this;
   }
 
@@ -129,12 +146,27 @@ public abstract class DefaultChunkedPacketSenderBuilder implements ChunkedPacket
     Preconditions.checkNotNull(this.source, "no source given to send");
     Preconditions.checkNotNull(this.packetSplitter, "no packet splitter provided");
     Preconditions.checkNotNull(this.transferChannel, "no transfer channel provided");
-    Preconditions.checkNotNull(this.sessionUniqueId, "no session unique id provided");
     Preconditions.checkArgument(this.chunkSize > 0, "chunk size must be more than 0");
+    Preconditions.checkArgument(this.windowSize > 0, "window size must be more than 0");
+
+    // use the default session id if no session id was set explicitly
+    if (this.sessionUniqueId == null) {
+      this.sessionUniqueId = this.defaultSessionUniqueId();
+    }
 
     return this.doBuild();
   }
 
+  /**
+   * Get the session id to use for the transfer if no session id was set explicitly. By default, a random session id is
+   * used for each transfer.
+   *
+   * @return the session id to use for the transfer.
+   */
+  protected @NonNull UUID defaultSessionUniqueId() {
+    return UUID.randomUUID();
+  }
+
   /**
    * Delegate method which must get overridden by any class which extends from this builder. The method is used to
    * actually build the sender while being sure that there are no violations to the build contract (the delegation
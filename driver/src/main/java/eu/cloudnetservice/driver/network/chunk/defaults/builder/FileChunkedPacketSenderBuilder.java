@@ -20,8 +20,13 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChunkPacketSender;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.UUID;
 import lombok.NonNull;
 
 /**
@@ -33,8 +38,13 @@
  */
 public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBuilder {
 
+  public static final int FILE_TRANSFER_ATTEMPTS = 3;
+
+  protected Path sourceFile;
+
   /**
-   * Sets the file to transfer in the session. The file path must exist.
+   * Sets the file to transfer in the session. The file path must exist. As the file can be opened again, a failed
+   * transfer of the file is retried in the same session.
    *
    * @param path the path to the file to transfer.
    * @return the same builder instance as used to call the method, for chaining.
@@ -43,23 +53,73 @@ public class FileChunkedPacketSenderBuilder extends DefaultChunkedPacketSenderBu
    */
   public @NonNull FileChunkedPacketSenderBuilder forFile(@NonNull Path path) {
     try {
-      this.source(Files.newInputStream(path));
+      super.source(Files.newInputStream(path));
+      this.sourceFile = path;
       return this;
     } catch (IOException exception) {
       throw new AssertionError("Unexpected exception opening file stream", exception);
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ChunkedPacketSender.Builder source(@NonNull InputStream source) {
+    // the source can not be opened again, failed transfers are not retried
+    this.sourceFile = null;
+    return super.source(source);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  protected @NonNull UUID defaultSessionUniqueId() {
+    if (this.sourceFile == null) {
+      return super.defaultSessionUniqueId();
+    }
+
+    try {
+      // derive the id from the file and the transfer target, a transfer of the unchanged file to the same target is
+      // then able to resume a previous attempt which was interrupted
+      var attributes = Files.readAttributes(this.sourceFile, BasicFileAttributes.class);
+      var sessionKey = String.join(
+        "\0",
+        this.transferChannel,
+        this.sourceFile.toAbsolutePath().normalize().toString(),
+        Long.toString(attributes.size()),
+        Long.toString(attributes.lastModifiedTime().toMillis()),
+        Integer.toString(this.chunkSize));
+
+      // include the transfer information without consuming it
+      this.transferInformation.acquire().startTransaction();
+      var transferInformation = this.transferInformation.toByteArray();
+      this.transferInformation.redoTransaction();
+
+      var keyBytes = sessionKey.getBytes(StandardCharsets.UTF_8);
+      var idSource = new byte[keyBytes.length + transferInformation.length];
+      System.arraycopy(keyBytes, 0, idSource, 0, keyBytes.length);
+      System.arraycopy(transferInformation, 0, idSource, keyBytes.length, transferInformation.length);
+      return UUID.nameUUIDFromBytes(idSource);
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Unable to read attributes of file " + this.sourceFile, exception);
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   protected @NonNull ChunkedPacketSender doBuild() {
-    return new DefaultFileChunkPacketSender(new ChunkSessionInformation(
-      this.chunkSize,
-      this.sessionUniqueId,
-      this.transferChannel,
-      this.transferInformation
-    ), this.source, this.packetSplitter);
+    var sourceFile = this.sourceFile;
+    return new DefaultFileChunkPacketSender(
+      new ChunkSessionInformation(this.chunkSize, this.sessionUniqueId, this.transferChannel, this.transferInformation),
+      this.source,
+      this.packetSplitter,
+      this.windowSize,
+      this.creditReceivers,
+      sourceFile == null ? 1 : FILE_TRANSFER_ATTEMPTS,
+      sourceFile == null ? null : () -> Files.newInputStream(sourceFile));
   }
 }
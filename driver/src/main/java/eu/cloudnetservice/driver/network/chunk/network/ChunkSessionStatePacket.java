@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.chunk.network;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import java.util.BitSet;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * A packet sent by the receiver of a chunked transfer back to the sender, informing the sender about the state of the
+ * session on the receiver side. The packet either acknowledges that a chunk was handled (granting the sender the
+ * permission to send a further chunk), requests the sender to send a corrupted chunk again, or informs the sender about
+ * the chunks which the receiver already has when the session gets opened, allowing the sender to resume an interrupted
+ * transfer.
+ *
+ * @since 4.0
+ */
+public class ChunkSessionStatePacket extends BasePacket {
+
+  /**
+   * The type of packet acknowledging that a chunk was handled by the receiver.
+   */
+  public static final byte TYPE_ACKNOWLEDGE = 0;
+  /**
+   * The type of packet requesting the sender to send a chunk again as it was corrupted.
+   */
+  public static final byte TYPE_REQUEST_RESEND = 1;
+  /**
+   * The type of packet informing the sender about the chunks which are already present on the receiver side, sent once
+   * when the session is opened.
+   */
+  public static final byte TYPE_PRESENT_CHUNKS = 2;
+
+  /**
+   * Constructs a new chunk session state packet.
+   *
+   * @param dataBuf the content of the packet, starting with the session id and type.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  protected ChunkSessionStatePacket(@NonNull DataBuf dataBuf) {
+    super(NetworkConstants.CHUNKED_PACKET_STATE_CHANNEL, dataBuf);
+  }
+
+  /**
+   * Creates a new packet acknowledging that the chunk with the given index was handled successfully.
+   *
+   * @param sessionUniqueId the unique id of the chunked session the chunk belongs to.
+   * @param chunkIndex      the index of the chunk which was handled.
+   * @return the created acknowledge packet.
+   * @throws NullPointerException if the given session id is null.
+   */
+  public static @NonNull ChunkSessionStatePacket acknowledge(@NonNull UUID sessionUniqueId, int chunkIndex) {
+    return new ChunkSessionStatePacket(DataBuf.empty()
+      .writeUniqueId(sessionUniqueId)
+      .writeByte(TYPE_ACKNOWLEDGE)
+      .writeInt(chunkIndex));
+  }
+
+  /**
+   * Creates a new packet requesting the sender to send the chunk with the given index again.
+   *
+   * @param sessionUniqueId the unique id of the chunked session the chunk belongs to.
+   * @param chunkIndex      the index of the chunk which should be sent again.
+   * @return the created resend request packet.
+   * @throws NullPointerException if the given session id is null.
+   */
+  public static @NonNull ChunkSessionStatePacket requestResend(@NonNull UUID sessionUniqueId, int chunkIndex) {
+    return new ChunkSessionStatePacket(DataBuf.empty()
+      .writeUniqueId(sessionUniqueId)
+      .writeByte(TYPE_REQUEST_RESEND)
+      .writeInt(chunkIndex));
+  }
+
+  /**
+   * Creates a new packet informing the sender about the chunks which the receiver already has.
+   *
+   * @param sessionUniqueId the unique id of the chunked session the chunks belong to.
+   * @param presentChunks   the indexes of the chunks which are already present.
+   * @return the created present chunks packet.
+   * @throws NullPointerException if the given session id or chunk set is null.
+   */
+  public static @NonNull ChunkSessionStatePacket presentChunks(
+    @NonNull UUID sessionUniqueId,
+    @NonNull BitSet presentChunks
+  ) {
+    return new ChunkSessionStatePacket(DataBuf.empty()
+      .writeUniqueId(sessionUniqueId)
+      .writeByte(TYPE_PRESENT_CHUNKS)
+      .writeByteArray(presentChunks.toByteArray()));
+  }
+}
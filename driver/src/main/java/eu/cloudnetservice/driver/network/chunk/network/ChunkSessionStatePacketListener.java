@@ -0,0 +1,56 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.chunk.network;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.chunk.defaults.ChunkedTransferWindow;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.protocol.PacketListener;
+import java.util.BitSet;
+import lombok.NonNull;
+
+/**
+ * A listener for chunk session state packets, passing the information to the transfer window of the associated chunked
+ * session.
+ *
+ * @since 4.0
+ */
+public class ChunkSessionStatePacketListener implements PacketListener {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) {
+    var content = packet.content();
+    var sessionUniqueId = content.readUniqueId();
+    switch (content.readByte()) {
+      case ChunkSessionStatePacket.TYPE_ACKNOWLEDGE -> ChunkedTransferWindow.acknowledgeChunk(
+        sessionUniqueId,
+        content.readInt(),
+        channel);
+      case ChunkSessionStatePacket.TYPE_REQUEST_RESEND -> ChunkedTransferWindow.resendChunk(
+        sessionUniqueId,
+        content.readInt(),
+        channel);
+      case ChunkSessionStatePacket.TYPE_PRESENT_CHUNKS -> ChunkedTransferWindow.markPresentChunks(
+        sessionUniqueId,
+        BitSet.valueOf(content.readByteArray()));
+      default -> throw new IllegalArgumentException("Unknown chunk session state packet type");
+    }
+  }
+}
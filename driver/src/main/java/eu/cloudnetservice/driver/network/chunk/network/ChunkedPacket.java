@@ -20,6 +20,7 @@
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import java.util.zip.CRC32C;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -31,6 +32,11 @@
  */
 public class ChunkedPacket extends BasePacket {
 
+  /**
+   * The chunk index written into a packet which opens the session on the receiver side instead of transferring a chunk.
+   */
+  public static final int SESSION_OPEN_INDEX = -1;
+
   /**
    * Creates a new chunk part. The given buffer must contain all needed information for the receiver.
    * <p>
@@ -44,6 +50,18 @@ public ChunkedPacket(@NonNull DataBuf dataBuf) {
     super(NetworkConstants.CHUNKED_PACKET_COM_CHANNEL, dataBuf);
   }
 
+  /**
+   * Creates a new packet which opens the session on the receiver side before the first chunk is sent. The receiver
+   * responds with the chunks which it already received in a previous attempt of the transfer in the same session.
+   *
+   * @param information the information of the session to open.
+   * @return the created session open packet based on the information.
+   * @throws NullPointerException if the given chunk information is null.
+   */
+  public static @NonNull ChunkedPacket createSessionOpen(@NonNull ChunkSessionInformation information) {
+    return new ChunkedPacket(DataBuf.empty().writeObject(information).writeInt(SESSION_OPEN_INDEX));
+  }
+
   /**
    * Creates a new chunk part. This method is used when the full chunk data is not yet known. It gives no information
    * about the amount of chunks in the full transfer and uses the length of the given array as the data length.
@@ -95,7 +113,23 @@ public ChunkedPacket(@NonNull DataBuf dataBuf) {
     if (chunkAmount != null) {
       dataBuf.writeInt(chunkAmount);
     }
-    // write the actual content of the chunk
-    return new ChunkedPacket(dataBuf.writeByteArray(data, dataLength));
+    // write the actual content of the chunk, followed by the checksum of it to detect corrupted chunks
+    return new ChunkedPacket(dataBuf
+      .writeByteArray(data, dataLength)
+      .writeInt(checksum(data, dataLength)));
+  }
+
+  /**
+   * Calculates the checksum of the given amount of bytes in the given data array, starting at the first byte. The
+   * checksum is transferred with each chunk to allow the receiver to detect corrupted chunks.
+   *
+   * @param data       the data of the chunk.
+   * @param dataLength the amount of bytes in the data of the chunk.
+   * @return the checksum of the chunk data.
+   */
+  public static int checksum(byte[] data, int dataLength) {
+    var checksum = new CRC32C();
+    checksum.update(data, 0, dataLength);
+    return (int) checksum.getValue();
   }
 }
@@ -16,25 +16,41 @@
 
 package eu.cloudnetservice.driver.network.chunk.network;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.chunk.ChunkedPacketHandler;
+import eu.cloudnetservice.driver.network.chunk.TransferStatus;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.PacketListener;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
 import java.util.function.Function;
 import lombok.NonNull;
 
 /**
  * A listener for chunked packets, opening the chunked pocket sessions.
+ * <p>
+ * Sessions which did not receive a packet for some time are considered abandoned by the sender and are closed. A
+ * handler which supports resuming keeps its progress, allowing the sender to resume the transfer in the same session.
  *
  * @since 4.0
  */
 public class ChunkedPacketListener implements PacketListener {
 
+  protected static final Duration SESSION_IDLE_TIMEOUT = Duration.ofMinutes(5);
+
   private final Function<ChunkSessionInformation, ChunkedPacketHandler> handlerFactory;
-  private final Map<ChunkSessionInformation, ChunkedPacketHandler> runningSessions = new ConcurrentHashMap<>();
+  private final Cache<ChunkSessionInformation, ChunkedPacketHandler> runningSessions = Caffeine.newBuilder()
+    .expireAfterAccess(SESSION_IDLE_TIMEOUT)
+    .scheduler(Scheduler.systemScheduler())
+    .removalListener((key, value, cause) -> {
+      if (value != null) {
+        ((ChunkedPacketHandler) value).close();
+      }
+    })
+    .build();
 
   /**
    * Creates a new packet listener instance.
@@ -55,12 +71,37 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
     var information = packet.content().readObject(ChunkSessionInformation.class);
     // read the chunk index
     var chunkIndex = packet.content().readInt();
-    // get or create the session associated with the packet
-    var handler = this.runningSessions.computeIfAbsent(information, this.handlerFactory);
-    // post the packet and check if the session is done
-    if (handler.handleChunkPart(chunkIndex, packet.content())) {
-      // done, remove the session
-      this.runningSessions.remove(information);
+    if (chunkIndex == ChunkedPacket.SESSION_OPEN_INDEX) {
+      // open the session and inform the sender about chunks which were already received in a previous attempt of the
+      // transfer, either by a handler which is still running or by a handler which restored its progress
+      var handler = this.runningSessions.get(information, this.handlerFactory);
+      channel.sendPacket(ChunkSessionStatePacket.presentChunks(information.sessionUniqueId(), handler.handledChunks()));
+      return;
+    }
+
+    var acknowledge = true;
+    try {
+      // get or create the session associated with the packet
+      var handler = this.runningSessions.get(information, this.handlerFactory);
+      // post the packet and check if the session is done
+      var completed = handler.handleChunkPart(chunkIndex, packet.content());
+      // remove the session if it is done or failed, the handler gets closed when removed
+      var transferStatus = handler.transferStatus();
+      if (completed || transferStatus == TransferStatus.FAILURE) {
+        this.runningSessions.invalidate(information);
+      }
+      // request the chunk again if the handler rejected it while the transfer is still running
+      acknowledge = transferStatus != TransferStatus.RUNNING || handler.chunkHandled(chunkIndex);
+    } catch (RuntimeException exception) {
+      // the handler is unable to continue the session
+      this.runningSessions.invalidate(information);
+      throw exception;
+    } finally {
+      // acknowledge the chunk to grant the sender a credit for the next chunk, even if the handling failed
+      var sessionUniqueId = information.sessionUniqueId();
+      channel.sendPacket(acknowledge
+        ? ChunkSessionStatePacket.acknowledge(sessionUniqueId, chunkIndex)
+        : ChunkSessionStatePacket.requestResend(sessionUniqueId, chunkIndex));
     }
   }
 }
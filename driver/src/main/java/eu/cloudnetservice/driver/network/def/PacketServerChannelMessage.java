@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
 import lombok.NonNull;
 
@@ -38,9 +39,46 @@ public final class PacketServerChannelMessage extends BasePacket {
    * @throws NullPointerException if the given channel message is null.
    */
   public PacketServerChannelMessage(@NonNull ChannelMessage message, boolean wrapper) {
-    super(
-      NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
-      message.prioritized(),
-      DataBuf.empty().writeBoolean(wrapper).writeObject(message));
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, message.prioritized(), encode(message, wrapper));
+  }
+
+  /**
+   * Constructs a new channel message packet instance from a channel message which was already encoded using
+   * {@link #encodeShared(ChannelMessage, boolean)}. The given content must be a copy of the encoded message for each
+   * packet, as the content is released when the packet was written.
+   *
+   * @param prioritized if the channel message is prioritized.
+   * @param content     the encoded channel message to send.
+   * @throws NullPointerException if the given content is null.
+   */
+  public PacketServerChannelMessage(boolean prioritized, @NonNull DataBuf content) {
+    super(NetworkConstants.CHANNEL_MESSAGING_CHANNEL, prioritized, content);
+  }
+
+  /**
+   * Encodes the given channel message once into a readonly buffer which can be sent to multiple components. Copies of
+   * the returned buffer (obtained via {@link DataBufFactory#copyOf(DataBuf)}) share the encoded message rather than
+   * copying it and should be used as the content of each packet. The returned buffer must be released by the caller
+   * once all packets were constructed.
+   *
+   * @param message the channel message to encode.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return a readonly buffer holding the encoded channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  public static @NonNull DataBuf encodeShared(@NonNull ChannelMessage message, boolean wrapper) {
+    return DataBufFactory.defaultFactory().readOnlyOf(encode(message, wrapper));
+  }
+
+  /**
+   * Encodes the given channel message into a new buffer.
+   *
+   * @param message the channel message to encode.
+   * @param wrapper if the channel was sent by a wrapper component.
+   * @return a new buffer holding the encoded channel message.
+   * @throws NullPointerException if the given channel message is null.
+   */
+  private static @NonNull DataBuf encode(@NonNull ChannelMessage message, boolean wrapper) {
+    return DataBuf.empty().writeBoolean(wrapper).writeObject(message);
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.delta;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Decodes snapshots encoded by a {@link SnapshotDeltaEncoder}. The decoder keeps the last decoded snapshot of each
+ * sender, a delta is applied to the snapshot of the sender if the delta is based on its version. A delta which is based
+ * on another version can't be applied, the sender should be asked to send all fields again in that case.
+ *
+ * @param <T> the type of snapshots to decode.
+ * @see SnapshotDeltaEncoder
+ * @since 4.0
+ */
+public final class SnapshotDeltaDecoder<T> {
+
+  private final SnapshotSchema<T> schema;
+  private final Map<Object, DecodedSnapshot> decodedSnapshots = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new decoder for snapshots described by the given schema.
+   *
+   * @param schema the schema of the snapshots to decode.
+   * @throws NullPointerException if the given schema is null.
+   */
+  public SnapshotDeltaDecoder(@NonNull SnapshotSchema<T> schema) {
+    this.schema = schema;
+  }
+
+  /**
+   * Decodes the snapshot in the given buffer and applies it to the last decoded snapshot of the given sender.
+   *
+   * @param sender the key of the sender of the snapshot.
+   * @param buffer the buffer to read the encoded snapshot from.
+   * @return the decoded snapshot, null if the delta is not based on the last decoded snapshot of the sender.
+   * @throws NullPointerException if the given sender or buffer is null.
+   */
+  public @Nullable T decode(@NonNull Object sender, @NonNull DataBuf buffer) {
+    var version = buffer.readLong();
+    var baseVersion = buffer.readLong();
+    var changedFields = buffer.readLong();
+
+    // the deltas of a sender are decoded sequentially, no need to synchronize with other decodes of the same sender
+    Object[] values;
+    if (baseVersion == SnapshotDeltaEncoder.NO_BASE_VERSION) {
+      values = new Object[this.schema.fields().size()];
+    } else {
+      var previous = this.decodedSnapshots.get(sender);
+      if (previous == null || previous.version() != baseVersion) {
+        return null;
+      }
+      values = previous.values().clone();
+    }
+
+    var fields = this.schema.fields();
+    for (var i = 0; i < fields.size(); i++) {
+      if ((changedFields & (1L << i)) != 0) {
+        var fieldContent = DataBufFactory.defaultFactory().fromBytes(buffer.readByteArray());
+        values[i] = fieldContent.readObject(fields.get(i).type());
+      }
+    }
+
+    this.decodedSnapshots.put(sender, new DecodedSnapshot(version, values));
+    return this.schema.construct(values);
+  }
+
+  /**
+   * Removes the last decoded snapshot of the given sender, the next delta of the sender must contain all fields.
+   *
+   * @param sender the key of the sender to remove the snapshot of.
+   * @throws NullPointerException if the given sender is null.
+   */
+  public void invalidate(@NonNull Object sender) {
+    this.decodedSnapshots.remove(sender);
+  }
+
+  /**
+   * The field values of the last decoded snapshot of a sender.
+   *
+   * @param version the version of the decoded snapshot.
+   * @param values  the values of all fields of the decoded snapshot.
+   */
+  private record DecodedSnapshot(long version, @NonNull Object[] values) {
+
+  }
+}
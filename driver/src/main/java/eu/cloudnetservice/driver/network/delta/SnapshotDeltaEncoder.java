@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.delta;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.Arrays;
+import lombok.NonNull;
+
+/**
+ * Encodes snapshots of a type as deltas to the previously encoded snapshot. Each encoded snapshot gets a new version,
+ * only the fields of which the serialized form changed since the previous version are written. The first encoded
+ * snapshot, and the first snapshot after a reset, contains all fields.
+ * <p>
+ * The format of an encoded snapshot is: the version of the snapshot, the version the delta is based on (or -1 if all
+ * fields are written), a bit mask of the written fields and the serialized form of each written field.
+ *
+ * @param <T> the type of snapshots to encode.
+ * @see SnapshotDeltaDecoder
+ * @since 4.0
+ */
+public final class SnapshotDeltaEncoder<T> {
+
+  static final long NO_BASE_VERSION = -1;
+
+  private final SnapshotSchema<T> schema;
+
+  private long version;
+  private byte[][] previousFields;
+
+  /**
+   * Constructs a new encoder for snapshots described by the given schema.
+   *
+   * @param schema the schema of the snapshots to encode.
+   * @throws NullPointerException if the given schema is null.
+   */
+  public SnapshotDeltaEncoder(@NonNull SnapshotSchema<T> schema) {
+    this.schema = schema;
+  }
+
+  /**
+   * Encodes the given snapshot as a delta to the previously encoded snapshot.
+   *
+   * @param snapshot the snapshot to encode.
+   * @return a new buffer containing the encoded snapshot.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public synchronized @NonNull DataBuf encode(@NonNull T snapshot) {
+    var fields = this.schema.fields();
+    var values = this.schema.values(snapshot);
+
+    // serialize all fields to find out which of them changed
+    var currentFields = new byte[values.length][];
+    var changedFields = 0L;
+    for (var i = 0; i < values.length; i++) {
+      currentFields[i] = DataBuf.empty().writeObject(values[i]).toByteArray();
+      if (this.previousFields == null || !Arrays.equals(this.previousFields[i], currentFields[i])) {
+        changedFields |= 1L << i;
+      }
+    }
+
+    var baseVersion = this.previousFields == null ? NO_BASE_VERSION : this.version;
+    var buffer = DataBuf.empty()
+      .writeLong(++this.version)
+      .writeLong(baseVersion)
+      .writeLong(changedFields);
+    for (var i = 0; i < fields.size(); i++) {
+      if ((changedFields & (1L << i)) != 0) {
+        buffer.writeByteArray(currentFields[i]);
+      }
+    }
+
+    this.previousFields = currentFields;
+    return buffer;
+  }
+
+  /**
+   * Resets this encoder, the next encoded snapshot will contain all fields. This is used when a receiver is not able to
+   * apply a delta, for example because it missed the snapshot on which the delta is based.
+   */
+  public synchronized void reset() {
+    this.previousFields = null;
+  }
+
+  /**
+   * Get the version of the last encoded snapshot, 0 if no snapshot was encoded yet.
+   *
+   * @return the version of the last encoded snapshot.
+   */
+  public synchronized long version() {
+    return this.version;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.delta;
+
+import com.google.common.base.Preconditions;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * Describes the fields of a snapshot type which are encoded separately when sending deltas of the snapshot. Each field
+ * is serialized using the default object mapper, a snapshot is reconstructed from its field values in the order in
+ * which the fields were added to the schema.
+ *
+ * @param <T> the type of snapshot described by this schema.
+ * @since 4.0
+ */
+public final class SnapshotSchema<T> {
+
+  // the changed fields are written as a bit mask into a long
+  static final int MAX_FIELDS = Long.SIZE;
+
+  private final List<Field<T>> fields;
+  private final Function<Object[], T> factory;
+
+  private SnapshotSchema(@NonNull List<Field<T>> fields, @NonNull Function<Object[], T> factory) {
+    this.fields = fields;
+    this.factory = factory;
+  }
+
+  /**
+   * Constructs a new builder for a snapshot schema.
+   *
+   * @param <T> the type of snapshot described by the schema.
+   * @return a new builder for a snapshot schema.
+   */
+  public static @NonNull <T> Builder<T> builder() {
+    return new Builder<>();
+  }
+
+  /**
+   * Get the fields of the snapshot type, in the order in which they are passed to the factory.
+   *
+   * @return the fields of the snapshot type.
+   */
+  public @Unmodifiable @NonNull List<Field<T>> fields() {
+    return this.fields;
+  }
+
+  /**
+   * Reads the values of all fields from the given snapshot.
+   *
+   * @param snapshot the snapshot to read the field values from.
+   * @return the values of all fields of the given snapshot.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public @NonNull Object[] values(@NonNull T snapshot) {
+    var values = new Object[this.fields.size()];
+    for (var i = 0; i < values.length; i++) {
+      values[i] = this.fields.get(i).getter().apply(snapshot);
+    }
+    return values;
+  }
+
+  /**
+   * Constructs a snapshot from the given field values.
+   *
+   * @param values the values of all fields, in the order of the fields in this schema.
+   * @return the snapshot constructed from the given values.
+   * @throws NullPointerException if the given value array is null.
+   */
+  public @NonNull T construct(@NonNull Object[] values) {
+    return this.factory.apply(values);
+  }
+
+  /**
+   * A single field of a snapshot.
+   *
+   * @param name   the name of the field, for debugging purposes.
+   * @param type   the generic type of the field, used to deserialize the field value.
+   * @param getter the function to read the value of the field from a snapshot.
+   * @param <T>    the type of snapshot the field belongs to.
+   * @since 4.0
+   */
+  public record Field<T>(@NonNull String name, @NonNull Type type, @NonNull Function<T, Object> getter) {
+
+  }
+
+  /**
+   * A builder for a snapshot schema.
+   *
+   * @param <T> the type of snapshot described by the schema.
+   * @since 4.0
+   */
+  public static final class Builder<T> {
+
+    private final List<Field<T>> fields = new ArrayList<>();
+
+    /**
+     * Adds a field to the schema. The fields must be added in the order in which the factory expects them.
+     *
+     * @param name   the name of the field, for debugging purposes.
+     * @param type   the generic type of the field, used to deserialize the field value.
+     * @param getter the function to read the value of the field from a snapshot.
+     * @return the same instance as used to call the method, for chaining.
+     * @throws NullPointerException     if the given name, type or getter is null.
+     * @throws IllegalArgumentException if the schema already has the maximum amount of fields.
+     */
+    public @NonNull Builder<T> field(@NonNull String name, @NonNull Type type, @NonNull Function<T, Object> getter) {
+      Preconditions.checkArgument(this.fields.size() < MAX_FIELDS, "A schema can have at most 64 fields");
+      this.fields.add(new Field<>(name, type, getter));
+      return this;
+    }
+
+    /**
+     * Builds the schema, using the given factory to construct a snapshot from the values of all fields.
+     *
+     * @param factory the factory to construct a snapshot from the values of all fields.
+     * @return the created schema.
+     * @throws NullPointerException     if the given factory is null.
+     * @throws IllegalArgumentException if no field was added to the schema.
+     */
+    public @NonNull SnapshotSchema<T> build(@NonNull Function<Object[], T> factory) {
+      Preconditions.checkArgument(!this.fields.isEmpty(), "A schema must have at least one field");
+      return new SnapshotSchema<>(List.copyOf(this.fields), factory);
+    }
+  }
+}
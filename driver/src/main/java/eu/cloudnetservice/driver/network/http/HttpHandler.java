@@ -77,6 +77,18 @@ public abstract class HttpHandler {
     return Collections.unmodifiableCollection(this.preprocessors);
   }
 
+  /**
+   * Get if this handler is able to handle requests using the given http method. Requests using a method which is not
+   * supported are not posted to this handler, neither are the preprocessors of this handler applied to them.
+   *
+   * @param method the http method of the request, for example GET.
+   * @return true if this handler can handle requests using the given method, false otherwise.
+   * @throws NullPointerException if the given method is null.
+   */
+  public boolean supportsMethod(@NonNull String method) {
+    return true;
+  }
+
   /**
    * Handles a http request whose path (and other supplied attributes) while registering is matching the requested path
    * of the client. A request is only processed by one handler at a time, giving the handler full control about changing
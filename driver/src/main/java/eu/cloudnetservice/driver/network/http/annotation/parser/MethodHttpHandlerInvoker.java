@@ -75,13 +75,21 @@ public MethodHttpHandlerInvoker(
       .asType(methodType);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean supportsMethod(@NonNull String method) {
+    return this.supportedMethods.contains(StringUtil.toUpper(method));
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void handle(@NonNull String path, @NonNull HttpContext context) throws Throwable {
     // check if this handler supports the request method, if not just ignore the request
-    if (this.supportedMethods.contains(StringUtil.toUpper(context.request().method()))) {
+    if (this.supportsMethod(context.request().method())) {
       var arguments = this.buildInvocationArguments(path, context);
       this.handlerMethod.invoke(this.instance, arguments);
     }
@@ -26,9 +26,15 @@
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
 import io.netty5.channel.Channel;
 import io.netty5.util.concurrent.Future;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
 
 /**
  * The default netty based implementation of a network channel.
@@ -40,6 +46,7 @@ public final class NettyNetworkChannel extends DefaultNetworkChannel implements
 
   private final Channel channel;
   private final EventManager eventManager;
+  private final Map<Integer, NettyPacketDispatchLane> dispatchLanes = new ConcurrentHashMap<>();
 
   /**
    * Constructs a new netty network channel instance.
@@ -139,6 +146,29 @@ public void close() {
     this.channel.close();
   }
 
+  /**
+   * Get the dispatch lane for packets sent to the given packet channel id via this network channel, creating it if
+   * needed. All packets dispatched using the same lane are handled in the order they were received.
+   *
+   * @param packetChannel the packet channel id to get the lane for.
+   * @param dispatcher    the packet dispatcher to run the tasks of the lane on if a new lane must be created.
+   * @return the dispatch lane for the given packet channel id.
+   * @throws NullPointerException if the given dispatcher is null.
+   */
+  public @NonNull NettyPacketDispatchLane dispatchLane(int packetChannel, @NonNull Executor dispatcher) {
+    return this.dispatchLanes.computeIfAbsent(packetChannel, $ -> new NettyPacketDispatchLane(dispatcher));
+  }
+
+  /**
+   * Get all dispatch lanes that were created for this channel, for example to inspect their queue depth and handling
+   * latency.
+   *
+   * @return all dispatch lanes of this channel.
+   */
+  public @UnmodifiableView @NonNull Collection<NettyPacketDispatchLane> dispatchLanes() {
+    return Collections.unmodifiableCollection(this.dispatchLanes.values());
+  }
+
   /**
    * Writes the given packet into the channel, calling the packet send event beforehand and not writing when the event
    * gets cancelled by a module/plugin.
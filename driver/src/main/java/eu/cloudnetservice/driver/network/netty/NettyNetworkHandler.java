@@ -91,8 +91,12 @@ protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull Base
     // post directly if the packet has a high priority
     if (msg.prioritized()) {
       this.doHandlePacket(msg);
-    } else {
+    } else if (msg.uniqueId() != null) {
+      // query packets are dispatched unordered, a query handler might wait for a response sent via the same lane
       this.packetDispatcher().execute(() -> this.doHandlePacket(msg));
+    } else {
+      // dispatch the packet in the lane of the packet channel to keep the order of packets sent by the other side
+      this.channel.dispatchLane(msg.channel(), this.packetDispatcher()).execute(() -> this.doHandlePacket(msg));
     }
   }
 
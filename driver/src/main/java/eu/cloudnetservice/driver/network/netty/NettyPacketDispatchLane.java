@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A serial lane on top of a shared packet dispatcher. All tasks submitted to a lane are executed in the order they were
+ * submitted and never concurrently, while tasks of different lanes are executed in parallel by the underlying
+ * dispatcher. Submitting a task to the lane never blocks the calling thread.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class NettyPacketDispatchLane implements Executor {
+
+  private static final Logger LOGGER = LogManager.logger(NettyPacketDispatchLane.class);
+  // the maximum tasks to run in one drain before giving other lanes a chance to run on the dispatcher
+  private static final int MAX_TASKS_PER_DRAIN = 64;
+
+  private final Executor dispatcher;
+  private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean scheduled = new AtomicBoolean();
+
+  // metrics
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final LongAdder handledTasks = new LongAdder();
+  private final LongAdder totalHandlingNanos = new LongAdder();
+  private volatile long maxHandlingNanos;
+
+  /**
+   * Constructs a new dispatch lane instance.
+   *
+   * @param dispatcher the shared dispatcher to run the tasks of this lane on.
+   * @throws NullPointerException if the given dispatcher is null.
+   */
+  public NettyPacketDispatchLane(@NonNull Executor dispatcher) {
+    this.dispatcher = dispatcher;
+  }
+
+  /**
+   * Enqueues the given task into this lane, scheduling a drain of this lane on the dispatcher if needed.
+   *
+   * @param command the task to execute in this lane.
+   * @throws NullPointerException if the given task is null.
+   */
+  @Override
+  public void execute(@NonNull Runnable command) {
+    this.queue.offer(command);
+    this.queueDepth.incrementAndGet();
+    this.scheduleDrain();
+  }
+
+  /**
+   * Get the amount of tasks which are waiting for their execution in this lane.
+   *
+   * @return the amount of tasks waiting in this lane.
+   */
+  public int queueDepth() {
+    return this.queueDepth.get();
+  }
+
+  /**
+   * Get the amount of tasks which were executed by this lane.
+   *
+   * @return the amount of executed tasks.
+   */
+  public long handledTasks() {
+    return this.handledTasks.sum();
+  }
+
+  /**
+   * Get the average time in nanoseconds it took to execute a task in this lane, 0 if no task was executed yet.
+   *
+   * @return the average handling time of a task in nanoseconds.
+   */
+  public long averageHandlingNanos() {
+    var handled = this.handledTasks.sum();
+    return handled == 0 ? 0 : this.totalHandlingNanos.sum() / handled;
+  }
+
+  /**
+   * Get the longest time in nanoseconds it took to execute a task in this lane, 0 if no task was executed yet.
+   *
+   * @return the longest handling time of a task in nanoseconds.
+   */
+  public long maxHandlingNanos() {
+    return this.maxHandlingNanos;
+  }
+
+  /**
+   * Schedules a drain of this lane on the dispatcher if no drain is currently scheduled or running.
+   */
+  private void scheduleDrain() {
+    if (this.scheduled.compareAndSet(false, true)) {
+      this.dispatcher.execute(this::drain);
+    }
+  }
+
+  /**
+   * Executes the tasks which are currently queued in this lane, up to a fixed maximum per drain. If tasks are still
+   * queued after the drain, a new drain gets scheduled to ensure that no task is left behind.
+   */
+  private void drain() {
+    try {
+      Runnable task;
+      for (var executed = 0; executed < MAX_TASKS_PER_DRAIN && (task = this.queue.poll()) != null; executed++) {
+        this.queueDepth.decrementAndGet();
+        this.runTask(task);
+      }
+    } finally {
+      // allow the next drain to be scheduled, re-schedule if a task was added in the meantime
+      this.scheduled.set(false);
+      if (!this.queue.isEmpty()) {
+        this.scheduleDrain();
+      }
+    }
+  }
+
+  /**
+   * Runs the given task and records the time it took to execute it.
+   *
+   * @param task the task to run.
+   * @throws NullPointerException if the given task is null.
+   */
+  private void runTask(@NonNull Runnable task) {
+    var start = System.nanoTime();
+    try {
+      task.run();
+    } catch (Throwable throwable) {
+      LOGGER.severe("Exception while executing task in packet dispatch lane", throwable);
+    } finally {
+      var handlingTime = System.nanoTime() - start;
+      this.handledTasks.increment();
+      this.totalHandlingNanos.add(handlingTime);
+      if (handlingTime > this.maxHandlingNanos) {
+        this.maxHandlingNanos = handlingTime;
+      }
+    }
+  }
+}
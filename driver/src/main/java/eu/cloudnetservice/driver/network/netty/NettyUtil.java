@@ -19,6 +19,7 @@
 import eu.cloudnetservice.driver.DriverEnvironment;
 import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import io.netty5.buffer.Buffer;
+import io.netty5.buffer.BufferAllocator;
 import io.netty5.buffer.BufferUtil;
 import io.netty5.channel.Channel;
 import io.netty5.channel.ChannelFactory;
@@ -28,6 +29,7 @@
 import io.netty5.handler.codec.DecoderException;
 import io.netty5.util.ResourceLeakDetector;
 import io.netty5.util.concurrent.Future;
+import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
@@ -194,6 +196,61 @@ public static int readVarInt(@NonNull Buffer buffer) {
     return null;
   }
 
+  /**
+   * Writes the given long value as a var long into the buffer.
+   *
+   * @param buffer the buffer to write to.
+   * @param value  the value to write into the buffer.
+   * @return the buffer used to call the method, for chaining.
+   * @throws NullPointerException if the given buffer is null.
+   */
+  public static @NonNull Buffer writeVarLong(@NonNull Buffer buffer, long value) {
+    while (true) {
+      if ((value & ~0x7FL) == 0) {
+        buffer.writeByte((byte) value);
+        return buffer;
+      } else {
+        buffer.writeByte((byte) ((value & 0x7F) | 0x80));
+        value >>>= 7;
+      }
+    }
+  }
+
+  /**
+   * Reads a var long from the given buffer.
+   *
+   * @param buffer the buffer to read from.
+   * @return the var long read from the buffer.
+   * @throws DecoderException     if the buf current position has no var long.
+   * @throws NullPointerException if the given buffer to read from is null.
+   */
+  public static long readVarLong(@NonNull Buffer buffer) {
+    var result = 0L;
+    var maxRead = Math.min(10, buffer.readableBytes());
+    for (var j = 0; j < maxRead; j++) {
+      var nextByte = buffer.readByte();
+      result |= (long) (nextByte & 0x7F) << j * 7;
+      if ((nextByte & 0x80) != 128) {
+        return result;
+      }
+    }
+
+    throw new DecoderException(String.format(
+      "Unable to decode VarLong at current buffer position (%d)",
+      buffer.readerOffset()));
+  }
+
+  /**
+   * Gets the number of bytes that writing the given value as a var long will take in the underlying buffer.
+   *
+   * @param value the number to get the amount of bytes for.
+   * @return the number of bytes writing the given number as a var long will take.
+   */
+  public static int varLongBytes(long value) {
+    // each byte holds 7 bits of the value, 0 is always one byte long
+    return Math.max(1, (70 - Long.numberOfLeadingZeros(value)) / 7);
+  }
+
   /**
    * Gets the number of bytes that writing the given content length as a var int will take in the underlying buffer.
    *
@@ -204,6 +261,36 @@ public static int varIntBytes(int contentLength) {
     return VAR_INT_BYTE_LENGTHS[Integer.numberOfLeadingZeros(contentLength)];
   }
 
+  /**
+   * Composes the given header and body buffer into a single composite buffer without copying the content of either
+   * buffer. The ownership of both given buffers is transferred to the returned buffer, they are no longer accessible
+   * after calling this method. The header buffer must be fully written; bytes of the body buffer which were already
+   * read are dropped before composing.
+   *
+   * @param allocator the allocator to use to create the composite buffer.
+   * @param header    the header buffer which should be placed before the body.
+   * @param body      the body buffer which should be placed after the header.
+   * @return a composite buffer containing the readable bytes of the header followed by the readable bytes of the body.
+   * @throws NullPointerException if the given allocator, header or body is null.
+   */
+  public static @NonNull Buffer composeFrame(
+    @NonNull BufferAllocator allocator,
+    @NonNull Buffer header,
+    @NonNull Buffer body
+  ) {
+    // a composite buffer cannot contain an unread gap, drop the bytes of the body that were already read
+    if (body.readerOffset() > 0) {
+      body.readSplit(0).close();
+    }
+
+    // all components of a composite buffer must share the same read-only state
+    if (body.readOnly() && !header.readOnly()) {
+      header.makeReadOnly();
+    }
+
+    return allocator.compose(List.of(header.send(), body.send()));
+  }
+
   /**
    * Waits for the given future to complete, either returning the same future instance as given (but completed) or
    * rethrowing all exceptions that occurred during completion. This method throws an IllegalThreadStateException if the
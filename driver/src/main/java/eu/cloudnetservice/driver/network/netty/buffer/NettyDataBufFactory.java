@@ -75,6 +75,18 @@ protected NettyDataBufFactory() {
     return new NettyImmutableDataBuf(buffer.copy(0, buffer.readableBytes(), true));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull DataBuf readOnlyOf(@NonNull DataBuf dataBuf) {
+    Preconditions.checkArgument(dataBuf instanceof NettyImmutableDataBuf, "Factory only supports netty data buf");
+
+    // copies of a readonly netty buffer share the memory with it
+    var buffer = ((NettyImmutableDataBuf) dataBuf).buffer();
+    return new NettyImmutableDataBuf(buffer.readOnly() ? buffer : buffer.makeReadOnly());
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -20,7 +20,10 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.rpc.defaults.object.DefaultObjectMapper;
 import io.netty5.buffer.Buffer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Type;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 import java.util.function.Function;
@@ -130,6 +133,26 @@ public byte[] readByteArray() {
     });
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int readByteArray(@NonNull WritableByteChannel target) {
+    return this.hotRead(buf -> {
+      var length = NettyUtil.readVarInt(buf);
+      try {
+        // the channel might not accept all bytes at once
+        var remaining = length;
+        while (remaining > 0) {
+          remaining -= buf.transferTo(target, remaining);
+        }
+        return length;
+      } catch (IOException exception) {
+        throw new UncheckedIOException("Unable to transfer byte array to channel", exception);
+      }
+    });
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.netty.buffer.NettyImmutableDataBuf;
 import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
 import io.netty5.buffer.Buffer;
 import io.netty5.channel.ChannelHandlerContext;
 import io.netty5.handler.codec.ByteToMessageDecoder;
@@ -36,7 +37,7 @@
  * A packet always contains the following data:
  * <ol>
  *   <li>The numeric id of the channel being sent to, by default a var int.
- *   <li>An optional query unique id if the packet is a query.
+ *   <li>An optional query unique id if the packet is a query, written as a var long if it is a compact query id.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
  *
@@ -62,12 +63,16 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
       // read the required base data from the buffer
       var channel = NettyUtil.readVarInt(in);
       var prioritized = in.readBoolean();
-      var queryUniqueId = in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+      var queryUniqueId = switch (in.readByte()) {
+        case NettyPacketEncoder.QUERY_ID_TYPE_UNIQUE_ID -> new UUID(in.readLong(), in.readLong());
+        case NettyPacketEncoder.QUERY_ID_TYPE_COMPACT -> DefaultQueryPacketManager.compactQueryUniqueId(
+          NettyUtil.readVarLong(in));
+        default -> null;
+      };
 
-      // extract the body
+      // extract the body by splitting it out of the frame, the split buffer is the only owner of the bytes now
       var bodyLength = NettyUtil.readVarInt(in);
-      var body = new NettyImmutableDataBuf(in.copy(in.readerOffset(), bodyLength, true));
-      in.skipReadableBytes(bodyLength);
+      var body = new NettyImmutableDataBuf(in.readSplit(bodyLength).makeReadOnly());
 
       // construct the packet
       var packet = new BasePacket(channel, prioritized, body);
@@ -19,9 +19,12 @@
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.netty.buffer.NettyImmutableDataBuf;
 import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.protocol.defaults.DefaultQueryPacketManager;
 import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerAdapter;
 import io.netty5.channel.ChannelHandlerContext;
-import io.netty5.handler.codec.MessageToByteEncoder;
+import io.netty5.handler.codec.EncoderException;
+import io.netty5.util.concurrent.Future;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -31,65 +34,117 @@
  * A packet always contains the following data:
  * <ol>
  *   <li>The numeric id of the channel being sent to, by default a var int.
- *   <li>An optional query unique id if the packet is a query.
+ *   <li>An optional query unique id if the packet is a query, written as a var long if it is a compact query id.
  *   <li>The data transferred to this component, might be empty.
  * </ol>
+ * <p>
+ * The packet content is not copied into the written frame, instead the encoded header is composed with the content
+ * buffer of the packet. If the packet content is not acquired elsewhere, the ownership of the content is transferred
+ * into the frame, otherwise a read-only view of the content is used (which shares the memory when the content buffer
+ * is read-only itself).
  *
  * @since 4.0
  */
 @ApiStatus.Internal
-public final class NettyPacketEncoder extends MessageToByteEncoder<Packet> {
+public final class NettyPacketEncoder extends ChannelHandlerAdapter {
 
   public static final NettyPacketEncoder INSTANCE = new NettyPacketEncoder();
 
+  // the types of query ids which can be written, type 1 is compatible with the old boolean "is query" marker
+  static final byte QUERY_ID_TYPE_NONE = 0;
+  static final byte QUERY_ID_TYPE_UNIQUE_ID = 1;
+  static final byte QUERY_ID_TYPE_COMPACT = 2;
+
   /**
    * {@inheritDoc}
    */
   @Override
-  protected Buffer allocateBuffer(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg) {
-    // we allocate 2 booleans (prioritized and isQuery) + content length + channel in advance
-    var bufferLength = 2
-      + msg.content().readableBytes()
-      + NettyUtil.varIntBytes(msg.channel())
-      + NettyUtil.varIntBytes(msg.content().readableBytes());
-    // if the given packet has a query unique id we need two longs for that unique id as well
-    if (msg.uniqueId() != null) {
-      bufferLength += 16;
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    // pass through all messages which are not packets
+    if (!(msg instanceof Packet packet)) {
+      return ctx.write(msg);
+    }
+
+    Buffer frame;
+    try {
+      frame = this.encode(ctx, packet);
+    } catch (Exception exception) {
+      return ctx.newFailedFuture(new EncoderException(exception));
+    } finally {
+      // release the content of the packet now, don't use the local field to respect if releasing was disabled in the
+      // original buffer.
+      packet.content().release();
     }
 
-    // allocate the buffer
-    return ctx.bufferAllocator().allocate(bufferLength);
+    return ctx.write(frame);
   }
 
   /**
-   * {@inheritDoc}
+   * Encodes the header of the given packet and composes it with the content of the packet.
+   *
+   * @param ctx    the context of the handler which is encoding the packet.
+   * @param packet the packet to encode.
+   * @return the encoded frame of the packet, containing the header and the content.
+   * @throws NullPointerException if the given context or packet is null.
    */
-  @Override
-  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet msg, @NonNull Buffer out) {
-    // channel
-    NettyUtil.writeVarInt(out, msg.channel());
-    // packet priority
-    out.writeBoolean(msg.prioritized());
-    // query id (if present)
-    var queryUniqueId = msg.uniqueId();
-    out.writeBoolean(queryUniqueId != null);
-    if (queryUniqueId != null) {
-      out
-        .writeLong(queryUniqueId.getMostSignificantBits())
-        .writeLong(queryUniqueId.getLeastSignificantBits());
-    }
-    // body
+  private @NonNull Buffer encode(@NonNull ChannelHandlerContext ctx, @NonNull Packet packet) {
     // we only support netty buf
-    var content = ((NettyImmutableDataBuf) msg.content()).buffer();
-    // write information to buffer
+    var content = ((NettyImmutableDataBuf) packet.content()).buffer();
     var length = content.readableBytes();
-    NettyUtil.writeVarInt(out, length);
-    // copy the content and move the cursor of the destination buffer
-    content.copyInto(0, out, out.writerOffset(), length);
-    out.skipWritableBytes(length);
-    // release the content of the packet now, don't use the local field to respect if releasing was disabled in the
-    // original buffer.
-    msg.content().release();
+
+    // we allocate 1 boolean (prioritized) + query id type + content length + channel in advance
+    var headerLength = 2 + NettyUtil.varIntBytes(packet.channel()) + NettyUtil.varIntBytes(length);
+    // if the given packet has a query unique id we need either a var long or two longs for that unique id as well
+    var queryUniqueId = packet.uniqueId();
+    var compactQueryId = queryUniqueId != null && DefaultQueryPacketManager.compactQueryId(queryUniqueId);
+    if (compactQueryId) {
+      headerLength += NettyUtil.varLongBytes(queryUniqueId.getLeastSignificantBits());
+    } else if (queryUniqueId != null) {
+      headerLength += 16;
+    }
+
+    var header = ctx.bufferAllocator().allocate(headerLength);
+    Buffer body = null;
+    try {
+      // channel
+      NettyUtil.writeVarInt(header, packet.channel());
+      // packet priority
+      header.writeBoolean(packet.prioritized());
+      // query id (if present)
+      if (compactQueryId) {
+        header.writeByte(QUERY_ID_TYPE_COMPACT);
+        NettyUtil.writeVarLong(header, queryUniqueId.getLeastSignificantBits());
+      } else if (queryUniqueId != null) {
+        header
+          .writeByte(QUERY_ID_TYPE_UNIQUE_ID)
+          .writeLong(queryUniqueId.getMostSignificantBits())
+          .writeLong(queryUniqueId.getLeastSignificantBits());
+      } else {
+        header.writeByte(QUERY_ID_TYPE_NONE);
+      }
+      // body length
+      NettyUtil.writeVarInt(header, length);
+
+      // if the content is only acquired by the packet we can take over the readable bytes of the buffer, the remaining
+      // (now empty) buffer gets released when the packet content is released. If the content is acquired elsewhere we
+      // need to keep the buffer intact and use a view of it instead (which is a copy if the content is not read-only)
+      if (packet.content().acquires() <= 1) {
+        body = content.readSplit(length);
+      } else {
+        body = content.copy(content.readerOffset(), length, true);
+      }
+
+      return NettyUtil.composeFrame(ctx.bufferAllocator(), header, body);
+    } catch (RuntimeException exception) {
+      // the buffers are not owned by the frame yet, release them to not leak their memory
+      if (header.isAccessible()) {
+        header.close();
+      }
+      if (body != null && body.isAccessible()) {
+        body.close();
+      }
+      throw exception;
+    }
   }
 
   /**
@@ -56,9 +56,8 @@ protected void decode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer in) {
 
     // check if the packet data supplied in the buffer is actually at least the transmitted size
     if (in.readableBytes() >= length) {
-      // fire the channel read
-      ctx.fireChannelRead(in.copy(in.readerOffset(), length, true));
-      in.skipReadableBytes(length);
+      // split the frame out of the buffer (transferring the ownership of the bytes) and fire the channel read
+      ctx.fireChannelRead(in.readSplit(length));
     } else {
       // reset the reader index, there is still data missing
       in.readerOffset(readerIndex);
@@ -18,13 +18,14 @@
 
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import io.netty5.buffer.Buffer;
+import io.netty5.channel.ChannelHandlerAdapter;
 import io.netty5.channel.ChannelHandlerContext;
-import io.netty5.handler.codec.MessageToByteEncoder;
+import io.netty5.util.concurrent.Future;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
 @ApiStatus.Internal
-public final class VarInt32FramePrepender extends MessageToByteEncoder<Buffer> {
+public final class VarInt32FramePrepender extends ChannelHandlerAdapter {
 
   public static final VarInt32FramePrepender INSTANCE = new VarInt32FramePrepender();
 
@@ -32,18 +33,18 @@ public final class VarInt32FramePrepender extends MessageToByteEncoder<Buffer> {
    * {@inheritDoc}
    */
   @Override
-  protected Buffer allocateBuffer(@NonNull ChannelHandlerContext ctx, @NonNull Buffer msg) {
-    var bufferSize = NettyUtil.varIntBytes(msg.readableBytes()) + msg.readableBytes();
-    return ctx.bufferAllocator().allocate(bufferSize);
-  }
+  public @NonNull Future<Void> write(@NonNull ChannelHandlerContext ctx, @NonNull Object msg) {
+    // pass through all messages which are not buffers
+    if (!(msg instanceof Buffer buffer)) {
+      return ctx.write(msg);
+    }
 
-  /**
-   * {@inheritDoc}
-   */
-  @Override
-  protected void encode(@NonNull ChannelHandlerContext ctx, @NonNull Buffer msg, @NonNull Buffer out) {
-    NettyUtil.writeVarInt(out, msg.readableBytes());
-    out.writeBytes(msg);
+    // write the length prefix and compose it with the given buffer
+    var length = buffer.readableBytes();
+    var header = ctx.bufferAllocator().allocate(NettyUtil.varIntBytes(length));
+    NettyUtil.writeVarInt(header, length);
+
+    return ctx.write(NettyUtil.composeFrame(ctx.bufferAllocator(), header, buffer));
   }
 
   /**
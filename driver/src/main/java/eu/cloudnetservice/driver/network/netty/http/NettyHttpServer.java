@@ -27,6 +27,7 @@
 import eu.cloudnetservice.driver.network.netty.NettySslServer;
 import eu.cloudnetservice.driver.network.netty.NettyUtil;
 import eu.cloudnetservice.driver.network.ssl.SSLConfiguration;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import io.netty5.bootstrap.ServerBootstrap;
 import io.netty5.channel.ChannelOption;
 import io.netty5.channel.EventLoopGroup;
@@ -34,7 +35,12 @@
 import jakarta.inject.Singleton;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -50,10 +56,27 @@ public class NettyHttpServer extends NettySslServer implements HttpServer {
 
   protected final Map<HostAndPort, Future<Void>> channelFutures = new ConcurrentHashMap<>();
   protected final Collection<HttpHandlerEntry> registeredHandlers = ConcurrentHashMap.newKeySet();
+  protected volatile NettyHttpServerRouter router = NettyHttpServerRouter.compile(Set.of());
 
   protected final EventLoopGroup bossGroup = NettyUtil.newEventLoopGroup(1);
   protected final EventLoopGroup workerGroup = NettyUtil.newEventLoopGroup(0);
 
+  // handlers might block (for example while waiting for a database), they are not called on the event loop
+  protected final ExecutorService handlerExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Http-Handler-",
+    threadFactory -> {
+      var threads = Runtime.getRuntime().availableProcessors() * 2;
+      var executor = new ThreadPoolExecutor(
+        threads,
+        threads,
+        30L,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        threadFactory);
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    });
+
   protected final HttpAnnotationParser<HttpServer> annoParser = DefaultHttpAnnotationParser.withDefaultProcessors(this);
 
   /**
@@ -175,6 +198,7 @@ public boolean sslEnabled() {
       this.registeredHandlers.add(new HttpHandlerEntry(path, httpHandler, port, priority));
     }
 
+    this.rebuildRouter();
     return this;
   }
 
@@ -184,6 +208,7 @@ public boolean sslEnabled() {
   @Override
   public @NonNull HttpServer removeHandler(@NonNull HttpHandler handler) {
     this.registeredHandlers.removeIf(registeredHandler -> registeredHandler.httpHandler.equals(handler));
+    this.rebuildRouter();
     return this;
   }
 
@@ -193,6 +218,7 @@ public boolean sslEnabled() {
   @Override
   public @NonNull HttpServer removeHandler(@NonNull ClassLoader classLoader) {
     this.registeredHandlers.removeIf(handler -> handler.httpHandler.getClass().getClassLoader().equals(classLoader));
+    this.rebuildRouter();
     return this;
   }
 
@@ -212,6 +238,7 @@ public boolean sslEnabled() {
   @Override
   public @NonNull HttpServer clearHandlers() {
     this.registeredHandlers.clear();
+    this.rebuildRouter();
     return this;
   }
 
@@ -226,9 +253,17 @@ public void close() {
 
     this.bossGroup.shutdownGracefully();
     this.workerGroup.shutdownGracefully();
+    this.handlerExecutor.shutdown();
     this.clearHandlers();
   }
 
+  /**
+   * Compiles a new router for the currently registered handlers, must be called whenever the handlers change.
+   */
+  protected synchronized void rebuildRouter() {
+    this.router = NettyHttpServerRouter.compile(this.registeredHandlers);
+  }
+
   /**
    * Represents a registered http handler, holding all the information needed for later calling of it.
    *
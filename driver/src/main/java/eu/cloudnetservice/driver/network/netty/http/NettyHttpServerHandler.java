@@ -37,13 +37,13 @@
 import io.netty5.handler.codec.http.HttpUtil;
 import io.netty5.handler.stream.ChunkedStream;
 import io.netty5.handler.timeout.ReadTimeoutException;
+import io.netty5.util.Resource;
 import io.netty5.util.concurrent.Future;
 import java.io.IOException;
 import java.net.URI;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 
@@ -62,6 +62,7 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
   private final HostAndPort connectedAddress;
 
   private NettyHttpChannel channel;
+  private CompletableFuture<Void> pendingRequest = CompletableFuture.completedFuture(null);
 
   /**
    * Constructs a new http server handler instance.
@@ -71,6 +72,8 @@ final class NettyHttpServerHandler extends SimpleChannelInboundHandler<HttpReque
    * @throws NullPointerException if the given server or host and port are null.
    */
   public NettyHttpServerHandler(@NonNull NettyHttpServer nettyHttpServer, @NonNull HostAndPort connectedAddress) {
+    // the requests are released after they were handled asynchronously
+    super(false);
     this.nettyHttpServer = nettyHttpServer;
     this.connectedAddress = connectedAddress;
   }
@@ -119,11 +122,24 @@ public void channelReadComplete(@NonNull ChannelHandlerContext ctx) {
   protected void messageReceived(@NonNull ChannelHandlerContext ctx, @NonNull HttpRequest msg) {
     // validate that the request was actually decoded before processing
     if (msg.decoderResult().isFailure()) {
+      Resource.dispose(msg);
       ctx.channel().close();
       return;
     }
 
-    this.handleMessage(ctx.channel(), msg);
+    // handlers might block, handle the request off the event loop. the requests of a connection are handled one after
+    // another to write the responses in the order in which the requests were received. the request is handled
+    // regardless of the outcome of the previous request, as a failed future would otherwise stall the connection
+    this.pendingRequest = this.pendingRequest.handleAsync(($, previousException) -> {
+      try {
+        this.handleMessage(ctx.channel(), msg);
+      } catch (Throwable throwable) {
+        this.channelExceptionCaught(ctx, throwable);
+      } finally {
+        Resource.dispose(msg);
+      }
+      return null;
+    }, this.nettyHttpServer.handlerExecutor);
   }
 
   /**
@@ -151,23 +167,27 @@ private void handleMessage(@NonNull Channel channel, @NonNull HttpRequest httpRe
       fullPath = fullPath.substring(0, fullPath.length() - 1);
     }
 
-    // get all handlers which should be tested if they can accept the http request
-    var entries = new ArrayList<>(this.nettyHttpServer.registeredHandlers);
-    entries.sort(Comparator.comparingInt(NettyHttpServer.HttpHandlerEntry::priority).reversed());
+    // resolve the handlers which are matching the request, ordered by their priority
+    var pathEntries = fullPath.split("/");
+    var routes = this.nettyHttpServer.router.route(
+      pathEntries,
+      this.connectedAddress.port(),
+      httpRequest.method().name());
 
     // build the context around the http request
-    var pathEntries = fullPath.split("/");
+    var path = StringUtil.toLower(fullPath);
     var context = new NettyHttpServerContext(this.nettyHttpServer, this.channel, uri, new HashMap<>(), httpRequest);
 
     // loop over each handler, posting the message to the handlers which are matching the request uri
-    for (var httpHandlerEntry : entries) {
+    for (var route : routes) {
       // prepare the context to post to the handler
+      var httpHandlerEntry = route.handlerEntry();
       context.invocationHints.clear();
       context.pathPrefix(httpHandlerEntry.path());
+      route.bindPathParameters(pathEntries, context.request().pathParameters());
 
-      // check and post to the handler if matching
-      var handlerPathEntries = httpHandlerEntry.path().split("/");
-      if (this.handleMessage0(httpHandlerEntry, context, fullPath, pathEntries, handlerPathEntries)) {
+      // post to the handler
+      if (this.handleMessage0(httpHandlerEntry, context, path)) {
         // update the last handler in the pipeline which handled the request
         context.pushChain(httpHandlerEntry.httpHandler());
         // stop processing the request if a handler requested that
@@ -221,69 +241,19 @@ private void handleMessage(@NonNull Channel channel, @NonNull HttpRequest httpRe
   }
 
   /**
-   * Handles the incoming request and posts it the given handler if the data matches the settings of the handler.
+   * Posts the incoming request to the given handler, which was resolved to match the request.
    *
-   * @param httpHandlerEntry   the handler to post to if everything matches.
-   * @param context            the context of the request.
-   * @param fullPath           the full requested path.
-   * @param pathEntries        the entries one by one of the path uri.
-   * @param handlerPathEntries the entries of the http handler.
+   * @param httpHandlerEntry the handler to post to.
+   * @param context          the context of the request.
+   * @param path             the full requested path, in lower case.
    * @return true if the message was posted to the handler, false otherwise.
    * @throws NullPointerException if one of the given parameters is null.
    */
   private boolean handleMessage0(
     @NonNull NettyHttpServer.HttpHandlerEntry httpHandlerEntry,
     @NonNull HttpContext context,
-    @NonNull String fullPath,
-    @NonNull String[] pathEntries,
-    @NonNull String[] handlerPathEntries
+    @NonNull String path
   ) {
-    var path = StringUtil.toLower(fullPath);
-
-    // validate that the port (if given) of the server and entry are matching
-    if (httpHandlerEntry.port() != null && httpHandlerEntry.port() != this.connectedAddress.port()) {
-      return false;
-    }
-
-    // check if the path either ends with a wildcard or if the path entry length are matching
-    if (!httpHandlerEntry.path().endsWith("*") && pathEntries.length != handlerPathEntries.length) {
-      return false;
-    }
-
-    // wildcard path check, if the path handler expects more entries than the original requested path
-    if (pathEntries.length < handlerPathEntries.length) {
-      return false;
-    }
-
-    // validate that all path entries are matching
-    if (pathEntries.length != 1 || handlerPathEntries.length != 1) {
-      for (var index = 1; index < pathEntries.length; ++index) {
-        // check if the current index of the handler entries is a wildcard char and continue without further checking
-        var entry = handlerPathEntries[index];
-        if (entry.equals("*")) {
-          // special case: if the entry is the last entry of the path entries we can stop the check as it should
-          // match all upcoming uri path parts
-          if (handlerPathEntries.length - 1 == index) {
-            break;
-          }
-          continue;
-        }
-
-        // check for a path parameter in the form {name}
-        if (entry.startsWith("{") && entry.endsWith("}") && entry.length() > 2) {
-          // remove the initial { and ending } and register the name with the provided value in the path
-          // parameters in the context and continue.
-          context.request().pathParameters().put(entry.substring(1, entry.length() - 1), pathEntries[index]);
-          continue;
-        }
-
-        // check if the uri does match at the position
-        if (!entry.equals(pathEntries[index])) {
-          return false;
-        }
-      }
-    }
-
     // post the context to the invocation handlers (if any registered)
     var preprocessors = httpHandlerEntry.httpHandler().preprocessors();
     if (!preprocessors.isEmpty()) {
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.http;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A precompiled router resolving the http handlers which match a request. The paths of all registered handlers are
+ * compiled into a tree of path segments, resolving the handlers of a request only visits the tree nodes which match
+ * the segments of the requested path. A router is immutable, a new router is compiled whenever the registered handlers
+ * change.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+final class NettyHttpServerRouter {
+
+  private final RouteNode root;
+
+  /**
+   * Constructs a new router instance.
+   *
+   * @param root the root node of the compiled route tree.
+   * @throws NullPointerException if the given root node is null.
+   */
+  private NettyHttpServerRouter(@NonNull RouteNode root) {
+    this.root = root;
+  }
+
+  /**
+   * Compiles a new router for the given handlers.
+   *
+   * @param entries the handlers to compile the router for.
+   * @return a new router for the given handlers.
+   * @throws NullPointerException if the given handler collection is null.
+   */
+  public static @NonNull NettyHttpServerRouter compile(@NonNull Collection<NettyHttpServer.HttpHandlerEntry> entries) {
+    // the handlers with the highest priority are called first
+    var sortedEntries = new ArrayList<>(entries);
+    sortedEntries.sort(Comparator.comparingInt(NettyHttpServer.HttpHandlerEntry::priority).reversed());
+
+    var root = new RouteNode();
+    for (var index = 0; index < sortedEntries.size(); index++) {
+      var entry = sortedEntries.get(index);
+      var handlerPathEntries = entry.path().split("/");
+      var parameterNames = new String[handlerPathEntries.length];
+
+      var node = root;
+      for (var segment = 0; segment < handlerPathEntries.length; segment++) {
+        var pathEntry = handlerPathEntries[segment];
+        if (pathEntry.equals("*")) {
+          // a wildcard matches any value at the position
+          node = node.wildcardChild == null ? node.wildcardChild = new RouteNode() : node.wildcardChild;
+        } else if (pathEntry.startsWith("{") && pathEntry.endsWith("}") && pathEntry.length() > 2) {
+          // a path parameter in the form {name} matches any value and binds it to the parameter name
+          parameterNames[segment] = pathEntry.substring(1, pathEntry.length() - 1);
+          node = node.parameterChild == null ? node.parameterChild = new RouteNode() : node.parameterChild;
+        } else {
+          node = node.staticChildren.computeIfAbsent(pathEntry, $ -> new RouteNode());
+        }
+      }
+
+      // handlers of which the path ends with a wildcard match all requests with more path entries as well
+      var route = new Route(entry, parameterNames, index);
+      if (entry.path().endsWith("*")) {
+        node.prefixRoutes.add(route);
+      } else {
+        node.exactRoutes.add(route);
+      }
+    }
+
+    return new NettyHttpServerRouter(root);
+  }
+
+  /**
+   * Resolves all routes which are matching the given request, in the order in which their handlers should be called.
+   *
+   * @param pathEntries the entries one by one of the requested path.
+   * @param port        the port on which the request was received.
+   * @param method      the http method of the request.
+   * @return all routes matching the given request, ordered by the priority of their handler.
+   * @throws NullPointerException if the given path entries or method is null.
+   */
+  public @NonNull List<Route> route(@NonNull String[] pathEntries, int port, @NonNull String method) {
+    List<Route> routes = new ArrayList<>();
+    this.collectRoutes(this.root, pathEntries, 0, routes);
+
+    // remove the routes which are bound to another port or can't handle the method of the request
+    routes.removeIf(route -> {
+      var entry = route.handlerEntry();
+      return (entry.port() != null && entry.port() != port) || !entry.httpHandler().supportsMethod(method);
+    });
+    routes.sort(Comparator.comparingInt(Route::order));
+    return routes;
+  }
+
+  /**
+   * Collects the routes of the given node and all child nodes which are matching the remaining path entries.
+   *
+   * @param node        the node to collect the routes from.
+   * @param pathEntries the entries one by one of the requested path.
+   * @param depth       the index of the path entry which is matched by the children of the node.
+   * @param target      the list to add the matching routes to.
+   * @throws NullPointerException if the given node, path entries or target list is null.
+   */
+  private void collectRoutes(
+    @NonNull RouteNode node,
+    @NonNull String[] pathEntries,
+    int depth,
+    @NonNull List<Route> target
+  ) {
+    target.addAll(node.prefixRoutes);
+    if (depth == pathEntries.length) {
+      target.addAll(node.exactRoutes);
+      return;
+    }
+
+    var pathEntry = pathEntries[depth];
+    var staticChild = node.staticChildren.get(pathEntry);
+    if (staticChild != null) {
+      this.collectRoutes(staticChild, pathEntries, depth + 1, target);
+    }
+
+    if (node.parameterChild != null) {
+      this.collectRoutes(node.parameterChild, pathEntries, depth + 1, target);
+    }
+
+    if (node.wildcardChild != null) {
+      this.collectRoutes(node.wildcardChild, pathEntries, depth + 1, target);
+    }
+  }
+
+  /**
+   * A handler which was compiled into the router.
+   *
+   * @param handlerEntry   the registered handler entry.
+   * @param parameterNames the name of the path parameter at each path entry index, null if the entry is no parameter.
+   * @param order          the position of the handler in the order in which the handlers are called.
+   * @since 4.0
+   */
+  public record Route(
+    @NonNull NettyHttpServer.HttpHandlerEntry handlerEntry,
+    @NonNull String[] parameterNames,
+    int order
+  ) {
+
+    /**
+     * Binds the path parameters of this route to the values at the same index in the given path entries.
+     *
+     * @param pathEntries         the entries one by one of the requested path.
+     * @param pathParameterTarget the map to put the path parameters into.
+     * @throws NullPointerException if the given path entries or target map is null.
+     */
+    public void bindPathParameters(@NonNull String[] pathEntries, @NonNull Map<String, String> pathParameterTarget) {
+      for (var index = 0; index < this.parameterNames.length; index++) {
+        var parameterName = this.parameterNames[index];
+        if (parameterName != null) {
+          pathParameterTarget.put(parameterName, pathEntries[index]);
+        }
+      }
+    }
+  }
+
+  /**
+   * A node in the route tree, representing a single path entry.
+   *
+   * @since 4.0
+   */
+  private static final class RouteNode {
+
+    private final Map<String, RouteNode> staticChildren = new HashMap<>();
+    private final List<Route> exactRoutes = new ArrayList<>();
+    private final List<Route> prefixRoutes = new ArrayList<>();
+
+    private RouteNode parameterChild;
+    private RouteNode wildcardChild;
+  }
+}
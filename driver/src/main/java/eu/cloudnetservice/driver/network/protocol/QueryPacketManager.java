@@ -86,8 +86,8 @@ public interface QueryPacketManager {
 
   /**
    * Sends a query packet to the associated network channel, automatically selecting a query id for the packet and
-   * setting it. Equivalent to {@code manager.sendQueryPacket(packet, UUID.randomUUID()}. An existing query unique id in
-   * the packet will get overridden.
+   * setting it. The selected id is a compact id which is unique per channel, represented as a unique id of which the
+   * most significant bits are 0. An existing query unique id in the packet will get overridden.
    *
    * @param packet the packet to convert to a query packet and send to the channel.
    * @return a future completed with either the response to the packet or an empty packet if the waiting time expires.
@@ -102,7 +102,9 @@ public interface QueryPacketManager {
    * @param packet        the packet to convert to a query packet and send to the channel.
    * @param queryUniqueId the unique id to use when sending the packet.
    * @return a future completed with either the response to the packet or an empty packet if the waiting time expires.
-   * @throws NullPointerException if either the given packet or unique id is null.
+   * @throws NullPointerException     if either the given packet or unique id is null.
+   * @throws IllegalArgumentException if the most significant bits of the given unique id are 0, as these are reserved
+   *                                  for the automatically selected compact query ids.
    */
   @NonNull Task<Packet> sendQueryPacket(@NonNull Packet packet, @NonNull UUID queryUniqueId);
 }
@@ -20,32 +20,54 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Scheduler;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.protocol.QueryPacketManager;
+import io.netty5.util.HashedWheelTimer;
+import io.netty5.util.Timer;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 /**
  * The default implementation of the query manager.
+ * <p>
+ * Queries sent without an explicit unique id get a compact query id assigned, which is a monotonically increasing
+ * number per channel. The number is wrapped into a unique id with the most significant bits set to 0 (see
+ * {@link #compactQueryUniqueId(long)}), which can never collide with a random unique id and allows the packet codec
+ * to only transfer the number as a var long. The lowest bit of a compact id is set if the query was sent from the side
+ * of the channel that opened the connection, to prevent collisions with queries sent from the other side. Queries sent
+ * with an explicit unique id are still supported and tracked separately, as long as the id is not in the range of
+ * the compact ids.
  *
  * @since 4.0
  */
 public class DefaultQueryPacketManager implements QueryPacketManager {
 
   private static final Duration DEFAULT_TIMEOUT_DURATION = Duration.ofSeconds(30);
+  private static final Timer QUERY_TIMEOUT_TIMER = new HashedWheelTimer(
+    new ThreadFactoryBuilder().setNameFormat("Query-Timeout-Timer-%d").setDaemon(true).build(),
+    100,
+    TimeUnit.MILLISECONDS);
 
   private final Duration queryTimeout;
   private final NetworkChannel networkChannel;
   private final Cache<UUID, Task<Packet>> waitingHandlers;
 
+  private final AtomicLong nextCompactQueryId;
+  private final PendingQueryTable pendingCompactQueries = new PendingQueryTable();
+
   /**
    * Constructs a new query manager for the given network channel and a timeout of 30 seconds for each query.
    *
@@ -72,6 +94,30 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
       .scheduler(Scheduler.systemScheduler())
       .removalListener(this.newRemovalListener())
       .build();
+    // the lowest bit of the compact ids marks the side of the channel, the id is increased by 2 for each query
+    this.nextCompactQueryId = new AtomicLong(networkChannel.clientProvidedChannel() ? 1 : 2);
+  }
+
+  /**
+   * Wraps the given compact query id into a unique id which can be set as the query unique id of a packet.
+   *
+   * @param compactQueryId the compact query id to wrap.
+   * @return a unique id representing the given compact query id.
+   */
+  public static @NonNull UUID compactQueryUniqueId(long compactQueryId) {
+    return new UUID(0L, compactQueryId);
+  }
+
+  /**
+   * Checks if the given unique id represents a compact query id.
+   *
+   * @param queryUniqueId the unique id to check.
+   * @return true if the given unique id represents a compact query id, false otherwise.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  public static boolean compactQueryId(@NonNull UUID queryUniqueId) {
+    // random (version 4) unique ids always have the version bits set, so they are never matching
+    return queryUniqueId.getMostSignificantBits() == 0L;
   }
 
   /**
@@ -95,7 +141,10 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
    */
   @Override
   public @NonNull @UnmodifiableView Map<UUID, Task<Packet>> waitingHandlers() {
-    return Collections.unmodifiableMap(this.waitingHandlers.asMap());
+    Map<UUID, Task<Packet>> waitingHandlers = new HashMap<>(this.waitingHandlers.asMap());
+    this.pendingCompactQueries.forEach(
+      entry -> waitingHandlers.put(compactQueryUniqueId(entry.queryId()), entry.task()));
+    return Collections.unmodifiableMap(waitingHandlers);
   }
 
   /**
@@ -103,6 +152,10 @@ public DefaultQueryPacketManager(@NonNull NetworkChannel networkChannel, @NonNul
    */
   @Override
   public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
+    if (compactQueryId(queryUniqueId)) {
+      return this.pendingCompactQueries.get(queryUniqueId.getLeastSignificantBits()) != null;
+    }
+
     return this.waitingHandlers.getIfPresent(queryUniqueId) != null;
   }
 
@@ -111,7 +164,14 @@ public boolean hasWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
-    this.waitingHandlers.invalidate(queryUniqueId);
+    if (compactQueryId(queryUniqueId)) {
+      var entry = this.pendingCompactQueries.remove(queryUniqueId.getLeastSignificantBits());
+      if (entry != null) {
+        entry.timeout().cancel();
+      }
+    } else {
+      this.waitingHandlers.invalidate(queryUniqueId);
+    }
     return true;
   }
 
@@ -120,6 +180,15 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @Nullable Task<Packet> waitingHandler(@NonNull UUID queryUniqueId) {
+    if (compactQueryId(queryUniqueId)) {
+      var entry = this.pendingCompactQueries.remove(queryUniqueId.getLeastSignificantBits());
+      if (entry != null) {
+        entry.timeout().cancel();
+        return entry.task();
+      }
+      return null;
+    }
+
     var task = this.waitingHandlers.getIfPresent(queryUniqueId);
     if (task != null) {
       this.waitingHandlers.invalidate(queryUniqueId);
@@ -132,7 +201,21 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @NonNull Task<Packet> sendQueryPacket(@NonNull Packet packet) {
-    return this.sendQueryPacket(packet, UUID.randomUUID());
+    var queryId = this.nextCompactQueryId.getAndAdd(2);
+
+    // create & register the result handler which gets completed exceptionally when no response arrives in time
+    var task = new Task<Packet>();
+    var timeout = QUERY_TIMEOUT_TIMER.newTimeout(
+      $ -> this.handleCompactQueryTimeout(queryId),
+      this.queryTimeout.toMillis(),
+      TimeUnit.MILLISECONDS);
+    this.pendingCompactQueries.put(new PendingQueryTable.Entry(queryId, task, timeout));
+
+    // set the unique id of the packet and send
+    packet.uniqueId(compactQueryUniqueId(queryId));
+    this.networkChannel.sendPacketSync(packet);
+    // return the created handler
+    return task;
   }
 
   /**
@@ -140,6 +223,11 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
    */
   @Override
   public @NonNull Task<Packet> sendQueryPacket(@NonNull Packet packet, @NonNull UUID queryUniqueId) {
+    // the response to a query with such an id would be looked up in the compact query table
+    Preconditions.checkArgument(
+      !compactQueryId(queryUniqueId),
+      "Query unique ids with the most significant bits set to 0 are reserved for compact query ids");
+
     // create & register the result handler
     var task = new Task<Packet>();
     this.waitingHandlers.put(queryUniqueId, task);
@@ -150,6 +238,19 @@ public boolean unregisterWaitingHandler(@NonNull UUID queryUniqueId) {
     return task;
   }
 
+  /**
+   * Handles the timeout of the compact query with the given id, completing the waiting task with a timeout exception if
+   * the query is still pending.
+   *
+   * @param queryId the id of the query which timed out.
+   */
+  protected void handleCompactQueryTimeout(long queryId) {
+    var entry = this.pendingCompactQueries.remove(queryId);
+    if (entry != null) {
+      entry.task().completeExceptionally(new TimeoutException());
+    }
+  }
+
   /**
    * Constructs a new removal listener for the cache, completing the future of a query packet with a timeout exception
    * when evicted from the cache.
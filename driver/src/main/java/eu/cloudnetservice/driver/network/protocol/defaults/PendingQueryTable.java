@@ -0,0 +1,147 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.protocol.defaults;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import io.netty5.util.Timeout;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A table of pending queries keyed by their primitive, monotonically increasing query id. As the ids of queries are
+ * handed out sequentially, each query is placed into a slot of a fixed-size array derived from its id. Only in case two
+ * in-flight queries map to the same slot (which requires more queries in flight than the table has slots), the query is
+ * placed into an overflow map instead.
+ *
+ * @since 4.0
+ */
+final class PendingQueryTable {
+
+  private static final int DEFAULT_SLOT_COUNT = 1024;
+
+  private final int slotMask;
+  private final AtomicReferenceArray<Entry> slots;
+  private final Map<Long, Entry> overflow = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs a new pending query table with the default amount of slots.
+   */
+  public PendingQueryTable() {
+    this(DEFAULT_SLOT_COUNT);
+  }
+
+  /**
+   * Constructs a new pending query table with the given amount of slots, rounded up to the next power of two.
+   *
+   * @param slotCount the amount of slots to use for the table.
+   */
+  public PendingQueryTable(int slotCount) {
+    var slots = Integer.highestOneBit(Math.max(1, slotCount - 1)) << 1;
+    this.slotMask = slots - 1;
+    this.slots = new AtomicReferenceArray<>(slots);
+  }
+
+  /**
+   * Puts the given entry into this table.
+   *
+   * @param entry the entry to put into this table.
+   * @throws NullPointerException if the given entry is null.
+   */
+  public void put(@NonNull Entry entry) {
+    if (!this.slots.compareAndSet(this.slot(entry.queryId()), null, entry)) {
+      // the slot is occupied by another in-flight query
+      this.overflow.put(entry.queryId(), entry);
+    }
+  }
+
+  /**
+   * Gets the entry associated with the given query id, without removing it.
+   *
+   * @param queryId the id of the query to get the entry of.
+   * @return the entry associated with the query id, null if no entry is associated.
+   */
+  public @Nullable Entry get(long queryId) {
+    var entry = this.slots.get(this.slot(queryId));
+    if (entry != null && entry.queryId() == queryId) {
+      return entry;
+    }
+
+    return this.overflow.get(queryId);
+  }
+
+  /**
+   * Removes the entry associated with the given query id from this table.
+   *
+   * @param queryId the id of the query to remove the entry of.
+   * @return the entry previously associated with the query id, null if no entry was associated.
+   */
+  public @Nullable Entry remove(long queryId) {
+    var slot = this.slot(queryId);
+    var entry = this.slots.get(slot);
+    if (entry != null && entry.queryId() == queryId) {
+      // only one caller can successfully remove the entry from the slot
+      return this.slots.compareAndSet(slot, entry, null) ? entry : null;
+    }
+
+    return this.overflow.remove(queryId);
+  }
+
+  /**
+   * Calls the given consumer for each entry which is currently stored in this table.
+   *
+   * @param consumer the consumer to call for each entry.
+   * @throws NullPointerException if the given consumer is null.
+   */
+  public void forEach(@NonNull Consumer<Entry> consumer) {
+    for (var slot = 0; slot < this.slots.length(); slot++) {
+      var entry = this.slots.get(slot);
+      if (entry != null) {
+        consumer.accept(entry);
+      }
+    }
+
+    this.overflow.values().forEach(consumer);
+  }
+
+  /**
+   * Get the slot index of the given query id.
+   *
+   * @param queryId the query id to get the slot of.
+   * @return the slot index of the given query id.
+   */
+  private int slot(long queryId) {
+    // query ids are increased by 2 for each query (the lowest bit encodes the side which sent the query)
+    return (int) (queryId >>> 1) & this.slotMask;
+  }
+
+  /**
+   * A pending query in the table.
+   *
+   * @param queryId the id of the query.
+   * @param task    the task to complete when the response to the query arrives.
+   * @param timeout the timeout which completes the task exceptionally when no response arrives in time.
+   * @since 4.0
+   */
+  record Entry(long queryId, @NonNull Task<Packet> task, @NonNull Timeout timeout) {
+
+  }
+}
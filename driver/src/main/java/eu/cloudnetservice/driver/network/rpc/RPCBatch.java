@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import lombok.NonNull;
+import org.jetbrains.annotations.NonBlocking;
+
+/**
+ * A batch of independent rpc requests which are sent to the receiver in a single packet and answered with a single
+ * response, saving a network round trip for each request in the batch. Each request added to the batch gets its own
+ * task which is completed with the result of the request as soon as the response of the batch was received.
+ * <p>
+ * A batch can only be fired once, adding requests to a batch after firing it is not possible. Requests in a batch are
+ * handled in the order they were added to the batch.
+ *
+ * @since 4.0
+ */
+public interface RPCBatch {
+
+  /**
+   * Adds the given rpc or rpc chain to this batch. The returned task is completed with the result of the request once
+   * the batch was fired and the receiver responded. If the request does not expect a result, the task is completed
+   * with null once the batch was sent.
+   *
+   * @param rpc the rpc or rpc chain to add to this batch.
+   * @param <T> the expected return type of the request.
+   * @return a task completed with the result of the request.
+   * @throws NullPointerException     if the given rpc is null.
+   * @throws IllegalArgumentException if the given rpc cannot be sent as part of a batch.
+   * @throws IllegalStateException    if this batch was already fired.
+   */
+  @NonNull <T> Task<T> add(@NonNull RPCExecutable rpc);
+
+  /**
+   * Get the amount of requests which were added to this batch.
+   *
+   * @return the amount of requests in this batch.
+   */
+  int size();
+
+  /**
+   * Fires all requests of this batch into the first channel of the network component associated with the first request
+   * of this batch.
+   *
+   * @return a task completed when the results of all requests in the batch are available.
+   * @throws NullPointerException  if the associated network component has no channels available.
+   * @throws IllegalStateException if this batch was already fired or contains no requests.
+   */
+  @NonBlocking
+  @NonNull Task<Void> fire();
+
+  /**
+   * Fires all requests of this batch into the given network channel.
+   *
+   * @param channel the network channel to which the batch should be sent.
+   * @return a task completed when the results of all requests in the batch are available.
+   * @throws NullPointerException  if the given network channel is null.
+   * @throws IllegalStateException if this batch was already fired or contains no requests.
+   */
+  @NonBlocking
+  @NonNull Task<Void> fire(@NonNull NetworkChannel channel);
+}
@@ -186,4 +186,12 @@ public interface RPCFactory {
     @Nullable Object binding,
     @NonNull ObjectMapper objectMapper,
     @NonNull DataBufFactory dataBufFactory);
+
+  /**
+   * Constructs a new, empty batch of rpc requests. All requests added to the batch are sent to the receiver in a single
+   * packet when firing the batch.
+   *
+   * @return a new, empty batch of rpc requests.
+   */
+  @NonNull RPCBatch newBatch();
 }
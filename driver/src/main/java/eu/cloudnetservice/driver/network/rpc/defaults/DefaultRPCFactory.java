@@ -23,12 +23,14 @@
 import dev.derklaro.aerogel.auto.Provides;
 import eu.cloudnetservice.driver.network.NetworkComponent;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
 import eu.cloudnetservice.driver.network.rpc.RPCFactory;
 import eu.cloudnetservice.driver.network.rpc.RPCHandler;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.generation.ApiImplementationGenerator;
 import eu.cloudnetservice.driver.network.rpc.defaults.generation.ChainedApiImplementationGenerator;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.DefaultRPCHandler;
+import eu.cloudnetservice.driver.network.rpc.defaults.rpc.DefaultRPCBatch;
 import eu.cloudnetservice.driver.network.rpc.defaults.sender.DefaultRPCSender;
 import eu.cloudnetservice.driver.network.rpc.generation.ChainInstanceFactory;
 import eu.cloudnetservice.driver.network.rpc.generation.GenerationContext;
@@ -190,6 +192,14 @@ public DefaultRPCFactory(
     return new DefaultRPCHandler(clazz, binding, objectMapper, dataBufFactory);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull RPCBatch newBatch() {
+    return new DefaultRPCBatch(this.defaultDataBufFactory);
+  }
+
   /**
    * Constructs a new rpc sender for the given base class and using the options supplied by the given generation
    * context.
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.NonNull;
+import org.jetbrains.annotations.ApiStatus;
+
+/**
+ * A table which interns the methods called via rpc into compact integer ids per network channel. The sender of a
+ * method call assigns a jvm-wide unique id to each combination of class name, method name and argument count. As long
+ * as the receiver did not acknowledge the id (by responding to a query which contained the definition), the full
+ * method definition is written together with the id. After the acknowledgement only the id is written.
+ * <p>
+ * The receiver stores each received method definition in a flat array per channel, indexed by the id of the method,
+ * which allows resolving the method of a call with an array lookup instead of reading and comparing strings.
+ *
+ * @since 4.0
+ */
+@ApiStatus.Internal
+public final class RPCMethodTable {
+
+  // the jvm-wide method ids assigned by the sending side
+  private static final AtomicInteger NEXT_METHOD_ID = new AtomicInteger();
+  private static final Map<MethodDefinition, Integer> METHOD_IDS = new ConcurrentHashMap<>();
+
+  // the state of the method tables per network channel
+  private static final Cache<NetworkChannel, ChannelMethodTable> CHANNEL_TABLES = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+
+  private RPCMethodTable() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Writes the reference to the given method into the given buffer. If the receiver on the other side of the given
+   * channel did not acknowledge the id of the method yet, the full method definition is written as well.
+   *
+   * @param dataBuf       the buffer to write the method reference to.
+   * @param channel       the channel the buffer will be sent to.
+   * @param className     the name of the class in which the method is located.
+   * @param methodName    the name of the method.
+   * @param argumentCount the amount of arguments passed to the method.
+   * @return the id of the written method, to be acknowledged once the receiver responded to the call.
+   * @throws NullPointerException if the given buffer, channel, class name or method name is null.
+   */
+  public static int writeMethod(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull NetworkChannel channel,
+    @NonNull String className,
+    @NonNull String methodName,
+    int argumentCount
+  ) {
+    var methodId = METHOD_IDS.computeIfAbsent(
+      new MethodDefinition(className, methodName, argumentCount),
+      $ -> NEXT_METHOD_ID.getAndIncrement());
+
+    dataBuf.writeInt(methodId);
+    if (channelTable(channel).acknowledged(methodId)) {
+      // the receiver knows the method already
+      dataBuf.writeBoolean(false);
+    } else {
+      // the receiver (might) not know the method yet, write the full definition
+      dataBuf
+        .writeBoolean(true)
+        .writeString(className)
+        .writeString(methodName)
+        .writeInt(argumentCount);
+    }
+
+    return methodId;
+  }
+
+  /**
+   * Marks the given method ids as acknowledged by the receiver on the other side of the given channel. From now on the
+   * methods are only referenced by their id when sending them to the channel.
+   *
+   * @param channel   the channel to which the methods were sent.
+   * @param methodIds the ids of the methods which were acknowledged.
+   * @throws NullPointerException if the given channel or method id array is null.
+   */
+  public static void acknowledge(@NonNull NetworkChannel channel, int @NonNull ... methodIds) {
+    var table = channelTable(channel);
+    for (var methodId : methodIds) {
+      table.acknowledge(methodId);
+    }
+  }
+
+  /**
+   * Reads a method reference written by {@link #writeMethod(DataBuf.Mutable, NetworkChannel, String, String, int)} from
+   * the given buffer, registering the method definition in the table of the channel if it was transmitted.
+   *
+   * @param dataBuf the buffer to read the method reference from.
+   * @param channel the channel from which the buffer was received.
+   * @return the definition of the method referenced in the buffer.
+   * @throws NullPointerException  if the given buffer or channel is null.
+   * @throws IllegalStateException if the method id is unknown to the given channel.
+   */
+  public static @NonNull MethodDefinition readMethod(@NonNull DataBuf dataBuf, @NonNull NetworkChannel channel) {
+    var methodId = dataBuf.readInt();
+    var table = channelTable(channel);
+    if (dataBuf.readBoolean()) {
+      // the definition of the method was transmitted, register it
+      var definition = new MethodDefinition(dataBuf.readString(), dataBuf.readString(), dataBuf.readInt());
+      table.register(methodId, definition);
+      return definition;
+    }
+
+    var definition = table.definition(methodId);
+    if (definition == null) {
+      throw new IllegalStateException(String.format("Received unknown rpc method id %d", methodId));
+    }
+
+    return definition;
+  }
+
+  /**
+   * Get the method table of the given channel, creating it if needed.
+   *
+   * @param channel the channel to get the method table of.
+   * @return the method table of the given channel.
+   * @throws NullPointerException if the given channel is null.
+   */
+  private static @NonNull ChannelMethodTable channelTable(@NonNull NetworkChannel channel) {
+    return CHANNEL_TABLES.get(channel, $ -> new ChannelMethodTable());
+  }
+
+  /**
+   * The definition of a method called via rpc.
+   *
+   * @param className     the name of the class in which the method is located.
+   * @param methodName    the name of the method.
+   * @param argumentCount the amount of arguments passed to the method.
+   * @since 4.0
+   */
+  public record MethodDefinition(@NonNull String className, @NonNull String methodName, int argumentCount) {
+
+  }
+
+  /**
+   * The method table associated with a single network channel. It holds both the ids of the methods sent to the
+   * channel which were acknowledged by the receiver, and the methods which were received from the channel.
+   *
+   * @since 4.0
+   */
+  private static final class ChannelMethodTable {
+
+    private final BitSet acknowledgedMethods = new BitSet();
+    private volatile MethodDefinition[] receivedMethods = new MethodDefinition[16];
+
+    /**
+     * Checks if the given method id was acknowledged by the receiver.
+     *
+     * @param methodId the id of the method to check.
+     * @return true if the method id was acknowledged, false otherwise.
+     */
+    public boolean acknowledged(int methodId) {
+      synchronized (this.acknowledgedMethods) {
+        return this.acknowledgedMethods.get(methodId);
+      }
+    }
+
+    /**
+     * Marks the given method id as acknowledged by the receiver.
+     *
+     * @param methodId the id of the method to acknowledge.
+     */
+    public void acknowledge(int methodId) {
+      synchronized (this.acknowledgedMethods) {
+        this.acknowledgedMethods.set(methodId);
+      }
+    }
+
+    /**
+     * Get the definition of the received method with the given id.
+     *
+     * @param methodId the id of the method to get.
+     * @return the definition of the method, null if the method id is unknown.
+     */
+    public MethodDefinition definition(int methodId) {
+      var methods = this.receivedMethods;
+      return methodId >= 0 && methodId < methods.length ? methods[methodId] : null;
+    }
+
+    /**
+     * Registers the given method definition for the given id, growing the table if needed.
+     *
+     * @param methodId   the id of the method to register.
+     * @param definition the definition of the method.
+     * @throws NullPointerException if the given definition is null.
+     */
+    public synchronized void register(int methodId, @NonNull MethodDefinition definition) {
+      var methods = this.receivedMethods;
+      if (methodId >= methods.length) {
+        methods = Arrays.copyOf(methods, Math.max(methods.length << 1, methodId + 1));
+      } else if (definition.equals(methods[methodId])) {
+        // already registered
+        return;
+      } else {
+        methods = methods.clone();
+      }
+
+      methods[methodId] = definition;
+      this.receivedMethods = methods;
+    }
+  }
+}
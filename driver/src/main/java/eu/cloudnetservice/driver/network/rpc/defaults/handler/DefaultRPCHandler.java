@@ -41,7 +41,7 @@ public class DefaultRPCHandler extends DefaultRPCProvider implements RPCHandler
   protected final Object bindingInstance;
   protected final MethodInvokerGenerator generator;
 
-  protected final Cache<String, MethodInformation> methodCache = Caffeine.newBuilder().build();
+  protected final Cache<MethodCacheKey, MethodInformation> methodCache = Caffeine.newBuilder().build();
 
   /**
    * Constructs a new default rpc handler instance.
@@ -86,12 +86,7 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
     // now we try to find the associated method information to the given method name or try to read it
     var instance = inst; // pail
     var information = this.methodCache.get(
-      String.format(
-        "%d@%s@%s@%d",
-        inst == null ? -1 : inst.hashCode(),
-        this.bindingClass.getCanonicalName(),
-        context.methodName(),
-        context.argumentCount()),
+      new MethodCacheKey(inst == null ? -1 : inst.hashCode(), context.methodName(), context.argumentCount()),
       $ -> MethodInformation.find(
         instance,
         this.bindingClass,
@@ -132,4 +127,16 @@ public void registerTo(@NonNull RPCHandlerRegistry registry) {
     // return the result
     return result;
   }
+
+  /**
+   * The key of a method information in the method cache of a handler.
+   *
+   * @param instanceHash  the hash code of the instance the method is invoked on, -1 if there is no instance.
+   * @param methodName    the name of the method.
+   * @param argumentCount the amount of arguments passed to the method.
+   * @since 4.0
+   */
+  protected record MethodCacheKey(int instanceHash, @NonNull String methodName, int argumentCount) {
+
+  }
 }
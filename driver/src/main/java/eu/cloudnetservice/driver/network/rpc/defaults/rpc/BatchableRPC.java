@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import lombok.NonNull;
+import org.jetbrains.annotations.UnknownNullability;
+
+/**
+ * Represents a rpc request which can be written into a buffer without sending it directly, which allows it to be sent
+ * as part of a batch.
+ *
+ * @since 4.0
+ */
+interface BatchableRPC {
+
+  /**
+   * Get if the request expects the result of the method invocation from the receiver.
+   *
+   * @return true if the request expects a result, false otherwise.
+   */
+  boolean expectsResult();
+
+  /**
+   * Writes this request into the given buffer.
+   *
+   * @param dataBuf the buffer to write the request to.
+   * @param channel the channel to which the request will be sent.
+   * @return the ids of the methods invoked by the written request.
+   * @throws NullPointerException if the given buffer or channel is null.
+   */
+  @NonNull int[] writeRequest(@NonNull DataBuf.Mutable dataBuf, @NonNull NetworkChannel channel);
+
+  /**
+   * Reads the result of this request from the given response, acknowledging the ids of the invoked methods if the
+   * response proves that the receiver knows them.
+   *
+   * @param channel   the channel to which the request was sent.
+   * @param response  the response to the request, an empty packet if the receiver did not respond.
+   * @param methodIds the ids of the methods invoked by the request, as returned by the write method.
+   * @param <T>       the type of the result.
+   * @return the result of the method invocation.
+   * @throws NullPointerException if the given channel, response or method id array is null.
+   */
+  @UnknownNullability <T> T readResult(
+    @NonNull NetworkChannel channel,
+    @NonNull Packet response,
+    @NonNull int[] methodIds);
+}
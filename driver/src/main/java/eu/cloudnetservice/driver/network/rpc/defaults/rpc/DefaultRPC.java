@@ -18,11 +18,14 @@
 
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.RPCSender;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
@@ -32,13 +35,14 @@
 import java.util.concurrent.ExecutionException;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * The default implementation of a rpc.
  *
  * @since 4.0
  */
-public class DefaultRPC extends DefaultRPCProvider implements RPC {
+public class DefaultRPC extends DefaultRPCProvider implements RPC, BatchableRPC {
 
   private final RPCSender sender;
   private final String className;
@@ -202,27 +206,56 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
-    // write the default needed information we need
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(false) // not a method chain
-      .writeString(this.className)
-      .writeString(this.methodName)
-      .writeBoolean(this.resultExpectation)
-      .writeInt(this.arguments.length);
-    // write the arguments provided
-    for (var argument : this.arguments) {
-      this.objectMapper.writeObject(dataBuf, argument);
-    }
+    // write the request into a new buffer
+    var dataBuf = this.dataBufFactory.createEmpty();
+    var methodIds = this.writeRequest(dataBuf, component);
     // send query if result is needed
     if (this.resultExpectation) {
       // now send the query and read the response
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
-        .thenApply(new RPCResultMapper<>(this.expectedResultType, this.objectMapper)));
+        .thenApply(response -> this.readResult(component, response, methodIds)));
     } else {
       // just send the method invocation request
       component.sendPacket(new RPCRequestPacket(dataBuf));
       return Task.completedTask(null);
     }
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull int[] writeRequest(@NonNull DataBuf.Mutable dataBuf, @NonNull NetworkChannel channel) {
+    // write the default needed information we need
+    dataBuf.writeByte(RPCRequestPacket.TYPE_SINGLE);
+    var methodId = RPCMethodTable.writeMethod(
+      dataBuf,
+      channel,
+      this.className,
+      this.methodName,
+      this.arguments.length);
+    dataBuf.writeBoolean(this.resultExpectation);
+    // write the arguments provided
+    for (var argument : this.arguments) {
+      this.objectMapper.writeObject(dataBuf, argument);
+    }
+    return new int[]{methodId};
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> @UnknownNullability T readResult(
+    @NonNull NetworkChannel channel,
+    @NonNull Packet response,
+    @NonNull int[] methodIds
+  ) {
+    // the response acknowledges that the receiver knows the method id
+    if (response.readable()) {
+      RPCMethodTable.acknowledge(channel, methodIds);
+    }
+    return new RPCResultMapper<T>(this.expectedResultType, this.objectMapper).apply(response);
+  }
 }
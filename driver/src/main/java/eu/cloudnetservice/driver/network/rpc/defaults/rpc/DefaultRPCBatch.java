@@ -0,0 +1,216 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc.defaults.rpc;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.protocol.BasePacket;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.network.rpc.RPC;
+import eu.cloudnetservice.driver.network.rpc.RPCBatch;
+import eu.cloudnetservice.driver.network.rpc.RPCChain;
+import eu.cloudnetservice.driver.network.rpc.RPCExecutable;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.NonNull;
+
+/**
+ * The default implementation of a rpc batch. The requests of the batch are each written into their own buffer, all
+ * buffers are then sent together in a single rpc request packet.
+ *
+ * @since 4.0
+ */
+public class DefaultRPCBatch implements RPCBatch {
+
+  protected final DataBufFactory dataBufFactory;
+  protected final List<BatchEntry> entries = new ArrayList<>();
+
+  protected boolean fired;
+
+  /**
+   * Constructs a new, empty rpc batch.
+   *
+   * @param dataBufFactory the data buf factory to use for buffer allocation.
+   * @throws NullPointerException if the given data buf factory is null.
+   */
+  public DefaultRPCBatch(@NonNull DataBufFactory dataBufFactory) {
+    this.dataBufFactory = dataBufFactory;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public synchronized @NonNull <T> Task<T> add(@NonNull RPCExecutable rpc) {
+    if (this.fired) {
+      throw new IllegalStateException("Unable to add a request to a batch which was already fired");
+    }
+
+    // we can only batch requests which can be written without sending them directly
+    if (!(rpc instanceof BatchableRPC batchableRPC)) {
+      throw new IllegalArgumentException("Unable to add request of type " + rpc.getClass().getName() + " to batch");
+    }
+
+    var task = new Task<>();
+    this.entries.add(new BatchEntry(rpc, batchableRPC, task));
+    return (Task<T>) task;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized int size() {
+    return this.entries.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Void> fire() {
+    BatchEntry firstEntry;
+    synchronized (this) {
+      if (this.entries.isEmpty()) {
+        throw new IllegalStateException("Unable to fire a batch without requests");
+      }
+      firstEntry = this.entries.get(0);
+    }
+
+    // resolve the sender of the first request to get the target component
+    var sender = firstEntry.rpc() instanceof RPCChain chain ? chain.head().sender() : ((RPC) firstEntry.rpc()).sender();
+    return this.fire(Objects.requireNonNull(sender.associatedComponent().firstChannel()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Task<Void> fire(@NonNull NetworkChannel channel) {
+    List<BatchEntry> entries;
+    synchronized (this) {
+      if (this.fired) {
+        throw new IllegalStateException("Unable to fire a batch twice");
+      }
+      if (this.entries.isEmpty()) {
+        throw new IllegalStateException("Unable to fire a batch without requests");
+      }
+
+      this.fired = true;
+      entries = List.copyOf(this.entries);
+    }
+
+    // write all requests of the batch, each into their own buffer
+    var expectsResult = false;
+    var methodIds = new int[entries.size()][];
+    var dataBuf = this.dataBufFactory.createEmpty()
+      .writeByte(RPCRequestPacket.TYPE_BATCH)
+      .writeInt(entries.size());
+    for (var i = 0; i < entries.size(); i++) {
+      var entry = entries.get(i);
+      var requestBuf = this.dataBufFactory.createEmpty();
+
+      methodIds[i] = entry.batchableRPC().writeRequest(requestBuf, channel);
+      dataBuf.writeDataBuf(requestBuf);
+      expectsResult |= entry.batchableRPC().expectsResult();
+    }
+
+    // check if any request expects a result, if not we can just send the batch and complete all tasks
+    if (!expectsResult) {
+      channel.sendPacket(new RPCRequestPacket(dataBuf));
+      entries.forEach(entry -> entry.task().complete(null));
+      return Task.completedTask(null);
+    }
+
+    // send the batch as a query and complete the tasks of the requests once the response is available
+    return Task.wrapFuture(channel.sendQueryAsync(new RPCRequestPacket(dataBuf)).handle((response, throwable) -> {
+      if (throwable != null) {
+        // the query failed, all requests failed
+        entries.forEach(entry -> entry.task().completeExceptionally(throwable));
+      } else if (!response.readable()) {
+        // the receiver did not respond, let each request decide what to do
+        for (var i = 0; i < entries.size(); i++) {
+          this.completeEntry(entries.get(i), channel, Packet.empty(), methodIds[i]);
+        }
+      } else {
+        // read the result of each request from the response
+        var content = response.content();
+        var resultCount = content.readInt();
+        for (var i = 0; i < entries.size(); i++) {
+          var result = i < resultCount && content.readBoolean() ? new BasePacket(-1, content.readDataBuf()) : null;
+          try {
+            this.completeEntry(entries.get(i), channel, result == null ? Packet.empty() : result, methodIds[i]);
+          } finally {
+            // the sub buffer is not released by the request in case the result was not fully read
+            if (result != null) {
+              result.content().release();
+            }
+          }
+        }
+      }
+      return null;
+    }));
+  }
+
+  /**
+   * Completes the task of the given batch entry with the result read from the given response.
+   *
+   * @param entry     the entry to complete the task of.
+   * @param channel   the channel to which the batch was sent.
+   * @param response  the response to the request of the entry, an empty packet if no response is present.
+   * @param methodIds the ids of the methods which were invoked by the request of the entry.
+   * @throws NullPointerException if the given entry, channel, response or method id array is null.
+   */
+  protected void completeEntry(
+    @NonNull BatchEntry entry,
+    @NonNull NetworkChannel channel,
+    @NonNull Packet response,
+    @NonNull int[] methodIds
+  ) {
+    // requests which do not expect a result are completed with null
+    if (!entry.batchableRPC().expectsResult()) {
+      entry.task().complete(null);
+      return;
+    }
+
+    try {
+      entry.task().complete(entry.batchableRPC().readResult(channel, response, methodIds));
+    } catch (Throwable throwable) {
+      entry.task().completeExceptionally(throwable);
+    }
+  }
+
+  /**
+   * A single request which was added to a batch.
+   *
+   * @param rpc          the request which was added to the batch.
+   * @param batchableRPC the same request, as a batchable rpc.
+   * @param task         the task to complete with the result of the request.
+   * @since 4.0
+   */
+  protected record BatchEntry(
+    @NonNull RPCExecutable rpc,
+    @NonNull BatchableRPC batchableRPC,
+    @NonNull Task<Object> task
+  ) {
+
+  }
+}
@@ -19,9 +19,11 @@
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.driver.network.rpc.RPC;
 import eu.cloudnetservice.driver.network.rpc.RPCChain;
 import eu.cloudnetservice.driver.network.rpc.defaults.DefaultRPCProvider;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCException;
 import eu.cloudnetservice.driver.network.rpc.exception.RPCExecutionException;
 import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
@@ -31,13 +33,14 @@
 import java.util.Objects;
 import java.util.concurrent.ExecutionException;
 import lombok.NonNull;
+import org.jetbrains.annotations.UnknownNullability;
 
 /**
  * Represents the default implementation of a rpc chain.
  *
  * @since 4.0
  */
-public class DefaultRPCChain extends DefaultRPCProvider implements RPCChain {
+public class DefaultRPCChain extends DefaultRPCProvider implements RPCChain, BatchableRPC {
 
   protected final RPC rootRPC;
   protected final RPC headRPC;
@@ -165,22 +168,15 @@ public void fireAndForget(@NonNull NetworkChannel component) {
    */
   @Override
   public @NonNull <T> Task<T> fire(@NonNull NetworkChannel component) {
-    // information about the root invocation
-    var dataBuf = this.dataBufFactory.createEmpty()
-      .writeBoolean(true) // method chain
-      .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
-    // write the root rpc first
-    this.writeRPCInformation(dataBuf, this.rootRPC, false); // the root rpc can never the last
-    // write the full chain
-    for (var i = 0; i < this.rpcChain.size(); i++) {
-      this.writeRPCInformation(dataBuf, this.rpcChain.get(i), i < (this.rpcChain.size() - 1));
-    }
+    // write the request into a new buffer
+    var dataBuf = this.dataBufFactory.createEmpty();
+    var methodIds = this.writeRequest(dataBuf, component);
     // send query if result is needed
     if (this.headRPC.expectsResult()) {
       // now send the query and read the response
       return Task.wrapFuture(component
         .sendQueryAsync(new RPCRequestPacket(dataBuf))
-        .thenApply(new RPCResultMapper<>(this.headRPC.expectedResultType(), this.objectMapper)));
+        .thenApply(response -> this.readResult(component, response, methodIds)));
     } else {
       // just send the method invocation request
       component.sendPacket(new RPCRequestPacket(dataBuf));
@@ -188,24 +184,81 @@ public void fireAndForget(@NonNull NetworkChannel component) {
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean expectsResult() {
+    return this.headRPC.expectsResult();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull int[] writeRequest(@NonNull DataBuf.Mutable dataBuf, @NonNull NetworkChannel channel) {
+    // information about the root invocation
+    dataBuf
+      .writeByte(RPCRequestPacket.TYPE_CHAIN)
+      .writeInt(this.rpcChain.size() + 1); // chain length (+1 because the root chain is not included)
+    // write the root rpc first
+    var methodIds = new int[this.rpcChain.size() + 1];
+    methodIds[0] = this.writeRPCInformation(dataBuf, channel, this.rootRPC, false); // the root rpc can never the last
+    // write the full chain
+    for (var i = 0; i < this.rpcChain.size(); i++) {
+      methodIds[i + 1] = this.writeRPCInformation(
+        dataBuf,
+        channel,
+        this.rpcChain.get(i),
+        i < (this.rpcChain.size() - 1));
+    }
+    return methodIds;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> @UnknownNullability T readResult(
+    @NonNull NetworkChannel channel,
+    @NonNull Packet response,
+    @NonNull int[] methodIds
+  ) {
+    // the handler stops reading the chain when a method invocation fails, therefore the method ids are only
+    // acknowledged if the invocation of the full chain was successful
+    T result = new RPCResultMapper<T>(this.headRPC.expectedResultType(), this.objectMapper).apply(response);
+    RPCMethodTable.acknowledge(channel, methodIds);
+    return result;
+  }
+
   /**
    * Writes the given rpc into the given buffer.
    *
    * @param dataBuf the data buffer to write the rpc to.
+   * @param channel the channel to which the buffer will be sent.
    * @param rpc     the rpc to serialize.
    * @param last    true if the given rpc is the last rpc in the call chain, false otherwise.
-   * @throws NullPointerException if either the given buffer or rpc is null.
+   * @return the id of the method called by the given rpc.
+   * @throws NullPointerException if either the given buffer, channel or rpc is null.
    */
-  protected void writeRPCInformation(@NonNull DataBuf.Mutable dataBuf, @NonNull RPC rpc, boolean last) {
+  protected int writeRPCInformation(
+    @NonNull DataBuf.Mutable dataBuf,
+    @NonNull NetworkChannel channel,
+    @NonNull RPC rpc,
+    boolean last
+  ) {
     // general information about the rpc invocation
-    dataBuf
-      .writeString(rpc.className())
-      .writeString(rpc.methodName())
-      .writeBoolean(!last || rpc.expectsResult())
-      .writeInt(rpc.arguments().length);
+    var methodId = RPCMethodTable.writeMethod(
+      dataBuf,
+      channel,
+      rpc.className(),
+      rpc.methodName(),
+      rpc.arguments().length);
+    dataBuf.writeBoolean(!last || rpc.expectsResult());
     // write the arguments provided
     for (var argument : rpc.arguments()) {
       this.objectMapper.writeObject(dataBuf, argument);
     }
+    return methodId;
   }
 }
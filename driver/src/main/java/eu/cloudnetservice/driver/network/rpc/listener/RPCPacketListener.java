@@ -25,9 +25,11 @@
 import eu.cloudnetservice.driver.network.rpc.RPCHandler;
 import eu.cloudnetservice.driver.network.rpc.RPCHandlerRegistry;
 import eu.cloudnetservice.driver.network.rpc.RPCInvocationContext;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
 import eu.cloudnetservice.driver.network.rpc.defaults.handler.util.ExceptionalResultUtil;
 import eu.cloudnetservice.driver.network.rpc.exception.CannotDecideException;
 import eu.cloudnetservice.driver.network.rpc.object.ObjectMapper;
+import eu.cloudnetservice.driver.network.rpc.packet.RPCRequestPacket;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
@@ -42,16 +44,19 @@
 @Singleton
 public class RPCPacketListener implements PacketListener {
 
+  private final DataBufFactory dataBufFactory;
   private final RPCHandlerRegistry rpcHandlerRegistry;
 
   /**
    * Constructs a new rpc packet listener instance.
    *
+   * @param dataBufFactory     the data buf factory used by the network channels, used to allocate batch responses.
    * @param rpcHandlerRegistry the registry to use to downstream call instructions to.
-   * @throws NullPointerException if the given rpc handler registry is null.
+   * @throws NullPointerException if either the given data buf factory or rpc handler registry is null.
    */
   @Inject
-  public RPCPacketListener(@NonNull RPCHandlerRegistry rpcHandlerRegistry) {
+  public RPCPacketListener(@NonNull DataBufFactory dataBufFactory, @NonNull RPCHandlerRegistry rpcHandlerRegistry) {
+    this.dataBufFactory = dataBufFactory;
     this.rpcHandlerRegistry = rpcHandlerRegistry;
   }
 
@@ -60,12 +65,32 @@ public RPCPacketListener(@NonNull RPCHandlerRegistry rpcHandlerRegistry) {
    */
   @Override
   public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) throws Exception {
+    // handle the request and check if we need to send a result
+    var result = this.handleRequest(channel, packet.content());
+    if (result != null && packet.uniqueId() != null) {
+      var response = new BasePacket(-1, result);
+      response.uniqueId(packet.uniqueId());
+      channel.sendPacket(response);
+    }
+  }
+
+  /**
+   * Handles the rpc request which is encoded in the given buffer. The request is either a single method invocation, a
+   * chain of method invocations or a batch of requests.
+   *
+   * @param channel the network channel on which the rpc request was received.
+   * @param buf     the buffer containing the encoded rpc request.
+   * @return the serialized result of the request, or null if no result is expected or no handler is registered.
+   * @throws NullPointerException if either the given channel or buffer is null.
+   */
+  protected @Nullable DataBuf handleRequest(@NonNull NetworkChannel channel, @NonNull DataBuf buf) {
     // the result of the invocation, encoded
     DataBuf result = null;
-    // the input information we get
-    var buf = packet.content();
-    // check if the invocation is chained
-    if (buf.readBoolean()) {
+    // check the type of the request
+    var requestType = buf.readByte();
+    if (requestType == RPCRequestPacket.TYPE_BATCH) {
+      return this.handleBatch(channel, buf);
+    } else if (requestType == RPCRequestPacket.TYPE_CHAIN) {
       // get the chain size
       var chainSize = buf.readInt();
       // invoke the method on the current result
@@ -73,45 +98,77 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
       for (var i = 1; i < chainSize; i++) {
         if (i == 1) {
           // always invoke the first method
-          lastResult = this.handleRaw(buf.readString(), this.buildContext(channel, buf, null, false));
+          var method = RPCMethodTable.readMethod(buf, channel);
+          lastResult = this.handleRaw(method.className(), this.buildContext(channel, buf, method, null, false));
         } else if (lastResult != null) {
           if (lastResult.wasSuccessful()) {
             // only invoke upcoming methods if there was a previous result
+            var method = RPCMethodTable.readMethod(buf, channel);
             lastResult = this.handleRaw(
-              buf.readString(),
-              this.buildContext(channel, buf, lastResult.invocationResult(), true));
+              method.className(),
+              this.buildContext(channel, buf, method, lastResult.invocationResult(), true));
           } else {
             // an exception was thrown previously, break
-            buf.readString(); // remove the handler information which is not necessary
+            // read the handler information which is not necessary, but might register the method
+            var method = RPCMethodTable.readMethod(buf, channel);
             result = this.serializeResult(
               lastResult,
               lastResult.invocationHandler().dataBufFactory(),
               lastResult.invocationHandler().objectMapper(),
-              this.buildContext(channel, buf, null, true));
+              this.buildContext(channel, buf, method, null, true));
             break;
           }
         } else {
           // just process over to remove the content from the buffer
-          this.handleRaw(buf.readString(), this.buildContext(channel, buf, null, true));
+          var method = RPCMethodTable.readMethod(buf, channel);
+          this.handleRaw(method.className(), this.buildContext(channel, buf, method, null, true));
         }
       }
       // check if there is already a result (which is caused by an exception - we can skip the handling step then)
       if (result == null && lastResult != null) {
         // the last handler decides over the method invocation result
+        var method = RPCMethodTable.readMethod(buf, channel);
         result = this.handle(
-          buf.readString(),
-          this.buildContext(channel, buf, lastResult.invocationResult(), true));
+          method.className(),
+          this.buildContext(channel, buf, method, lastResult.invocationResult(), true));
       }
     } else {
       // just invoke the method
-      result = this.handle(buf.readString(), this.buildContext(channel, buf, null, false));
+      var method = RPCMethodTable.readMethod(buf, channel);
+      result = this.handle(method.className(), this.buildContext(channel, buf, method, null, false));
     }
-    // check if we need to send a result
-    if (result != null && packet.uniqueId() != null) {
-      var response = new BasePacket(-1, result);
-      response.uniqueId(packet.uniqueId());
-      channel.sendPacket(response);
+    return result;
+  }
+
+  /**
+   * Handles a batch of rpc requests encoded in the given buffer. Each request of the batch is handled independently,
+   * the results are written in the order of the requests into a single buffer. For each request a boolean is written
+   * indicating if a result is present, followed by the result of the request if present.
+   *
+   * @param channel the network channel on which the rpc request was received.
+   * @param buf     the buffer containing the encoded batch of rpc requests.
+   * @return the serialized results of all requests in the batch.
+   * @throws NullPointerException if either the given channel or buffer is null.
+   */
+  protected @NonNull DataBuf handleBatch(@NonNull NetworkChannel channel, @NonNull DataBuf buf) {
+    var requestCount = buf.readInt();
+    var results = this.dataBufFactory.createEmpty().writeInt(requestCount);
+    for (var i = 0; i < requestCount; i++) {
+      // each request is wrapped into its own buffer, which ensures that the remaining requests can be read even if
+      // a request was not fully consumed (for example when no handler for the target class is registered)
+      var request = buf.readDataBuf();
+      try {
+        var result = this.handleRequest(channel, request);
+        if (result == null) {
+          results.writeBoolean(false);
+        } else {
+          results.writeBoolean(true).writeDataBuf(result);
+        }
+      } finally {
+        request.release();
+      }
     }
+    return results;
   }
 
   /**
@@ -198,32 +255,30 @@ public void handle(@NonNull NetworkChannel channel, @NonNull Packet packet) thro
 
   /**
    * Builds a new context for a rpc method invocation based on the given information and remaining content in the
-   * buffer. The given buffer should still contain (in the given order):
-   * <ol>
-   *   <li>the target method name
-   *   <li>a boolean indicating if the rpc call expects a result
-   *   <li>the number of arguments of the target method
-   * </ol>
+   * buffer. The given buffer should still contain a boolean indicating if the rpc call expects a result, followed by
+   * the arguments of the method.
    *
    * @param channel             the network channel on which the rpc request was received.
    * @param content             the remaining buffer content, containing the data as described above.
+   * @param method              the definition of the method to call, read from the method table of the channel.
    * @param on                  the object to call the method on, when using a rpc chain.
    * @param strictInstanceUsage if using the instance provided to the context is required.
    * @return a generated invocation context based on the given information.
-   * @throws NullPointerException if either the given channel or content buffer is null.
+   * @throws NullPointerException if either the given channel, content buffer or method definition is null.
    */
   protected @NonNull RPCInvocationContext buildContext(
     @NonNull NetworkChannel channel,
     @NonNull DataBuf content,
+    @NonNull RPCMethodTable.MethodDefinition method,
     @Nullable Object on,
     boolean strictInstanceUsage
   ) {
     return RPCInvocationContext.builder()
       .workingInstance(on)
       .channel(channel)
-      .methodName(content.readString())
+      .methodName(method.methodName())
       .expectsMethodResult(content.readBoolean())
-      .argumentCount(content.readInt())
+      .argumentCount(method.argumentCount())
       .argumentInformation(content)
       .normalizePrimitives(Boolean.TRUE)
       .strictInstanceUsage(strictInstanceUsage)
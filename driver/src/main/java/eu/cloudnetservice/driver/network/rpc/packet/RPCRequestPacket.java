@@ -29,6 +29,20 @@
  */
 public class RPCRequestPacket extends BasePacket {
 
+  /**
+   * The request type of a single method invocation.
+   */
+  public static final byte TYPE_SINGLE = 0;
+  /**
+   * The request type of a chain of method invocations, each invoked on the result of the previous invocation.
+   */
+  public static final byte TYPE_CHAIN = 1;
+  /**
+   * The request type of a batch of independent requests (either single invocations or chains), which are handled in a
+   * single round trip.
+   */
+  public static final byte TYPE_BATCH = 2;
+
   /**
    * Constructs a new rpc request packet.
    *
@@ -22,6 +22,7 @@
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 import lombok.ToString;
@@ -35,6 +36,9 @@
 @EqualsAndHashCode
 public abstract class AbstractPermissible implements DefaultedDocPropertyHolder, Permissible {
 
+  // incremented on every in-place mutation of any permissible, a change to a group affects all inheriting permissibles
+  private static final AtomicLong MUTATION_VERSION = new AtomicLong();
+
   protected final String name;
   protected final int potency;
   protected final long createdTime;
@@ -71,6 +75,24 @@ public AbstractPermissible(
     this.properties = properties;
   }
 
+  /**
+   * Get the current mutation version of all permissibles. The version changes whenever a permissible is mutated in
+   * place using one of its mutator methods, therefore results computed from permissibles are stale if the version
+   * changed since they were computed.
+   *
+   * @return the current mutation version of all permissibles.
+   */
+  static long mutationVersion() {
+    return MUTATION_VERSION.get();
+  }
+
+  /**
+   * Marks that a permissible was mutated in place, invalidating all results that were computed from permissibles.
+   */
+  static void markMutated() {
+    MUTATION_VERSION.incrementAndGet();
+  }
+
   /**
    * Adds the given permission into the set of permissions. If the collection contains a permission with the same name
    * it is removed before adding the new permission.
@@ -82,6 +104,7 @@ public AbstractPermissible(
   private void addPermission(@NonNull Set<Permission> permissions, @NonNull Permission permission) {
     permissions.removeIf(existingPermission -> existingPermission.name().equalsIgnoreCase(permission.name()));
     permissions.add(permission);
+    markMutated();
   }
 
   /**
@@ -107,8 +130,9 @@ public void addPermission(@NonNull String group, @NonNull Permission permission)
   public boolean removePermission(@NonNull String permission) {
     var exist = this.permission(permission);
 
-    if (exist != null) {
-      return this.permissions.remove(exist);
+    if (exist != null && this.permissions.remove(exist)) {
+      markMutated();
+      return true;
     } else {
       return false;
     }
@@ -126,6 +150,9 @@ public boolean removePermission(@NonNull String permission, @NonNull String grou
         this.groupPermissions.remove(group);
       }
 
+      if (removed) {
+        markMutated();
+      }
       return removed;
     }
 
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A set of permissions compiled for fast lookups of the highest permission matching a requested permission. The
+ * matching rules are the same as in {@link PermissionManagement#findHighestPermission(Collection, Permission)}:
+ * <ol>
+ *   <li>The {@code *} permission matches every permission.
+ *   <li>A permission ending with {@code *} matches every permission containing its name without the stars.
+ *   <li>A permission matches every permission with the same name, ignoring the case.
+ * </ol>
+ * <p>
+ * The stems of the wildcard permissions are compiled into a trie with failure links (an Aho-Corasick automaton) of
+ * which each node holds the highest permission of all stems ending in it, therefore a lookup only visits each
+ * character of the requested permission once, regardless of the number of compiled permissions. If two matching
+ * permissions have the same absolute potency, the negative one is preferred.
+ * <p>
+ * Instances of this class are immutable and safe to use from multiple threads.
+ *
+ * @since 4.0
+ */
+public final class CompiledPermissions {
+
+  private final Permission globalPermission;
+  private final Map<String, Permission> exactPermissions;
+  private final TrieNode wildcardRoot;
+
+  private CompiledPermissions(
+    @Nullable Permission globalPermission,
+    @NonNull Map<String, Permission> exactPermissions,
+    @NonNull TrieNode wildcardRoot
+  ) {
+    this.globalPermission = globalPermission;
+    this.exactPermissions = exactPermissions;
+    this.wildcardRoot = wildcardRoot;
+  }
+
+  /**
+   * Compiles the given permissions.
+   *
+   * @param permissions the permissions to compile.
+   * @return the compiled permissions.
+   * @throws NullPointerException if the given permission collection is null.
+   */
+  public static @NonNull CompiledPermissions compile(@NonNull Collection<Permission> permissions) {
+    Permission globalPermission = null;
+    Map<String, Permission> exactPermissions = new HashMap<>(permissions.size());
+    var wildcardRoot = new TrieNode();
+
+    for (var permission : permissions) {
+      var name = permission.name();
+      exactPermissions.merge(foldCase(name), permission, CompiledPermissions::higher);
+
+      if (name.endsWith("*")) {
+        var stem = name.replace("*", "");
+        if (stem.isEmpty()) {
+          // matches every permission
+          globalPermission = higher(globalPermission, permission);
+        } else {
+          var node = wildcardRoot;
+          for (var i = 0; i < stem.length(); i++) {
+            node = node.children.computeIfAbsent(stem.charAt(i), $ -> new TrieNode());
+          }
+          node.permission = higher(node.permission, permission);
+        }
+      }
+    }
+
+    linkFailures(wildcardRoot);
+    return new CompiledPermissions(globalPermission, Map.copyOf(exactPermissions), wildcardRoot);
+  }
+
+  /**
+   * Finds the permission with the highest absolute potency which matches the given permission and has at least the
+   * absolute potency of the given permission.
+   *
+   * @param permission the permission to find the highest matching permission of.
+   * @return the highest matching permission, null if no permission matches.
+   * @throws NullPointerException if the given permission is null.
+   */
+  public @Nullable Permission find(@NonNull Permission permission) {
+    var name = permission.name();
+    var match = higher(this.globalPermission, this.exactPermissions.get(foldCase(name)));
+
+    // walk through the trie once, each visited node holds the highest permission of all stems ending at the position
+    var node = this.wildcardRoot;
+    for (var i = 0; i < name.length(); i++) {
+      var character = name.charAt(i);
+      while (node != this.wildcardRoot && !node.children.containsKey(character)) {
+        node = node.failure;
+      }
+      node = node.children.getOrDefault(character, this.wildcardRoot);
+      match = higher(match, node.permission);
+    }
+
+    return match != null && match.compareTo(permission) >= 0 ? match : null;
+  }
+
+  private static void linkFailures(@NonNull TrieNode root) {
+    // breadth-first, so that the failure node of each node is linked before the node itself
+    var queue = new ArrayDeque<TrieNode>();
+    root.failure = root;
+    for (var child : root.children.values()) {
+      child.failure = root;
+      queue.add(child);
+    }
+
+    while (!queue.isEmpty()) {
+      var node = queue.poll();
+      for (var entry : node.children.entrySet()) {
+        var child = entry.getValue();
+        var failure = node.failure;
+        while (failure != root && !failure.children.containsKey(entry.getKey())) {
+          failure = failure.failure;
+        }
+
+        var failureChild = failure.children.get(entry.getKey());
+        child.failure = failureChild == null ? root : failureChild;
+        // the stems ending at the failure node are suffixes of the path to the child, therefore they match as well
+        child.permission = higher(child.permission, child.failure.permission);
+        queue.add(child);
+      }
+    }
+  }
+
+  private static @Nullable Permission higher(@Nullable Permission left, @Nullable Permission right) {
+    if (left == null || right == null) {
+      return left == null ? right : left;
+    }
+
+    var comparison = left.compareTo(right);
+    if (comparison == 0) {
+      return left.potency() < 0 ? left : right;
+    }
+    return comparison > 0 ? left : right;
+  }
+
+  private static @NonNull String foldCase(@NonNull String name) {
+    // the same folding as done by String.equalsIgnoreCase for each character
+    var chars = new char[name.length()];
+    for (var i = 0; i < chars.length; i++) {
+      chars[i] = Character.toLowerCase(Character.toUpperCase(name.charAt(i)));
+    }
+    return new String(chars);
+  }
+
+  private static final class TrieNode {
+
+    private final Map<Character, TrieNode> children = new HashMap<>();
+
+    private TrieNode failure;
+    private Permission permission;
+  }
+}
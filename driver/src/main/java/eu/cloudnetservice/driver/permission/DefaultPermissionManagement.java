@@ -16,12 +16,16 @@
 
 package eu.cloudnetservice.driver.permission;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import lombok.NonNull;
@@ -37,6 +41,13 @@
  */
 public abstract class DefaultPermissionManagement implements PermissionManagement {
 
+  // the compiled permissions of each permissible by the task groups they were compiled for, weakly keyed by the
+  // identity of the permissible so that replaced permissibles are dropped without invalidation. each entry records
+  // the permissible mutation version it was compiled at, entries of an older version are recompiled on access
+  protected final Cache<Permissible, VersionedCompiledPermissions> compiledPermissions = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+
   /**
    * Gets the child permission management. The default implementation does not allow a child permission management,
    * therefore it's always null.
@@ -78,8 +89,13 @@ public boolean testPermissionUser(@Nullable PermissionUser permissionUser) {
       return false;
     }
 
-    return this.testPermissible(permissionUser) || permissionUser.groups().removeIf(
+    var result = this.testPermissible(permissionUser) || permissionUser.groups().removeIf(
       groupInfo -> groupInfo.timeOutMillis() > 0 && groupInfo.timeOutMillis() < System.currentTimeMillis());
+    if (result) {
+      this.invalidateCompiledPermissions(permissionUser);
+    }
+
+    return result;
   }
 
   /**
@@ -99,6 +115,11 @@ public boolean testPermissible(@Nullable Permissible permissible) {
       result |= entry.getValue().removeIf(tester);
     }
 
+    // expired permissions of groups are inherited by other permissibles as well
+    if (result) {
+      this.invalidateCompiledPermissions();
+    }
+
     return result;
   }
 
@@ -135,8 +156,7 @@ public boolean testPermissible(@Nullable Permissible permissible) {
     @NonNull Permissible permissible,
     @NonNull Permission permission
   ) {
-    return PermissionCheckResult.fromPermission(
-      this.findHighestPermission(this.collectAllPermissions(permissible, null), permission));
+    return PermissionCheckResult.fromPermission(this.compiledPermissions(permissible, null).find(permission));
   }
 
   /**
@@ -158,8 +178,7 @@ public boolean testPermissible(@Nullable Permissible permissible) {
   public @NonNull PermissionCheckResult groupsPermissionResult(@NonNull Permissible permissible,
     @NonNull String[] groups,
     @NonNull Permission permission) {
-    return PermissionCheckResult
-      .fromPermission(this.findHighestPermission(this.collectAllPermissions(permissible, groups), permission));
+    return PermissionCheckResult.fromPermission(this.compiledPermissions(permissible, groups).find(permission));
   }
 
   /**
@@ -193,6 +212,58 @@ public Permission findHighestPermission(@NonNull Collection<Permission> permissi
     return lastMatch;
   }
 
+  /**
+   * Invalidates the compiled permissions of all permissibles. This method must be called whenever a permission group
+   * changes, as the change might affect all permissibles inheriting from the group.
+   */
+  public void invalidateCompiledPermissions() {
+    this.compiledPermissions.invalidateAll();
+  }
+
+  /**
+   * Invalidates the compiled permissions of the given permissible. If the permissible is a permission user, the
+   * compiled permissions of all user instances with the same unique id are invalidated.
+   *
+   * @param permissible the permissible to invalidate the compiled permissions of.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  public void invalidateCompiledPermissions(@NonNull Permissible permissible) {
+    if (permissible instanceof PermissionUser user) {
+      this.compiledPermissions.asMap().keySet().removeIf(
+        cached -> cached instanceof PermissionUser cachedUser && cachedUser.uniqueId().equals(user.uniqueId()));
+    } else if (permissible instanceof PermissionGroup) {
+      this.invalidateCompiledPermissions();
+    } else {
+      this.compiledPermissions.invalidate(permissible);
+    }
+  }
+
+  /**
+   * Get the compiled permissions of the given permissible including all permissions inherited from its groups,
+   * compiling them if they are not cached yet. If the groups array is not null, group specific permissions are
+   * included.
+   *
+   * @param permissible the permissible to get the compiled permissions of.
+   * @param groups      the groups to include the group specific permissions of.
+   * @return the compiled permissions of the permissible.
+   * @throws NullPointerException if the given permissible is null.
+   */
+  protected @NonNull CompiledPermissions compiledPermissions(
+    @NonNull Permissible permissible,
+    @Nullable String[] groups
+  ) {
+    // read the version before compiling, a mutation during the compilation leaves the entry stale for the next access
+    var version = AbstractPermissible.mutationVersion();
+    var compiled = this.compiledPermissions.asMap().compute(
+      permissible,
+      ($, current) -> current != null && current.version() == version
+        ? current
+        : new VersionedCompiledPermissions(version, new ConcurrentHashMap<>()));
+    return compiled.compiledByGroups().computeIfAbsent(
+      groups == null ? List.of() : List.of(groups),
+      $ -> CompiledPermissions.compile(this.collectAllPermissions(permissible, groups)));
+  }
+
   protected @NonNull Collection<Permission> collectAllPermissions(
     @NonNull Permissible permissible,
     @Nullable String[] groups
@@ -348,4 +419,19 @@ protected void collectPermissionsInto(
 
     return users;
   }
+
+  /**
+   * The compiled permissions of a permissible by the task groups they were compiled for, associated with the
+   * permissible mutation version they were compiled at.
+   *
+   * @param version          the permissible mutation version the permissions were compiled at.
+   * @param compiledByGroups the compiled permissions by the task groups they were compiled for.
+   * @since 4.0
+   */
+  protected record VersionedCompiledPermissions(
+    long version,
+    @NonNull Map<List<String>, CompiledPermissions> compiledByGroups
+  ) {
+
+  }
 }
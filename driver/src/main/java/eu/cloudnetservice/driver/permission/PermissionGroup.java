@@ -26,6 +26,7 @@
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import lombok.EqualsAndHashCode;
 import lombok.NonNull;
 
 /**
@@ -37,6 +38,7 @@
  * @see PermissionManagement
  * @since 4.0
  */
+@EqualsAndHashCode(callSuper = true)
 public class PermissionGroup extends AbstractPermissible {
 
   public static final Type COL_GROUPS = TypeFactory.parameterizedClass(Collection.class, PermissionGroup.class);
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import com.google.common.collect.Sets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import lombok.NonNull;
+
+/**
+ * A subscription of a service to the snapshot updates of other services. The node only sends the updates of services
+ * which are matching the subscription of a service to it, instead of sending the updates of all services in the
+ * network. A service matches a subscription if it matches any of the given tasks, groups, environments or unique ids.
+ * <p>
+ * Subscriptions can be combined using {@link #union(ServiceUpdateSubscription)}, which allows multiple components of a
+ * service to register their own interests.
+ *
+ * @param all          if the updates of all services are requested, ignoring all other filters.
+ * @param tasks        the names of the tasks of which the service updates are requested.
+ * @param groups       the names of the groups of which the service updates are requested.
+ * @param environments the names of the environments of which the service updates are requested.
+ * @param uniqueIds    the unique ids of the services of which the updates are requested.
+ * @since 4.0
+ */
+public record ServiceUpdateSubscription(
+  boolean all,
+  @NonNull Set<String> tasks,
+  @NonNull Set<String> groups,
+  @NonNull Set<String> environments,
+  @NonNull Set<UUID> uniqueIds
+) {
+
+  /**
+   * The name of the internal channel message used by services to publish their subscription to the node.
+   */
+  public static final String UPDATE_SUBSCRIPTION_MESSAGE = "update_service_subscription";
+
+  private static final ServiceUpdateSubscription ALL = new ServiceUpdateSubscription(
+    true,
+    Set.of(),
+    Set.of(),
+    Set.of(),
+    Set.of());
+  private static final ServiceUpdateSubscription NONE = new ServiceUpdateSubscription(
+    false,
+    Set.of(),
+    Set.of(),
+    Set.of(),
+    Set.of());
+
+  /**
+   * Get a subscription which requests the updates of all services in the network.
+   *
+   * @return a subscription matching all services.
+   */
+  public static @NonNull ServiceUpdateSubscription all() {
+    return ALL;
+  }
+
+  /**
+   * Get a subscription which requests no service updates at all.
+   *
+   * @return a subscription matching no service.
+   */
+  public static @NonNull ServiceUpdateSubscription none() {
+    return NONE;
+  }
+
+  /**
+   * Creates a subscription which requests the updates of all services of the given tasks.
+   *
+   * @param tasks the names of the tasks to request the service updates of.
+   * @return a subscription matching all services of the given tasks.
+   * @throws NullPointerException if the given task collection is null.
+   */
+  public static @NonNull ServiceUpdateSubscription tasks(@NonNull Collection<String> tasks) {
+    return new ServiceUpdateSubscription(false, Set.copyOf(tasks), Set.of(), Set.of(), Set.of());
+  }
+
+  /**
+   * Creates a subscription which requests the updates of all services which are in any of the given groups.
+   *
+   * @param groups the names of the groups to request the service updates of.
+   * @return a subscription matching all services in the given groups.
+   * @throws NullPointerException if the given group collection is null.
+   */
+  public static @NonNull ServiceUpdateSubscription groups(@NonNull Collection<String> groups) {
+    return new ServiceUpdateSubscription(false, Set.of(), Set.copyOf(groups), Set.of(), Set.of());
+  }
+
+  /**
+   * Creates a subscription which requests the updates of all services of the given environments.
+   *
+   * @param environments the names of the environments to request the service updates of.
+   * @return a subscription matching all services of the given environments.
+   * @throws NullPointerException if the given environment collection is null.
+   */
+  public static @NonNull ServiceUpdateSubscription environments(@NonNull Collection<String> environments) {
+    return new ServiceUpdateSubscription(false, Set.of(), Set.of(), Set.copyOf(environments), Set.of());
+  }
+
+  /**
+   * Creates a subscription which requests the updates of the services with the given unique ids.
+   *
+   * @param uniqueIds the unique ids of the services to request the updates of.
+   * @return a subscription matching the services with the given unique ids.
+   * @throws NullPointerException if the given unique id collection is null.
+   */
+  public static @NonNull ServiceUpdateSubscription services(@NonNull Collection<UUID> uniqueIds) {
+    return new ServiceUpdateSubscription(false, Set.of(), Set.of(), Set.of(), Set.copyOf(uniqueIds));
+  }
+
+  /**
+   * Checks if the updates of the given service are requested by this subscription.
+   *
+   * @param snapshot the snapshot of the service to check.
+   * @return true if the updates of the given service are requested, false otherwise.
+   * @throws NullPointerException if the given snapshot is null.
+   */
+  public boolean matches(@NonNull ServiceInfoSnapshot snapshot) {
+    if (this.all) {
+      return true;
+    }
+
+    var serviceId = snapshot.serviceId();
+    if (this.uniqueIds.contains(serviceId.uniqueId())
+      || this.tasks.contains(serviceId.taskName())
+      || this.environments.contains(serviceId.environmentName())) {
+      return true;
+    }
+
+    for (var group : snapshot.configuration().groups()) {
+      if (this.groups.contains(group)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Creates a subscription which requests the updates of all services requested by this or the given subscription.
+   *
+   * @param other the subscription to combine with this subscription.
+   * @return a subscription matching all services matched by either this or the given subscription.
+   * @throws NullPointerException if the given subscription is null.
+   */
+  public @NonNull ServiceUpdateSubscription union(@NonNull ServiceUpdateSubscription other) {
+    if (this.all || other.all) {
+      return ALL;
+    }
+
+    return new ServiceUpdateSubscription(
+      false,
+      Set.copyOf(Sets.union(this.tasks, other.tasks)),
+      Set.copyOf(Sets.union(this.groups, other.groups)),
+      Set.copyOf(Sets.union(this.environments, other.environments)),
+      Set.copyOf(Sets.union(this.uniqueIds, other.uniqueIds)));
+  }
+}
@@ -18,11 +18,19 @@
 
 import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.event.events.service.CloudServiceLifecycleChangeEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.Mockito;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class DefaultEventManagerTest {
@@ -89,6 +97,104 @@ void testUnregisterListenerByClassLoader() {
     Assertions.assertEquals(0, eventManager.listeners.size());
   }
 
+  @Test
+  @Order(40)
+  void testSupertypeListenerCall() {
+    var listener = new SupertypeListener();
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(listener);
+
+    eventManager.callEvent(new TestEvent(123));
+    Assertions.assertEquals(1, listener.calls);
+    Assertions.assertEquals(1, listener.testEventCalls);
+
+    // listeners registered after the first call must be included in the dispatch
+    var secondListener = new SupertypeListener();
+    eventManager.registerListener(secondListener);
+    eventManager.callEvent(new TestEvent(123));
+    Assertions.assertEquals(2, listener.calls);
+    Assertions.assertEquals(1, secondListener.calls);
+
+    // the listener must not receive events for other channels
+    eventManager.callEvent("other", new TestEvent(123));
+    Assertions.assertEquals(2, listener.calls);
+    Assertions.assertEquals(2, listener.testEventCalls);
+  }
+
+  @Test
+  @Order(50)
+  void testAsyncListenerCall() throws InterruptedException {
+    var listener = new AsyncListener(100);
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(listener);
+
+    var asyncListener = Iterables.getOnlyElement(eventManager.asyncListeners());
+    Assertions.assertEquals(TestEvent.class, asyncListener.eventClass());
+
+    for (var i = 0; i < 100; i++) {
+      eventManager.callEvent(new TestEvent(i));
+    }
+
+    // the events must be delivered in the order they were called on a thread which is not the calling thread
+    Assertions.assertTrue(listener.latch.await(10, TimeUnit.SECONDS));
+    Assertions.assertFalse(listener.threads.contains(Thread.currentThread()));
+    for (var i = 0; i < 100; i++) {
+      Assertions.assertEquals(i, listener.numbers.get(i));
+    }
+
+    // the delivery is counted after the listener returned, wait for the last delivery to be counted
+    var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+    while (asyncListener.deliveredEvents() < 100 && System.nanoTime() < deadline) {
+      Thread.sleep(1);
+    }
+
+    Assertions.assertEquals(100, asyncListener.deliveredEvents());
+    Assertions.assertEquals(0, asyncListener.queuedEvents());
+  }
+
+  @Test
+  @Order(60)
+  void testCancelableEventDeliveredSynchronously() {
+    var eventManager = new DefaultEventManager();
+    eventManager.registerListener(new CancelListener(), true);
+    Assertions.assertEquals(1, eventManager.asyncListeners().size());
+
+    var event = eventManager.callEvent(new TestCancelableEvent());
+    Assertions.assertTrue(event.cancelled());
+  }
+
+  @Test
+  @Order(70)
+  @Timeout(20)
+  void testAsyncListenerCallingOwnEvents() throws InterruptedException {
+    var executor = Executors.newSingleThreadExecutor();
+    var latch = new CountDownLatch(4);
+    var asyncListener = new AtomicReference<DefaultAsyncRegisteredEventListener>();
+
+    // the listener calls more events it listens to than the queue is able to hold
+    var delegate = Mockito.mock(RegisteredEventListener.class);
+    Mockito.doAnswer(invocation -> {
+      TestEvent event = invocation.getArgument(0);
+      if (event.number > 0) {
+        for (var i = 0; i < 3; i++) {
+          asyncListener.get().fireEvent(new TestEvent(0));
+        }
+      }
+      latch.countDown();
+      return null;
+    }).when(delegate).fireEvent(Mockito.any(Event.class));
+
+    try {
+      asyncListener.set(new DefaultAsyncRegisteredEventListener(delegate, executor, 1));
+      asyncListener.get().fireEvent(new TestEvent(1));
+
+      // the overflowing events are delivered synchronously instead of blocking the draining thread
+      Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   private DefaultEventManager newEventManagerWithListener() {
     var eventManager = new DefaultEventManager();
 
@@ -132,6 +238,65 @@ public boolean equals(Object obj) {
     }
   }
 
+  private static final class SupertypeListener {
+
+    private int calls;
+    private int testEventCalls;
+
+    @EventListener(order = InvocationOrder.EARLY)
+    public void handleEvent(Event event) {
+      this.calls++;
+    }
+
+    @EventListener
+    public void handleTestEvent(TestEvent event) {
+      // the supertype listener is called first as it has an earlier invocation order
+      Assertions.assertEquals(this.calls, this.testEventCalls + 1);
+      this.testEventCalls++;
+    }
+  }
+
+  private static final class AsyncListener {
+
+    private final CountDownLatch latch;
+    private final List<Integer> numbers = new CopyOnWriteArrayList<>();
+    private final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+    public AsyncListener(int expectedEvents) {
+      this.latch = new CountDownLatch(expectedEvents);
+    }
+
+    @EventListener(async = true)
+    public void handleTestEvent(TestEvent event) {
+      this.numbers.add(event.number);
+      this.threads.add(Thread.currentThread());
+      this.latch.countDown();
+    }
+  }
+
+  private static final class CancelListener {
+
+    @EventListener
+    public void handleCancelableEvent(TestCancelableEvent event) {
+      event.cancelled(true);
+    }
+  }
+
+  private static final class TestCancelableEvent extends Event implements Cancelable {
+
+    private boolean cancelled;
+
+    @Override
+    public boolean cancelled() {
+      return this.cancelled;
+    }
+
+    @Override
+    public void cancelled(boolean value) {
+      this.cancelled = value;
+    }
+  }
+
   private static final class TestEvent extends Event {
 
     private int number;
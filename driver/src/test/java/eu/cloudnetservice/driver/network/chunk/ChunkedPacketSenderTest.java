@@ -19,12 +19,17 @@
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.defaults.ChunkedTransferWindow;
 import eu.cloudnetservice.driver.network.chunk.defaults.splitter.NetworkChannelsPacketSplitter;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import java.io.ByteArrayInputStream;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.UUID;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -95,6 +100,94 @@ void testNetworkChannelSplitter() throws Exception {
       .get());
   }
 
+  @Test
+  @Order(20)
+  @Timeout(20)
+  void testTransferWindow() throws Exception {
+    var sessionId = UUID.randomUUID();
+    var sentChunks = new AtomicInteger();
+    var grantedCredits = new AtomicInteger();
+    var maxPendingChunks = new AtomicInteger();
+
+    // grant the credits delayed, like a receiver which needs some time to handle the chunks
+    var creditGranter = Executors.newSingleThreadScheduledExecutor();
+    var receiver = Mockito.mock(NetworkChannel.class);
+    var channel = this.mockNetworkChannel(packet -> {
+      packet.content().readObject(ChunkSessionInformation.class);
+      var chunkIndex = packet.content().readInt();
+      if (chunkIndex == ChunkedPacket.SESSION_OPEN_INDEX) {
+        // the receiver has no chunks from a previous attempt
+        ChunkedTransferWindow.markPresentChunks(sessionId, new BitSet());
+        return;
+      }
+
+      var pendingChunks = sentChunks.incrementAndGet() - grantedCredits.get();
+      maxPendingChunks.accumulateAndGet(pendingChunks, Math::max);
+      creditGranter.schedule(() -> {
+        grantedCredits.incrementAndGet();
+        // duplicate acknowledgements of the same receiver must not grant further credits
+        ChunkedTransferWindow.acknowledgeChunk(sessionId, chunkIndex, receiver);
+        ChunkedTransferWindow.acknowledgeChunk(sessionId, chunkIndex, receiver);
+      }, 5, TimeUnit.MILLISECONDS);
+    });
+
+    try {
+      Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+        .chunkSize(256)
+        .windowSize(2)
+        .sessionUniqueId(sessionId)
+        .transferChannel("hello_world")
+        .source(new ByteArrayInputStream(this.generateRandomChunkData()))
+        .toChannels(channel)
+        .build()
+        .transferChunkedData()
+        .get());
+    } finally {
+      creditGranter.shutdownNow();
+    }
+
+    // 16 full chunks and the final empty chunk
+    Assertions.assertEquals(17, sentChunks.get());
+    Assertions.assertTrue(maxPendingChunks.get() <= 2);
+  }
+
+  @Test
+  @Order(30)
+  @Timeout(20)
+  void testPresentChunksAreSkipped() throws Exception {
+    var sessionId = UUID.randomUUID();
+    var sentChunks = new BitSet();
+
+    // the receiver already received the first 8 chunks in a previous attempt of the transfer
+    var receiver = Mockito.mock(NetworkChannel.class);
+    var channel = this.mockNetworkChannel(packet -> {
+      packet.content().readObject(ChunkSessionInformation.class);
+      var chunkIndex = packet.content().readInt();
+      if (chunkIndex == ChunkedPacket.SESSION_OPEN_INDEX) {
+        var presentChunks = new BitSet();
+        presentChunks.set(0, 8);
+        ChunkedTransferWindow.markPresentChunks(sessionId, presentChunks);
+      } else {
+        sentChunks.set(chunkIndex);
+        ChunkedTransferWindow.acknowledgeChunk(sessionId, chunkIndex, receiver);
+      }
+    });
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, ChunkedPacketSender.forFileTransfer()
+      .chunkSize(256)
+      .sessionUniqueId(sessionId)
+      .transferChannel("hello_world")
+      .source(new ByteArrayInputStream(this.generateRandomChunkData()))
+      .toChannels(channel)
+      .build()
+      .transferChunkedData()
+      .get());
+
+    // 16 full chunks and the final empty chunk, the first 8 chunks are skipped
+    Assertions.assertEquals(8, sentChunks.nextSetBit(0));
+    Assertions.assertEquals(9, sentChunks.cardinality());
+  }
+
   private byte[] generateRandomChunkData() {
     var data = new byte[4096];
     ThreadLocalRandom.current().nextBytes(data);
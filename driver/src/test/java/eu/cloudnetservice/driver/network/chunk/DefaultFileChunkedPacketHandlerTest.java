@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.chunk;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.chunk.data.ChunkSessionInformation;
+import eu.cloudnetservice.driver.network.chunk.defaults.DefaultFileChunkedPacketHandler;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DefaultFileChunkedPacketHandlerTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void testCorruptedChunkIsRejected() {
+    var sessionId = UUID.randomUUID();
+    var data = this.generateRandomData();
+    var result = new AtomicReference<byte[]>();
+    var handler = new DefaultFileChunkedPacketHandler(
+      this.sessionInformation(sessionId),
+      (info, input) -> result.set(input.readAllBytes()),
+      this.tempDir.resolve(sessionId.toString()));
+
+    // send the first chunk with an invalid checksum
+    var corruptedChunk = DataBuf.empty()
+      .writeBoolean(false)
+      .writeByteArray(Arrays.copyOfRange(data, 0, 256))
+      .writeInt(ChunkedPacket.checksum(data, 256) + 1);
+    Assertions.assertFalse(handler.handleChunkPart(0, corruptedChunk));
+    Assertions.assertFalse(handler.chunkHandled(0));
+    Assertions.assertEquals(TransferStatus.RUNNING, handler.transferStatus());
+
+    // send the remaining chunks, the transfer can only complete after the first chunk was sent again
+    Assertions.assertFalse(this.handleChunk(handler, sessionId, 1, null, Arrays.copyOfRange(data, 256, 512)));
+    Assertions.assertFalse(this.handleChunk(handler, sessionId, 2, 2, new byte[0]));
+    Assertions.assertTrue(this.handleChunk(handler, sessionId, 0, null, Arrays.copyOfRange(data, 0, 256)));
+
+    Assertions.assertEquals(TransferStatus.SUCCESS, handler.transferStatus());
+    Assertions.assertArrayEquals(data, result.get());
+  }
+
+  @Test
+  void testInterruptedTransferIsResumed() {
+    var sessionId = UUID.randomUUID();
+    var data = this.generateRandomData();
+    var tempFile = this.tempDir.resolve(sessionId.toString());
+
+    // receive the first chunk, then abandon the handler
+    var handler = new DefaultFileChunkedPacketHandler(this.sessionInformation(sessionId), null, tempFile);
+    Assertions.assertFalse(this.handleChunk(handler, sessionId, 0, null, Arrays.copyOfRange(data, 0, 256)));
+    handler.close();
+    Assertions.assertEquals(TransferStatus.FAILURE, handler.transferStatus());
+
+    // a new handler for the same session restores the received chunks
+    var result = new AtomicReference<byte[]>();
+    var resumedHandler = new DefaultFileChunkedPacketHandler(
+      this.sessionInformation(sessionId),
+      (info, input) -> result.set(input.readAllBytes()),
+      tempFile);
+    Assertions.assertTrue(resumedHandler.chunkHandled(0));
+    Assertions.assertEquals(1, resumedHandler.handledChunks().cardinality());
+
+    // receive the missing chunks
+    Assertions.assertFalse(this.handleChunk(resumedHandler, sessionId, 1, null, Arrays.copyOfRange(data, 256, 512)));
+    Assertions.assertTrue(this.handleChunk(resumedHandler, sessionId, 2, 2, new byte[0]));
+
+    Assertions.assertArrayEquals(data, result.get());
+    Assertions.assertTrue(Files.notExists(tempFile));
+    Assertions.assertTrue(Files.notExists(this.tempDir.resolve(sessionId + ".progress")));
+  }
+
+  private boolean handleChunk(
+    DefaultFileChunkedPacketHandler handler,
+    UUID sessionId,
+    int chunkIndex,
+    Integer chunkAmount,
+    byte[] data
+  ) {
+    var packet = ChunkedPacket.createChunk(
+      this.sessionInformation(sessionId),
+      chunkAmount,
+      chunkIndex,
+      data.length,
+      data);
+
+    // skip the information which is read by the listener
+    packet.content().readObject(ChunkSessionInformation.class);
+    Assertions.assertEquals(chunkIndex, packet.content().readInt());
+
+    return handler.handleChunkPart(chunkIndex, packet.content());
+  }
+
+  private ChunkSessionInformation sessionInformation(UUID sessionId) {
+    return new ChunkSessionInformation(256, sessionId, "test", DataBuf.empty());
+  }
+
+  private byte[] generateRandomData() {
+    var data = new byte[512];
+    ThreadLocalRandom.current().nextBytes(data);
+    return data;
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.delta;
+
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import io.leangen.geantyref.TypeFactory;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SnapshotDeltaCodecTest {
+
+  private static final SnapshotSchema<TestSnapshot> SCHEMA = SnapshotSchema.<TestSnapshot>builder()
+    .field("name", String.class, TestSnapshot::name)
+    .field("counter", long.class, TestSnapshot::counter)
+    .field("entries", TypeFactory.parameterizedClass(List.class, String.class), TestSnapshot::entries)
+    .build(values -> new TestSnapshot((String) values[0], (long) values[1], castEntries(values[2])));
+
+  @SuppressWarnings("unchecked")
+  private static List<String> castEntries(Object entries) {
+    return (List<String>) entries;
+  }
+
+  private static DataBuf transfer(SnapshotDeltaEncoder<TestSnapshot> encoder, TestSnapshot snapshot) {
+    return DataBufFactory.defaultFactory().fromBytes(encoder.encode(snapshot).toByteArray());
+  }
+
+  @Test
+  void testDeltaRoundTrip() {
+    var encoder = new SnapshotDeltaEncoder<>(SCHEMA);
+    var decoder = new SnapshotDeltaDecoder<>(SCHEMA);
+
+    var entries = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+    var first = new TestSnapshot("node-1", 1, entries);
+    var full = encoder.encode(first).toByteArray();
+    Assertions.assertEquals(first, decoder.decode("node-1", DataBufFactory.defaultFactory().fromBytes(full)));
+
+    // only the counter changed, the delta must be smaller than the full snapshot
+    var second = new TestSnapshot("node-1", 2, entries);
+    var delta = encoder.encode(second).toByteArray();
+    Assertions.assertTrue(delta.length < full.length);
+    Assertions.assertEquals(second, decoder.decode("node-1", DataBufFactory.defaultFactory().fromBytes(delta)));
+
+    var third = new TestSnapshot("node-2", 2, List.of());
+    Assertions.assertEquals(third, decoder.decode("node-1", transfer(encoder, third)));
+    Assertions.assertEquals(3, encoder.version());
+  }
+
+  @Test
+  void testMissedDeltaRequiresResync() {
+    var encoder = new SnapshotDeltaEncoder<>(SCHEMA);
+    var decoder = new SnapshotDeltaDecoder<>(SCHEMA);
+
+    Assertions.assertNotNull(decoder.decode("node-1", transfer(encoder, new TestSnapshot("node-1", 1, List.of()))));
+    // the second delta is lost, the third one can't be applied
+    encoder.encode(new TestSnapshot("node-1", 2, List.of()));
+    Assertions.assertNull(decoder.decode("node-1", transfer(encoder, new TestSnapshot("node-1", 3, List.of()))));
+
+    // after a reset the full snapshot is sent again
+    encoder.reset();
+    var snapshot = new TestSnapshot("node-1", 4, List.of("a"));
+    Assertions.assertEquals(snapshot, decoder.decode("node-1", transfer(encoder, snapshot)));
+  }
+
+  @Test
+  void testInvalidatedSenderRequiresResync() {
+    var encoder = new SnapshotDeltaEncoder<>(SCHEMA);
+    var decoder = new SnapshotDeltaDecoder<>(SCHEMA);
+
+    Assertions.assertNotNull(decoder.decode("node-1", transfer(encoder, new TestSnapshot("node-1", 1, List.of()))));
+    decoder.invalidate("node-1");
+    Assertions.assertNull(decoder.decode("node-1", transfer(encoder, new TestSnapshot("node-1", 2, List.of()))));
+  }
+
+  private record TestSnapshot(String name, long counter, List<String> entries) {
+
+  }
+}
@@ -28,8 +28,12 @@
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.zip.GZIPInputStream;
 import org.junit.jupiter.api.AfterEach;
@@ -427,4 +431,64 @@ public void handle(String path, HttpContext context) {
       "Hello World",
       new String(new GZIPInputStream(gzipStreamHandlerResponse.body()).readAllBytes(), StandardCharsets.UTF_8));
   }
+
+  @Test
+  @Timeout(60)
+  void testBlockingHandlersLoad() throws Exception {
+    // simulates the rest handlers, which block while waiting for database and rpc responses
+    this.httpServer.registerHandler("/api/v2/service", new HttpHandler() {
+      @Override
+      public void handle(String path, HttpContext context) throws Exception {
+        Thread.sleep(5);
+        context.response().status(HttpResponseCode.OK).body("[]").context().cancelNext(true);
+      }
+    });
+    this.httpServer.registerHandler("/api/v2/service/{id}", new HttpHandler() {
+      @Override
+      public void handle(String path, HttpContext context) throws Exception {
+        Thread.sleep(5);
+        context.response()
+          .status(HttpResponseCode.OK)
+          .body(context.request().pathParameters().get("id"))
+          .context()
+          .cancelNext(true);
+      }
+    });
+
+    var clients = 32;
+    var requestsPerClient = 50;
+    var startTime = System.nanoTime();
+    var executor = Executors.newFixedThreadPool(clients);
+    try {
+      var futures = new ArrayList<Future<?>>();
+      for (var client = 0; client < clients; client++) {
+        futures.add(executor.submit(() -> {
+          var httpClient = HttpClient.newHttpClient();
+          for (var request = 0; request < requestsPerClient; request++) {
+            var uri = request % 2 == 0
+              ? UriBuilder.create().port(this.serverPort).path("api", "v2", "service").build()
+              : UriBuilder.create().port(this.serverPort).path("api", "v2", "service", "Lobby-" + request).build();
+
+            var response = httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+            Assertions.assertEquals(200, response.statusCode());
+            Assertions.assertEquals(request % 2 == 0 ? "[]" : "Lobby-" + request, response.body());
+          }
+          return null;
+        }));
+      }
+
+      for (var future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    // handling the blocking handlers one after another takes at least 5 ms per request, the requests of different
+    // connections must be handled concurrently to finish in half of that time
+    var elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    Assertions.assertTrue(
+      elapsedMillis < clients * requestsPerClient * 5L / 2,
+      () -> "Handling the requests took " + elapsedMillis + " ms");
+  }
 }
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NettyPacketDispatchLaneTest {
+
+  @Test
+  void testTasksAreExecutedInOrder() throws InterruptedException {
+    var executor = Executors.newFixedThreadPool(4);
+    try {
+      var lane = new NettyPacketDispatchLane(executor);
+      var executed = Collections.synchronizedList(new ArrayList<Integer>());
+      var latch = new CountDownLatch(1_000);
+
+      for (var i = 0; i < 1_000; i++) {
+        var taskId = i;
+        lane.execute(() -> {
+          executed.add(taskId);
+          latch.countDown();
+        });
+      }
+
+      Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+      for (var i = 0; i < 1_000; i++) {
+        Assertions.assertEquals(i, executed.get(i));
+      }
+
+      // the task is counted after it completed, wait for the last task to be counted
+      var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (lane.handledTasks() < 1_000 && System.nanoTime() < deadline) {
+        Thread.sleep(1);
+      }
+
+      Assertions.assertEquals(0, lane.queueDepth());
+      Assertions.assertEquals(1_000, lane.handledTasks());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testBlockedLaneDoesNotBlockOtherLanes() throws InterruptedException {
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      var blockedLane = new NettyPacketDispatchLane(executor);
+      var otherLane = new NettyPacketDispatchLane(executor);
+
+      var release = new CountDownLatch(1);
+      var otherExecuted = new CountDownLatch(1);
+
+      blockedLane.execute(() -> {
+        try {
+          release.await();
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      blockedLane.execute(() -> {
+      });
+      otherLane.execute(otherExecuted::countDown);
+
+      Assertions.assertTrue(otherExecuted.await(10, TimeUnit.SECONDS));
+      Assertions.assertEquals(1, blockedLane.queueDepth());
+
+      release.countDown();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -44,4 +44,15 @@ public void testVarIntCoding() {
       Assertions.assertEquals(i, NettyUtil.readVarInt(buffer));
     }
   }
+
+  @RepeatedTest(30)
+  public void testVarLongCoding() {
+    try (var buffer = DefaultBufferAllocators.onHeapAllocator().allocate(0)) {
+      var l = ThreadLocalRandom.current().nextLong();
+
+      Assertions.assertNotNull(NettyUtil.writeVarLong(buffer, l));
+      Assertions.assertEquals(NettyUtil.varLongBytes(l), buffer.readableBytes());
+      Assertions.assertEquals(l, NettyUtil.readVarLong(buffer));
+    }
+  }
 }
@@ -76,4 +76,44 @@ void testNettyPacketCodec() {
     // encode the packet
     NettyPacketEncoder.INSTANCE.write(outCtx, new BasePacket(packetChannel, dataBuf));
   }
+
+  @Test
+  void testPacketContentReleasedAfterEncode() {
+    var dataBuf = DataBufFactory.defaultFactory().createEmpty().writeInt(1234);
+
+    var outCtx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(outCtx.bufferAllocator()).thenReturn(DefaultBufferAllocators.onHeapAllocator());
+    Mockito.when(outCtx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      try (Buffer buffer = invocation.getArgument(0)) {
+        // channel (1 byte) + prioritized + query + body length (1 byte) + body (4 bytes)
+        Assertions.assertEquals(8, buffer.readableBytes());
+      }
+      return null;
+    });
+
+    // the content is only owned by the packet and should be released after encoding
+    NettyPacketEncoder.INSTANCE.write(outCtx, new BasePacket(1, dataBuf));
+    Assertions.assertFalse(dataBuf.accessible());
+  }
+
+  @Test
+  void testAcquiredPacketContentStaysAccessible() {
+    var dataBuf = DataBufFactory.defaultFactory().createEmpty().writeInt(1234);
+    dataBuf.acquire();
+
+    var outCtx = Mockito.mock(ChannelHandlerContext.class);
+    Mockito.when(outCtx.bufferAllocator()).thenReturn(DefaultBufferAllocators.onHeapAllocator());
+    Mockito.when(outCtx.write(Mockito.any(Buffer.class))).then(invocation -> {
+      try (Buffer buffer = invocation.getArgument(0)) {
+        Assertions.assertEquals(8, buffer.readableBytes());
+      }
+      return null;
+    });
+
+    // the content is acquired elsewhere and must still be readable after encoding
+    NettyPacketEncoder.INSTANCE.write(outCtx, new BasePacket(1, dataBuf));
+    Assertions.assertTrue(dataBuf.accessible());
+    Assertions.assertEquals(1234, dataBuf.readInt());
+    Assertions.assertFalse(dataBuf.accessible());
+  }
 }
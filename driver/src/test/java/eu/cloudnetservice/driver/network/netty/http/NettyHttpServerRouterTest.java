@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.netty.http;
+
+import eu.cloudnetservice.driver.network.http.HttpContext;
+import eu.cloudnetservice.driver.network.http.HttpHandler;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class NettyHttpServerRouterTest {
+
+  private static HttpHandler handler(String... methods) {
+    return new HttpHandler() {
+      @Override
+      public boolean supportsMethod(String method) {
+        return methods.length == 0 || List.of(methods).contains(method);
+      }
+
+      @Override
+      public void handle(String path, HttpContext context) {
+      }
+    };
+  }
+
+  private static List<HttpHandler> route(NettyHttpServerRouter router, String path, int port, String method) {
+    return router.route(path.split("/"), port, method).stream()
+      .map(route -> route.handlerEntry().httpHandler())
+      .toList();
+  }
+
+  @Test
+  void testStaticParameterAndWildcardRoutes() {
+    var list = handler();
+    var byId = handler();
+    var logs = handler();
+    var wildcard = handler();
+    var root = handler();
+
+    var router = NettyHttpServerRouter.compile(Set.of(
+      new NettyHttpServer.HttpHandlerEntry("/api/v2/service", list, null, 32),
+      new NettyHttpServer.HttpHandlerEntry("/api/v2/service/{id}", byId, null, 32),
+      new NettyHttpServer.HttpHandlerEntry("/api/v2/service/{id}/logs", logs, null, 32),
+      new NettyHttpServer.HttpHandlerEntry("/api/*", wildcard, null, 16),
+      new NettyHttpServer.HttpHandlerEntry("/", root, null, 32)));
+
+    Assertions.assertEquals(List.of(root), route(router, "/", 80, "GET"));
+    Assertions.assertEquals(List.of(list, wildcard), route(router, "/api/v2/service", 80, "GET"));
+    Assertions.assertEquals(List.of(byId, wildcard), route(router, "/api/v2/service/Lobby-1", 80, "GET"));
+    Assertions.assertEquals(List.of(logs, wildcard), route(router, "/api/v2/service/Lobby-1/logs", 80, "GET"));
+    Assertions.assertEquals(List.of(wildcard), route(router, "/api/v2/task", 80, "GET"));
+    Assertions.assertEquals(List.of(), route(router, "/api", 80, "GET"));
+    Assertions.assertEquals(List.of(), route(router, "/other", 80, "GET"));
+  }
+
+  @Test
+  void testPathParametersAreBound() {
+    var router = NettyHttpServerRouter.compile(Set.of(
+      new NettyHttpServer.HttpHandlerEntry("/service/{id}/include/{file}", handler(), null, 32)));
+
+    var pathEntries = "/service/Lobby-1/include/test.txt".split("/");
+    var routes = router.route(pathEntries, 80, "POST");
+    Assertions.assertEquals(1, routes.size());
+
+    var parameters = new HashMap<String, String>();
+    routes.get(0).bindPathParameters(pathEntries, parameters);
+    Assertions.assertEquals("Lobby-1", parameters.get("id"));
+    Assertions.assertEquals("test.txt", parameters.get("file"));
+  }
+
+  @Test
+  void testMethodAndPortDispatch() {
+    var get = handler("GET");
+    var delete = handler("DELETE");
+    var otherPort = handler();
+
+    var router = NettyHttpServerRouter.compile(Set.of(
+      new NettyHttpServer.HttpHandlerEntry("/service/{id}", get, null, 32),
+      new NettyHttpServer.HttpHandlerEntry("/service/{id}", delete, null, 32),
+      new NettyHttpServer.HttpHandlerEntry("/service/{id}", otherPort, 8080, 64)));
+
+    Assertions.assertEquals(List.of(get), route(router, "/service/Lobby-1", 80, "GET"));
+    Assertions.assertEquals(List.of(delete), route(router, "/service/Lobby-1", 80, "DELETE"));
+    Assertions.assertEquals(List.of(otherPort, get), route(router, "/service/Lobby-1", 8080, "GET"));
+    Assertions.assertEquals(List.of(), route(router, "/service/Lobby-1", 80, "PATCH"));
+  }
+}
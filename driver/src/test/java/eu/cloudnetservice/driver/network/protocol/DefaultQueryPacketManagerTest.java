@@ -43,6 +43,26 @@ void testSendQueryPacket() {
     Assertions.assertFalse(manager.hasWaitingHandler(mockedPacket.second().get()));
   }
 
+  @Test
+  void testSendQueryPacketUsesCompactIds() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    manager.sendQueryPacket(mockedPacket.first());
+    var firstId = mockedPacket.second().get();
+    manager.sendQueryPacket(mockedPacket.first());
+    var secondId = mockedPacket.second().get();
+
+    Assertions.assertTrue(DefaultQueryPacketManager.compactQueryId(firstId));
+    Assertions.assertTrue(DefaultQueryPacketManager.compactQueryId(secondId));
+    Assertions.assertEquals(firstId.getLeastSignificantBits() + 2, secondId.getLeastSignificantBits());
+    Assertions.assertFalse(DefaultQueryPacketManager.compactQueryId(UUID.randomUUID()));
+
+    Assertions.assertTrue(manager.hasWaitingHandler(firstId));
+    Assertions.assertTrue(manager.hasWaitingHandler(secondId));
+    Assertions.assertEquals(2, manager.waitingHandlers().size());
+  }
+
   @Test
   void testSendQueryPacketWithFixedId() {
     var uniqueId = UUID.randomUUID();
@@ -59,6 +79,17 @@ void testSendQueryPacketWithFixedId() {
     Assertions.assertFalse(manager.hasWaitingHandler(uniqueId));
   }
 
+  @Test
+  void testSendQueryPacketRejectsCompactRangeId() {
+    var mockedPacket = this.mockUniqueIdAblePacket();
+    QueryPacketManager manager = new DefaultQueryPacketManager(Mockito.mock(NetworkChannel.class));
+
+    Assertions.assertThrows(
+      IllegalArgumentException.class,
+      () -> manager.sendQueryPacket(mockedPacket.first(), new UUID(0L, 12L)));
+    Assertions.assertTrue(manager.waitingHandlers().isEmpty());
+  }
+
   @Test
   void testGetAndRemoveHandler() {
     var mockedPacket = this.mockUniqueIdAblePacket();
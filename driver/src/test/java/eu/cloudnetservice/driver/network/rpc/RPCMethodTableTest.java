@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.network.rpc;
+
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
+import eu.cloudnetservice.driver.network.rpc.defaults.RPCMethodTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class RPCMethodTableTest {
+
+  @Test
+  void testMethodDefinitionIsOnlyWrittenUntilAcknowledged() {
+    var senderChannel = Mockito.mock(NetworkChannel.class);
+    var receiverChannel = Mockito.mock(NetworkChannel.class);
+
+    // the first call must contain the full definition
+    var firstCall = DataBufFactory.defaultFactory().createEmpty();
+    var methodId = RPCMethodTable.writeMethod(firstCall, senderChannel, "test.Class", "method", 2);
+    var firstCallSize = firstCall.readableBytes();
+
+    var definition = RPCMethodTable.readMethod(firstCall, receiverChannel);
+    Assertions.assertEquals(new RPCMethodTable.MethodDefinition("test.Class", "method", 2), definition);
+
+    // the second call only contains the id after the receiver acknowledged the method
+    RPCMethodTable.acknowledge(senderChannel, methodId);
+    var secondCall = DataBufFactory.defaultFactory().createEmpty();
+    Assertions.assertEquals(methodId, RPCMethodTable.writeMethod(secondCall, senderChannel, "test.Class", "method", 2));
+    Assertions.assertTrue(secondCall.readableBytes() < firstCallSize);
+
+    Assertions.assertEquals(definition, RPCMethodTable.readMethod(secondCall, receiverChannel));
+  }
+
+  @Test
+  void testUnknownMethodIdIsRejected() {
+    var senderChannel = Mockito.mock(NetworkChannel.class);
+    var receiverChannel = Mockito.mock(NetworkChannel.class);
+
+    var call = DataBufFactory.defaultFactory().createEmpty();
+    var methodId = RPCMethodTable.writeMethod(call, senderChannel, "test.Class", "otherMethod", 0);
+    call.release();
+
+    // acknowledge the method without the receiver knowing it
+    RPCMethodTable.acknowledge(senderChannel, methodId);
+    var unknownCall = DataBufFactory.defaultFactory().createEmpty();
+    RPCMethodTable.writeMethod(unknownCall, senderChannel, "test.Class", "otherMethod", 0);
+
+    Assertions.assertThrows(
+      IllegalStateException.class,
+      () -> RPCMethodTable.readMethod(unknownCall, receiverChannel));
+  }
+}
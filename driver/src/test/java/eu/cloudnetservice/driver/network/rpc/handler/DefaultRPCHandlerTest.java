@@ -52,7 +52,7 @@ void testMethodInvocation() {
     // handler registry init
     RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
     // handler init
-    PacketListener listener = new RPCPacketListener(registry);
+    PacketListener listener = new RPCPacketListener(DataBufFactory.defaultFactory(), registry);
     // factory init
     RPCFactory factory = new DefaultRPCFactory(
       new DefaultObjectMapper(),
@@ -165,6 +165,69 @@ void testMethodInvocation() {
       .areEqual());
   }
 
+  @Test
+  @Timeout(20)
+  void testBatchInvocation() {
+    RPCHandlerRegistry registry = new DefaultRPCHandlerRegistry();
+    PacketListener listener = new RPCPacketListener(DataBufFactory.defaultFactory(), registry);
+    RPCFactory factory = new DefaultRPCFactory(new DefaultObjectMapper(), DataBufFactory.defaultFactory());
+    // register the handlers
+    var backingHandler = new AtomicLong();
+    registry.registerHandler(factory.newHandler(TestApiClass.class, new TestApiClass(backingHandler)));
+    registry.registerHandler(factory.newHandler(TestApiClassNested.class, null));
+    // networking mocks
+    var sentQueries = new AtomicLong();
+    var resultListener = new Task<Packet>();
+    var resultChannel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        resultListener.complete(invocation.getArgument(0));
+        return null;
+      })
+      .when(resultChannel)
+      .sendPacket(Mockito.any(Packet.class));
+    var channel = Mockito.mock(NetworkChannel.class);
+    Mockito
+      .doAnswer(invocation -> {
+        Packet packet = invocation.getArgument(0);
+        packet.uniqueId(UUID.randomUUID());
+        sentQueries.incrementAndGet();
+        listener.handle(resultChannel, packet);
+        return resultListener;
+      })
+      .when(channel)
+      .sendQueryAsync(Mockito.any(Packet.class));
+    var component = Mockito.mock(NetworkComponent.class);
+    Mockito.when(component.firstChannel()).thenReturn(channel);
+    // RPC sender
+    var sender = factory.providerForClass(component, TestApiClass.class);
+    var nestedSender = factory.providerForClass(component, TestApiClassNested.class);
+    var snapshot = ProcessSnapshot.self();
+    var integers = Arrays.asList(185, 186, 188);
+    // add a normal request, a chain and a failing chain to the batch
+    var batch = factory.newBatch();
+    Task<Map<Long, Map<String, String>>> first = batch.add(
+      sender.invokeMethod("handleProcessSnapshot", snapshot, integers, 187));
+    Task<Map<Long, Map<String, String>>> second = batch.add(sender
+      .invokeMethod("nestedClass", "Test123")
+      .join(nestedSender.invokeMethod("handleProcessSnapshot1", snapshot, integers, 187)));
+    Task<Map<Long, Map<String, String>>> third = batch.add(sender
+      .invokeMethod("nestedClass", "Test123")
+      .join(nestedSender.invokeMethod("handleProcessSnapshot1", snapshot, integers, 185)));
+    Assertions.assertEquals(3, batch.size());
+    // fire the batch and wait for the results
+    batch.fire().join();
+    Assertions.assertEquals(1, sentQueries.get());
+    // ensure that the results are there
+    var key = TestApiClass.calculateResult(snapshot, integers, 187);
+    Assertions.assertEquals(key, backingHandler.get());
+    Assertions.assertNotNull(first.getNow(null).get(key));
+    Assertions.assertNotNull(second.getNow(null).get(key));
+    Assertions.assertTrue(third.isCompletedExceptionally());
+    // a batch can only be fired once
+    Assertions.assertThrows(IllegalStateException.class, batch::fire);
+  }
+
   public interface TestApiClassVeryNested {
 
     Map<Long, Map<String, String>> handleProcessSnapshot2(ProcessSnapshot s, List<Integer> i, int primaryId);
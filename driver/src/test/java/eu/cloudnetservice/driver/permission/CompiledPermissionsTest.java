@@ -0,0 +1,190 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.permission;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class CompiledPermissionsTest {
+
+  private static Permission permission(String name, int potency) {
+    return Permission.builder().name(name).potency(potency).build();
+  }
+
+  private static DefaultPermissionManagement management(Map<String, PermissionGroup> groups) {
+    var management = Mockito.mock(
+      DefaultPermissionManagement.class,
+      Mockito.withSettings().useConstructor().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+    Mockito.doAnswer(invocation -> groups.get(invocation.<String>getArgument(0)))
+      .when(management)
+      .group(Mockito.anyString());
+    return management;
+  }
+
+  @Test
+  void testWildcardMatching() {
+    var compiled = CompiledPermissions.compile(List.of(
+      permission("cloudnet.command.*", 0),
+      permission("Bukkit.Command.Help", 0),
+      permission("-denied.*", -1)));
+
+    Assertions.assertNotNull(compiled.find(Permission.of("cloudnet.command.service")));
+    Assertions.assertNotNull(compiled.find(Permission.of("bukkit.command.help")));
+    Assertions.assertNull(compiled.find(Permission.of("bukkit.command.plugins")));
+    // the stem of a wildcard permission can be contained anywhere in the requested permission
+    Assertions.assertNotNull(compiled.find(Permission.of("module.cloudnet.command.test")));
+    Assertions.assertEquals(-1, compiled.find(Permission.of("x.-denied.y")).potency());
+
+    var star = CompiledPermissions.compile(List.of(permission("*", 0)));
+    Assertions.assertNotNull(star.find(Permission.of("any.permission")));
+  }
+
+  @Test
+  void testPotencyResolution() {
+    var compiled = CompiledPermissions.compile(List.of(
+      permission("*", 1),
+      permission("cloudnet.*", -5),
+      permission("cloudnet.command.stop", 10),
+      permission("cloudnet.command.help", 5)));
+
+    Assertions.assertEquals(10, compiled.find(Permission.of("cloudnet.command.stop")).potency());
+    Assertions.assertEquals(-5, compiled.find(Permission.of("cloudnet.command.service")).potency());
+    Assertions.assertEquals(1, compiled.find(Permission.of("bukkit.command.help")).potency());
+    // permissions with a lower potency than the requested one do not match
+    Assertions.assertNull(compiled.find(permission("bukkit.command.help", 2)));
+    // a negative permission wins against a positive permission with the same absolute potency
+    Assertions.assertEquals(-5, compiled.find(Permission.of("cloudnet.command.help")).potency());
+  }
+
+  @Test
+  void testMatchesLinearSearch() {
+    var management = management(Map.of());
+    var random = new Random(0);
+    var segments = new String[]{"cloudnet", "command", "service", "Bukkit", "help", "*"};
+
+    for (var round = 0; round < 200; round++) {
+      // use distinct absolute potencies, the linear search resolves ties by iteration order
+      List<Permission> permissions = new ArrayList<>();
+      for (var i = 0; i < 20; i++) {
+        var name = new StringBuilder();
+        for (var segment = 0; segment < 1 + random.nextInt(3); segment++) {
+          name.append(segment == 0 ? "" : ".").append(segments[random.nextInt(segments.length)]);
+        }
+        permissions.add(permission(name.toString(), (random.nextBoolean() ? 1 : -1) * (i + 1)));
+      }
+
+      var compiled = CompiledPermissions.compile(permissions);
+      for (var check = 0; check < 20; check++) {
+        var requested = Permission.of(
+          segments[random.nextInt(segments.length - 1)] + "." + segments[random.nextInt(segments.length - 1)]);
+        Assertions.assertEquals(
+          management.findHighestPermission(permissions, requested),
+          compiled.find(requested),
+          () -> "Mismatch for " + requested + " in " + permissions);
+      }
+    }
+  }
+
+  @Test
+  void testInheritedPermissionsAreCompiledAndInvalidated() {
+    Map<String, PermissionGroup> groups = new HashMap<>();
+    groups.put("default", PermissionGroup.builder().name("default").addPermission(Permission.of("chat")).build());
+    groups.put("admin", PermissionGroup.builder().name("admin").groups(Set.of("default")).build());
+
+    var management = management(groups);
+    var user = PermissionUser.builder()
+      .name("derklaro")
+      .uniqueId(UUID.randomUUID())
+      .addGroup(PermissionUserGroupInfo.builder().group("admin").build())
+      .build();
+
+    Assertions.assertTrue(management.hasPermission(user, Permission.of("chat")));
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("kick")));
+
+    // the compiled permissions stay cached until they get invalidated
+    groups.put("default", PermissionGroup.builder().name("default").addPermission(Permission.of("kick")).build());
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("kick")));
+    management.invalidateCompiledPermissions();
+    Assertions.assertTrue(management.hasPermission(user, Permission.of("kick")));
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("chat")));
+
+    // in-place changes of the user are picked up without invalidating
+    user.addPermission(permission("chat", 1));
+    Assertions.assertTrue(management.hasPermission(user, Permission.of("chat")));
+    Assertions.assertTrue(user.removePermission("chat"));
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("chat")));
+
+    // in-place changes of an inherited group are picked up as well
+    groups.get("default").addPermission(Permission.of("ban"));
+    Assertions.assertTrue(management.hasPermission(user, Permission.of("ban")));
+    Assertions.assertTrue(groups.get("default").removePermission("ban"));
+    Assertions.assertFalse(management.hasPermission(user, Permission.of("ban")));
+  }
+
+  @Test
+  void testDeepInheritance() {
+    // a chain of 20 groups, each with 100 permissions and inheriting from the previous group
+    Map<String, PermissionGroup> groups = new HashMap<>();
+    for (var depth = 0; depth < 20; depth++) {
+      Set<Permission> permissions = new HashSet<>();
+      for (var i = 0; i < 100; i++) {
+        permissions.add(Permission.of("group" + depth + ".permission" + i + (i % 10 == 0 ? ".*" : "")));
+      }
+
+      var group = PermissionGroup.builder()
+        .name("group" + depth)
+        .permissions(permissions)
+        .groups(depth == 0 ? Set.of() : Set.of("group" + (depth - 1)))
+        .build();
+      groups.put(group.name(), group);
+    }
+
+    var management = management(groups);
+    var user = PermissionUser.builder()
+      .name("derklaro")
+      .uniqueId(UUID.randomUUID())
+      .addGroup(PermissionUserGroupInfo.builder().group("group19").build())
+      .build();
+
+    var checks = 20_000;
+    var requested = new Permission[checks];
+    for (var i = 0; i < checks; i++) {
+      requested[i] = Permission.of("group" + (i % 20) + ".permission" + (i % 100) + ".sub");
+    }
+
+    var linearGranted = 0;
+    var compiledGranted = 0;
+    for (var permission : requested) {
+      var result = management.findHighestPermission(management.collectAllPermissions(user, null), permission);
+      linearGranted += PermissionCheckResult.fromPermission(result).asBoolean() ? 1 : 0;
+      compiledGranted += management.hasPermission(user, permission) ? 1 : 0;
+    }
+
+    // every 10th permission is a wildcard matching the requested sub permission
+    Assertions.assertEquals(checks / 10, compiledGranted);
+    Assertions.assertEquals(linearGranted, compiledGranted);
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.driver.service;
+
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceUpdateSubscriptionTest {
+
+  @Test
+  void testMatches() {
+    var lobby = mockSnapshot(UUID.randomUUID(), "Lobby", "minecraft_server", Set.of("Lobby", "Global-Server"));
+    var proxy = mockSnapshot(UUID.randomUUID(), "Proxy", "velocity", Set.of("Global-Proxy"));
+
+    Assertions.assertTrue(ServiceUpdateSubscription.all().matches(lobby));
+    Assertions.assertFalse(ServiceUpdateSubscription.none().matches(lobby));
+
+    Assertions.assertTrue(ServiceUpdateSubscription.tasks(Set.of("Lobby")).matches(lobby));
+    Assertions.assertFalse(ServiceUpdateSubscription.tasks(Set.of("Lobby")).matches(proxy));
+
+    Assertions.assertTrue(ServiceUpdateSubscription.groups(Set.of("Global-Server")).matches(lobby));
+    Assertions.assertFalse(ServiceUpdateSubscription.groups(Set.of("Global-Server")).matches(proxy));
+
+    Assertions.assertTrue(ServiceUpdateSubscription.environments(Set.of("velocity")).matches(proxy));
+    Assertions.assertFalse(ServiceUpdateSubscription.environments(Set.of("velocity")).matches(lobby));
+
+    var proxyId = proxy.serviceId().uniqueId();
+    Assertions.assertTrue(ServiceUpdateSubscription.services(Set.of(proxyId)).matches(proxy));
+    Assertions.assertFalse(ServiceUpdateSubscription.services(Set.of(proxyId)).matches(lobby));
+  }
+
+  @Test
+  void testUnion() {
+    var lobby = mockSnapshot(UUID.randomUUID(), "Lobby", "minecraft_server", Set.of("Lobby"));
+    var proxy = mockSnapshot(UUID.randomUUID(), "Proxy", "velocity", Set.of("Global-Proxy"));
+
+    var subscription = ServiceUpdateSubscription.groups(Set.of("Lobby"))
+      .union(ServiceUpdateSubscription.tasks(Set.of("Proxy")));
+    Assertions.assertTrue(subscription.matches(lobby));
+    Assertions.assertTrue(subscription.matches(proxy));
+    Assertions.assertFalse(ServiceUpdateSubscription.none().union(ServiceUpdateSubscription.none()).matches(lobby));
+
+    // a subscription to all services stays a subscription to all services
+    Assertions.assertSame(ServiceUpdateSubscription.all(), subscription.union(ServiceUpdateSubscription.all()));
+    Assertions.assertSame(ServiceUpdateSubscription.all(), ServiceUpdateSubscription.all().union(subscription));
+  }
+
+  private static ServiceInfoSnapshot mockSnapshot(UUID uniqueId, String task, String environment, Set<String> groups) {
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class, Mockito.RETURNS_DEEP_STUBS);
+    Mockito.when(snapshot.serviceId().uniqueId()).thenReturn(uniqueId);
+    Mockito.when(snapshot.serviceId().taskName()).thenReturn(task);
+    Mockito.when(snapshot.serviceId().environmentName()).thenReturn(environment);
+    Mockito.when(snapshot.configuration().groups()).thenReturn(groups);
+    return snapshot;
+  }
+}
@@ -80,7 +80,7 @@ public void convertOldDatabaseEntries(
     // read the first player from the database - if the first player is valid we don't need to take a look at the other
     // players in the database as they were already converted
     var playerDb = databaseProvider.database(BRIDGE_PLAYER_DB_NAME);
-    var first = playerDb.readChunk(0, 1);
+    var first = playerDb.readChunk(null, 1);
     if (first != null && !first.isEmpty()) {
       // validate the offline player
       var document = Iterables.getOnlyElement(first.values());
@@ -91,9 +91,10 @@ public void convertOldDatabaseEntries(
         LOGGER.warning("Converting the offline player database, this may take a bit! DO NOT STOP CLOUDNET!");
 
         // invalid player data - convert the database
+        String lastKey = null;
         var convertedPlayers = 0;
         Map<String, Document> chunkData;
-        while ((chunkData = playerDb.readChunk(convertedPlayers, 100)) != null) {
+        while ((chunkData = playerDb.readChunk(lastKey, 100)) != null) {
           for (var entry : chunkData.entrySet()) {
             // get all the required path
             var valueCopy = entry.getValue().mutableCopy();
@@ -133,6 +134,9 @@ public void convertOldDatabaseEntries(
           if (chunkData.size() != 100) {
             break;
           }
+
+          // continue after the last player of the chunk
+          lastKey = Iterables.getLast(chunkData.keySet());
         }
 
         // notify about the completion
@@ -124,6 +124,12 @@ private void registerPlayerCommand() {
     this.commandProvider.register(PlayersCommand.class);
   }
 
+  @PostConstruct
+  private void createDatabaseIndexes() {
+    // offline players are looked up by their name frequently
+    this.database().createIndex("name");
+  }
+
   @PostConstruct
   private void registerListeners() {
     this.eventManager.registerListener(BridgeLocalProxyPlayerDisconnectListener.class);
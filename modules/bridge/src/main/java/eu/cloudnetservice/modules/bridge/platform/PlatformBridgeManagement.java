@@ -27,9 +27,11 @@
 import eu.cloudnetservice.driver.network.rpc.generation.GenerationContext;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.provider.ServiceTaskProvider;
+import eu.cloudnetservice.driver.service.ServiceEnvironmentType;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
 import eu.cloudnetservice.driver.service.ServiceTask;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import eu.cloudnetservice.modules.bridge.BridgeDocProperties;
 import eu.cloudnetservice.modules.bridge.BridgeManagement;
 import eu.cloudnetservice.modules.bridge.BridgeServiceHelper;
@@ -339,6 +341,11 @@ public void removeFallbackProfile(@NonNull UUID uniqueId) {
   public void postInit() {
     // publish a service update to append all property information
     this.serviceInfoHolder.publishServiceInfoUpdate();
+    // proxies cache the servers they can connect players to, which requires the updates of all services
+    var environment = this.wrapperConfig.serviceConfiguration().serviceId().environment();
+    if (environment != null && ServiceEnvironmentType.minecraftProxy(environment)) {
+      this.serviceInfoHolder.subscribeServiceUpdates("bridge", ServiceUpdateSubscription.all());
+    }
     // load all services and cache the ones which are matching the cache policy
     this.serviceProvider.servicesAsync().thenAccept(services -> {
       for (var service : services) {
@@ -20,6 +20,7 @@
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
 import eu.cloudnetservice.driver.document.Document;
@@ -29,6 +30,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -206,6 +208,24 @@ public boolean synced() {
     return result.isEmpty() ? null : result;
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize) {
+    var filter = lastKey == null ? Filters.empty() : Filters.gt(KEY_NAME, lastKey);
+    Map<String, Document> result = new LinkedHashMap<>();
+    try (var cursor = this.collection.find(filter).sort(Sorts.ascending(KEY_NAME)).limit(chunkSize).iterator()) {
+      while (cursor.hasNext()) {
+        var document = cursor.next();
+        var parsedDocument = this.parseDocumentValue(document);
+        if (parsedDocument != null) {
+          var entryKey = document.getString(KEY_NAME);
+          result.put(entryKey, parsedDocument);
+        }
+      }
+    }
+
+    return result.isEmpty() ? null : result;
+  }
+
   @Override
   public void close() {
   }
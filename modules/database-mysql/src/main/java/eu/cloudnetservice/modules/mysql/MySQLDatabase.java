@@ -24,6 +24,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -239,6 +240,25 @@ public void iterate(@NonNull BiConsumer<String, Document> consumer) {
       }, null, chunkSize, beginIndex);
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize) {
+    var condition = lastKey == null ? "" : String.format(" WHERE `%s` > ?", TABLE_COLUMN_KEY);
+    return this.databaseProvider.executeQuery(
+      String.format("SELECT * FROM `%s`%s ORDER BY `%s` LIMIT ?;", this.name, condition, TABLE_COLUMN_KEY),
+      resultSet -> {
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      },
+      null,
+      lastKey == null ? new Object[]{chunkSize} : new Object[]{lastKey, chunkSize});
+  }
+
   @Override
   public void close() {
   }
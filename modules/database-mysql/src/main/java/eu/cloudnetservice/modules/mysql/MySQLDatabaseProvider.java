@@ -83,7 +83,7 @@ public boolean init() {
 
   @Override
   public @NonNull LocalDatabase database(@NonNull String name) {
-    return this.databaseCache.get(name, $ -> new MySQLDatabase(this, name));
+    return this.databaseCache.get(name, $ -> this.applyDocumentCache(new MySQLDatabase(this, name)));
   }
 
   @Override
@@ -24,6 +24,7 @@
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceConfiguration;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import eu.cloudnetservice.modules.bridge.WorldPosition;
 import eu.cloudnetservice.modules.npc.AbstractNPCManagement;
 import eu.cloudnetservice.modules.npc.NPC;
@@ -32,12 +33,14 @@
 import eu.cloudnetservice.modules.npc.configuration.NPCConfiguration;
 import eu.cloudnetservice.modules.npc.configuration.NPCConfigurationEntry;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -53,6 +56,7 @@
 
   protected final ComponentInfo componentInfo;
   protected final CloudServiceProvider cloudServiceProvider;
+  protected final ServiceInfoHolder serviceInfoHolder;
   protected final ServiceConfiguration currentServiceConfiguration;
 
   protected final Map<UUID, ServiceInfoSnapshot> trackedServices = new ConcurrentHashMap<>();
@@ -62,6 +66,7 @@ public PlatformNPCManagement(
     @NonNull EventManager eventManager,
     @NonNull ComponentInfo componentInfo,
     @NonNull CloudServiceProvider cloudServiceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull WrapperConfiguration wrapperConfiguration
   ) {
     super(loadNPCConfiguration(componentInfo), eventManager);
@@ -69,6 +74,7 @@ public PlatformNPCManagement(
     // assign the fields
     this.componentInfo = componentInfo;
     this.cloudServiceProvider = cloudServiceProvider;
+    this.serviceInfoHolder = serviceInfoHolder;
     this.currentServiceConfiguration = wrapperConfiguration.serviceConfiguration();
 
     // get the npcs for the current group
@@ -140,6 +146,8 @@ public void npcConfiguration(@NonNull NPCConfiguration configuration) {
   public void handleInternalNPCCreate(@NonNull NPC npc) {
     // check if the npc is on this group
     if (this.currentServiceConfiguration.groups().contains(npc.location().group())) {
+      var newTargetGroup = this.npcs.values().stream()
+        .noneMatch(knownNpc -> knownNpc.targetGroup().equals(npc.targetGroup()));
       super.handleInternalNPCCreate(npc);
       // remove the old selector npc
       var entity = this.trackedEntities.remove(npc.location());
@@ -160,6 +168,11 @@ public void handleInternalNPCCreate(@NonNull NPC npc) {
           entity.trackService(service);
         }
       }
+      // the updates of the services in a new target group were not received until now, load them once
+      if (newTargetGroup) {
+        this.updateServiceSubscription();
+        this.cloudServiceProvider.servicesByGroupAsync(npc.targetGroup()).thenAccept(this::handleServices);
+      }
     }
   }
 
@@ -171,6 +184,7 @@ public void handleInternalNPCRemove(@NonNull WorldPosition position) {
     if (entity != null && entity.spawned()) {
       entity.remove();
     }
+    this.updateServiceSubscription();
   }
 
   @Override
@@ -194,13 +208,22 @@ public void initialize() {
       this.trackedEntities.put(value.location(), this.createSelectorEntity(value));
     }
     // initialize the services now
-    this.cloudServiceProvider.servicesAsync().thenAccept(services -> {
-      for (var service : services) {
-        if (this.shouldTrack(service)) {
-          this.handleServiceUpdate(service);
-        }
+    this.updateServiceSubscription();
+    this.cloudServiceProvider.servicesAsync().thenAccept(this::handleServices);
+  }
+
+  protected void handleServices(@NonNull Collection<ServiceInfoSnapshot> services) {
+    for (var service : services) {
+      if (this.shouldTrack(service)) {
+        this.handleServiceUpdate(service);
       }
-    });
+    }
+  }
+
+  protected void updateServiceSubscription() {
+    // only the updates of the services which are displayed by the npcs of this service are needed
+    var targetGroups = this.npcs.values().stream().map(NPC::targetGroup).collect(Collectors.toSet());
+    this.serviceInfoHolder.subscribeServiceUpdates("npcs", ServiceUpdateSubscription.groups(targetGroups));
   }
 
   public @Nullable NPCConfigurationEntry applicableNPCConfigurationEntry() {
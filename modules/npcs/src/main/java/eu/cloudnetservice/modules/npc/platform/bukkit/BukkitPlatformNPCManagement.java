@@ -38,6 +38,7 @@
 import eu.cloudnetservice.modules.npc.platform.bukkit.entity.EntityBukkitPlatformSelectorEntity;
 import eu.cloudnetservice.modules.npc.platform.bukkit.entity.NPCBukkitPlatformSelector;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.util.concurrent.ThreadLocalRandom;
@@ -77,9 +78,10 @@ public BukkitPlatformNPCManagement(
     @NonNull ComponentInfo componentInfo,
     @NonNull @Service PlayerManager playerManager,
     @NonNull CloudServiceProvider cloudServiceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull WrapperConfiguration wrapperConfiguration
   ) {
-    super(eventManager, componentInfo, cloudServiceProvider, wrapperConfiguration);
+    super(eventManager, componentInfo, cloudServiceProvider, serviceInfoHolder, wrapperConfiguration);
 
     this.plugin = plugin;
     this.server = server;
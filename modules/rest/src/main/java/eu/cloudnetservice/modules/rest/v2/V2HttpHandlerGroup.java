@@ -47,11 +47,12 @@ public V2HttpHandlerGroup(@NonNull GroupConfigurationProvider groupProvider) {
   @BearerAuth
   @HttpRequestHandler(paths = "/api/v2/group")
   private void handleGroupListRequest(@NonNull HttpContext context) {
-    this.ok(context)
-      .body(this.success().append("groups", this.groupProvider.groupConfigurations()).toString())
-      .context()
-      .closeAfter(true)
-      .cancelNext(true);
+    this.sendList(
+      context,
+      "groups",
+      this.groupProvider.groupConfigurations(),
+      GroupConfiguration::name,
+      GroupConfiguration::hashCode);
   }
 
   @BearerAuth
@@ -50,11 +50,12 @@ public V2HttpHandlerPermission(@NonNull PermissionManagement permissionManagemen
   @BearerAuth
   @HttpRequestHandler(paths = "/api/v2/permission/group")
   private void handlePermissionGroupList(@NonNull HttpContext context) {
-    this.ok(context)
-      .body(this.success().append("groups", this.permissionManagement.groups()).toString())
-      .context()
-      .closeAfter(true)
-      .cancelNext(true);
+    this.sendList(
+      context,
+      "groups",
+      this.permissionManagement.groups(),
+      PermissionGroup::name,
+      PermissionGroup::hashCode);
   }
 
   @BearerAuth
@@ -76,11 +76,12 @@ public V2HttpHandlerService(
   @BearerAuth
   @HttpRequestHandler(paths = "/api/v2/service")
   private void handleListServicesRequest(@NonNull HttpContext context) {
-    this.ok(context)
-      .body(this.success().append("services", this.serviceManager.services()).toString())
-      .context()
-      .closeAfter(true)
-      .cancelNext(true);
+    this.sendList(
+      context,
+      "services",
+      this.serviceManager.services(),
+      ServiceInfoSnapshot::name,
+      ServiceInfoSnapshot::hashCode);
   }
 
   @BearerAuth
@@ -47,11 +47,7 @@ public V2HttpHandlerTask(@NonNull ServiceTaskProvider taskProvider) {
   @BearerAuth
   @HttpRequestHandler(paths = "/api/v2/task")
   private void handleTaskListRequest(@NonNull HttpContext context) {
-    this.ok(context)
-      .body(this.success().append("tasks", this.taskProvider.serviceTasks()).toString())
-      .context()
-      .closeAfter(true)
-      .cancelNext(true);
+    this.sendList(context, "tasks", this.taskProvider.serviceTasks(), ServiceTask::name, ServiceTask::hashCode);
   }
 
   @BearerAuth
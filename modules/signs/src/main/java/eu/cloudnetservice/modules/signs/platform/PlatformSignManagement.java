@@ -27,6 +27,7 @@
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.provider.CloudServiceProvider;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import eu.cloudnetservice.modules.bridge.WorldPosition;
 import eu.cloudnetservice.modules.signs.AbstractSignManagement;
 import eu.cloudnetservice.modules.signs.SharedChannelMessageListener;
@@ -37,6 +38,7 @@
 import eu.cloudnetservice.modules.signs.util.LayoutUtil;
 import eu.cloudnetservice.modules.signs.util.PriorityUtil;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -50,6 +52,7 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
@@ -69,6 +72,7 @@
   protected final Executor mainThreadExecutor;
   protected final WrapperConfiguration wrapperConfig;
   protected final CloudServiceProvider serviceProvider;
+  protected final ServiceInfoHolder serviceInfoHolder;
   protected final ScheduledExecutorService executorService;
 
   protected final Lock updatingLock = new ReentrantLock();
@@ -82,12 +86,14 @@ protected PlatformSignManagement(
     @NonNull Executor mainThreadExecutor,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull ScheduledExecutorService executorService
   ) {
     super(loadSignsConfiguration(wrapperConfig));
     this.mainThreadExecutor = mainThreadExecutor;
     this.wrapperConfig = wrapperConfig;
     this.serviceProvider = serviceProvider;
+    this.serviceInfoHolder = serviceInfoHolder;
     this.executorService = executorService;
     // get the signs for the current group
     var groups = wrapperConfig.serviceConfiguration().groups();
@@ -158,6 +164,8 @@ public void signsConfiguration(@NonNull SignsConfiguration signsConfiguration) {
   @Override
   public void handleInternalSignCreate(@NonNull Sign sign) {
     if (this.wrapperConfig.serviceConfiguration().groups().contains(sign.location().group())) {
+      var newTargetGroup = this.signs.values().stream()
+        .noneMatch(knownSign -> knownSign.targetGroup().equals(sign.targetGroup()));
       var newSign = this.createPlatformSign(sign);
       var oldSign = this.platformSigns.remove(sign.location());
 
@@ -169,6 +177,16 @@ public void handleInternalSignCreate(@NonNull Sign sign) {
       // register the sign
       this.platformSigns.put(sign.location(), newSign);
       super.handleInternalSignCreate(sign);
+
+      // the updates of the services in a new target group were not received until now, load them once
+      if (newTargetGroup) {
+        this.updateServiceSubscription();
+        this.serviceProvider.servicesByGroupAsync(sign.targetGroup()).thenAccept(services -> {
+          for (var service : services) {
+            this.handleServiceAdd(service);
+          }
+        });
+      }
     }
   }
 
@@ -181,6 +199,7 @@ public void handleInternalSignRemove(@NonNull WorldPosition position) {
       }
 
       super.handleInternalSignRemove(position);
+      this.updateServiceSubscription();
     }
   }
 
@@ -258,6 +277,7 @@ public void initialize(@NonNull Map<SignLayoutsHolder, Set<PlatformSign<P, C>>>
       this.startKnockbackTask();
 
       // load and register all services
+      this.updateServiceSubscription();
       this.serviceProvider.servicesAsync().thenAccept(services -> {
         for (var service : services) {
           this.handleServiceAdd(service);
@@ -266,6 +286,12 @@ public void initialize(@NonNull Map<SignLayoutsHolder, Set<PlatformSign<P, C>>>
     }
   }
 
+  protected void updateServiceSubscription() {
+    // only the updates of the services which can be displayed on the signs of this service are needed
+    var targetGroups = this.signs.values().stream().map(Sign::targetGroup).collect(Collectors.toSet());
+    this.serviceInfoHolder.subscribeServiceUpdates("signs", ServiceUpdateSubscription.groups(targetGroups));
+  }
+
   public @Nullable SignConfigurationEntry applicableSignConfigurationEntry() {
     for (var entry : this.signsConfiguration.entries()) {
       if (this.wrapperConfig.serviceConfiguration().groups().contains(entry.targetGroup())) {
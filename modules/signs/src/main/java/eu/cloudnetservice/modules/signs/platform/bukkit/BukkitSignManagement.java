@@ -27,6 +27,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -59,6 +60,7 @@ protected BukkitSignManagement(
     @NonNull @Service PlayerManager playerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
   ) {
     super(eventManager, runnable -> {
@@ -68,7 +70,7 @@ protected BukkitSignManagement(
       } else {
         scheduler.runTask(plugin, runnable);
       }
-    }, wrapperConfig, serviceProvider, executorService);
+    }, wrapperConfig, serviceProvider, serviceInfoHolder, executorService);
 
     this.plugin = plugin;
     this.scheduler = scheduler;
@@ -29,6 +29,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -63,9 +64,16 @@ protected MinestomSignManagement(
     @NonNull SchedulerManager schedulerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
   ) {
-    super(eventManager, MoreExecutors.directExecutor(), wrapperConfig, serviceProvider, executorService);
+    super(
+      eventManager,
+      MoreExecutors.directExecutor(),
+      wrapperConfig,
+      serviceProvider,
+      serviceInfoHolder,
+      executorService);
 
     this.playerManager = playerManager;
     this.eventHandler = eventHandler;
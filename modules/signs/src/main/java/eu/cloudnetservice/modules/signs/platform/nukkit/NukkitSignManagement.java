@@ -34,6 +34,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -61,6 +62,7 @@ protected NukkitSignManagement(
     @NonNull @Service PlayerManager playerManager,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService
   ) {
     super(
@@ -74,6 +76,7 @@ protected NukkitSignManagement(
       },
       wrapperConfig,
       serviceProvider,
+      serviceInfoHolder,
       executorService);
 
     this.plugin = plugin;
@@ -26,6 +26,7 @@
 import eu.cloudnetservice.modules.signs.platform.PlatformSign;
 import eu.cloudnetservice.modules.signs.platform.PlatformSignManagement;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
@@ -67,6 +68,7 @@ protected SpongeSignManagement(
     @NonNull PluginContainer pluginContainer,
     @NonNull WrapperConfiguration wrapperConfig,
     @NonNull CloudServiceProvider serviceProvider,
+    @NonNull ServiceInfoHolder serviceInfoHolder,
     @NonNull @Named("sync") Scheduler syncScheduler,
     @NonNull @Named("taskScheduler") ScheduledExecutorService executorService,
     @NonNull eu.cloudnetservice.driver.event.EventManager eventManager
@@ -78,7 +80,7 @@ protected SpongeSignManagement(
       } else {
         syncScheduler.submit(Task.builder().plugin(pluginContainer).execute(runnable).build());
       }
-    }, wrapperConfig, serviceProvider, executorService);
+    }, wrapperConfig, serviceProvider, serviceInfoHolder, executorService);
 
     this.game = game;
     this.worldManager = worldManager;
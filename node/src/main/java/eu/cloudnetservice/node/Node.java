@@ -63,6 +63,7 @@
 import eu.cloudnetservice.node.module.updater.ModuleUpdater;
 import eu.cloudnetservice.node.module.updater.ModuleUpdaterRegistry;
 import eu.cloudnetservice.node.network.chunk.FileDeployCallbackListener;
+import eu.cloudnetservice.node.network.listener.message.DatabaseChannelMessageListener;
 import eu.cloudnetservice.node.permission.DefaultPermissionManagementHandler;
 import eu.cloudnetservice.node.permission.NodePermissionManagement;
 import eu.cloudnetservice.node.setup.DefaultInstallation;
@@ -241,6 +242,7 @@ private void initializeDatabaseProvider(
     @NonNull ServiceRegistry serviceRegistry,
     @NonNull InjectionLayer<?> bootLayer,
     @NonNull RPCFactory rpcFactory,
+    @NonNull EventManager eventManager,
     @NonNull RPCHandlerRegistry rpcHandlerRegistry
   ) throws Exception {
     // initialize the default database provider
@@ -264,6 +266,8 @@ private void initializeDatabaseProvider(
 
     // register the rpc handler for the database provider
     rpcFactory.newHandler(DatabaseProvider.class, provider).registerTo(rpcHandlerRegistry);
+    // invalidate the cached documents of shared databases when they are written by another node
+    eventManager.registerListener(DatabaseChannelMessageListener.class);
 
     // notify the user about the selected database
     LOGGER.info(I18n.trans("start-connect-database", provider.name()));
@@ -16,7 +16,6 @@
 
 package eu.cloudnetservice.node;
 
-import eu.cloudnetservice.common.concurrent.ListenableTask;
 import eu.cloudnetservice.common.concurrent.Task;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
@@ -31,9 +30,8 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Provider;
 import jakarta.inject.Singleton;
-import java.util.Queue;
+import java.time.Duration;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -63,7 +61,8 @@ public final class TickLoop {
   private final CloudNetTickServiceStartEvent serviceTickStartEvent = new CloudNetTickServiceStartEvent(this);
 
   private final AtomicLong currentTick = new AtomicLong();
-  private final Queue<ScheduledTask<?>> processQueue = new ConcurrentLinkedQueue<>();
+  private final AtomicLong overrunTicks = new AtomicLong();
+  private final TickTaskWheel taskWheel = new TickTaskWheel();
 
   @Inject
   public TickLoop(
@@ -88,9 +87,7 @@ public TickLoop(
   }
 
   public @NonNull <T> Task<T> runTask(@NonNull Callable<T> callable) {
-    var task = new ScheduledTask<>(callable, 0, 1, this.currentTick.get() + 1);
-    this.processQueue.offer(task);
-    return task;
+    return this.taskWheel.schedule(callable, 0, 1, this.currentTick.get() + 1);
   }
 
   public @NonNull Task<Void> runDelayedTask(@NonNull Runnable runnable, long delay, @NonNull TimeUnit timeUnit) {
@@ -101,13 +98,11 @@ public TickLoop(
   }
 
   public @NonNull <T> Task<T> runDelayedTask(@NonNull Callable<T> callable, long delay, @NonNull TimeUnit timeUnit) {
-    var task = new ScheduledTask<>(
+    return this.taskWheel.schedule(
       callable,
       0,
       1,
       this.currentTick.get() + (timeUnit.toMillis(delay) / MILLIS_BETWEEN_TICKS));
-    this.processQueue.offer(task);
-    return task;
   }
 
   public @NonNull <T> Task<T> scheduleTask(@NonNull Callable<T> callable, long delay) {
@@ -115,13 +110,7 @@ public TickLoop(
   }
 
   public @NonNull <T> Task<T> scheduleTask(@NonNull Callable<T> callable, long delay, long maxExecutions) {
-    var task = new ScheduledTask<>(
-      callable,
-      delay,
-      maxExecutions,
-      this.currentTick.get() + delay);
-    this.processQueue.offer(task);
-    return task;
+    return this.taskWheel.schedule(callable, delay, maxExecutions, this.currentTick.get() + delay);
   }
 
   public void pause() {
@@ -136,6 +125,43 @@ public long currentTick() {
     return this.currentTick.get();
   }
 
+  /**
+   * Get the number of ticks which took longer than the time available for a single tick.
+   *
+   * @return the number of ticks which took too long.
+   */
+  public long overrunTicks() {
+    return this.overrunTicks.get();
+  }
+
+  /**
+   * Get the number of tasks which are currently scheduled in this tick loop.
+   *
+   * @return the number of scheduled tasks.
+   */
+  public int scheduledTaskCount() {
+    return this.taskWheel.scheduledTasks();
+  }
+
+  /**
+   * Get the number of task executions since the start of this tick loop.
+   *
+   * @return the number of task executions.
+   */
+  public long executedTaskCount() {
+    return this.taskWheel.executedTasks();
+  }
+
+  /**
+   * Get the average time it took to execute a scheduled task in this tick loop.
+   *
+   * @return the average execution time of a scheduled task.
+   */
+  public @NonNull Duration averageTaskExecutionTime() {
+    var executedTasks = this.taskWheel.executedTasks();
+    return executedTasks == 0 ? Duration.ZERO : Duration.ofNanos(this.taskWheel.taskExecutionNanos() / executedTasks);
+  }
+
   public void start() {
     long tick;
     long lastTickLength;
@@ -147,7 +173,9 @@ public void start() {
         tick = this.currentTick.incrementAndGet();
         // calculate oversleep time
         lastTickLength = System.currentTimeMillis() - lastTick;
-        if (lastTickLength < MILLIS_BETWEEN_TICKS) {
+        if (lastTickLength > MILLIS_BETWEEN_TICKS) {
+          this.overrunTicks.incrementAndGet();
+        } else if (lastTickLength < MILLIS_BETWEEN_TICKS) {
           try {
             //noinspection BusyWait
             Thread.sleep(MILLIS_BETWEEN_TICKS - lastTickLength);
@@ -161,12 +189,8 @@ public void start() {
 
         // check if ticking is currently disabled
         if (this.tickPauseRequests.get() <= 0) {
-          // execute all scheduled tasks for this tick
-          for (var task : this.processQueue) {
-            if (task.isCancelled() || task.execute(tick)) {
-              this.processQueue.remove(task);
-            }
-          }
+          // execute all scheduled tasks which are due in this tick
+          this.taskWheel.process(tick);
 
           // check if the node is marked for draining
           if (this.nodeServerProvider.localNode().draining()) {
@@ -212,57 +236,4 @@ private void startService() {
       }
     }
   }
-
-  private static final class ScheduledTask<T> extends ListenableTask<T> {
-
-    /**
-     * The number of ticks between each call of this task.
-     */
-    private final long tickPeriod;
-    /**
-     * The number of times this task should execute.
-     */
-    private final long executionTimes;
-
-    /**
-     * The counter keeping track of the number of times this task was executed
-     */
-    private long executionCounter;
-    /**
-     * The next tick this task is about to execute.
-     */
-    private long nextScheduledTick;
-
-    public ScheduledTask(@NonNull Callable<T> callable, long tickPeriod, long executionTimes, long nextScheduledTick) {
-      super(callable);
-
-      this.tickPeriod = tickPeriod;
-      this.executionTimes = executionTimes;
-      this.nextScheduledTick = nextScheduledTick;
-    }
-
-    /**
-     * Executes this task and resets the future to prepare for the next execution.
-     *
-     * @param currentTick the current tick number.
-     * @return true if this task terminated and should be unregistered after the execution, false otherwise.
-     */
-    private boolean execute(long currentTick) {
-      // check if the task is scheduled to run in this tick
-      if (this.nextScheduledTick <= currentTick) {
-        // check if the execution limit is reached
-        if (this.executionTimes != -1 && ++this.executionCounter >= this.executionTimes) {
-          // execute the task one last time - no reset
-          super.run(true);
-          return true;
-        }
-        // execute the task and reset
-        super.run(false);
-        // set the next scheduled tick
-        this.nextScheduledTick = currentTick + this.tickPeriod;
-      }
-      // runs again or later
-      return false;
-    }
-  }
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node;
+
+import eu.cloudnetservice.common.concurrent.ListenableTask;
+import eu.cloudnetservice.common.concurrent.Task;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.NonNull;
+
+/**
+ * A hashed timing wheel holding the tasks scheduled in the tick loop. Each task is placed into the bucket of the tick
+ * in which it is due next, so that processing a tick only visits the tasks of one bucket instead of all scheduled
+ * tasks. Tasks which are due in a later rotation of the wheel stay in their bucket until the rotation is reached.
+ * <p>
+ * Tasks can be scheduled from any thread, but the processing of the ticks must be done by a single thread.
+ */
+final class TickTaskWheel {
+
+  // must be a power of two, covers 51.2 seconds at the default tick rate
+  static final int WHEEL_SIZE = 512;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+  private final Queue<ScheduledTask<?>> newTasks = new ConcurrentLinkedQueue<>();
+  private final ArrayDeque<ScheduledTask<?>>[] buckets;
+
+  private final AtomicInteger scheduledTasks = new AtomicInteger();
+  private final LongAdder executedTasks = new LongAdder();
+  private final LongAdder visitedTasks = new LongAdder();
+  private final LongAdder taskExecutionNanos = new LongAdder();
+
+  private long lastProcessedTick = -1;
+
+  @SuppressWarnings("unchecked")
+  public TickTaskWheel() {
+    this.buckets = new ArrayDeque[WHEEL_SIZE];
+    for (var i = 0; i < WHEEL_SIZE; i++) {
+      this.buckets[i] = new ArrayDeque<>();
+    }
+  }
+
+  public @NonNull <T> Task<T> schedule(
+    @NonNull Callable<T> callable,
+    long tickPeriod,
+    long executionTimes,
+    long firstTick
+  ) {
+    var task = new ScheduledTask<>(callable, tickPeriod, executionTimes, firstTick);
+    // the buckets are only modified by the ticking thread, the task is moved into its bucket in the next tick
+    this.scheduledTasks.incrementAndGet();
+    this.newTasks.offer(task);
+    return task;
+  }
+
+  public void process(long tick) {
+    // move the newly scheduled tasks into their buckets
+    ScheduledTask<?> newTask;
+    while ((newTask = this.newTasks.poll()) != null) {
+      this.insert(newTask, tick);
+    }
+
+    // visit the buckets of all ticks since the last processed tick (for example if the ticking was paused), a full
+    // rotation of the wheel visits all buckets and therefore all tasks which are due
+    var firstTick = Math.max(this.lastProcessedTick + 1, tick - WHEEL_MASK);
+    for (var currentTick = firstTick; currentTick <= tick; currentTick++) {
+      this.processBucket(this.buckets[(int) (currentTick & WHEEL_MASK)], tick);
+    }
+
+    this.lastProcessedTick = tick;
+  }
+
+  public int scheduledTasks() {
+    return this.scheduledTasks.get();
+  }
+
+  public long executedTasks() {
+    return this.executedTasks.sum();
+  }
+
+  public long visitedTasks() {
+    return this.visitedTasks.sum();
+  }
+
+  public long taskExecutionNanos() {
+    return this.taskExecutionNanos.sum();
+  }
+
+  private void processBucket(@NonNull ArrayDeque<ScheduledTask<?>> bucket, long tick) {
+    // only visit the tasks which are in the bucket now, tasks which are re-added are processed in a later rotation
+    for (var remaining = bucket.size(); remaining > 0; remaining--) {
+      var task = bucket.poll();
+      this.visitedTasks.increment();
+
+      // drop tasks which were cancelled or completed exceptionally
+      if (task.isDone()) {
+        this.scheduledTasks.decrementAndGet();
+        continue;
+      }
+
+      // keep the task in the bucket if it is due in a later rotation of the wheel
+      if (task.nextScheduledTick > tick) {
+        bucket.offer(task);
+        continue;
+      }
+
+      var startTime = System.nanoTime();
+      var terminated = task.execute(tick);
+      this.taskExecutionNanos.add(System.nanoTime() - startTime);
+      this.executedTasks.increment();
+
+      if (terminated || task.isDone()) {
+        this.scheduledTasks.decrementAndGet();
+      } else {
+        this.insert(task, tick + 1);
+      }
+    }
+  }
+
+  private void insert(@NonNull ScheduledTask<?> task, long earliestTick) {
+    // tasks which are overdue are executed in the earliest possible tick
+    var tick = Math.max(task.nextScheduledTick, earliestTick);
+    this.buckets[(int) (tick & WHEEL_MASK)].offer(task);
+  }
+
+  private static final class ScheduledTask<T> extends ListenableTask<T> {
+
+    /**
+     * The number of ticks between each call of this task.
+     */
+    private final long tickPeriod;
+    /**
+     * The number of times this task should execute.
+     */
+    private final long executionTimes;
+
+    /**
+     * The counter keeping track of the number of times this task was executed
+     */
+    private long executionCounter;
+    /**
+     * The next tick this task is about to execute.
+     */
+    private long nextScheduledTick;
+
+    public ScheduledTask(@NonNull Callable<T> callable, long tickPeriod, long executionTimes, long nextScheduledTick) {
+      super(callable);
+
+      this.tickPeriod = tickPeriod;
+      this.executionTimes = executionTimes;
+      this.nextScheduledTick = nextScheduledTick;
+    }
+
+    /**
+     * Executes this task and resets the future to prepare for the next execution.
+     *
+     * @param currentTick the current tick number.
+     * @return true if this task terminated and should be unregistered after the execution, false otherwise.
+     */
+    private boolean execute(long currentTick) {
+      // check if the execution limit is reached
+      if (this.executionTimes != -1 && ++this.executionCounter >= this.executionTimes) {
+        // execute the task one last time - no reset
+        super.run(true);
+        return true;
+      }
+      // execute the task and reset
+      super.run(false);
+      // set the next scheduled tick
+      this.nextScheduledTick = currentTick + this.tickPeriod;
+      // runs again later
+      return false;
+    }
+  }
+}
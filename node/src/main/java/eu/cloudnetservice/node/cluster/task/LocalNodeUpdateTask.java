@@ -21,17 +21,16 @@
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.network.buffer.DataBuf;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
-import eu.cloudnetservice.node.TickLoop;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.NodeServerState;
-import jakarta.inject.Provider;
+import eu.cloudnetservice.node.cluster.util.NodeInfoSnapshotCodec;
 import jakarta.inject.Singleton;
 import lombok.NonNull;
 
 @Singleton
 public record LocalNodeUpdateTask(
   @NonNull NodeServerProvider provider,
-  @NonNull Provider<TickLoop> mainThreadProvider
+  @NonNull NodeInfoSnapshotCodec snapshotCodec
 ) implements Runnable {
 
   private static final Logger LOGGER = LogManager.logger(LocalNodeUpdateTask.class);
@@ -57,12 +56,14 @@ public void run() {
           .map(server -> server.info().uniqueId())
           .toList();
         if (!targetNodes.isEmpty()) {
+          // only send the fields of the snapshot which changed since the last update, nodes which joined since the last
+          // update get the full snapshot. the deltas are never prioritized as each delta must be applied in order
+          var delta = this.snapshotCodec.encode(localNode.nodeInfoSnapshot(), targetNodes);
           var message = ChannelMessage.builder()
             .sendSync(true) // ensure that we don't schedule too many updates while other are still waiting
-            .message("update_node_info_snapshot")
+            .message(NodeInfoSnapshotCodec.DELTA_UPDATE_MESSAGE)
             .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
-            .buffer(DataBuf.empty().writeObject(localNode.nodeInfoSnapshot()))
-            .prioritized(this.mainThreadProvider.get().currentTick() % 10 == 0);
+            .buffer(DataBuf.empty().writeString(localNode.info().uniqueId()).writeDataBuf(delta));
           // add all targets
           targetNodes.forEach(message::targetNode);
           // send the update to all active nodes
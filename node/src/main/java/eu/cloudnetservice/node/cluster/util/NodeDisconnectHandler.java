@@ -43,11 +43,17 @@ public final class NodeDisconnectHandler {
 
   private final EventManager eventManager;
   private final CloudServiceManager serviceManager;
+  private final NodeInfoSnapshotCodec snapshotCodec;
 
   @Inject
-  public NodeDisconnectHandler(@NonNull EventManager eventManager, @NonNull CloudServiceManager serviceManager) {
+  public NodeDisconnectHandler(
+    @NonNull EventManager eventManager,
+    @NonNull CloudServiceManager serviceManager,
+    @NonNull NodeInfoSnapshotCodec snapshotCodec
+  ) {
     this.eventManager = eventManager;
     this.serviceManager = serviceManager;
+    this.snapshotCodec = snapshotCodec;
   }
 
   private static @NonNull ChannelMessage.Builder targetServices(@NonNull Collection<CloudService> services) {
@@ -61,6 +67,9 @@ public NodeDisconnectHandler(@NonNull EventManager eventManager, @NonNull CloudS
   }
 
   public void handleNodeServerClose(@NonNull NodeServer server) {
+    // the node must send a full snapshot when it connects again
+    this.snapshotCodec.invalidate(server.info().uniqueId());
+
     for (var snapshot : this.serviceManager.services()) {
       if (snapshot.serviceId().nodeUniqueId().equalsIgnoreCase(server.name())) {
         // rebuild the service snapshot with a DELETED state
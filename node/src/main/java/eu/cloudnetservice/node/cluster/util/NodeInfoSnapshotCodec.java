@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.cluster.util;
+
+import eu.cloudnetservice.driver.CloudNetVersion;
+import eu.cloudnetservice.driver.cluster.NetworkClusterNode;
+import eu.cloudnetservice.driver.cluster.NodeInfoSnapshot;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.module.ModuleConfiguration;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.delta.SnapshotDeltaDecoder;
+import eu.cloudnetservice.driver.network.delta.SnapshotDeltaEncoder;
+import eu.cloudnetservice.driver.network.delta.SnapshotSchema;
+import eu.cloudnetservice.driver.service.ProcessSnapshot;
+import io.leangen.geantyref.TypeFactory;
+import jakarta.inject.Singleton;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Encodes the node info snapshots of the local node as deltas to the previously sent snapshot and applies the deltas
+ * received from the other nodes in the cluster. Most fields of a node info snapshot (for example the node information,
+ * version, modules and properties) rarely change between two updates, only the changed fields are sent.
+ *
+ * @since 4.0
+ */
+@Singleton
+public final class NodeInfoSnapshotCodec {
+
+  public static final String DELTA_UPDATE_MESSAGE = "update_node_info_snapshot_delta";
+  public static final String RESYNC_REQUEST_MESSAGE = "request_node_info_snapshot_resync";
+
+  private static final SnapshotSchema<NodeInfoSnapshot> SCHEMA = SnapshotSchema.<NodeInfoSnapshot>builder()
+    .field("creationTime", long.class, NodeInfoSnapshot::creationTime)
+    .field("startupMillis", long.class, NodeInfoSnapshot::startupMillis)
+    .field("maxMemory", int.class, NodeInfoSnapshot::maxMemory)
+    .field("usedMemory", int.class, NodeInfoSnapshot::usedMemory)
+    .field("reservedMemory", int.class, NodeInfoSnapshot::reservedMemory)
+    .field("currentServicesCount", int.class, NodeInfoSnapshot::currentServicesCount)
+    .field("drain", boolean.class, NodeInfoSnapshot::draining)
+    .field("node", NetworkClusterNode.class, NodeInfoSnapshot::node)
+    .field("version", CloudNetVersion.class, NodeInfoSnapshot::version)
+    .field("processSnapshot", ProcessSnapshot.class, NodeInfoSnapshot::processSnapshot)
+    .field("maxCPUUsageToStartServices", double.class, NodeInfoSnapshot::maxProcessorUsageToStartServices)
+    .field(
+      "modules",
+      TypeFactory.parameterizedClass(Collection.class, ModuleConfiguration.class),
+      NodeInfoSnapshot::modules)
+    .field("properties", Document.class, NodeInfoSnapshot::propertyHolder)
+    .build(values -> new NodeInfoSnapshot(
+      (long) values[0],
+      (long) values[1],
+      (int) values[2],
+      (int) values[3],
+      (int) values[4],
+      (int) values[5],
+      (boolean) values[6],
+      (NetworkClusterNode) values[7],
+      (CloudNetVersion) values[8],
+      (ProcessSnapshot) values[9],
+      (double) values[10],
+      castModules(values[11]),
+      (Document) values[12]));
+
+  private final SnapshotDeltaEncoder<NodeInfoSnapshot> encoder = new SnapshotDeltaEncoder<>(SCHEMA);
+  private final SnapshotDeltaDecoder<NodeInfoSnapshot> decoder = new SnapshotDeltaDecoder<>(SCHEMA);
+
+  // the nodes which received the previously encoded snapshot and are therefore able to apply the next delta
+  private final Set<String> deltaReceivers = new HashSet<>();
+
+  @SuppressWarnings("unchecked")
+  private static @NonNull Collection<ModuleConfiguration> castModules(@NonNull Object modules) {
+    return (Collection<ModuleConfiguration>) modules;
+  }
+
+  /**
+   * Encodes the given snapshot of the local node as a delta to the previously encoded snapshot. If any of the given
+   * receivers did not receive the previously encoded snapshot (for example because it joined the cluster since then)
+   * the full snapshot is encoded instead, as the receiver would not be able to apply the delta.
+   *
+   * @param snapshot  the snapshot of the local node to encode.
+   * @param receivers the unique ids of the nodes to which the encoded snapshot is sent.
+   * @return a new buffer containing the encoded snapshot.
+   * @throws NullPointerException if the given snapshot or receiver collection is null.
+   */
+  public synchronized @NonNull DataBuf encode(
+    @NonNull NodeInfoSnapshot snapshot,
+    @NonNull Collection<String> receivers
+  ) {
+    if (!this.deltaReceivers.containsAll(receivers)) {
+      this.encoder.reset();
+    }
+
+    this.deltaReceivers.clear();
+    this.deltaReceivers.addAll(receivers);
+    return this.encoder.encode(snapshot);
+  }
+
+  /**
+   * Applies the delta in the given buffer to the last snapshot received from the given node.
+   *
+   * @param nodeUniqueId the unique id of the node which sent the delta.
+   * @param buffer       the buffer to read the delta from.
+   * @return the updated snapshot of the node, null if the delta is not based on the last received snapshot.
+   * @throws NullPointerException if the given node unique id or buffer is null.
+   */
+  public @Nullable NodeInfoSnapshot decode(@NonNull String nodeUniqueId, @NonNull DataBuf buffer) {
+    return this.decoder.decode(nodeUniqueId, buffer);
+  }
+
+  /**
+   * Resets the encoder of the local snapshots, the next update sent to the cluster contains the full snapshot.
+   */
+  public void resync() {
+    this.encoder.reset();
+  }
+
+  /**
+   * Removes the last snapshot received from the given node, for example because the node disconnected.
+   *
+   * @param nodeUniqueId the unique id of the node to remove the snapshot of.
+   * @throws NullPointerException if the given node unique id is null.
+   */
+  public void invalidate(@NonNull String nodeUniqueId) {
+    this.decoder.invalidate(nodeUniqueId);
+  }
+}
@@ -108,7 +108,9 @@ public void migrateDatabase(
         var sourceDatabase = sourceDatabaseProvider.database(databaseName);
         var targetDatabase = targetDatabaseProvider.database(databaseName);
 
-        sourceDatabase.iterate(targetDatabase::insert, chunkSize);
+        // create the indexes before copying, the documents are indexed while inserting them
+        sourceDatabase.indexedFields().forEach(targetDatabase::createIndex);
+        sourceDatabase.iterateParallel(targetDatabase::insert, chunkSize, Runtime.getRuntime().availableProcessors());
       }
     } catch (Exception exception) {
       LOGGER.severe(I18n.trans("command-migrate-database-connection-failed"), exception);
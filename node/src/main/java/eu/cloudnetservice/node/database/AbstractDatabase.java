@@ -16,11 +16,24 @@
 
 package eu.cloudnetservice.node.database;
 
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterables;
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class AbstractDatabase implements LocalDatabase, Database {
 
@@ -39,19 +52,99 @@ protected AbstractDatabase(@NonNull String name, @NonNull NodeDatabaseProvider d
 
   @Override
   public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
-    var documentCount = this.documentCount();
-    if (documentCount != 0) {
-      long currentIndex = 0;
-      while (currentIndex < documentCount) {
-        var result = this.readChunk(currentIndex, chunkSize);
-        if (result != null) {
-          result.forEach(consumer);
-          currentIndex += chunkSize;
-          continue;
+    this.iterateRange(consumer, chunkSize, null, null);
+  }
+
+  @Override
+  public void iterateParallel(@NonNull BiConsumer<String, Document> consumer, int chunkSize, int parallelism) {
+    Preconditions.checkArgument(chunkSize > 0, "chunkSize must be positive");
+    Preconditions.checkArgument(parallelism > 0, "parallelism must be positive");
+
+    // check if the key space of the database can be split, fall back to a sequential iteration if not
+    var splitKeys = parallelism == 1 ? List.<String>of() : this.splitKeys(parallelism);
+    if (splitKeys.isEmpty()) {
+      this.iterate(consumer, chunkSize);
+      return;
+    }
+
+    var executor = ExecutorServiceUtil.newVirtualThreadExecutor(
+      "Database-Scan-",
+      threadFactory -> Executors.newFixedThreadPool(parallelism, threadFactory));
+    try {
+      // each worker reads the entries after the previous split key, up to and including the next split key
+      List<Future<?>> workers = new ArrayList<>();
+      for (var i = 0; i <= splitKeys.size(); i++) {
+        var lastKey = i == 0 ? null : splitKeys.get(i - 1);
+        var endKey = i == splitKeys.size() ? null : splitKeys.get(i);
+        workers.add(executor.submit(() -> this.iterateRange(consumer, chunkSize, lastKey, endKey)));
+      }
+
+      // wait for all workers to complete
+      for (var worker : workers) {
+        try {
+          worker.get();
+        } catch (ExecutionException exception) {
+          Throwables.throwIfUnchecked(exception.getCause());
+          throw new IllegalStateException("Exception while iterating over database " + this.name, exception.getCause());
+        } catch (InterruptedException exception) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while iterating over database " + this.name, exception);
         }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
 
-        break;
+  @Override
+  public void writeBatch(@NonNull Map<String, Document> writes) {
+    writes.forEach((key, document) -> {
+      if (document == null) {
+        this.delete(key);
+      } else {
+        this.insert(key, document);
       }
+    });
+  }
+
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    return false;
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return Set.of();
+  }
+
+  protected @NonNull List<String> splitKeys(int parts) {
+    // selects keys (in the order of readChunk) which split the key space into ranges of roughly the same size
+    // an empty list indicates that the key space can not be split
+    return List.of();
+  }
+
+  protected void iterateRange(
+    @NonNull BiConsumer<String, Document> consumer,
+    int chunkSize,
+    @Nullable String lastKey,
+    @Nullable String endKey
+  ) {
+    Map<String, Document> chunk;
+    while ((chunk = this.readChunk(lastKey, chunkSize)) != null) {
+      for (var entry : chunk.entrySet()) {
+        consumer.accept(entry.getKey(), entry.getValue());
+        // stop once the end of the range was reached
+        if (entry.getKey().equals(endKey)) {
+          return;
+        }
+      }
+
+      // check if the chunk size was not reached - if so we just completed the last chunk
+      if (chunk.size() < chunkSize) {
+        return;
+      }
+
+      lastKey = Iterables.getLast(chunk.keySet());
     }
   }
 
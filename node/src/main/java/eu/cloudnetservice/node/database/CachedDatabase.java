@@ -0,0 +1,277 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.node.database.codec.DocumentCodec;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A database which caches the documents read by their key in front of another database. Cached documents are
+ * invalidated when they are written through this database. Writes to databases which are shared between the nodes in
+ * the cluster are broadcast to the other nodes, which invalidate the written documents in their caches as well.
+ *
+ * @since 4.0
+ */
+public class CachedDatabase implements LocalDatabase {
+
+  public static final String INVALIDATE_CACHE_MESSAGE = "invalidate_database_cache";
+
+  protected final LocalDatabase delegate;
+  protected final Cache<String, Optional<Document>> documentCache;
+
+  /**
+   * Constructs a new cached database.
+   *
+   * @param delegate      the database to read the documents from and to write the documents to.
+   * @param configuration the configuration of the cache, must be enabled.
+   * @throws NullPointerException     if the given delegate or configuration is null.
+   * @throws IllegalArgumentException if the given configuration is disabled.
+   */
+  public CachedDatabase(@NonNull LocalDatabase delegate, @NonNull DatabaseCacheConfiguration configuration) {
+    if (!configuration.enabled()) {
+      throw new IllegalArgumentException("Cannot create a document cache from a disabled configuration");
+    }
+
+    this.delegate = delegate;
+
+    var builder = Caffeine.newBuilder().recordStats().expireAfterAccess(configuration.expireAfterAccess());
+    if (configuration.maximumWeight() > 0) {
+      // weigh the documents by their estimated size, the key is always present and therefore not relevant
+      this.documentCache = builder
+        .maximumWeight(configuration.maximumWeight())
+        .weigher((String key, Optional<Document> document) -> document
+          .map(value -> DocumentCodec.binary().encode(value).length)
+          .orElse(1))
+        .build();
+    } else {
+      this.documentCache = builder.maximumSize(configuration.maximumSize()).build();
+    }
+  }
+
+  /**
+   * Get the underlying database of this cache.
+   *
+   * @return the underlying database.
+   */
+  public @NonNull LocalDatabase delegate() {
+    return this.delegate;
+  }
+
+  /**
+   * Get a snapshot of the hit and miss statistics of the document cache.
+   *
+   * @return a snapshot of the cache statistics.
+   */
+  public @NonNull CacheStats cacheStats() {
+    return this.documentCache.stats();
+  }
+
+  /**
+   * Invalidates the cached documents associated with the given keys, without broadcasting the invalidation into the
+   * cluster. An empty collection of keys invalidates all cached documents.
+   *
+   * @param keys the keys of the documents to invalidate, empty to invalidate all documents.
+   * @throws NullPointerException if the given key collection is null.
+   */
+  public void invalidateLocally(@NonNull Collection<String> keys) {
+    if (keys.isEmpty()) {
+      this.documentCache.invalidateAll();
+    } else {
+      this.documentCache.invalidateAll(keys);
+    }
+  }
+
+  @Override
+  public boolean insert(@NonNull String key, @NonNull Document document) {
+    try {
+      return this.delegate.insert(key, document);
+    } finally {
+      this.invalidate(Set.of(key));
+    }
+  }
+
+  @Override
+  public @NonNull Task<Boolean> insertAsync(@NonNull String key, @NonNull Document document) {
+    // invalidate before the write so that reads during the write are served by the delegate
+    this.invalidateLocally(Set.of(key));
+    return this.invalidateOnCompletion(key, this.delegate.insertAsync(key, document));
+  }
+
+  @Override
+  public boolean contains(@NonNull String key) {
+    var cached = this.documentCache.getIfPresent(key);
+    return cached != null ? cached.isPresent() : this.delegate.contains(key);
+  }
+
+  @Override
+  public boolean delete(@NonNull String key) {
+    try {
+      return this.delegate.delete(key);
+    } finally {
+      this.invalidate(Set.of(key));
+    }
+  }
+
+  @Override
+  public @NonNull Task<Boolean> deleteAsync(@NonNull String key) {
+    // invalidate before the write so that reads during the write are served by the delegate
+    this.invalidateLocally(Set.of(key));
+    return this.invalidateOnCompletion(key, this.delegate.deleteAsync(key));
+  }
+
+  @Override
+  public @Nullable Document get(@NonNull String key) {
+    // cache immutable copies, the documents returned by the delegate might be mutable
+    return this.documentCache.get(key, $ -> {
+      var document = this.delegate.get(key);
+      return document == null ? Optional.empty() : Optional.of(document.immutableCopy());
+    }).orElse(null);
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    return this.delegate.find(fieldName, fieldValue);
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull Map<String, String> filters) {
+    return this.delegate.find(filters);
+  }
+
+  @Override
+  public @NonNull Collection<String> keys() {
+    return this.delegate.keys();
+  }
+
+  @Override
+  public @NonNull Collection<Document> documents() {
+    return this.delegate.documents();
+  }
+
+  @Override
+  public @NonNull Map<String, Document> entries() {
+    return this.delegate.entries();
+  }
+
+  @Override
+  public void iterate(@NonNull BiConsumer<String, Document> consumer) {
+    this.delegate.iterate(consumer);
+  }
+
+  @Override
+  public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
+    this.delegate.iterate(consumer, chunkSize);
+  }
+
+  @Override
+  public void iterateParallel(@NonNull BiConsumer<String, Document> consumer, int chunkSize, int parallelism) {
+    this.delegate.iterateParallel(consumer, chunkSize, parallelism);
+  }
+
+  @Override
+  public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
+    return this.delegate.readChunk(beginIndex, chunkSize);
+  }
+
+  @Override
+  public @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize) {
+    return this.delegate.readChunk(lastKey, chunkSize);
+  }
+
+  @Override
+  public void writeBatch(@NonNull Map<String, Document> writes) {
+    try {
+      this.delegate.writeBatch(writes);
+    } finally {
+      this.invalidate(writes.keySet());
+    }
+  }
+
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    return this.delegate.createIndex(fieldName);
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return this.delegate.indexedFields();
+  }
+
+  @Override
+  public void clear() {
+    try {
+      this.delegate.clear();
+    } finally {
+      this.invalidate(Set.of());
+    }
+  }
+
+  @Override
+  public long documentCount() {
+    return this.delegate.documentCount();
+  }
+
+  @Override
+  public boolean synced() {
+    return this.delegate.synced();
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.delegate.name();
+  }
+
+  @Override
+  public void close() throws Exception {
+    this.documentCache.invalidateAll();
+    this.delegate.close();
+  }
+
+  protected @NonNull Task<Boolean> invalidateOnCompletion(@NonNull String key, @NonNull Task<Boolean> writeTask) {
+    writeTask.whenComplete(($, exception) -> this.invalidate(Set.of(key)));
+    return writeTask;
+  }
+
+  protected void invalidate(@NonNull Collection<String> keys) {
+    this.invalidateLocally(keys);
+
+    // the other nodes might have cached the documents as well if the database is shared between them
+    if (this.delegate.synced()) {
+      ChannelMessage.builder()
+        .targetNodes()
+        .message(INVALIDATE_CACHE_MESSAGE)
+        .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+        .buffer(DataBuf.empty().writeString(this.name()).writeObject(keys))
+        .build()
+        .send();
+    }
+  }
+}
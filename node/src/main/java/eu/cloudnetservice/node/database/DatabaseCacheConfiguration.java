@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import java.time.Duration;
+import lombok.NonNull;
+
+/**
+ * The configuration of the document cache in front of a database. The cache is bounded by the estimated size of the
+ * cached documents in bytes if a maximum weight is given, by the amount of cached documents otherwise.
+ *
+ * @param maximumSize       the maximum amount of cached documents, used if no maximum weight is given.
+ * @param maximumWeight     the maximum estimated size of all cached documents in bytes, 0 to bound by amount.
+ * @param expireAfterAccess the time after which a cached document expires if it wasn't read.
+ * @since 4.0
+ */
+public record DatabaseCacheConfiguration(long maximumSize, long maximumWeight, @NonNull Duration expireAfterAccess) {
+
+  /**
+   * The configuration used for all databases which have no configuration set explicitly.
+   */
+  public static final DatabaseCacheConfiguration DEFAULT = new DatabaseCacheConfiguration(
+    Long.getLong("cloudnet.database.cache.max-size", 10_000),
+    Long.getLong("cloudnet.database.cache.max-weight", 16 * 1024 * 1024),
+    Duration.ofSeconds(Long.getLong("cloudnet.database.cache.expire-after-access", 300)));
+
+  /**
+   * A configuration which disables the document cache.
+   */
+  public static final DatabaseCacheConfiguration DISABLED = new DatabaseCacheConfiguration(0, 0, Duration.ZERO);
+
+  /**
+   * Get if documents should be cached based on this configuration.
+   *
+   * @return true if documents should be cached, false otherwise.
+   */
+  public boolean enabled() {
+    return (this.maximumSize > 0 || this.maximumWeight > 0) && this.expireAfterAccess.isPositive();
+  }
+}
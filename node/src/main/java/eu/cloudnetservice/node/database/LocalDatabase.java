@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.database.Database;
 import eu.cloudnetservice.driver.document.Document;
+import java.util.Collection;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
@@ -41,5 +42,72 @@ public interface LocalDatabase extends Database {
    */
   void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize);
 
+  /**
+   * Iterates over all entries in the database in chunks of the given size, splitting the key space of the database
+   * into ranges which are read and passed to the consumer concurrently by the given amount of worker threads. The given
+   * consumer must therefore be thread-safe. This method blocks until all entries were passed to the consumer.
+   * <p>
+   * Databases which are not able to split their key space are iterated sequentially instead. Modifications to the
+   * database during the iteration might lead to entries being passed to the consumer twice or not at all.
+   *
+   * @param consumer    the consumer to pass the entries into.
+   * @param chunkSize   the chunkSize of the entries.
+   * @param parallelism the maximum number of threads which read from the database concurrently.
+   * @throws NullPointerException     if the given consumer is null.
+   * @throws IllegalArgumentException if the given chunk size or parallelism is not positive.
+   */
+  void iterateParallel(@NonNull BiConsumer<String, Document> consumer, int chunkSize, int parallelism);
+
+  /**
+   * Reads a chunk of entries from this database, skipping the given amount of entries. Skipping the entries requires
+   * walking over them in most database implementations, which gets slow when reading from big databases. Use
+   * {@link #readChunk(String, int)} to continue reading after the last read chunk instead.
+   *
+   * @param beginIndex the amount of entries to skip.
+   * @param chunkSize  the maximum amount of entries to read.
+   * @return the read entries, null if there are no more entries.
+   */
   @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize);
+
+  /**
+   * Reads a chunk of entries from this database, ordered by their key, which are ordered after the given key. The next
+   * chunk can be read by passing the last key of the returned chunk as a continuation token, passing null reads the
+   * first chunk of the database. The returned map iterates over the entries in the order of their keys.
+   *
+   * @param lastKey   the last key of the previously read chunk, null to read the first chunk.
+   * @param chunkSize the maximum amount of entries to read.
+   * @return the read entries in the order of their keys, null if there are no more entries.
+   */
+  @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize);
+
+  /**
+   * Applies the given writes to this database. Each document in the given map is inserted using the associated key,
+   * keys which are mapped to null are deleted from this database. Databases which support transactions apply all the
+   * given writes in a single transaction, other databases apply the writes one by one.
+   *
+   * @param writes the writes to apply, mapping the key of each entry to the new document or null to delete the entry.
+   * @throws NullPointerException if the given writes map is null.
+   */
+  void writeBatch(@NonNull Map<String, Document> writes);
+
+  /**
+   * Creates a secondary index on the given top-level field of the documents in this database. Lookups using
+   * {@link #find(String, String)} or {@link #find(Map)} which filter by an indexed field are resolved using the index
+   * instead of reading all documents in the database. The index is maintained when documents get inserted or deleted
+   * and persists between restarts. Creating an index for a field which is already indexed has no effect.
+   * <p>
+   * An index lookup matches the documents of which the string value of the field is equal to the requested value.
+   *
+   * @param fieldName the name of the field to index.
+   * @return true if the index is available, false if this database does not support secondary indexes.
+   * @throws NullPointerException if the given field name is null.
+   */
+  boolean createIndex(@NonNull String fieldName);
+
+  /**
+   * Get the names of all fields which are indexed in this database.
+   *
+   * @return the names of all indexed fields in this database.
+   */
+  @NonNull Collection<String> indexedFields();
 }
@@ -20,16 +20,29 @@
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import eu.cloudnetservice.common.Named;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
 import eu.cloudnetservice.driver.database.DatabaseProvider;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
 
 public abstract class NodeDatabaseProvider implements DatabaseProvider, Named, AutoCloseable {
 
   protected static final Logger LOGGER = LogManager.logger(NodeDatabaseProvider.class);
+
+  // write-behind is disabled by default, set the window to a positive value to enable it
+  protected static final long WRITE_BEHIND_WINDOW_MILLIS = Long.getLong("cloudnet.database.write-behind.window", 0);
+  protected static final int WRITE_BEHIND_MAX_PENDING = Integer.getInteger("cloudnet.database.write-behind.max", 5000);
+
   protected static final RemovalListener<String, LocalDatabase> DEFAULT_REMOVAL_LISTENER = (key, value, cause) -> {
     // close the database instance that was removed, unless the database instance was garbage collected
     if (value != null) {
@@ -42,8 +55,11 @@ public abstract class NodeDatabaseProvider implements DatabaseProvider, Named, A
   };
 
   protected final Cache<String, LocalDatabase> databaseCache;
+  protected final Map<String, DatabaseCacheConfiguration> cacheConfigurations = new ConcurrentHashMap<>();
+  protected final ScheduledExecutorService writeBehindExecutor; // null if write-behind is disabled
 
   protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> removalListener) {
+    this.writeBehindExecutor = WRITE_BEHIND_WINDOW_MILLIS > 0 ? Executors.newSingleThreadScheduledExecutor() : null;
     this.databaseCache = Caffeine.newBuilder()
       .scheduler(Scheduler.systemScheduler())
       .expireAfterAccess(Duration.ofMinutes(5))
@@ -56,8 +72,100 @@ protected NodeDatabaseProvider(@NonNull RemovalListener<String, LocalDatabase> r
   @Override
   public abstract @NonNull LocalDatabase database(@NonNull String name);
 
+  /**
+   * Get the configuration of the document cache which is used for the database with the given name.
+   *
+   * @param databaseName the name of the database to get the cache configuration of.
+   * @return the configuration of the document cache of the database.
+   * @throws NullPointerException if the given database name is null.
+   */
+  public @NonNull DatabaseCacheConfiguration cacheConfiguration(@NonNull String databaseName) {
+    return this.cacheConfigurations.getOrDefault(databaseName, DatabaseCacheConfiguration.DEFAULT);
+  }
+
+  /**
+   * Sets the configuration of the document cache which is used for the database with the given name. The
+   * configuration only applies to database instances which are opened after the call.
+   *
+   * @param databaseName  the name of the database to set the cache configuration of.
+   * @param configuration the configuration of the document cache of the database.
+   * @throws NullPointerException if the given database name or configuration is null.
+   */
+  public void cacheConfiguration(@NonNull String databaseName, @NonNull DatabaseCacheConfiguration configuration) {
+    this.cacheConfigurations.put(databaseName, configuration);
+  }
+
+  /**
+   * Get the hit and miss statistics of the document caches of all opened databases which have a document cache.
+   *
+   * @return the cache statistics of the opened databases, mapped by the database name.
+   */
+  public @NonNull Map<String, CacheStats> cacheStats() {
+    Map<String, CacheStats> stats = new HashMap<>();
+    this.databaseCache.asMap().forEach((name, database) -> {
+      if (database instanceof CachedDatabase cachedDatabase) {
+        stats.put(name, cachedDatabase.cacheStats());
+      }
+    });
+    return stats;
+  }
+
+  /**
+   * Invalidates the documents with the given keys in the document cache of the database with the given name. An empty
+   * key collection invalidates all cached documents of the database. This method has no effect if the database was
+   * not opened or has no document cache.
+   *
+   * @param databaseName the name of the database to invalidate the documents of.
+   * @param keys         the keys of the documents to invalidate, empty to invalidate all documents.
+   * @throws NullPointerException if the given database name or key collection is null.
+   */
+  public void invalidateCachedDocuments(@NonNull String databaseName, @NonNull Collection<String> keys) {
+    if (this.databaseCache.getIfPresent(databaseName) instanceof CachedDatabase cachedDatabase) {
+      cachedDatabase.invalidateLocally(keys);
+    }
+  }
+
+  protected @NonNull LocalDatabase applyDocumentCache(@NonNull LocalDatabase database) {
+    // wrap the database to cache the documents if the cache is enabled for the database
+    var configuration = this.cacheConfiguration(database.name());
+    return configuration.enabled() ? new CachedDatabase(database, configuration) : database;
+  }
+
+  protected @NonNull LocalDatabase applyWriteBehind(@NonNull LocalDatabase database) {
+    // wrap the database to coalesce writes if write-behind is enabled
+    if (this.writeBehindExecutor == null) {
+      return database;
+    }
+
+    return new WriteBehindDatabase(
+      database,
+      Duration.ofMillis(WRITE_BEHIND_WINDOW_MILLIS),
+      WRITE_BEHIND_MAX_PENDING,
+      this.writeBehindExecutor);
+  }
+
+  protected void flushPendingWrites(@Nullable LocalDatabase database) {
+    if (database instanceof CachedDatabase cachedDatabase) {
+      database = cachedDatabase.delegate();
+    }
+
+    if (database instanceof WriteBehindDatabase writeBehindDatabase) {
+      try {
+        writeBehindDatabase.flushPendingWrites();
+      } catch (RuntimeException exception) {
+        // already logged by the database, the failed writes stay pending until the database is closed
+      }
+    }
+  }
+
   @Override
   public void close() throws Exception {
+    // write all pending writes before closing the databases, the removal listener might close them asynchronously
+    this.databaseCache.asMap().values().forEach(this::flushPendingWrites);
+
     this.databaseCache.invalidateAll();
+    if (this.writeBehindExecutor != null) {
+      this.writeBehindExecutor.shutdown();
+    }
   }
 }
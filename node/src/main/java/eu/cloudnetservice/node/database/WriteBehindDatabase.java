@@ -0,0 +1,343 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.common.concurrent.Task;
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import eu.cloudnetservice.driver.document.Document;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A database which delays inserts and deletes for a short window before writing them to the underlying database. All
+ * writes to the same key during the window are coalesced into one write, and all pending writes are applied to the
+ * underlying database in a single batch using {@link LocalDatabase#writeBatch(Map)}. Reads of single keys are served
+ * from the pending writes, all other reads flush the pending writes before reading from the underlying database.
+ * <p>
+ * The tasks returned by {@link #insertAsync(String, Document)} and {@link #deleteAsync(String)} complete once the
+ * write was committed to the underlying database. Writes which failed to commit stay pending and are retried with an
+ * exponential backoff, until they were either committed or replaced by a newer write to the same key.
+ *
+ * @since 4.0
+ */
+public class WriteBehindDatabase implements LocalDatabase {
+
+  private static final Logger LOGGER = LogManager.logger(WriteBehindDatabase.class);
+  private static final long MAX_RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+  protected final LocalDatabase delegate;
+  protected final Duration flushWindow;
+  protected final int maxPendingWrites;
+  protected final ScheduledExecutorService flushExecutor;
+
+  protected final Map<String, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+  protected final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+  protected int failedFlushes; // guarded by this
+
+  /**
+   * Constructs a new write-behind database.
+   *
+   * @param delegate         the database to write the pending writes to.
+   * @param flushWindow      the time to wait after the first pending write before flushing all pending writes.
+   * @param maxPendingWrites the amount of pending writes which triggers an immediate flush.
+   * @param flushExecutor    the executor to run the flushes on, must execute the submitted tasks sequentially.
+   * @throws NullPointerException if the given delegate, flush window or executor is null.
+   */
+  public WriteBehindDatabase(
+    @NonNull LocalDatabase delegate,
+    @NonNull Duration flushWindow,
+    int maxPendingWrites,
+    @NonNull ScheduledExecutorService flushExecutor
+  ) {
+    this.delegate = delegate;
+    this.flushWindow = flushWindow;
+    this.maxPendingWrites = maxPendingWrites;
+    this.flushExecutor = flushExecutor;
+  }
+
+  /**
+   * Get the underlying database to which the pending writes are flushed.
+   *
+   * @return the underlying database.
+   */
+  public @NonNull LocalDatabase delegate() {
+    return this.delegate;
+  }
+
+  /**
+   * Get the amount of keys which have a write pending.
+   *
+   * @return the amount of keys which have a write pending.
+   */
+  public int pendingWrites() {
+    return this.pendingWrites.size();
+  }
+
+  /**
+   * Flushes all writes which are pending at the time of the call to the underlying database. The returned task
+   * completes once the writes were committed, or exceptionally if the writes could not be committed. Failed writes
+   * are kept pending and retried later.
+   *
+   * @return a task completed once all currently pending writes were committed.
+   */
+  public @NonNull Task<Void> flush() {
+    var task = new Task<Void>();
+    this.flushExecutor.execute(() -> {
+      try {
+        this.flushPendingWrites();
+        task.complete(null);
+      } catch (Throwable throwable) {
+        task.completeExceptionally(throwable);
+      }
+    });
+    return task;
+  }
+
+  @Override
+  public boolean insert(@NonNull String key, @NonNull Document document) {
+    this.enqueueWrite(key, document);
+    return true;
+  }
+
+  @Override
+  public @NonNull Task<Boolean> insertAsync(@NonNull String key, @NonNull Document document) {
+    return this.enqueueWrite(key, document);
+  }
+
+  @Override
+  public boolean contains(@NonNull String key) {
+    var pendingWrite = this.pendingWrites.get(key);
+    return pendingWrite != null ? pendingWrite.document() != null : this.delegate.contains(key);
+  }
+
+  @Override
+  public boolean delete(@NonNull String key) {
+    var present = this.contains(key);
+    this.enqueueWrite(key, null);
+    return present;
+  }
+
+  @Override
+  public @NonNull Task<Boolean> deleteAsync(@NonNull String key) {
+    return this.enqueueWrite(key, null);
+  }
+
+  @Override
+  public @Nullable Document get(@NonNull String key) {
+    var pendingWrite = this.pendingWrites.get(key);
+    return pendingWrite != null ? pendingWrite.document() : this.delegate.get(key);
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
+    this.flush().join();
+    return this.delegate.find(fieldName, fieldValue);
+  }
+
+  @Override
+  public @NonNull Collection<Document> find(@NonNull Map<String, String> filters) {
+    this.flush().join();
+    return this.delegate.find(filters);
+  }
+
+  @Override
+  public @NonNull Collection<String> keys() {
+    this.flush().join();
+    return this.delegate.keys();
+  }
+
+  @Override
+  public @NonNull Collection<Document> documents() {
+    this.flush().join();
+    return this.delegate.documents();
+  }
+
+  @Override
+  public @NonNull Map<String, Document> entries() {
+    this.flush().join();
+    return this.delegate.entries();
+  }
+
+  @Override
+  public void iterate(@NonNull BiConsumer<String, Document> consumer) {
+    this.flush().join();
+    this.delegate.iterate(consumer);
+  }
+
+  @Override
+  public void iterate(@NonNull BiConsumer<String, Document> consumer, int chunkSize) {
+    this.flush().join();
+    this.delegate.iterate(consumer, chunkSize);
+  }
+
+  @Override
+  public void iterateParallel(@NonNull BiConsumer<String, Document> consumer, int chunkSize, int parallelism) {
+    this.flush().join();
+    this.delegate.iterateParallel(consumer, chunkSize, parallelism);
+  }
+
+  @Override
+  public @Nullable Map<String, Document> readChunk(long beginIndex, int chunkSize) {
+    this.flush().join();
+    return this.delegate.readChunk(beginIndex, chunkSize);
+  }
+
+  @Override
+  public @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize) {
+    this.flush().join();
+    return this.delegate.readChunk(lastKey, chunkSize);
+  }
+
+  @Override
+  public void writeBatch(@NonNull Map<String, Document> writes) {
+    writes.forEach(this::enqueueWrite);
+  }
+
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    this.flush().join();
+    return this.delegate.createIndex(fieldName);
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return this.delegate.indexedFields();
+  }
+
+  @Override
+  public void clear() {
+    this.flush().join();
+    this.delegate.clear();
+  }
+
+  @Override
+  public long documentCount() {
+    this.flush().join();
+    return this.delegate.documentCount();
+  }
+
+  @Override
+  public boolean synced() {
+    return this.delegate.synced();
+  }
+
+  @Override
+  public @NonNull String name() {
+    return this.delegate.name();
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      this.flushPendingWrites();
+    } catch (RuntimeException exception) {
+      // the writes can no longer be retried once the database is closed
+      this.pendingWrites.values().forEach(pendingWrite -> pendingWrite.task().completeExceptionally(exception));
+      this.pendingWrites.clear();
+      throw exception;
+    } finally {
+      this.delegate.close();
+    }
+  }
+
+  protected @NonNull Task<Boolean> enqueueWrite(@NonNull String key, @Nullable Document document) {
+    var task = new Task<Boolean>();
+    this.pendingWrites.compute(key, ($, previous) -> {
+      // the previous write is superseded by the new write, therefore it is durable once the new write is
+      if (previous != null) {
+        task.whenComplete((result, exception) -> {
+          if (exception == null) {
+            previous.task().complete(result);
+          } else {
+            previous.task().completeExceptionally(exception);
+          }
+        });
+      }
+
+      return new PendingWrite(document, task);
+    });
+
+    // flush immediately if too many writes are pending, schedule a flush after the window otherwise
+    if (this.pendingWrites.size() >= this.maxPendingWrites) {
+      this.flushExecutor.execute(this::flushPendingWrites);
+    } else if (this.flushScheduled.compareAndSet(false, true)) {
+      this.flushExecutor.schedule(() -> {
+        this.flushScheduled.set(false);
+        this.flushPendingWrites();
+      }, this.flushWindow.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    return task;
+  }
+
+  protected synchronized void flushPendingWrites() {
+    if (this.pendingWrites.isEmpty()) {
+      return;
+    }
+
+    // take a snapshot of the pending writes, writes added during the flush are committed by the next flush
+    Map<String, PendingWrite> snapshot = new HashMap<>(this.pendingWrites);
+    Map<String, Document> writes = new HashMap<>(snapshot.size());
+    snapshot.forEach((key, pendingWrite) -> writes.put(key, pendingWrite.document()));
+
+    try {
+      this.delegate.writeBatch(writes);
+      this.failedFlushes = 0;
+    } catch (RuntimeException exception) {
+      // keep the writes pending and retry them later, the retry includes all writes which replaced them meanwhile
+      var baseDelay = Math.max(this.flushWindow.toMillis(), 1);
+      var retryDelay = Math.min(baseDelay << Math.min(this.failedFlushes++, 16), MAX_RETRY_DELAY_MILLIS);
+      LOGGER.severe(
+        "Unable to write %d pending writes to database %s, retrying in %d ms",
+        exception,
+        writes.size(),
+        this.name(),
+        retryDelay);
+
+      // a flush which is already scheduled retries the writes as well
+      if (!this.flushExecutor.isShutdown() && this.flushScheduled.compareAndSet(false, true)) {
+        this.flushExecutor.schedule(() -> {
+          this.flushScheduled.set(false);
+          this.flushPendingWrites();
+        }, retryDelay, TimeUnit.MILLISECONDS);
+      }
+      throw exception;
+    }
+
+    // remove the written entries from the pending writes, unless they were replaced in the meantime
+    for (var entry : snapshot.entrySet()) {
+      var pendingWrite = entry.getValue();
+      this.pendingWrites.remove(entry.getKey(), pendingWrite);
+      pendingWrite.task().complete(true);
+    }
+  }
+
+  protected record PendingWrite(@Nullable Document document, @NonNull Task<Boolean> task) {
+
+  }
+}
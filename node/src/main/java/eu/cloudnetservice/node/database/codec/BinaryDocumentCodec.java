@@ -0,0 +1,409 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.codec;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.DocumentParseException;
+import eu.cloudnetservice.driver.document.send.element.ArrayElement;
+import eu.cloudnetservice.driver.document.send.element.Element;
+import eu.cloudnetservice.driver.document.send.element.NullElement;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import eu.cloudnetservice.driver.document.send.element.PrimitiveElement;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A document codec which stores documents in a compact, tagged binary format. Each encoded document starts with a
+ * format header, followed by the root object of the document. Objects and arrays are prefixed with their encoded size,
+ * which allows to skip over them when reading a single field of a document.
+ * <p>
+ * Data which does not start with the format header is decoded as json, as stored by the json document codec.
+ *
+ * @since 4.0
+ */
+final class BinaryDocumentCodec implements DocumentCodec {
+
+  static final BinaryDocumentCodec INSTANCE = new BinaryDocumentCodec();
+
+  // a json document never starts with a zero byte, which allows to detect documents stored as json
+  private static final byte FORMAT_MAGIC = 0;
+  private static final byte FORMAT_VERSION = 1;
+  private static final int HEADER_LENGTH = 2;
+
+  private static final byte TAG_NULL = 0;
+  private static final byte TAG_TRUE = 1;
+  private static final byte TAG_FALSE = 2;
+  private static final byte TAG_INT = 3;
+  private static final byte TAG_LONG = 4;
+  private static final byte TAG_FLOAT = 5;
+  private static final byte TAG_DOUBLE = 6;
+  private static final byte TAG_DECIMAL = 7;
+  private static final byte TAG_STRING = 8;
+  private static final byte TAG_OBJECT = 9;
+  private static final byte TAG_ARRAY = 10;
+
+  private BinaryDocumentCodec() {
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] encode(@NonNull Document document) {
+    var output = new Output(256);
+    output.writeByte(FORMAT_MAGIC);
+    output.writeByte(FORMAT_VERSION);
+
+    // write the root object of the document
+    this.writeContainer(output, document.send().rootElement().elements(), true);
+    return output.toByteArray();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Document.Mutable decode(byte[] data) {
+    if (!binaryFormat(data)) {
+      return JsonDocumentCodec.INSTANCE.decode(data);
+    }
+
+    try {
+      var input = new Input(data, HEADER_LENGTH);
+      var rootElement = new ObjectElement(Element.NO_KEY, this.readContainer(input, true));
+      return new BinaryDocumentSend(rootElement).into(DocumentFactory.json());
+    } catch (RuntimeException exception) {
+      throw new DocumentParseException("Unable to decode binary document", exception);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable String readString(byte[] data, @NonNull String fieldName) {
+    if (!binaryFormat(data)) {
+      return JsonDocumentCodec.INSTANCE.readString(data, fieldName);
+    }
+
+    try {
+      var input = new Input(data, HEADER_LENGTH);
+      var fieldNameBytes = fieldName.getBytes(StandardCharsets.UTF_8);
+
+      // skip the size of the root object
+      input.readInt();
+      var entries = input.readVarInt();
+      for (var i = 0; i < entries; i++) {
+        // compare the key bytes directly, there is no need to decode keys which are not matching
+        var keyLength = input.readVarInt();
+        var matches = input.matches(fieldNameBytes, keyLength);
+        input.skip(keyLength);
+
+        var tag = input.readByte();
+        if (matches) {
+          return tag == TAG_STRING ? input.readString() : null;
+        }
+
+        this.skipValue(input, tag);
+      }
+
+      return null;
+    } catch (RuntimeException exception) {
+      throw new DocumentParseException("Unable to read field from binary document", exception);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean currentFormat(byte[] data) {
+    return binaryFormat(data) && data[1] == FORMAT_VERSION;
+  }
+
+  static boolean binaryFormat(byte[] data) {
+    if (data.length < HEADER_LENGTH || data[0] != FORMAT_MAGIC) {
+      return false;
+    }
+
+    // check if we're able to read the data
+    if (data[1] > FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported binary document format version " + data[1]);
+    }
+    return true;
+  }
+
+  private void writeContainer(@NonNull Output output, @NonNull Collection<? extends Element> elements, boolean keys) {
+    // reserve the space for the size of the container, it's written after all elements were written
+    var sizeIndex = output.reserveInt();
+    output.writeVarInt(elements.size());
+    for (var element : elements) {
+      if (keys) {
+        output.writeString(element.key());
+      }
+
+      this.writeElement(output, element);
+    }
+
+    output.writeInt(sizeIndex, output.size() - sizeIndex - Integer.BYTES);
+  }
+
+  private void writeElement(@NonNull Output output, @NonNull Element element) {
+    if (element instanceof NullElement) {
+      output.writeByte(TAG_NULL);
+    } else if (element instanceof PrimitiveElement primitiveElement) {
+      this.writePrimitive(output, primitiveElement.innerValue());
+    } else if (element instanceof ObjectElement objectElement) {
+      output.writeByte(TAG_OBJECT);
+      this.writeContainer(output, objectElement.elements(), true);
+    } else if (element instanceof ArrayElement arrayElement) {
+      output.writeByte(TAG_ARRAY);
+      this.writeContainer(output, arrayElement.entries(), false);
+    }
+  }
+
+  private void writePrimitive(@NonNull Output output, @NonNull Object value) {
+    if (value instanceof String string) {
+      output.writeByte(TAG_STRING);
+      output.writeString(string);
+    } else if (value instanceof Character character) {
+      output.writeByte(TAG_STRING);
+      output.writeString(character.toString());
+    } else if (value instanceof Boolean bool) {
+      output.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+    } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+      output.writeByte(TAG_INT);
+      output.writeInt(((Number) value).intValue());
+    } else if (value instanceof Long longValue) {
+      output.writeByte(TAG_LONG);
+      output.writeLong(longValue);
+    } else if (value instanceof Float floatValue) {
+      output.writeByte(TAG_FLOAT);
+      output.writeInt(Float.floatToRawIntBits(floatValue));
+    } else if (value instanceof Double doubleValue) {
+      output.writeByte(TAG_DOUBLE);
+      output.writeLong(Double.doubleToRawLongBits(doubleValue));
+    } else if (value instanceof Number number) {
+      // numbers parsed from json are lazily parsed, narrow them to an integral number if possible
+      var numberString = number.toString();
+      try {
+        var longValue = Long.parseLong(numberString);
+        if (longValue == (int) longValue) {
+          output.writeByte(TAG_INT);
+          output.writeInt((int) longValue);
+        } else {
+          output.writeByte(TAG_LONG);
+          output.writeLong(longValue);
+        }
+      } catch (NumberFormatException exception) {
+        output.writeByte(TAG_DECIMAL);
+        output.writeString(numberString);
+      }
+    } else {
+      throw new IllegalArgumentException("Unsupported primitive type " + value.getClass().getName());
+    }
+  }
+
+  private @NonNull List<Element> readContainer(@NonNull Input input, boolean keys) {
+    // skip the size of the container
+    input.readInt();
+
+    var entries = input.readVarInt();
+    List<Element> elements = new ArrayList<>(entries);
+    for (var i = 0; i < entries; i++) {
+      var key = keys ? input.readString() : Element.NO_KEY;
+      elements.add(this.readElement(input, key));
+    }
+
+    return elements;
+  }
+
+  private @NonNull Element readElement(@NonNull Input input, @NonNull String key) {
+    var tag = input.readByte();
+    return switch (tag) {
+      case TAG_NULL -> new NullElement(key);
+      case TAG_TRUE -> new PrimitiveElement(key, Boolean.TRUE);
+      case TAG_FALSE -> new PrimitiveElement(key, Boolean.FALSE);
+      case TAG_INT -> new PrimitiveElement(key, input.readInt());
+      case TAG_LONG -> new PrimitiveElement(key, input.readLong());
+      case TAG_FLOAT -> new PrimitiveElement(key, Float.intBitsToFloat(input.readInt()));
+      case TAG_DOUBLE -> new PrimitiveElement(key, Double.longBitsToDouble(input.readLong()));
+      case TAG_DECIMAL -> new PrimitiveElement(key, new BigDecimal(input.readString()));
+      case TAG_STRING -> new PrimitiveElement(key, input.readString());
+      case TAG_OBJECT -> new ObjectElement(key, this.readContainer(input, true));
+      case TAG_ARRAY -> new ArrayElement(key, this.readContainer(input, false));
+      default -> throw new IllegalArgumentException("Unknown element tag " + tag);
+    };
+  }
+
+  private void skipValue(@NonNull Input input, byte tag) {
+    switch (tag) {
+      case TAG_NULL, TAG_TRUE, TAG_FALSE -> {
+      }
+      case TAG_INT, TAG_FLOAT -> input.skip(Integer.BYTES);
+      case TAG_LONG, TAG_DOUBLE -> input.skip(Long.BYTES);
+      case TAG_DECIMAL, TAG_STRING -> input.skip(input.readVarInt());
+      case TAG_OBJECT, TAG_ARRAY -> input.skip(input.readInt());
+      default -> throw new IllegalArgumentException("Unknown element tag " + tag);
+    }
+  }
+
+  /**
+   * A growable buffer the binary document data is written into.
+   *
+   * @since 4.0
+   */
+  private static final class Output {
+
+    private byte[] buffer;
+    private int size;
+
+    public Output(int initialCapacity) {
+      this.buffer = new byte[initialCapacity];
+    }
+
+    public int size() {
+      return this.size;
+    }
+
+    public void writeByte(int value) {
+      this.ensureCapacity(1);
+      this.buffer[this.size++] = (byte) value;
+    }
+
+    public int reserveInt() {
+      this.ensureCapacity(Integer.BYTES);
+      var index = this.size;
+      this.size += Integer.BYTES;
+      return index;
+    }
+
+    public void writeInt(int value) {
+      this.writeInt(this.reserveInt(), value);
+    }
+
+    public void writeInt(int index, int value) {
+      this.buffer[index] = (byte) (value >>> 24);
+      this.buffer[index + 1] = (byte) (value >>> 16);
+      this.buffer[index + 2] = (byte) (value >>> 8);
+      this.buffer[index + 3] = (byte) value;
+    }
+
+    public void writeLong(long value) {
+      this.writeInt((int) (value >>> 32));
+      this.writeInt((int) value);
+    }
+
+    public void writeVarInt(int value) {
+      while ((value & ~0x7F) != 0) {
+        this.writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      this.writeByte(value);
+    }
+
+    public void writeString(@NonNull String value) {
+      var bytes = value.getBytes(StandardCharsets.UTF_8);
+      this.writeVarInt(bytes.length);
+      this.ensureCapacity(bytes.length);
+      System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+      this.size += bytes.length;
+    }
+
+    public byte[] toByteArray() {
+      return Arrays.copyOf(this.buffer, this.size);
+    }
+
+    private void ensureCapacity(int bytes) {
+      if (this.size + bytes > this.buffer.length) {
+        this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length << 1, this.size + bytes));
+      }
+    }
+  }
+
+  /**
+   * A reader of binary document data.
+   *
+   * @since 4.0
+   */
+  private static final class Input {
+
+    private final byte[] data;
+    private int position;
+
+    public Input(byte[] data, int position) {
+      this.data = data;
+      this.position = position;
+    }
+
+    public byte readByte() {
+      return this.data[this.position++];
+    }
+
+    public int readInt() {
+      var value = ((this.data[this.position] & 0xFF) << 24)
+        | ((this.data[this.position + 1] & 0xFF) << 16)
+        | ((this.data[this.position + 2] & 0xFF) << 8)
+        | (this.data[this.position + 3] & 0xFF);
+      this.position += Integer.BYTES;
+      return value;
+    }
+
+    public long readLong() {
+      return ((long) this.readInt() << 32) | (this.readInt() & 0xFFFFFFFFL);
+    }
+
+    public int readVarInt() {
+      var value = 0;
+      for (var shift = 0; shift < 35; shift += 7) {
+        var currentByte = this.readByte();
+        value |= (currentByte & 0x7F) << shift;
+        if ((currentByte & 0x80) == 0) {
+          return value;
+        }
+      }
+
+      throw new IllegalArgumentException("VarInt too big");
+    }
+
+    public @NonNull String readString() {
+      var length = this.readVarInt();
+      var value = new String(this.data, this.position, length, StandardCharsets.UTF_8);
+      this.position += length;
+      return value;
+    }
+
+    public boolean matches(byte[] expected, int length) {
+      return length == expected.length
+        && Arrays.equals(this.data, this.position, this.position + length, expected, 0, length);
+    }
+
+    public void skip(int bytes) {
+      if (bytes < 0 || this.position + bytes > this.data.length) {
+        throw new IndexOutOfBoundsException("Unable to skip " + bytes + " bytes at position " + this.position);
+      }
+      this.position += bytes;
+    }
+  }
+}
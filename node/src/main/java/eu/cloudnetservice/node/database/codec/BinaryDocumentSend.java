@@ -0,0 +1,40 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.codec;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.send.DocumentSend;
+import eu.cloudnetservice.driver.document.send.element.ObjectElement;
+import lombok.NonNull;
+
+/**
+ * A document send which holds the elements decoded from a binary encoded document.
+ *
+ * @param rootElement the root element of the decoded document.
+ * @since 4.0
+ */
+record BinaryDocumentSend(@NonNull ObjectElement rootElement) implements DocumentSend {
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Document.Mutable into(@NonNull DocumentFactory factory) {
+    return factory.receive(this);
+  }
+}
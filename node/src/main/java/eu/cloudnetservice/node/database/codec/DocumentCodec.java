@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.codec;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentParseException;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A codec which encodes documents into the format in which they are stored by a database, and decodes the stored data
+ * back into documents.
+ *
+ * @since 4.0
+ */
+public interface DocumentCodec {
+
+  /**
+   * Get the codec which stores documents as compact json.
+   *
+   * @return the json document codec.
+   */
+  static @NonNull DocumentCodec json() {
+    return JsonDocumentCodec.INSTANCE;
+  }
+
+  /**
+   * Get the codec which stores documents in a compact binary format. The codec is able to decode documents which were
+   * stored as json, allowing to switch existing databases to the binary format.
+   *
+   * @return the binary document codec.
+   */
+  static @NonNull DocumentCodec binary() {
+    return BinaryDocumentCodec.INSTANCE;
+  }
+
+  /**
+   * Encodes the given document into the storage format of this codec.
+   *
+   * @param document the document to encode.
+   * @return the encoded document.
+   * @throws NullPointerException if the given document is null.
+   */
+  byte[] encode(@NonNull Document document);
+
+  /**
+   * Decodes the given stored document data into a document.
+   *
+   * @param data the stored document data.
+   * @return the decoded document.
+   * @throws NullPointerException   if the given data is null.
+   * @throws DocumentParseException if the given data is malformed.
+   */
+  @NonNull Document.Mutable decode(byte[] data);
+
+  /**
+   * Reads the value of the top-level field with the given name from the stored document data, without decoding the
+   * whole document if possible. This method returns the same value as {@code decode(data).getString(fieldName)}.
+   *
+   * @param data      the stored document data.
+   * @param fieldName the name of the field to read.
+   * @return the string value of the field, null if the field is missing or not a string.
+   * @throws NullPointerException   if the given data or field name is null.
+   * @throws DocumentParseException if the given data is malformed.
+   */
+  @Nullable String readString(byte[] data, @NonNull String fieldName);
+
+  /**
+   * Get if the given stored document data is encoded in the current storage format of this codec. Data which is stored
+   * in another format can be decoded by this codec, but should be encoded again.
+   *
+   * @param data the stored document data.
+   * @return true if the data is encoded in the current format of this codec, false otherwise.
+   * @throws NullPointerException if the given data is null.
+   */
+  boolean currentFormat(byte[] data);
+}
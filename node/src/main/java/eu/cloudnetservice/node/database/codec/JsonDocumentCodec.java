@@ -0,0 +1,83 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.codec;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import eu.cloudnetservice.driver.document.StandardSerialisationStyle;
+import java.nio.charset.StandardCharsets;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A document codec which stores documents as compact json. Documents which were stored using the binary document codec
+ * can be decoded as well.
+ *
+ * @since 4.0
+ */
+final class JsonDocumentCodec implements DocumentCodec {
+
+  static final JsonDocumentCodec INSTANCE = new JsonDocumentCodec();
+
+  private JsonDocumentCodec() {
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] encode(@NonNull Document document) {
+    // send the given document into a new json document
+    var jsonDocument = Document.newJsonDocument();
+    jsonDocument.receive(document.send());
+
+    // serialize the json document
+    return jsonDocument.serializeToString(StandardSerialisationStyle.COMPACT).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull Document.Mutable decode(byte[] data) {
+    if (BinaryDocumentCodec.binaryFormat(data)) {
+      return BinaryDocumentCodec.INSTANCE.decode(data);
+    }
+
+    return DocumentFactory.json().parse(data);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @Nullable String readString(byte[] data, @NonNull String fieldName) {
+    if (BinaryDocumentCodec.binaryFormat(data)) {
+      return BinaryDocumentCodec.INSTANCE.readString(data, fieldName);
+    }
+
+    return this.decode(data).getString(fieldName);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean currentFormat(byte[] data) {
+    return !BinaryDocumentCodec.binaryFormat(data);
+  }
+}
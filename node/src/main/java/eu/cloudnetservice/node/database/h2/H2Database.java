@@ -24,17 +24,23 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public final class H2Database extends SQLDatabase {
 
+  private static final String INDEX_COLUMN_PREFIX = "Index_";
+
+  private final Set<String> indexedFields = ConcurrentHashMap.newKeySet();
+
   public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
     super(provider, name);
 
@@ -44,6 +50,27 @@ public H2Database(@NonNull SQLDatabaseProvider provider, @NonNull String name) {
       name,
       TABLE_COLUMN_KEY,
       TABLE_COLUMN_VAL));
+
+    // find the index columns which were created previously
+    provider.executeQuery(
+      "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE UPPER(TABLE_NAME) = UPPER(?);",
+      resultSet -> {
+        while (resultSet.next()) {
+          var columnName = resultSet.getString("COLUMN_NAME");
+          if (columnName.startsWith(INDEX_COLUMN_PREFIX)) {
+            this.indexedFields.add(columnName.substring(INDEX_COLUMN_PREFIX.length()));
+          }
+        }
+
+        return null;
+      },
+      null,
+      name);
+  }
+
+  private static @NonNull String indexColumn(@NonNull String fieldName) {
+    // quoted to keep the case of the field name
+    return '"' + INDEX_COLUMN_PREFIX + fieldName + '"';
   }
 
   @Override
@@ -56,23 +83,91 @@ public boolean insert(@NonNull String key, @NonNull Document document) {
   }
 
   private boolean insert0(@NonNull String key, @NonNull Document document) {
+    var indexedFields = List.copyOf(this.indexedFields);
+
+    var columns = new StringBuilder(TABLE_COLUMN_KEY).append(',').append(TABLE_COLUMN_VAL);
+    var values = new StringBuilder("?, ?");
+    var arguments = new Object[indexedFields.size() + 2];
+    arguments[0] = key;
+    arguments[1] = this.serializeDocumentToJsonString(document);
+
+    // write the values of the indexed fields into their columns
+    for (var i = 0; i < indexedFields.size(); i++) {
+      var fieldName = indexedFields.get(i);
+      columns.append(',').append(indexColumn(fieldName));
+      values.append(", ?");
+      arguments[i + 2] = document.getString(fieldName);
+    }
+
     return this.databaseProvider.executeUpdate(
-      "INSERT INTO `" + this.name + "` (" + TABLE_COLUMN_KEY + "," + TABLE_COLUMN_VAL + ") VALUES (?, ?);",
-      key, this.serializeDocumentToJsonString(document)
+      "INSERT INTO `" + this.name + "` (" + columns + ") VALUES (" + values + ");",
+      arguments
     ) != -1;
   }
 
   public boolean update0(String key, Document document) {
+    var indexedFields = List.copyOf(this.indexedFields);
+
+    var assignments = new StringBuilder(TABLE_COLUMN_VAL).append("=?");
+    var arguments = new Object[indexedFields.size() + 2];
+    arguments[0] = this.serializeDocumentToJsonString(document);
+
+    // write the values of the indexed fields into their columns
+    for (var i = 0; i < indexedFields.size(); i++) {
+      var fieldName = indexedFields.get(i);
+      assignments.append(", ").append(indexColumn(fieldName)).append("=?");
+      arguments[i + 1] = document.getString(fieldName);
+    }
+
+    arguments[arguments.length - 1] = key;
     return this.databaseProvider.executeUpdate(
-      "UPDATE `" + this.name + "` SET " + TABLE_COLUMN_VAL + "=? WHERE " + TABLE_COLUMN_KEY + "=?",
-      this.serializeDocumentToJsonString(document), key
+      "UPDATE `" + this.name + "` SET " + assignments + " WHERE " + TABLE_COLUMN_KEY + "=?",
+      arguments
     ) != -1;
   }
 
-  public boolean insertOrUpdate(String key, Document document) {
+  public synchronized boolean insertOrUpdate(String key, Document document) {
     return this.contains(key) ? this.update0(key, document) : this.insert0(key, document);
   }
 
+  @Override
+  public synchronized boolean createIndex(@NonNull String fieldName) {
+    if (this.indexedFields.contains(fieldName)) {
+      return true;
+    }
+
+    if (fieldName.indexOf('"') != -1) {
+      throw new IllegalArgumentException("Indexed field name must not contain a double quote: " + fieldName);
+    }
+
+    // create the column and the index on it
+    var indexColumn = indexColumn(fieldName);
+    this.databaseProvider.executeUpdate(String.format(
+      "ALTER TABLE `%s` ADD COLUMN IF NOT EXISTS %s VARCHAR;",
+      this.name,
+      indexColumn));
+    this.databaseProvider.executeUpdate(String.format(
+      "CREATE INDEX IF NOT EXISTS \"%s_%s%s\" ON `%s` (%s);",
+      this.name,
+      INDEX_COLUMN_PREFIX,
+      fieldName,
+      this.name,
+      indexColumn));
+
+    // fill the column for all documents which are already in the database
+    this.iterate((key, document) -> this.databaseProvider.executeUpdate(
+      String.format("UPDATE `%s` SET %s=? WHERE %s=?", this.name, indexColumn, TABLE_COLUMN_KEY),
+      document.getString(fieldName), key));
+
+    this.indexedFields.add(fieldName);
+    return true;
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return Set.copyOf(this.indexedFields);
+  }
+
   @Override
   public boolean contains(@NonNull String key) {
     return this.databaseProvider.executeQuery(
@@ -106,6 +201,24 @@ public boolean delete0(String key) {
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, String fieldValue) {
+    // use the index column of the field if present
+    if (this.indexedFields.contains(fieldName)) {
+      var indexColumn = indexColumn(fieldName);
+      var condition = fieldValue == null ? indexColumn + " IS NULL" : indexColumn + " = ?";
+      return this.databaseProvider.executeQuery(
+        String.format("SELECT %s FROM `%s` WHERE %s", TABLE_COLUMN_VAL, this.name, condition),
+        resultSet -> {
+          List<Document> jsonDocuments = new ArrayList<>();
+          while (resultSet.next()) {
+            jsonDocuments.add(DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL)));
+          }
+
+          return jsonDocuments;
+        },
+        List.of(),
+        fieldValue == null ? new Object[0] : new Object[]{fieldValue});
+    }
+
     return this.databaseProvider.executeQuery(
       String.format("SELECT %s FROM `%s` WHERE %s LIKE ? ESCAPE '$'", TABLE_COLUMN_VAL, this.name, TABLE_COLUMN_VAL),
       resultSet -> {
@@ -135,8 +248,14 @@ public boolean delete0(String key) {
       while (iterator.hasNext()) {
         var entry = iterator.next();
 
-        stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
-        collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        if (this.indexedFields.contains(entry.getKey())) {
+          // use the index column of the field
+          stringBuilder.append(indexColumn(entry.getKey())).append(" = ?");
+          collection.add(entry.getValue());
+        } else {
+          stringBuilder.append(TABLE_COLUMN_VAL).append(" LIKE ? ESCAPE '$'");
+          collection.add("%\"" + entry.getKey() + "\":\"" + entry.getValue().replaceAll("([_%])", "\\$$1") + "\"%");
+        }
 
         if (iterator.hasNext()) {
           stringBuilder.append(" and ");
@@ -256,4 +375,23 @@ public boolean synced() {
       beginIndex, chunkSize
     );
   }
+
+  @Override
+  public @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize) {
+    var condition = lastKey == null ? "" : String.format(" WHERE %s > ?", TABLE_COLUMN_KEY);
+    return this.databaseProvider.executeQuery(
+      String.format("SELECT * FROM `%s`%s ORDER BY `%s` LIMIT ?;", this.name, condition, TABLE_COLUMN_KEY),
+      resultSet -> {
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (resultSet.next()) {
+          var key = resultSet.getString(TABLE_COLUMN_KEY);
+          var document = DocumentFactory.json().parse(resultSet.getString(TABLE_COLUMN_VAL));
+          result.put(key, document);
+        }
+
+        return result.isEmpty() ? null : result;
+      },
+      null,
+      lastKey == null ? new Object[]{chunkSize} : new Object[]{lastKey, chunkSize});
+  }
 }
@@ -28,6 +28,7 @@
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Objects;
 import java.util.Set;
 import lombok.NonNull;
 import org.h2.Driver;
@@ -59,7 +60,7 @@ public boolean init() throws Exception {
 
   @Override
   public @NonNull LocalDatabase database(@NonNull String name) {
-    return this.databaseCache.get(name, $ -> new H2Database(this, name));
+    return this.databaseCache.get(name, $ -> this.applyDocumentCache(new H2Database(this, name)));
   }
 
   @Override
@@ -105,7 +106,7 @@ public void close() throws Exception {
   public int executeUpdate(@NonNull String query, @NonNull Object... objects) {
     try (var preparedStatement = this.connection().prepareStatement(query)) {
       for (var i = 0; i < objects.length; i++) {
-        preparedStatement.setString(i + 1, objects[i].toString());
+        preparedStatement.setString(i + 1, Objects.toString(objects[i], null));
       }
 
       return preparedStatement.executeUpdate();
@@ -17,44 +17,86 @@
 package eu.cloudnetservice.node.database.xodus;
 
 import eu.cloudnetservice.driver.document.Document;
-import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.node.database.AbstractDatabase;
+import eu.cloudnetservice.node.database.codec.DocumentCodec;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.ByteIterable;
 import jetbrains.exodus.bindings.StringBinding;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.Store;
+import jetbrains.exodus.env.StoreConfig;
+import jetbrains.exodus.env.Transaction;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 
 public class XodusDatabase extends AbstractDatabase {
 
+  protected static final String INDEX_STORE_INFIX = "#index#";
+  protected static final StoreConfig INDEX_STORE_CONFIG = StoreConfig.WITH_DUPLICATES_WITH_PREFIXING;
+
+  // index keys are prefixed with a marker to differentiate between null and the string values of the indexed fields
+  protected static final byte INDEX_KEY_NULL = 0;
+  protected static final byte INDEX_KEY_VALUE = 1;
+
+  protected static final int FORMAT_MIGRATION_CHUNK_SIZE = 1000;
+
   protected final Environment environment;
+  protected final DocumentCodec documentCodec;
   protected final AtomicReference<Store> store;
+  protected final Map<String, Store> indexStores;
 
-  protected XodusDatabase(@NonNull String name, @NonNull Store store, @NonNull XodusDatabaseProvider provider) {
+  protected XodusDatabase(
+    @NonNull String name,
+    @NonNull Store store,
+    @NonNull Map<String, Store> indexStores,
+    @NonNull DocumentCodec documentCodec,
+    @NonNull XodusDatabaseProvider provider
+  ) {
     super(name, provider);
 
     this.environment = store.getEnvironment();
+    this.documentCodec = documentCodec;
     this.store = new AtomicReference<>(store);
+    this.indexStores = new ConcurrentHashMap<>(indexStores);
+  }
+
+  protected static @NonNull String indexStoreName(@NonNull String databaseName, @NonNull String fieldName) {
+    return databaseName + INDEX_STORE_INFIX + fieldName;
+  }
+
+  protected static boolean isIndexStore(@NonNull String storeName) {
+    return storeName.contains(INDEX_STORE_INFIX);
+  }
+
+  protected static @NonNull ByteIterable indexKey(@Nullable String fieldValue) {
+    if (fieldValue == null) {
+      return new ArrayByteIterable(new byte[]{INDEX_KEY_NULL});
+    }
+
+    var valueBytes = fieldValue.getBytes(StandardCharsets.UTF_8);
+    var key = new byte[valueBytes.length + 1];
+    key[0] = INDEX_KEY_VALUE;
+    System.arraycopy(valueBytes, 0, key, 1, valueBytes.length);
+    return new ArrayByteIterable(key);
   }
 
   @Override
   public boolean insert(@NonNull String key, @NonNull Document document) {
-    return this.environment.computeInExclusiveTransaction(
-      txn -> this.store().put(
-        txn,
-        StringBinding.stringToEntry(key),
-        new ArrayByteIterable(this.serializeDocumentToJsonString(document).getBytes(StandardCharsets.UTF_8))));
+    return this.environment.computeInExclusiveTransaction(txn -> this.insert(txn, key, document));
   }
 
   @Override
@@ -65,43 +107,112 @@ public boolean contains(@NonNull String key) {
 
   @Override
   public boolean delete(@NonNull String key) {
-    return this.environment.computeInTransaction(txn -> this.store().delete(txn, StringBinding.stringToEntry(key)));
+    return this.environment.computeInExclusiveTransaction(txn -> this.delete(txn, key));
+  }
+
+  @Override
+  public void writeBatch(@NonNull Map<String, Document> writes) {
+    if (!writes.isEmpty()) {
+      // apply all writes in one transaction, resulting in a single flush of the log
+      this.environment.executeInExclusiveTransaction(txn -> writes.forEach((key, document) -> {
+        if (document == null) {
+          this.delete(txn, key);
+        } else {
+          this.insert(txn, key, document);
+        }
+      }));
+    }
   }
 
   @Override
   public @Nullable Document get(@NonNull String key) {
     return this.environment.computeInReadonlyTransaction(txn -> {
       var entry = this.store().get(txn, StringBinding.stringToEntry(key));
-      return entry == null ? null : DocumentFactory.json().parse(entry.getBytesUnsafe());
+      return entry == null ? null : this.documentCodec.decode(entry.getBytesUnsafe());
     });
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull String fieldName, @Nullable String fieldValue) {
-    return this.handleWithCursor(($, document) -> {
-      if (Objects.equals(document.getString(fieldName), fieldValue)) {
-        return document;
-      }
-      return null;
-    });
+    // use the index of the field if present
+    var indexStore = this.indexStores.get(fieldName);
+    if (indexStore != null) {
+      return this.findIndexed(indexStore, fieldValue, $ -> true);
+    }
+
+    return this.findWithCursor(data -> Objects.equals(this.documentCodec.readString(data, fieldName), fieldValue));
   }
 
   @Override
   public @NonNull List<Document> find(@NonNull Map<String, String> filters) {
     var entries = filters.entrySet();
-    return this.handleWithCursor(($, document) -> {
+    Predicate<byte[]> filter = data -> {
       for (var entry : entries) {
-        if (!Objects.equals(document.getString(entry.getKey()), entry.getValue())) {
-          return null;
+        if (!Objects.equals(this.documentCodec.readString(data, entry.getKey()), entry.getValue())) {
+          return false;
         }
       }
-      return document;
-    });
+      return true;
+    };
+
+    // use the index of the first indexed field to narrow down the documents to check
+    for (var entry : entries) {
+      var indexStore = this.indexStores.get(entry.getKey());
+      if (indexStore != null) {
+        return this.findIndexed(indexStore, entry.getValue(), filter);
+      }
+    }
+
+    return this.findWithCursor(filter);
+  }
+
+  @Override
+  public boolean createIndex(@NonNull String fieldName) {
+    if (this.indexStores.containsKey(fieldName)) {
+      return true;
+    }
+
+    var txn = this.environment.beginExclusiveTransaction();
+    try {
+      var indexStore = this.environment.openStore(indexStoreName(this.name, fieldName), INDEX_STORE_CONFIG, txn);
+      // index all documents which are already in the database
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          var fieldValue = this.documentCodec.readString(cursor.getValue().getBytesUnsafe(), fieldName);
+          indexStore.put(txn, indexKey(fieldValue), new ArrayByteIterable(cursor.getKey()));
+        }
+      }
+
+      // commit the index but keep the transaction exclusive until the index store is registered, no write can happen
+      // between the commit and the registration and all following writes will maintain the index
+      if (!txn.flush()) {
+        throw new IllegalStateException("Unable to commit index of field " + fieldName + " in database " + this.name);
+      }
+      this.indexStores.put(fieldName, indexStore);
+    } finally {
+      // all changes were flushed at this point, aborting only ends the transaction
+      txn.abort();
+    }
+    return true;
+  }
+
+  @Override
+  public @NonNull Collection<String> indexedFields() {
+    return Set.copyOf(this.indexStores.keySet());
   }
 
   @Override
   public @NonNull Collection<String> keys() {
-    return this.handleWithCursor((key, $) -> key);
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      // there is no need to decode the documents to read the keys
+      List<String> keys = new ArrayList<>();
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          keys.add(StringBinding.entryToString(cursor.getKey()));
+        }
+      }
+      return keys;
+    });
   }
 
   @Override
@@ -126,6 +237,13 @@ public void clear() {
     this.environment.executeInExclusiveTransaction(txn -> {
       this.environment.truncateStore(this.name, txn);
       this.store.set(this.environment.openStore(this.name, this.store().getConfig(), txn));
+
+      // clear all indexes as well
+      for (var fieldName : this.indexStores.keySet()) {
+        var indexStoreName = indexStoreName(this.name, fieldName);
+        this.environment.truncateStore(indexStoreName, txn);
+        this.indexStores.put(fieldName, this.environment.openStore(indexStoreName, INDEX_STORE_CONFIG, txn));
+      }
     });
   }
 
@@ -143,6 +261,31 @@ public boolean synced() {
   public void close() {
   }
 
+  protected boolean insert(@NonNull Transaction txn, @NonNull String key, @NonNull Document document) {
+    var entryKey = StringBinding.stringToEntry(key);
+    // replace the index entries of the previous document, if any
+    if (!this.indexStores.isEmpty()) {
+      var previousEntry = this.store().get(txn, entryKey);
+      var previousData = previousEntry == null ? null : previousEntry.getBytesUnsafe();
+      this.updateIndexes(txn, entryKey, previousData, document);
+    }
+
+    return this.store().put(txn, entryKey, new ArrayByteIterable(this.documentCodec.encode(document)));
+  }
+
+  protected boolean delete(@NonNull Transaction txn, @NonNull String key) {
+    var entryKey = StringBinding.stringToEntry(key);
+    // remove the index entries of the document, if any
+    if (!this.indexStores.isEmpty()) {
+      var previousEntry = this.store().get(txn, entryKey);
+      if (previousEntry != null) {
+        this.updateIndexes(txn, entryKey, previousEntry.getBytesUnsafe(), null);
+      }
+    }
+
+    return this.store().delete(txn, entryKey);
+  }
+
   protected @NonNull <T> List<T> handleWithCursor(@NonNull BiFunction<String, Document, T> mapper) {
     List<T> result = new ArrayList<>();
     this.acceptWithCursor((key, document) -> {
@@ -154,13 +297,88 @@ public void close() {
     return result;
   }
 
+  protected @NonNull List<Document> findWithCursor(@NonNull Predicate<byte[]> filter) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      try (var cursor = this.store().openCursor(txn)) {
+        while (cursor.getNext()) {
+          // only decode the documents which are matching the filter
+          var data = cursor.getValue().getBytesUnsafe();
+          if (filter.test(data)) {
+            result.add(this.documentCodec.decode(data));
+          }
+        }
+      }
+      return result;
+    });
+  }
+
+  protected @NonNull List<Document> findIndexed(
+    @NonNull Store indexStore,
+    @Nullable String fieldValue,
+    @NonNull Predicate<byte[]> filter
+  ) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      List<Document> result = new ArrayList<>();
+      try (var cursor = indexStore.openCursor(txn)) {
+        // the index contains an entry for each key of a document with the field value
+        if (cursor.getSearchKey(indexKey(fieldValue)) != null) {
+          do {
+            var entry = this.store().get(txn, cursor.getValue());
+            if (entry != null) {
+              var data = entry.getBytesUnsafe();
+              if (filter.test(data)) {
+                result.add(this.documentCodec.decode(data));
+              }
+            }
+          } while (cursor.getNextDup());
+        }
+      }
+      return result;
+    });
+  }
+
+  protected void updateIndexes(
+    @NonNull Transaction txn,
+    @NonNull ByteIterable entryKey,
+    byte @Nullable [] previousData,
+    @Nullable Document document
+  ) {
+    for (var entry : this.indexStores.entrySet()) {
+      var fieldName = entry.getKey();
+      var indexStore = entry.getValue();
+
+      var previousValue = previousData == null ? null : this.documentCodec.readString(previousData, fieldName);
+      var newValue = document == null ? null : document.getString(fieldName);
+
+      // no need to touch the index if the value did not change
+      if (previousData != null && document != null && Objects.equals(previousValue, newValue)) {
+        continue;
+      }
+
+      // remove the previous index entry
+      if (previousData != null) {
+        try (var cursor = indexStore.openCursor(txn)) {
+          if (cursor.getSearchBoth(indexKey(previousValue), entryKey)) {
+            cursor.deleteCurrent();
+          }
+        }
+      }
+
+      // put in the new index entry
+      if (document != null) {
+        indexStore.put(txn, indexKey(newValue), entryKey);
+      }
+    }
+  }
+
   protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     this.environment.executeInReadonlyTransaction(txn -> {
       try (var cursor = this.store().openCursor(txn)) {
         while (cursor.getNext()) {
           handler.accept(
             StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+            this.documentCodec.decode(cursor.getValue().getBytesUnsafe()));
         }
       }
     });
@@ -183,7 +401,7 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
         while (chunkSize > currentReadCount && cursor.getNext()) {
           result.put(
             StringBinding.entryToString(cursor.getKey()),
-            DocumentFactory.json().parse(cursor.getValue().getBytesUnsafe()));
+            this.documentCodec.decode(cursor.getValue().getBytesUnsafe()));
           currentReadCount++;
         }
 
@@ -192,6 +410,97 @@ protected void acceptWithCursor(@NonNull BiConsumer<String, Document> handler) {
     });
   }
 
+  @Override
+  public @Nullable Map<String, Document> readChunk(@Nullable String lastKey, int chunkSize) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      try (var cursor = this.store().openCursor(txn)) {
+        // position the cursor at the first key after the last key
+        boolean positioned;
+        if (lastKey == null) {
+          positioned = cursor.getNext();
+        } else {
+          var lastKeyEntry = StringBinding.stringToEntry(lastKey);
+          positioned = cursor.getSearchKeyRange(lastKeyEntry) != null
+            && (cursor.getKey().compareTo(lastKeyEntry) != 0 || cursor.getNext());
+        }
+
+        Map<String, Document> result = new LinkedHashMap<>();
+        while (positioned && result.size() < chunkSize) {
+          result.put(
+            StringBinding.entryToString(cursor.getKey()),
+            this.documentCodec.decode(cursor.getValue().getBytesUnsafe()));
+          positioned = cursor.getNext();
+        }
+
+        return result.isEmpty() ? null : result;
+      }
+    });
+  }
+
+  @Override
+  protected @NonNull List<String> splitKeys(int parts) {
+    return this.environment.computeInReadonlyTransaction(txn -> {
+      var rangeSize = this.store().count(txn) / parts;
+      if (rangeSize == 0) {
+        return List.of();
+      }
+
+      // select every n-th key, without parsing the documents
+      List<String> splitKeys = new ArrayList<>(parts - 1);
+      try (var cursor = this.store().openCursor(txn)) {
+        long index = 0;
+        while (splitKeys.size() < parts - 1 && cursor.getNext()) {
+          if (++index % rangeSize == 0) {
+            splitKeys.add(StringBinding.entryToString(cursor.getKey()));
+          }
+        }
+      }
+      return splitKeys;
+    });
+  }
+
+  protected void migrateStorageFormat() {
+    ByteIterable lastKey = null;
+    do {
+      // migrate the entries in chunks to not block writes to the database for too long
+      var chunkLastKey = lastKey;
+      lastKey = this.environment.computeInExclusiveTransaction(txn -> this.migrateStorageFormat(txn, chunkLastKey));
+    } while (lastKey != null && this.environment.isOpen());
+  }
+
+  protected @Nullable ByteIterable migrateStorageFormat(@NonNull Transaction txn, @Nullable ByteIterable lastKey) {
+    Map<ByteIterable, byte[]> migratedEntries = new LinkedHashMap<>();
+    ByteIterable chunkLastKey = null;
+    try (var cursor = this.store().openCursor(txn)) {
+      // position the cursor at the first key after the last key
+      var positioned = lastKey == null
+        ? cursor.getNext()
+        : cursor.getSearchKeyRange(lastKey) != null && (cursor.getKey().compareTo(lastKey) != 0 || cursor.getNext());
+
+      var readEntries = 0;
+      while (positioned && readEntries++ < FORMAT_MIGRATION_CHUNK_SIZE) {
+        chunkLastKey = new ArrayByteIterable(cursor.getKey());
+
+        // encode the entry again if it's not stored in the current format
+        var data = cursor.getValue().getBytesUnsafe();
+        if (!this.documentCodec.currentFormat(data)) {
+          migratedEntries.put(chunkLastKey, this.documentCodec.encode(this.documentCodec.decode(data)));
+        }
+
+        positioned = cursor.getNext();
+      }
+
+      // reset the last key if the end of the store was reached
+      if (!positioned) {
+        chunkLastKey = null;
+      }
+    }
+
+    // write the migrated entries after closing the cursor
+    migratedEntries.forEach((key, data) -> this.store().put(txn, key, new ArrayByteIterable(data)));
+    return chunkLastKey;
+  }
+
   protected @NonNull Store store() {
     return this.store.get();
   }
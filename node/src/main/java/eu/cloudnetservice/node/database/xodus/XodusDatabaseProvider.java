@@ -17,14 +17,23 @@
 package eu.cloudnetservice.node.database.xodus;
 
 import eu.cloudnetservice.common.language.I18n;
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import eu.cloudnetservice.node.database.LocalDatabase;
 import eu.cloudnetservice.node.database.NodeDatabaseProvider;
+import eu.cloudnetservice.node.database.codec.DocumentCodec;
 import eu.cloudnetservice.node.database.util.LocalDatabaseUtil;
 import java.io.File;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import jetbrains.exodus.env.Environment;
 import jetbrains.exodus.env.EnvironmentConfig;
 import jetbrains.exodus.env.Environments;
+import jetbrains.exodus.env.Store;
 import jetbrains.exodus.env.StoreConfig;
 import lombok.NonNull;
 
@@ -32,16 +41,30 @@ public class XodusDatabaseProvider extends NodeDatabaseProvider {
 
   protected final boolean runsInCluster;
   protected final File databaseDirectory;
+  protected final DocumentCodec documentCodec;
 
   protected final EnvironmentConfig environmentConfig;
+  protected final Set<String> migratedDatabases = ConcurrentHashMap.newKeySet();
+  protected final ExecutorService formatMigrationExecutor = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Database-Format-Migration-",
+    Executors::newSingleThreadExecutor);
 
   protected Environment environment;
 
   public XodusDatabaseProvider(@NonNull File databaseDirectory, boolean runsInCluster) {
+    this(databaseDirectory, runsInCluster, DocumentCodec.binary());
+  }
+
+  public XodusDatabaseProvider(
+    @NonNull File databaseDirectory,
+    boolean runsInCluster,
+    @NonNull DocumentCodec documentCodec
+  ) {
     super(DEFAULT_REMOVAL_LISTENER);
 
     this.runsInCluster = runsInCluster;
     this.databaseDirectory = databaseDirectory;
+    this.documentCodec = documentCodec;
 
     this.environmentConfig = new EnvironmentConfig()
       .setLogCacheShared(true)
@@ -62,10 +85,39 @@ public boolean init() {
 
   @Override
   public @NonNull LocalDatabase database(@NonNull String name) {
-    return this.databaseCache.get(name, $ -> this.environment.computeInTransaction(txn -> {
+    return this.databaseCache.get(name, $ -> {
+      var database = this.openDatabase(name);
+      // migrate the entries which are stored in another format in the background, once per runtime
+      if (this.migratedDatabases.add(name)) {
+        this.formatMigrationExecutor.execute(() -> {
+          try {
+            database.migrateStorageFormat();
+          } catch (Exception exception) {
+            LOGGER.warning("Unable to migrate the storage format of database %s", exception, name);
+          }
+        });
+      }
+
+      return this.applyDocumentCache(this.applyWriteBehind(database));
+    });
+  }
+
+  protected @NonNull XodusDatabase openDatabase(@NonNull String name) {
+    return this.environment.computeInTransaction(txn -> {
       var store = this.environment.openStore(name, StoreConfig.WITHOUT_DUPLICATES_WITH_PREFIXING, txn);
-      return new XodusDatabase(name, store, this);
-    }));
+
+      // open all index stores of the database
+      Map<String, Store> indexStores = new HashMap<>();
+      var indexStorePrefix = XodusDatabase.indexStoreName(name, "");
+      for (var storeName : this.environment.getAllStoreNames(txn)) {
+        if (storeName.startsWith(indexStorePrefix)) {
+          var indexStore = this.environment.openStore(storeName, XodusDatabase.INDEX_STORE_CONFIG, txn);
+          indexStores.put(storeName.substring(indexStorePrefix.length()), indexStore);
+        }
+      }
+
+      return new XodusDatabase(name, store, indexStores, this.documentCodec, this);
+    });
   }
 
   @Override
@@ -75,20 +127,36 @@ public boolean containsDatabase(@NonNull String name) {
 
   @Override
   public boolean deleteDatabase(@NonNull String name) {
+    // write the pending writes now, the closing of the removed database instance must not write into the deleted store
+    this.flushPendingWrites(this.databaseCache.getIfPresent(name));
     this.databaseCache.invalidate(name);
-    this.environment.executeInTransaction(txn -> this.environment.removeStore(name, txn));
+    this.environment.executeInTransaction(txn -> {
+      // remove the index stores of the database as well
+      var indexStorePrefix = XodusDatabase.indexStoreName(name, "");
+      for (var storeName : this.environment.getAllStoreNames(txn)) {
+        if (storeName.startsWith(indexStorePrefix)) {
+          this.environment.removeStore(storeName, txn);
+        }
+      }
+
+      this.environment.removeStore(name, txn);
+    });
 
     return true;
   }
 
   @Override
   public @NonNull Collection<String> databaseNames() {
-    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn));
+    return this.environment.computeInReadonlyTransaction(txn -> this.environment.getAllStoreNames(txn)
+      .stream()
+      .filter(storeName -> !XodusDatabase.isIndexStore(storeName))
+      .toList());
   }
 
   @Override
   public void close() throws Exception {
     super.close();
+    this.formatMigrationExecutor.shutdownNow();
     this.environment.close();
   }
 
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.http;
+
+import eu.cloudnetservice.driver.document.Document;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An input stream which serializes the elements of a list response one by one while the response is written to the
+ * client, instead of serializing the full response into memory first. The elements are filtered, projected and paged
+ * based on the given list query. The format of the stream is {@code {"success":true,"<key>":[...],"nextCursor":...}},
+ * the next cursor is null if there are no more elements.
+ * <p>
+ * The stream is read by the chunked writer of the connection, therefore the elements are serialized on the event loop
+ * of the connection rather than on the thread handling the request. Only one element is serialized per read of a
+ * chunk, the elements must be safe to serialize from another thread and should not block while being serialized.
+ *
+ * @param <T> the type of the elements to serialize.
+ * @since 4.0
+ */
+final class JsonListInputStream<T> extends InputStream {
+
+  private static final byte[] ELEMENT_SEPARATOR = {','};
+
+  private final String key;
+  private final Iterator<T> elements;
+  private final Function<T, String> cursorExtractor;
+  private final V2ListQuery query;
+
+  private byte[] current = new byte[0];
+  private int position;
+
+  private State state = State.HEADER;
+  private int writtenElements;
+  private String lastCursor;
+
+  /**
+   * Constructs a new json list input stream.
+   *
+   * @param key             the key of the element array in the response.
+   * @param elements        the elements to serialize, ordered by their cursor.
+   * @param cursorExtractor the function to extract the cursor of an element.
+   * @param query           the query to apply to the elements.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  public JsonListInputStream(
+    @NonNull String key,
+    @NonNull Iterator<T> elements,
+    @NonNull Function<T, String> cursorExtractor,
+    @NonNull V2ListQuery query
+  ) {
+    this.key = key;
+    this.elements = elements;
+    this.cursorExtractor = cursorExtractor;
+    this.query = query;
+  }
+
+  /**
+   * Checks if the field at the given dot separated path of the given document has the given value.
+   *
+   * @param document the document to check the field of.
+   * @param path     the dot separated path of the field.
+   * @param expected the value which the field must have.
+   * @return true if the field has the given value, false otherwise.
+   * @throws NullPointerException if the given document, path or expected value is null.
+   */
+  static boolean matches(@NonNull Document document, @NonNull String path, @NonNull String expected) {
+    var pathEntries = path.split("\\.");
+    for (var index = 0; index < pathEntries.length - 1; index++) {
+      document = document.readDocument(pathEntries[index]);
+    }
+
+    var field = pathEntries[pathEntries.length - 1];
+    if (!document.contains(field)) {
+      return false;
+    }
+
+    // the field might be a string, a boolean or a number
+    var value = document.getString(field);
+    if (value != null) {
+      return value.equals(expected);
+    }
+
+    if (expected.equals("true") || expected.equals("false")) {
+      return document.getBoolean(field, !Boolean.parseBoolean(expected)) == Boolean.parseBoolean(expected);
+    }
+
+    try {
+      var expectedNumber = Long.parseLong(expected);
+      return document.getLong(field, expectedNumber - 1) == expectedNumber;
+    } catch (NumberFormatException exception) {
+      return false;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read() {
+    if (!this.ensureAvailable()) {
+      return -1;
+    }
+
+    return this.current[this.position++] & 0xFF;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read(byte @NonNull [] buffer, int offset, int length) {
+    if (length == 0) {
+      return 0;
+    }
+
+    if (!this.ensureAvailable()) {
+      return -1;
+    }
+
+    var readBytes = Math.min(length, this.current.length - this.position);
+    System.arraycopy(this.current, this.position, buffer, offset, readBytes);
+    this.position += readBytes;
+    return readBytes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int available() {
+    return this.current.length - this.position;
+  }
+
+  /**
+   * Serializes the next part of the response if all bytes of the current part were read.
+   *
+   * @return true if there are bytes available to read, false if the end of the response was reached.
+   */
+  private boolean ensureAvailable() {
+    while (this.position >= this.current.length) {
+      if (this.state == State.DONE) {
+        return false;
+      }
+
+      this.current = this.nextPart();
+      this.position = 0;
+    }
+
+    return true;
+  }
+
+  /**
+   * Serializes the next part of the response, based on the current state of this stream.
+   *
+   * @return the serialized bytes of the next part of the response, possibly empty.
+   */
+  private byte @NonNull [] nextPart() {
+    switch (this.state) {
+      case HEADER -> {
+        this.state = State.ELEMENTS;
+        // strip the closing brace of the document to append the element array
+        var header = Document.newJsonDocument().append("success", true).toString();
+        return (header.substring(0, header.length() - 1) + ",\"" + this.key + "\":[").getBytes(StandardCharsets.UTF_8);
+      }
+      case ELEMENTS -> {
+        var element = this.nextMatchingElement();
+        if (element == null) {
+          return this.footer(null);
+        }
+
+        // there are more matching elements than requested, the client can continue at the last written element
+        if (this.query.limit() != -1 && this.writtenElements >= this.query.limit()) {
+          return this.footer(this.lastCursor);
+        }
+
+        this.writtenElements++;
+        this.lastCursor = element.getKey();
+
+        var serializedElement = element.getValue().toString().getBytes(StandardCharsets.UTF_8);
+        if (this.writtenElements == 1) {
+          return serializedElement;
+        }
+
+        var part = new byte[serializedElement.length + 1];
+        System.arraycopy(ELEMENT_SEPARATOR, 0, part, 0, 1);
+        System.arraycopy(serializedElement, 0, part, 1, serializedElement.length);
+        return part;
+      }
+      default -> {
+        this.state = State.DONE;
+        return new byte[0];
+      }
+    }
+  }
+
+  /**
+   * Serializes the end of the response, containing the given next cursor.
+   *
+   * @param nextCursor the cursor to continue the listing at, null if there are no more elements.
+   * @return the serialized end of the response.
+   */
+  private byte @NonNull [] footer(@Nullable String nextCursor) {
+    this.state = State.DONE;
+    // strip the opening brace of the document to append it to the element array
+    var cursorDocument = Document.newJsonDocument().append("nextCursor", nextCursor).toString();
+    return ("]," + cursorDocument.substring(1)).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Gets the next element which matches the filters of the query, projected to the fields requested by the query.
+   *
+   * @return the cursor and the serialized form of the next matching element, null if there are no more elements.
+   */
+  private @Nullable Map.Entry<String, Document> nextMatchingElement() {
+    while (this.elements.hasNext()) {
+      var element = this.elements.next();
+      var document = Document.newJsonDocument().appendTree(element);
+
+      var matches = true;
+      for (var filter : this.query.filters().entrySet()) {
+        if (!matches(document, filter.getKey(), filter.getValue())) {
+          matches = false;
+          break;
+        }
+      }
+
+      if (matches) {
+        if (!this.query.fields().isEmpty()) {
+          for (var field : Set.copyOf(document.keys())) {
+            if (!this.query.fields().contains(field)) {
+              document.remove(field);
+            }
+          }
+        }
+
+        return Map.entry(this.cursorExtractor.apply(element), document);
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * The states of the stream, in the order in which the parts of the response are serialized.
+   *
+   * @since 4.0
+   */
+  private enum State {
+
+    HEADER,
+    ELEMENTS,
+    DONE
+  }
+}
@@ -16,6 +16,8 @@
 
 package eu.cloudnetservice.node.http;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.document.DocumentFactory;
 import eu.cloudnetservice.driver.network.http.HttpContext;
@@ -23,6 +25,12 @@
 import eu.cloudnetservice.driver.network.http.HttpResponse;
 import eu.cloudnetservice.driver.network.http.HttpResponseCode;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import lombok.NonNull;
 
 public abstract class V2HttpHandler {
@@ -72,4 +80,89 @@ protected void send401(@NonNull HttpContext context, @NonNull String reason) {
   protected @NonNull Document.Mutable failure() {
     return Document.newJsonDocument().append("success", false);
   }
+
+  /**
+   * Sends the given elements as a list response, applying the pagination, projection and filters requested by the
+   * client (see {@link V2ListQuery}). The elements are serialized while the response is written to the client, which
+   * happens on the event loop of the connection, see {@link JsonListInputStream}. The response carries an etag derived
+   * from the versions of all elements and the query, a request which sends a matching If-None-Match header gets a not
+   * modified response without a body.
+   *
+   * @param context          the context of the request to respond to.
+   * @param key              the key of the element array in the response.
+   * @param elements         the elements to send.
+   * @param cursorExtractor  the function to extract the unique key of an element, the elements are ordered by it.
+   * @param versionExtractor the function to extract the version of an element, derived from the content of the element
+   *                         so that it changes whenever the element changes.
+   * @param <T>              the type of elements to send.
+   * @throws NullPointerException if one of the given parameters is null.
+   */
+  protected <T> void sendList(
+    @NonNull HttpContext context,
+    @NonNull String key,
+    @NonNull Collection<T> elements,
+    @NonNull Function<T, String> cursorExtractor,
+    @NonNull ToLongFunction<T> versionExtractor
+  ) {
+    V2ListQuery query;
+    try {
+      query = V2ListQuery.fromRequest(context.request());
+    } catch (IllegalArgumentException exception) {
+      this.badRequest(context)
+        .body(this.failure().append("reason", exception.getMessage()).toString())
+        .context()
+        .closeAfter(true)
+        .cancelNext(true);
+      return;
+    }
+
+    // order the elements by their cursor, the page starts after the element of the given cursor
+    var sortedElements = new ArrayList<T>(elements.size());
+    for (var element : elements) {
+      if (query.cursor() == null || cursorExtractor.apply(element).compareTo(query.cursor()) > 0) {
+        sortedElements.add(element);
+      }
+    }
+    sortedElements.sort(Comparator.comparing(cursorExtractor));
+
+    // the etag changes if any element in the page (or after it) or the query changes
+    // each string is prefixed with its length, so that no two different inputs produce the same hashed bytes
+    var hasher = Hashing.sha256().newHasher();
+    var queryParameters = new TreeMap<>(context.request().queryParameters());
+    hasher.putInt(queryParameters.size());
+    queryParameters.forEach((name, values) -> {
+      putLengthPrefixed(hasher, name);
+      hasher.putInt(values.size());
+      values.forEach(value -> putLengthPrefixed(hasher, value));
+    });
+
+    hasher.putInt(sortedElements.size());
+    for (var element : sortedElements) {
+      putLengthPrefixed(hasher, cursorExtractor.apply(element));
+      hasher.putLong(versionExtractor.applyAsLong(element));
+    }
+
+    var etag = "W/\"" + hasher.hash() + '"';
+    var ifNoneMatch = context.request().header("If-None-Match");
+    if (ifNoneMatch != null) {
+      for (var requestedTag : ifNoneMatch.split(",")) {
+        var tag = requestedTag.trim();
+        if (tag.equals(etag) || tag.equals("*")) {
+          this.response(context, HttpResponseCode.NOT_MODIFIED).header("ETag", etag).context().cancelNext(true);
+          return;
+        }
+      }
+    }
+
+    this.ok(context)
+      .header("ETag", etag)
+      .body(new JsonListInputStream<>(key, sortedElements.iterator(), cursorExtractor, query))
+      .context()
+      .cancelNext(true);
+  }
+
+  private static void putLengthPrefixed(@NonNull Hasher hasher, @NonNull String value) {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    hasher.putInt(bytes.length).putBytes(bytes);
+  }
 }
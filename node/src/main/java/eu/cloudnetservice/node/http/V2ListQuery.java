@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.http;
+
+import eu.cloudnetservice.driver.network.http.HttpRequest;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The query options of a request to a list endpoint of the rest api. The options are read from the query parameters of
+ * the request:
+ * <ul>
+ *   <li>{@code limit}: the maximum amount of elements to return, all elements if not given.
+ *   <li>{@code cursor}: the cursor returned with the previous page, the first page is returned if not given.
+ *   <li>{@code fields}: a comma separated list of the top level fields to include in each element, all if not given.
+ *   <li>{@code filter.<path>}: only returns the elements of which the field at the given dot separated path has the
+ *   given value, for example {@code filter.serviceId.taskName=Lobby}.
+ * </ul>
+ *
+ * @param limit   the maximum amount of elements to return, -1 to return all elements.
+ * @param cursor  the key of the last element of the previous page, null to start at the first element.
+ * @param fields  the top level fields to include in each element, empty to include all fields.
+ * @param filters the values which the fields at the dot separated paths must have for an element to be returned.
+ * @since 4.0
+ */
+public record V2ListQuery(
+  int limit,
+  @Nullable String cursor,
+  @NonNull Set<String> fields,
+  @NonNull Map<String, String> filters
+) {
+
+  private static final String FILTER_PREFIX = "filter.";
+
+  /**
+   * Reads the list query options from the query parameters of the given request.
+   *
+   * @param request the request to read the query options from.
+   * @return the query options of the given request.
+   * @throws NullPointerException     if the given request is null.
+   * @throws IllegalArgumentException if the given limit is not a positive number.
+   */
+  public static @NonNull V2ListQuery fromRequest(@NonNull HttpRequest request) {
+    var limit = -1;
+    String cursor = null;
+    Set<String> fields = new LinkedHashSet<>();
+    Map<String, String> filters = new HashMap<>();
+
+    for (var entry : request.queryParameters().entrySet()) {
+      var values = entry.getValue();
+      if (values.isEmpty()) {
+        continue;
+      }
+
+      switch (entry.getKey()) {
+        case "limit" -> {
+          try {
+            limit = Integer.parseInt(values.get(0));
+          } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException("Invalid limit " + values.get(0));
+          }
+
+          if (limit <= 0) {
+            throw new IllegalArgumentException("The limit must be positive");
+          }
+        }
+        case "cursor" -> cursor = values.get(0);
+        case "fields" -> {
+          for (var value : values) {
+            for (var field : value.split(",")) {
+              if (!field.isBlank()) {
+                fields.add(field.trim());
+              }
+            }
+          }
+        }
+        default -> {
+          if (entry.getKey().startsWith(FILTER_PREFIX) && entry.getKey().length() > FILTER_PREFIX.length()) {
+            filters.put(entry.getKey().substring(FILTER_PREFIX.length()), values.get(0));
+          }
+        }
+      }
+    }
+
+    return new V2ListQuery(limit, cursor, fields, filters);
+  }
+}
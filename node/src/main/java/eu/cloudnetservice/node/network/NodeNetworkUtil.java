@@ -21,6 +21,7 @@
 import eu.cloudnetservice.driver.event.events.network.NetworkChannelInitEvent;
 import eu.cloudnetservice.driver.network.NetworkChannel;
 import eu.cloudnetservice.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkSessionStatePacketListener;
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.network.protocol.PacketListenerRegistry;
@@ -50,5 +51,6 @@ public void addDefaultPacketListeners(@NonNull PacketListenerRegistry registry)
     registry.addListener(
       NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
       new ChunkedPacketListener(EventChunkHandlerFactory.withEventManager(this.eventManager)));
+    registry.addListener(NetworkConstants.CHUNKED_PACKET_STATE_CHANNEL, new ChunkSessionStatePacketListener());
   }
 }
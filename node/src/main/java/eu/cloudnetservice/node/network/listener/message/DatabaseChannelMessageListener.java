@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.network.listener.message;
+
+import eu.cloudnetservice.driver.event.EventListener;
+import eu.cloudnetservice.driver.event.events.channel.ChannelMessageReceiveEvent;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.node.database.CachedDatabase;
+import eu.cloudnetservice.node.database.NodeDatabaseProvider;
+import io.leangen.geantyref.TypeFactory;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import lombok.NonNull;
+
+@Singleton
+public final class DatabaseChannelMessageListener {
+
+  private static final Type KEYS_TYPE = TypeFactory.parameterizedClass(Collection.class, String.class);
+
+  private final NodeDatabaseProvider databaseProvider;
+
+  @Inject
+  public DatabaseChannelMessageListener(@NonNull NodeDatabaseProvider databaseProvider) {
+    this.databaseProvider = databaseProvider;
+  }
+
+  @EventListener
+  public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
+    if (event.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      && event.message().equals(CachedDatabase.INVALIDATE_CACHE_MESSAGE)) {
+      // a document was written to a database which is shared with another node
+      var databaseName = event.content().readString();
+      Collection<String> keys = event.content().readObject(KEYS_TYPE);
+      this.databaseProvider.invalidateCachedDocuments(databaseName, keys);
+    }
+  }
+}
@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.node.cluster.NodeServerProvider;
 import eu.cloudnetservice.node.cluster.sync.DataSyncRegistry;
+import eu.cloudnetservice.node.cluster.util.NodeInfoSnapshotCodec;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.event.cluster.NetworkClusterNodeInfoUpdateEvent;
 import eu.cloudnetservice.node.provider.NodeClusterNodeProvider;
@@ -46,6 +47,7 @@ public final class NodeChannelMessageListener {
   private final DataSyncRegistry dataSyncRegistry;
   private final NodeClusterNodeProvider nodeInfoProvider;
   private final NodeServerProvider nodeServerProvider;
+  private final NodeInfoSnapshotCodec nodeInfoSnapshotCodec;
 
   @Inject
   public NodeChannelMessageListener(
@@ -53,13 +55,15 @@ public NodeChannelMessageListener(
     @NonNull Configuration configuration,
     @NonNull DataSyncRegistry dataSyncRegistry,
     @NonNull NodeClusterNodeProvider nodeInfoProvider,
-    @NonNull NodeServerProvider nodeServerProvider
+    @NonNull NodeServerProvider nodeServerProvider,
+    @NonNull NodeInfoSnapshotCodec nodeInfoSnapshotCodec
   ) {
     this.eventManager = eventManager;
     this.configuration = configuration;
     this.dataSyncRegistry = dataSyncRegistry;
     this.nodeInfoProvider = nodeInfoProvider;
     this.nodeServerProvider = nodeServerProvider;
+    this.nodeInfoSnapshotCodec = nodeInfoSnapshotCodec;
   }
 
   @EventListener
@@ -77,6 +81,32 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           }
         }
 
+        // apply the changed fields of a node info snapshot
+        case NodeInfoSnapshotCodec.DELTA_UPDATE_MESSAGE -> {
+          var nodeUniqueId = event.content().readString();
+          var server = this.nodeServerProvider.node(nodeUniqueId);
+          if (server != null) {
+            try (var delta = event.content().readDataBuf()) {
+              var snapshot = this.nodeInfoSnapshotCodec.decode(nodeUniqueId, delta);
+              if (snapshot != null) {
+                server.updateNodeInfoSnapshot(snapshot);
+                this.eventManager.callEvent(new NetworkClusterNodeInfoUpdateEvent(event.networkChannel(), snapshot));
+              } else {
+                // we missed the update the delta is based on, request the full snapshot from the node
+                ChannelMessage.builder()
+                  .targetNode(nodeUniqueId)
+                  .message(NodeInfoSnapshotCodec.RESYNC_REQUEST_MESSAGE)
+                  .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+                  .build()
+                  .send();
+              }
+            }
+          }
+        }
+
+        // a node was unable to apply a delta of the local node info snapshot
+        case NodeInfoSnapshotCodec.RESYNC_REQUEST_MESSAGE -> this.nodeInfoSnapshotCodec.resync();
+
         // handles the sync requests of cluster data
         case "sync_cluster_data" -> {
           // handle the sync and send back the data to override on the caller
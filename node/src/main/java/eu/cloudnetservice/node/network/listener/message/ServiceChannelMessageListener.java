@@ -34,6 +34,8 @@
 import eu.cloudnetservice.driver.service.ServiceCreateResult;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
+import eu.cloudnetservice.node.provider.ServiceSubscriptionRegistry;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -47,16 +49,19 @@ public final class ServiceChannelMessageListener {
   private final EventManager eventManager;
   private final CloudServiceManager serviceManager;
   private final CloudServiceFactory cloudServiceFactory;
+  private final ServiceSubscriptionRegistry subscriptionRegistry;
 
   @Inject
   public ServiceChannelMessageListener(
     @NonNull EventManager eventManager,
     @NonNull CloudServiceManager serviceManager,
-    @NonNull CloudServiceFactory cloudServiceFactory
+    @NonNull CloudServiceFactory cloudServiceFactory,
+    @NonNull ServiceSubscriptionRegistry subscriptionRegistry
   ) {
     this.eventManager = eventManager;
     this.serviceManager = serviceManager;
     this.cloudServiceFactory = cloudServiceFactory;
+    this.subscriptionRegistry = subscriptionRegistry;
   }
 
   @EventListener
@@ -130,6 +135,12 @@ public void handleChannelMessage(@NonNull ChannelMessageReceiveEvent event) {
           this.eventManager.callEvent(new CloudServiceLifecycleChangeEvent(lifeCycle, snapshot));
         }
 
+        // a service changed the services of which it wants to receive the updates
+        case ServiceUpdateSubscription.UPDATE_SUBSCRIPTION_MESSAGE -> {
+          var subscription = event.content().readObject(ServiceUpdateSubscription.class);
+          this.subscriptionRegistry.subscribe(event.networkChannel(), subscription);
+        }
+
         // call the event for a new line in the log of the service
         case "screen_new_line" -> {
           var snapshot = event.content().readObject(ServiceInfoSnapshot.class);
@@ -122,6 +122,9 @@ public void init() {
       this.loadGroups();
     }
 
+    // users are looked up by their name frequently
+    this.userDatabaseTable().createIndex("name");
+
     this.eventManager.registerListener(this.networkListener);
     this.rpcFactory.newHandler(PermissionManagement.class, this).registerTo(this.handlerRegistry);
   }
@@ -136,6 +139,7 @@ public boolean reload() {
     // clear the cache & update
     this.groups.clear();
     this.loadGroups();
+    this.invalidateCompiledPermissions();
     // push to the handler
     this.handler.handleReloaded(this);
     // success
@@ -175,6 +179,7 @@ public PermissionGroup defaultPermissionGroup() {
   public void updateUser(@NonNull PermissionUser user) {
     // update in the database
     this.userDatabaseTable().insert(user.uniqueId().toString(), Document.newJsonDocument().appendTree(user));
+    this.invalidateCompiledPermissions(user);
     // notify the listener
     this.handler.handleUpdateUser(this, user);
   }
@@ -199,6 +204,7 @@ public boolean deleteUser(@NonNull String name) {
   @Override
   public boolean deletePermissionUser(@NonNull PermissionUser permissionUser) {
     if (this.userDatabaseTable().delete(permissionUser.uniqueId().toString())) {
+      this.invalidateCompiledPermissions(permissionUser);
       // notify the listener
       this.handler.handleDeleteUser(this, permissionUser);
       return true;
@@ -382,6 +388,7 @@ public void groups(@Nullable Collection<PermissionGroup> groups) {
   @Override
   public void addGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.put(permissionGroup.name(), permissionGroup);
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -389,6 +396,7 @@ public void addGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void updateGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.put(permissionGroup.name(), permissionGroup);
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -396,6 +404,7 @@ public void updateGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void deleteGroupSilently(@NonNull PermissionGroup permissionGroup) {
     this.groups.remove(permissionGroup.name());
+    this.invalidateCompiledPermissions();
     // save the groups
     this.saveGroups();
   }
@@ -403,6 +412,7 @@ public void deleteGroupSilently(@NonNull PermissionGroup permissionGroup) {
   @Override
   public void setGroupsSilently(@Nullable Collection<PermissionGroup> groups) {
     this.groups.clear();
+    this.invalidateCompiledPermissions();
     // set the provided groups
     if (groups != null) {
       for (var group : groups) {
@@ -23,6 +23,7 @@
 import eu.cloudnetservice.driver.channel.ChannelMessage;
 import eu.cloudnetservice.driver.channel.ChannelMessageTarget;
 import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBufFactory;
 import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
 import eu.cloudnetservice.driver.provider.CloudMessenger;
 import eu.cloudnetservice.driver.provider.defaults.DefaultMessenger;
@@ -34,9 +35,11 @@
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -51,14 +54,20 @@ public class NodeMessenger extends DefaultMessenger implements CloudMessenger {
 
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceManager cloudServiceManager;
+  protected final ServiceSubscriptionRegistry subscriptionRegistry;
+
+  protected volatile BroadcastChannels localBroadcastChannels;
+  protected volatile BroadcastChannels clusterBroadcastChannels;
 
   @Inject
   public NodeMessenger(
     @NonNull NodeServerProvider nodeServerProvider,
-    @NonNull CloudServiceManager cloudServiceManager
+    @NonNull CloudServiceManager cloudServiceManager,
+    @NonNull ServiceSubscriptionRegistry subscriptionRegistry
   ) {
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceManager = cloudServiceManager;
+    this.subscriptionRegistry = subscriptionRegistry;
   }
 
   @Override
@@ -79,23 +88,37 @@ public void sendChannelMessage(@NonNull ChannelMessage message) {
   public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClusterRedirect) {
     // find the target channels to send the message to
     var channels = this.findChannels(message.targets(), allowClusterRedirect);
-    for (var channel : channels) {
-      // acquire the message content for each channel we're sending the message to
-      // when writing the message content to the target buffer, the message is released
-      // that means when the message was written to all channels it's released unless someone acquired it before
-      message.content().acquire();
+    if (channels.isEmpty()) {
+      // no target channels found, release the message now
+      message.content().release();
+      return;
+    }
+
+    // service snapshot updates are only sent to the channels which subscribed to updates of the service
+    var updatedSnapshot = this.subscriptionRegistry.updatedSnapshot(message);
 
-      // construct and send the packet
-      var packet = new PacketServerChannelMessage(message, false);
-      if (message.sendSync()) {
-        channel.sendPacketSync(packet);
-      } else {
-        channel.sendPacket(packet);
+    // encode the message once (which releases the message content), each packet gets a copy of the encoded message
+    // which shares the memory with it rather than encoding the message for each channel again
+    var encodedMessage = PacketServerChannelMessage.encodeShared(message, false);
+    try {
+      for (var channel : channels) {
+        if (updatedSnapshot != null && !this.subscriptionRegistry.interested(channel, updatedSnapshot)) {
+          continue;
+        }
+
+        var packet = new PacketServerChannelMessage(
+          message.prioritized(),
+          DataBufFactory.defaultFactory().copyOf(encodedMessage));
+        if (message.sendSync()) {
+          channel.sendPacketSync(packet);
+        } else {
+          channel.sendPacket(packet);
+        }
       }
+    } finally {
+      // the memory is freed once all packets were written
+      encodedMessage.release();
     }
-
-    // release the message now
-    message.content().release();
   }
 
   public @NonNull Task<Collection<ChannelMessage>> sendChannelMessageQueryAsync(
@@ -113,28 +136,30 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       Set<ChannelMessage> result = new HashSet<>();
       var task = new CountingTask<Collection<ChannelMessage>>(result, channels.size());
 
-      // send the packet to each channel
-      for (var channel : channels) {
-        // acquire the message content for each channel we're sending the message to
-        // when writing the message content to the target buffer, the message is released
-        // that means when the message was written to all channels it's released unless someone acquired it before
-        message.content().acquire();
-
-        channel.sendQueryAsync(new PacketServerChannelMessage(message, false)).whenComplete((packet, th) -> {
-          // check if we got an actual result from the request
-          if (th == null && packet.readable()) {
-            // add all resulting messages we got
-            result.addAll(packet.content().readObject(COL_MSG));
-          }
+      // encode the message once, each packet gets a copy of the encoded message which shares the memory with it
+      var encodedMessage = PacketServerChannelMessage.encodeShared(message, false);
+      try {
+        // send the packet to each channel
+        for (var channel : channels) {
+          var packet = new PacketServerChannelMessage(
+            message.prioritized(),
+            DataBufFactory.defaultFactory().copyOf(encodedMessage));
+          channel.sendQueryAsync(packet).whenComplete((response, th) -> {
+            // check if we got an actual result from the request
+            if (th == null && response.readable()) {
+              // add all resulting messages we got
+              result.addAll(response.content().readObject(COL_MSG));
+            }
 
-          // count down - one channel responded
-          task.countDown();
-        });
+            // count down - one channel responded
+            task.countDown();
+          });
+        }
+      } finally {
+        // the memory is freed once all packets were written
+        encodedMessage.release();
       }
 
-      // release the message now
-      message.content().release();
-
       // return the task on which the user can wait
       return task;
     }
@@ -163,17 +188,8 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
     switch (target.type()) {
       // just include all known channels
       case ALL -> {
-        Set<NetworkChannel> result = new HashSet<>();
-        // all local services
-        this.cloudServiceManager.localCloudServices().stream()
-          .map(CloudService::networkChannel)
-          .filter(Objects::nonNull)
-          .forEach(result::add);
-        // all connected nodes
-        if (allowClusterRedirect) {
-          result.addAll(this.nodeServerProvider.connectedNodeChannels());
-        }
-        return result;
+        // all local services and all connected nodes if redirecting is allowed
+        return this.broadcastChannels(allowClusterRedirect);
       }
       case NODE -> {
         // search for the matching node server
@@ -195,17 +211,8 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       case SERVICE -> {
         // check if a specific service was requested
         if (target.name() == null) {
-          // if no specific name is given just get all local channels
-          var channels = this.cloudServiceManager.localCloudServices().stream()
-            .map(CloudService::networkChannel)
-            .filter(Objects::nonNull)
-            .collect(Collectors.toSet());
-          // check if cluster redirect is allowed - add all connected node channels then
-          if (allowClusterRedirect) {
-            channels.addAll(this.nodeServerProvider.connectedNodeChannels());
-          }
-          // return here
-          return channels;
+          // if no specific name is given just get all local channels and all connected nodes if redirecting is allowed
+          return this.broadcastChannels(allowClusterRedirect);
         } else {
           // check if the service is running locally - use the known channel then
           var localService = this.cloudServiceManager.localCloudService(target.name());
@@ -256,6 +263,28 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
     }
   }
 
+  protected @NonNull Collection<NetworkChannel> broadcastChannels(boolean allowClusterRedirect) {
+    var services = this.cloudServiceManager.localCloudServices();
+    Collection<NetworkChannel> nodeChannels = allowClusterRedirect
+      ? this.nodeServerProvider.connectedNodeChannels()
+      : List.of();
+
+    // re-use the previously resolved channels if neither the services nor their channels changed since then
+    var cachedChannels = allowClusterRedirect ? this.clusterBroadcastChannels : this.localBroadcastChannels;
+    if (cachedChannels != null && cachedChannels.resolvedFrom(services, nodeChannels)) {
+      return cachedChannels.channels();
+    }
+
+    var resolvedChannels = BroadcastChannels.resolve(services, nodeChannels);
+    if (allowClusterRedirect) {
+      this.clusterBroadcastChannels = resolvedChannels;
+    } else {
+      this.localBroadcastChannels = resolvedChannels;
+    }
+
+    return resolvedChannels.channels();
+  }
+
   protected @NonNull Collection<NetworkChannel> filterChannels(
     @NonNull Collection<ServiceInfoSnapshot> snapshots,
     boolean allowClusterRedirect
@@ -279,4 +308,58 @@ public void sendChannelMessage(@NonNull ChannelMessage message, boolean allowClu
       .filter(Objects::nonNull)
       .collect(Collectors.toSet());
   }
+
+  /**
+   * The channels resolved for a message targeting all local services (and all connected nodes), together with the
+   * services, their channels and the node channels from which the channels were resolved. Validating that the sources
+   * are unchanged only compares references, which is much cheaper than resolving the channels again.
+   *
+   * @param sources  the services, their channels and the node channels in the order in which they were visited.
+   * @param channels the distinct channels resolved from the sources.
+   */
+  protected record BroadcastChannels(@NonNull Object[] sources, @NonNull Set<NetworkChannel> channels) {
+
+    public static @NonNull BroadcastChannels resolve(
+      @NonNull Collection<CloudService> services,
+      @NonNull Collection<NetworkChannel> nodeChannels
+    ) {
+      List<Object> sources = new ArrayList<>(services.size() * 2 + nodeChannels.size());
+      Set<NetworkChannel> channels = new HashSet<>();
+      for (var service : services) {
+        var channel = service.networkChannel();
+        sources.add(service);
+        sources.add(channel);
+        if (channel != null) {
+          channels.add(channel);
+        }
+      }
+
+      sources.addAll(nodeChannels);
+      channels.addAll(nodeChannels);
+      return new BroadcastChannels(sources.toArray(), Collections.unmodifiableSet(channels));
+    }
+
+    public boolean resolvedFrom(
+      @NonNull Collection<CloudService> services,
+      @NonNull Collection<NetworkChannel> nodeChannels
+    ) {
+      var index = 0;
+      for (var service : services) {
+        // the service collection might change concurrently, do not rely on its size
+        if (index + 1 >= this.sources.length
+          || this.sources[index++] != service
+          || this.sources[index++] != service.networkChannel()) {
+          return false;
+        }
+      }
+
+      for (var nodeChannel : nodeChannels) {
+        if (index >= this.sources.length || this.sources[index++] != nodeChannel) {
+          return false;
+        }
+      }
+
+      return index == this.sources.length;
+    }
+  }
 }
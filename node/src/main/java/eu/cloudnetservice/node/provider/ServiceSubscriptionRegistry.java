@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.def.NetworkConstants;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
+import jakarta.inject.Singleton;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the service update subscriptions registered by the services connected to this node. Service snapshot updates
+ * are only sent to the channels of which the subscription is matching the updated service, channels without a
+ * registered subscription (such as the channels of other nodes) receive all updates.
+ * <p>
+ * The subscriptions are weakly keyed by the channel which registered them, they are removed once the channel is no
+ * longer in use.
+ *
+ * @since 4.0
+ */
+@Singleton
+public class ServiceSubscriptionRegistry {
+
+  protected final Cache<NetworkChannel, ServiceUpdateSubscription> subscriptions = Caffeine.newBuilder()
+    .weakKeys()
+    .build();
+
+  /**
+   * Sets the subscription of the given channel, replacing the previous subscription of the channel.
+   *
+   * @param channel      the channel which registered the subscription.
+   * @param subscription the subscription of the channel.
+   * @throws NullPointerException if the given channel or subscription is null.
+   */
+  public void subscribe(@NonNull NetworkChannel channel, @NonNull ServiceUpdateSubscription subscription) {
+    this.subscriptions.put(channel, subscription);
+  }
+
+  /**
+   * Get the subscription registered by the given channel, null if the channel has no subscription.
+   *
+   * @param channel the channel to get the subscription of.
+   * @return the subscription registered by the given channel, null if the channel has no subscription.
+   * @throws NullPointerException if the given channel is null.
+   */
+  public @Nullable ServiceUpdateSubscription subscription(@NonNull NetworkChannel channel) {
+    return this.subscriptions.getIfPresent(channel);
+  }
+
+  /**
+   * Checks if the given channel should receive the updates of the given service.
+   *
+   * @param channel  the channel to check.
+   * @param snapshot the snapshot of the updated service.
+   * @return true if the given channel should receive the update, false otherwise.
+   * @throws NullPointerException if the given channel or snapshot is null.
+   */
+  public boolean interested(@NonNull NetworkChannel channel, @NonNull ServiceInfoSnapshot snapshot) {
+    var subscription = this.subscriptions.getIfPresent(channel);
+    return subscription == null || subscription.matches(snapshot);
+  }
+
+  /**
+   * Reads the updated service snapshot from the given message if the message is a service snapshot update, without
+   * changing the reader index or the release state of the message content.
+   *
+   * @param message the message to read the updated snapshot from.
+   * @return the updated service snapshot, null if the message is not a service snapshot update.
+   * @throws NullPointerException if the given message is null.
+   */
+  public @Nullable ServiceInfoSnapshot updatedSnapshot(@NonNull ChannelMessage message) {
+    // no need to read the message if no channel registered a subscription
+    if (this.subscriptions.estimatedSize() == 0 || !message.channel().equals(NetworkConstants.INTERNAL_MSG_CHANNEL)) {
+      return null;
+    }
+
+    var lifeCycleUpdate = message.message().equals("update_service_lifecycle");
+    if (!lifeCycleUpdate && !message.message().equals("update_service_info")) {
+      return null;
+    }
+
+    // reading the content until the end releases it, acquire it to keep it readable for the actual send
+    var content = message.content();
+    var acquires = content.acquires();
+    content.acquire().startTransaction();
+    try {
+      if (lifeCycleUpdate) {
+        content.readObject(ServiceLifeCycle.class);
+      }
+      return content.readObject(ServiceInfoSnapshot.class);
+    } finally {
+      content.redoTransaction();
+      if (content.acquires() > acquires) {
+        content.release();
+      }
+    }
+  }
+}
@@ -24,6 +24,7 @@
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceTask;
 import eu.cloudnetservice.node.cluster.NodeServer;
+import eu.cloudnetservice.node.service.placement.ServicePlacementEngine;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Map;
@@ -73,6 +74,8 @@ void addServicePreparer(
 
   int currentReservedMemory();
 
+  @NonNull ServicePlacementEngine placementEngine();
+
   @Nullable NodeServer selectNodeForService(@NonNull ServiceConfiguration configuration);
 
   @NonNull
@@ -93,6 +96,9 @@ void addServicePreparer(
   @ApiStatus.Internal
   void unregisterLocalService(@NonNull CloudService service);
 
+  @ApiStatus.Internal
+  void handleLocalServiceUpdate(@NonNull CloudService service);
+
   @ApiStatus.Internal
   void registerUnacceptedService(@NonNull CloudService service);
 
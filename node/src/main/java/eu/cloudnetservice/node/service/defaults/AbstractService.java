@@ -639,9 +639,11 @@ protected void pushServiceInfoSnapshotUpdate(
       this.connectionTimestamp,
       lifeCycle,
       Objects.requireNonNullElse(properties, this.lastServiceInfo.propertyHolder()));
-    // remove the service in the local manager if the service was deleted
+    // remove the service in the local manager if the service was deleted, update the service indexes otherwise
     if (lifeCycle == ServiceLifeCycle.DELETED) {
       this.cloudServiceManager.unregisterLocalService(this);
+    } else {
+      this.cloudServiceManager.handleLocalServiceUpdate(this);
     }
 
     if (sendUpdate) {
@@ -18,13 +18,11 @@
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import com.google.common.collect.ComparisonChain;
 import dev.derklaro.aerogel.PostConstruct;
 import dev.derklaro.aerogel.auto.Provides;
 import eu.cloudnetservice.common.Named;
 import eu.cloudnetservice.common.log.LogManager;
 import eu.cloudnetservice.common.log.Logger;
-import eu.cloudnetservice.common.tuple.Tuple2;
 import eu.cloudnetservice.driver.event.EventManager;
 import eu.cloudnetservice.driver.inject.InjectionLayer;
 import eu.cloudnetservice.driver.network.NetworkChannel;
@@ -59,6 +57,7 @@
 import eu.cloudnetservice.node.service.defaults.factory.JVMLocalCloudServiceFactory;
 import eu.cloudnetservice.node.service.defaults.provider.EmptySpecificCloudServiceProvider;
 import eu.cloudnetservice.node.service.defaults.provider.RemoteNodeCloudServiceProvider;
+import eu.cloudnetservice.node.service.placement.ServicePlacementEngine;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import java.nio.file.Path;
@@ -66,13 +65,12 @@
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -96,7 +94,8 @@ public class DefaultCloudServiceManager implements CloudServiceManager {
   protected final NodeServerProvider nodeServerProvider;
   protected final CloudServiceFactory cloudServiceFactory;
 
-  protected final Map<UUID, SpecificCloudServiceProvider> knownServices = new ConcurrentHashMap<>();
+  protected final ServiceIndex knownServices = new ServiceIndex();
+  protected final ServicePlacementEngine placementEngine;
   protected final Cache<UUID, CloudService> localUnacceptedServices = Caffeine.newBuilder()
     .expireAfterWrite(Duration.ofMinutes(1))
     .build();
@@ -117,6 +116,7 @@ public DefaultCloudServiceManager(
   ) {
     this.nodeServerProvider = nodeServerProvider;
     this.cloudServiceFactory = cloudServiceFactory;
+    this.placementEngine = new DefaultServicePlacementEngine(this.knownServices, nodeServerProvider);
     this.defaultJvmOptions = Arrays.asList(args.remove(0).split(";;"));
     // rpc init
     this.sender = rpcFactory.providerForClass(null, CloudServiceProvider.class);
@@ -146,20 +146,14 @@ public DefaultCloudServiceManager(
         })
         .currentGetter(group -> this.serviceProviderByName(group.name()).serviceInfo())
         .build());
-    // schedule the updating of the local service log cache
+    // schedule the detection of dead local services, the console lines are streamed into the log caches as they arrive
     mainThread.scheduleTask(() -> {
       for (var service : this.localCloudServices()) {
-        // we only need to look at running services
-        if (service.lifeCycle() == ServiceLifeCycle.RUNNING) {
-          // detect dead services and stop them
-          if (service.alive()) {
-            service.serviceConsoleLogCache().update();
-            LOGGER.fine("Updated service log cache of %s", null, service.serviceId().name());
-          } else {
-            eventManager.callEvent(new CloudServicePreForceStopEvent(service));
-            service.stop();
-            LOGGER.fine("Stopped dead service %s", null, service.serviceId().name());
-          }
+        // we only need to look at running services, stop them if they died
+        if (service.lifeCycle() == ServiceLifeCycle.RUNNING && !service.alive()) {
+          eventManager.callEvent(new CloudServicePreForceStopEvent(service));
+          service.stop();
+          LOGGER.fine("Stopped dead service %s", null, service.serviceId().name());
         }
       }
       return null;
@@ -173,62 +167,39 @@ private void registerDefaultServiceFactory() {
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProvider(@NonNull UUID serviceUniqueId) {
-    return this.knownServices.getOrDefault(serviceUniqueId, EmptySpecificCloudServiceProvider.INSTANCE);
+    var provider = this.knownServices.get(serviceUniqueId);
+    return provider == null ? EmptySpecificCloudServiceProvider.INSTANCE : provider;
   }
 
   @Override
   public @NonNull SpecificCloudServiceProvider serviceProviderByName(@NonNull String serviceName) {
-    return this.knownServices.values().stream()
-      .filter(provider -> {
-        var serviceInfo = provider.serviceInfo();
-        return serviceInfo != null && serviceInfo.serviceId().name().equals(serviceName);
-      })
-      .findFirst()
-      .orElse(EmptySpecificCloudServiceProvider.INSTANCE);
+    var provider = this.knownServices.byName(serviceName);
+    return provider == null ? EmptySpecificCloudServiceProvider.INSTANCE : provider;
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> services() {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .toList();
+    return snapshots(this.knownServices.providers());
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> runningServices() {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.lifeCycle() == ServiceLifeCycle.RUNNING)
-      .toList();
+    return snapshots(this.knownServices.byLifeCycle(ServiceLifeCycle.RUNNING));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByTask(@NonNull String taskName) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().taskName().equals(taskName))
-      .toList();
+    return snapshots(this.knownServices.byTask(taskName));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByEnvironment(@NonNull String environment) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.serviceId().environmentName().equals(environment))
-      .toList();
+    return snapshots(this.knownServices.byEnvironment(environment));
   }
 
   @Override
   public @UnmodifiableView @NonNull Collection<ServiceInfoSnapshot> servicesByGroup(@NonNull String group) {
-    return this.knownServices.values().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .filter(Objects::nonNull)
-      .filter(snapshot -> snapshot.configuration().groups().contains(group))
-      .toList();
+    return snapshots(this.knownServices.byGroup(group));
   }
 
   @Override
@@ -238,12 +209,12 @@ public int serviceCount() {
 
   @Override
   public int serviceCountByGroup(@NonNull String group) {
-    return this.servicesByGroup(group).size();
+    return this.knownServices.byGroup(group).size();
   }
 
   @Override
   public int serviceCountByTask(@NonNull String taskName) {
-    return this.servicesByTask(taskName).size();
+    return this.knownServices.byTask(taskName).size();
   }
 
   @Override
@@ -345,10 +316,7 @@ public void deleteAllCloudServices() {
 
   @Override
   public @NonNull @UnmodifiableView Collection<CloudService> localCloudServices() {
-    return this.knownServices.values().stream()
-      .filter(provider -> provider instanceof CloudService) // -> CloudService => local service
-      .map(provider -> (CloudService) provider)
-      .toList();
+    return this.knownServices.localServices();
   }
 
   @Override
@@ -382,10 +350,12 @@ public int currentUsedHeapMemory() {
 
   @Override
   public int currentReservedMemory() {
-    return this.localCloudServices().stream()
-      .map(SpecificCloudServiceProvider::serviceInfo)
-      .mapToInt(snapshot -> snapshot.configuration().processConfig().maxHeapMemorySize())
-      .sum();
+    return this.knownServices.reservedMemory(this.nodeServerProvider.localNode().name());
+  }
+
+  @Override
+  public @NonNull ServicePlacementEngine placementEngine() {
+    return this.placementEngine;
   }
 
   @Override
@@ -396,52 +366,36 @@ public int currentReservedMemory() {
       var server = this.nodeServerProvider.node(configuration.serviceId().nodeUniqueId());
       if (server != null) {
         // the requested node is a cluster node, check if that node is still accepting services
-        return !server.available() || server.nodeInfoSnapshot().draining() ? null : server;
+        if (!server.available() || server.nodeInfoSnapshot().draining()) {
+          return null;
+        }
+
+        // reserve the memory of the service on the requested node for the following placements
+        this.placementEngine.reserve(configuration, server);
+        return server;
       }
       // no node server with the given name which can start services found
       return null;
     }
 
-    // find the best node server
-    return this.nodeServerProvider.nodeServers().stream()
-      .filter(NodeServer::available)
-      .filter(nodeServer -> !nodeServer.nodeInfoSnapshot().draining())
-      .filter(server -> {
-        var allowedNodes = configuration.serviceId().allowedNodes();
-        return allowedNodes.isEmpty() || allowedNodes.contains(server.info().uniqueId());
-      })
-      .min((left, right) -> {
-        // calculate the reserved memory amount based on the cached service information on this node
-        // this is the better way to do this, as newly created services on other nodes will get cached instantly, rather
-        // than us needing to wait for the updated node info to be sent by the associated node. In normal scenarios
-        // that is not a big problem, however when many start requests are coming in, that can lead to one node picking
-        // up a lot of services until (only a few ms later) the updated snapshot is present.
-        var leftReservedMemory = this.calculateReservedMemoryPercentage(left);
-        var rightReservedMemory = this.calculateReservedMemoryPercentage(right);
-
-        // we elevate the used heap memory percentage over the cpu usage, as it's varying much more
-        var chain = ComparisonChain.start().compare(leftReservedMemory, rightReservedMemory);
-        // only include the cpu usage if both nodes can provide a value
-        if (left.nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0
-          && right.nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0) {
-          // add the system usage to the chain
-          chain = chain.compare(
-            left.nodeInfoSnapshot().processSnapshot().systemCpuUsage(),
-            right.nodeInfoSnapshot().processSnapshot().systemCpuUsage());
-        }
-        // use the result of the comparison
-        return chain.result();
-      }).orElse(null);
+    // let the placement engine select the best node server, reserving the memory of the service on it
+    return this.placementEngine.place(configuration);
   }
 
   @Override
   public void registerLocalService(@NonNull CloudService service) {
-    this.knownServices.putIfAbsent(service.serviceId().uniqueId(), service);
+    this.knownServices.register(service);
+    this.placementEngine.release(service.serviceId().uniqueId());
   }
 
   @Override
   public void unregisterLocalService(@NonNull CloudService service) {
-    this.knownServices.remove(service.serviceId().uniqueId());
+    this.knownServices.remove(service.serviceId().uniqueId(), service);
+  }
+
+  @Override
+  public void handleLocalServiceUpdate(@NonNull CloudService service) {
+    this.knownServices.update(service.serviceId().uniqueId());
   }
 
   @Override
@@ -468,7 +422,7 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
   ) {
     // check if the service provider is already registered, return null to indicate that we didn't register the service
     var serviceUniqueId = snapshot.serviceId().uniqueId();
-    if (this.knownServices.containsKey(serviceUniqueId)) {
+    if (this.knownServices.contains(serviceUniqueId)) {
       return null;
     }
 
@@ -481,7 +435,8 @@ public void forceRemoveRegisteredService(@NonNull UUID uniqueId) {
     ).newInstance(new Object[]{snapshot}, new Object[]{snapshot.serviceId().uniqueId()});
 
     // register the service and return the new provider, unless some other thread registered the service
-    var knownProvider = this.knownServices.putIfAbsent(serviceUniqueId, serviceProvider);
+    var knownProvider = this.knownServices.register(serviceProvider);
+    this.placementEngine.release(serviceUniqueId);
     return knownProvider == null ? serviceProvider : null;
   }
 
@@ -503,10 +458,12 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
         // update the provider if possible - we need only to handle remote node providers as local providers will update
         // the snapshot directly "in" them
         remoteProvider.snapshot(snapshot);
+        this.knownServices.update(snapshot.serviceId().uniqueId());
         LOGGER.fine("Updated service snapshot of %s to %s", null, snapshot.serviceId(), snapshot);
       } else if (provider instanceof CloudService localService) {
         // just set the service information locally - no further processing
         localService.updateServiceInfoSnapshot(snapshot);
+        this.knownServices.update(snapshot.serviceId().uniqueId());
       }
     }
   }
@@ -524,69 +481,43 @@ public void handleServiceUpdate(@NonNull ServiceInfoSnapshot snapshot, @Nullable
 
   @Override
   public @NonNull SpecificCloudServiceProvider selectOrCreateService(@NonNull ServiceTask task) {
-    // filter out all nodes which are able to start a service of the given task
-    var nodes = this.nodeServerProvider.nodeServers().stream()
-      .filter(NodeServer::available)
-      .filter(nodeServer -> !nodeServer.nodeInfoSnapshot().draining())
-      .filter(server -> {
-        var allowedNodes = task.associatedNodes();
-        return allowedNodes.isEmpty() || allowedNodes.contains(server.info().uniqueId());
-      })
-      .filter(server -> {
-        var snapshot = server.nodeInfoSnapshot();
-        return snapshot.usedMemory() + task.processConfiguration().maxHeapMemorySize() <= snapshot.maxMemory();
-      })
-      .collect(Collectors.toMap(NodeServer::name, Function.identity()));
-    // if there are no nodes which can pick up the service then do nothing
-    if (nodes.isEmpty()) {
-      return EmptySpecificCloudServiceProvider.INSTANCE;
+    var configuration = ServiceConfiguration.builder(task).build();
+
+    // get one prepared service of the given task per node, starting one of them is preferred over creating a service
+    Map<String, ServiceInfoSnapshot> preparedByNode = new HashMap<>();
+    for (var service : this.servicesByTask(task.name())) {
+      var nodeUniqueId = service.serviceId().nodeUniqueId();
+      if (service.lifeCycle() == ServiceLifeCycle.PREPARED && nodeUniqueId != null) {
+        preparedByNode.putIfAbsent(nodeUniqueId, service);
+      }
     }
 
-    // get all services of the given task, map it to its node unique id
-    var prepared = this.servicesByTask(task.name())
-      .stream()
-      .filter(taskService -> taskService.lifeCycle() == ServiceLifeCycle.PREPARED)
-      .map(service -> {
-        // get the node server associated with the node, if the server is null it has not enough memory to start a service
-        var nodeServer = nodes.get(service.serviceId().nodeUniqueId());
-        return nodeServer == null ? null : new Tuple2<>(service, nodeServer);
-      })
-      .filter(Objects::nonNull)
-      .min((left, right) -> {
-        // begin by comparing the heap memory usage
-        var chain = ComparisonChain.start().compare(
-          left.second().nodeInfoSnapshot().memoryUsagePercentage(),
-          right.second().nodeInfoSnapshot().memoryUsagePercentage());
-        // only include the cpu usage if both nodes can provide a value
-        if (left.second().nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0
-          && right.second().nodeInfoSnapshot().processSnapshot().systemCpuUsage() >= 0) {
-          // add the system usage to the chain
-          chain = chain.compare(
-            left.second().nodeInfoSnapshot().processSnapshot().systemCpuUsage(),
-            right.second().nodeInfoSnapshot().processSnapshot().systemCpuUsage());
-        }
-        // use the result of the comparison
-        return chain.result();
-      }).orElse(null);
-    // check if we found a prepared service
-    if (prepared != null) {
-      return prepared.first().provider();
-    } else {
-      // create a new service
-      var createResult = this.cloudServiceFactory.createCloudService(ServiceConfiguration.builder(task).build());
-      return createResult.state() != ServiceCreateResult.State.CREATED
-        ? EmptySpecificCloudServiceProvider.INSTANCE
-        : createResult.serviceInfo().provider();
+    if (!preparedByNode.isEmpty()) {
+      // let the placement engine select the node out of the nodes with a prepared service. the memory of the prepared
+      // service is already reserved on its node, the reservation made by the placement is released right away
+      var preparedConfiguration = ServiceConfiguration.builder(configuration)
+        .allowedNodes(preparedByNode.keySet())
+        .build();
+      var nodeServer = this.placementEngine.place(preparedConfiguration);
+      if (nodeServer != null) {
+        this.placementEngine.release(preparedConfiguration.serviceId().uniqueId());
+        return preparedByNode.get(nodeServer.name()).provider();
+      }
     }
+
+    // create a new service, the node of it is selected by the placement engine
+    var createResult = this.cloudServiceFactory.createCloudService(configuration);
+    return createResult.state() != ServiceCreateResult.State.CREATED
+      ? EmptySpecificCloudServiceProvider.INSTANCE
+      : createResult.serviceInfo().provider();
   }
 
-  protected int calculateReservedMemoryPercentage(@NonNull NodeServer server) {
-    // get the reserved memory on the given node based on the services which are running on it and sum it up
-    var reservedMemory = this.services().stream()
-      .filter(info -> info.serviceId().nodeUniqueId().equals(server.name()))
-      .mapToInt(info -> info.configuration().processConfig().maxHeapMemorySize())
-      .sum();
-    // convert to a percentage
-    return (reservedMemory * 100) / server.nodeInfoSnapshot().maxMemory();
+  protected static @NonNull List<ServiceInfoSnapshot> snapshots(
+    @NonNull Collection<SpecificCloudServiceProvider> providers
+  ) {
+    return providers.stream()
+      .map(SpecificCloudServiceProvider::serviceInfo)
+      .filter(Objects::nonNull)
+      .toList();
   }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.placement.NodeCandidate;
+import eu.cloudnetservice.node.service.placement.PlacementStrategies;
+import eu.cloudnetservice.node.service.placement.PlacementStrategy;
+import eu.cloudnetservice.node.service.placement.ServicePlacementEngine;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * The default placement engine, which builds the candidates for a placement from the services known to the service
+ * manager and the reservations of the services which were placed but are not yet registered. Reservations expire
+ * after one minute in case the service was never registered nor released.
+ *
+ * @since 4.0
+ */
+public class DefaultServicePlacementEngine implements ServicePlacementEngine {
+
+  protected static final PlacementStrategy DEFAULT_STRATEGY = Objects.requireNonNullElse(
+    PlacementStrategies.byName(System.getProperty("cloudnet.service.placement.strategy", "least-loaded")),
+    PlacementStrategies.LEAST_LOADED);
+
+  protected final ServiceIndex knownServices;
+  protected final NodeServerProvider nodeServerProvider;
+  protected final Cache<UUID, Reservation> reservations = Caffeine.newBuilder()
+    .expireAfterWrite(Duration.ofMinutes(1))
+    .build();
+
+  protected volatile PlacementStrategy strategy = DEFAULT_STRATEGY;
+
+  DefaultServicePlacementEngine(@NonNull ServiceIndex knownServices, @NonNull NodeServerProvider nodeServerProvider) {
+    this.knownServices = knownServices;
+    this.nodeServerProvider = nodeServerProvider;
+  }
+
+  @Override
+  public @NonNull PlacementStrategy strategy() {
+    return this.strategy;
+  }
+
+  @Override
+  public void strategy(@NonNull PlacementStrategy strategy) {
+    this.strategy = strategy;
+  }
+
+  @Override
+  public @Nullable NodeServer place(@NonNull ServiceConfiguration configuration) {
+    return this.placeAll(List.of(configuration)).get(configuration.serviceId().uniqueId());
+  }
+
+  @Override
+  public synchronized @Unmodifiable @NonNull Map<UUID, NodeServer> placeAll(
+    @NonNull List<ServiceConfiguration> configurations
+  ) {
+    // build the candidates once, each placement is applied to them so that the following placements account for it
+    Map<String, NodeServer> servers = new HashMap<>();
+    Map<String, NodeCandidate> candidates = new HashMap<>();
+    for (var server : this.nodeServerProvider.nodeServers()) {
+      if (server.available() && !server.nodeInfoSnapshot().draining()) {
+        servers.put(server.name(), server);
+        candidates.put(server.name(), this.candidate(server));
+      }
+    }
+
+    Map<UUID, NodeServer> placements = new HashMap<>();
+    for (var configuration : configurations) {
+      var allowedNodes = configuration.serviceId().allowedNodes();
+      List<NodeCandidate> allowedCandidates = new ArrayList<>(candidates.size());
+      for (var candidate : candidates.values()) {
+        if (allowedNodes.isEmpty() || allowedNodes.contains(candidate.name())) {
+          allowedCandidates.add(candidate);
+        }
+      }
+
+      // skip the service if no node is able to pick it up
+      var memory = configuration.processConfig().maxHeapMemorySize();
+      var selected = allowedCandidates.isEmpty() ? null : this.strategy.select(memory, allowedCandidates);
+      if (selected != null) {
+        var serviceUniqueId = configuration.serviceId().uniqueId();
+        this.reservations.put(serviceUniqueId, new Reservation(selected.name(), memory));
+        candidates.put(selected.name(), selected.withReservation(memory));
+        placements.put(serviceUniqueId, servers.get(selected.name()));
+      }
+    }
+
+    return Map.copyOf(placements);
+  }
+
+  @Override
+  public synchronized void reserve(@NonNull ServiceConfiguration configuration, @NonNull NodeServer nodeServer) {
+    this.reservations.put(
+      configuration.serviceId().uniqueId(),
+      new Reservation(nodeServer.name(), configuration.processConfig().maxHeapMemorySize()));
+  }
+
+  @Override
+  public void release(@NonNull UUID serviceUniqueId) {
+    this.reservations.invalidate(serviceUniqueId);
+  }
+
+  @Override
+  public int reservedMemory(@NonNull String nodeName) {
+    var reservedMemory = 0;
+    for (var reservation : this.reservations.asMap().values()) {
+      if (reservation.nodeName().equals(nodeName)) {
+        reservedMemory += reservation.memory();
+      }
+    }
+    return reservedMemory;
+  }
+
+  protected @NonNull NodeCandidate candidate(@NonNull NodeServer server) {
+    var reservedMemory = this.knownServices.reservedMemory(server.name());
+    var serviceCount = this.knownServices.byNode(server.name()).size();
+    for (var reservation : this.reservations.asMap().values()) {
+      if (reservation.nodeName().equals(server.name())) {
+        reservedMemory += reservation.memory();
+        serviceCount++;
+      }
+    }
+
+    var snapshot = server.nodeInfoSnapshot();
+    return new NodeCandidate(
+      server.name(),
+      reservedMemory,
+      snapshot.maxMemory(),
+      serviceCount,
+      snapshot.processSnapshot().systemCpuUsage());
+  }
+
+  protected record Reservation(@NonNull String nodeName, int memory) {
+
+  }
+}
@@ -229,6 +229,8 @@ protected void doStartProcess(
 
       // start the process and fire the post start event
       this.process = builder.start();
+      // start streaming the console lines of the new process into the log cache
+      super.logCache.update();
       this.eventManager.callEvent(new CloudServicePostProcessStartEvent(this));
     } catch (IOException exception) {
       LOGGER.severe("Unable to start process in %s with command line %s",
@@ -38,6 +38,7 @@
 import eu.cloudnetservice.node.event.service.CloudServiceConfigurationPrePrepareEvent;
 import eu.cloudnetservice.node.event.service.CloudServiceNodeSelectEvent;
 import eu.cloudnetservice.node.network.listener.message.ServiceChannelMessageListener;
+import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.CloudServiceManager;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -131,6 +132,9 @@ private void registerServiceChannelListener() {
               maybeServiceConfiguration.retryConfiguration(),
               serviceConfiguration);
           }
+        } else {
+          // the node was selected by a listener, reserve the memory of the service on it for the following placements
+          this.serviceManager.placementEngine().reserve(serviceConfiguration, nodeServer);
         }
 
         // if there is a node server send a request to start a service
@@ -147,13 +151,21 @@ private void registerServiceChannelListener() {
             return createResult;
           }
 
-          // service creation failed - retry
+          // service creation failed - release the memory reserved on the node and retry
+          this.serviceManager.placementEngine().release(serviceConfiguration.serviceId().uniqueId());
           return this.scheduleCreateRetryIfEnabled(
             maybeServiceConfiguration.retryConfiguration(),
             serviceConfiguration);
         } else {
           // start on the current node & publish the service snapshot to all components
-          var createdService = this.serviceManager.createLocalCloudService(serviceConfiguration);
+          CloudService createdService;
+          try {
+            createdService = this.serviceManager.createLocalCloudService(serviceConfiguration);
+          } catch (RuntimeException exception) {
+            // release the memory reserved on this node as the service will never be registered
+            this.serviceManager.placementEngine().release(serviceConfiguration.serviceId().uniqueId());
+            throw exception;
+          }
           createdService.handleServiceRegister();
 
           // construct the create result
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.node.service.CloudService;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+/**
+ * Holds all services known to the service manager, indexed by the properties of their current snapshot which are used
+ * to look up services. The indexes are updated incrementally whenever a service is registered, updated or removed,
+ * reading from an index never requires visiting services which are not part of the result.
+ * <p>
+ * Modifications are serialized, reads are lock-free and weakly consistent.
+ */
+final class ServiceIndex {
+
+  private final Map<UUID, IndexedService> services = new ConcurrentHashMap<>();
+  private final Map<String, SpecificCloudServiceProvider> byName = new ConcurrentHashMap<>();
+  private final Set<CloudService> localServices = ConcurrentHashMap.newKeySet();
+
+  private final Map<String, Set<SpecificCloudServiceProvider>> byTask = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> byGroup = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> byNode = new ConcurrentHashMap<>();
+  private final Map<String, Set<SpecificCloudServiceProvider>> byEnvironment = new ConcurrentHashMap<>();
+  private final Map<ServiceLifeCycle, Set<SpecificCloudServiceProvider>> byLifeCycle = new EnumMap<>(
+    ServiceLifeCycle.class);
+
+  private final Map<String, Integer> reservedMemoryByNode = new ConcurrentHashMap<>();
+
+  public ServiceIndex() {
+    for (var lifeCycle : ServiceLifeCycle.values()) {
+      this.byLifeCycle.put(lifeCycle, ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  public @Nullable SpecificCloudServiceProvider get(@NonNull UUID uniqueId) {
+    var indexedService = this.services.get(uniqueId);
+    return indexedService == null ? null : indexedService.provider();
+  }
+
+  public boolean contains(@NonNull UUID uniqueId) {
+    return this.services.containsKey(uniqueId);
+  }
+
+  public int size() {
+    return this.services.size();
+  }
+
+  public @NonNull Collection<SpecificCloudServiceProvider> providers() {
+    return this.services.values().stream().map(IndexedService::provider).toList();
+  }
+
+  public @Nullable SpecificCloudServiceProvider byName(@NonNull String name) {
+    return this.byName.get(name);
+  }
+
+  public @UnmodifiableView @NonNull Collection<CloudService> localServices() {
+    return Collections.unmodifiableCollection(this.localServices);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> byTask(@NonNull String task) {
+    return lookup(this.byTask, task);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> byGroup(@NonNull String group) {
+    return lookup(this.byGroup, group);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> byNode(@NonNull String node) {
+    return lookup(this.byNode, node);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> byEnvironment(@NonNull String env) {
+    return lookup(this.byEnvironment, env);
+  }
+
+  public @UnmodifiableView @NonNull Collection<SpecificCloudServiceProvider> byLifeCycle(
+    @NonNull ServiceLifeCycle lifeCycle
+  ) {
+    return Collections.unmodifiableCollection(this.byLifeCycle.get(lifeCycle));
+  }
+
+  public int reservedMemory(@NonNull String node) {
+    return this.reservedMemoryByNode.getOrDefault(node, 0);
+  }
+
+  public synchronized @Nullable SpecificCloudServiceProvider register(
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    var snapshot = provider.serviceInfo();
+    if (snapshot == null) {
+      return null;
+    }
+
+    // do not replace the provider of a service which is already known
+    var uniqueId = snapshot.serviceId().uniqueId();
+    var knownService = this.services.get(uniqueId);
+    if (knownService != null) {
+      return knownService.provider();
+    }
+
+    this.add(new IndexedService(provider, snapshot));
+    return null;
+  }
+
+  public synchronized void update(@NonNull UUID uniqueId) {
+    var indexedService = this.services.get(uniqueId);
+    if (indexedService != null) {
+      // re-index the service based on the current snapshot, which is always the latest one even if updates raced
+      var snapshot = indexedService.provider().serviceInfo();
+      if (snapshot != null && snapshot != indexedService.snapshot()) {
+        this.reindex(indexedService, new IndexedService(indexedService.provider(), snapshot));
+      }
+    }
+  }
+
+  public synchronized boolean remove(@NonNull UUID uniqueId) {
+    var indexedService = this.services.get(uniqueId);
+    if (indexedService != null) {
+      this.remove(indexedService);
+      return true;
+    }
+
+    return false;
+  }
+
+  public synchronized boolean remove(@NonNull UUID uniqueId, @NonNull SpecificCloudServiceProvider provider) {
+    var indexedService = this.services.get(uniqueId);
+    if (indexedService != null && indexedService.provider() == provider) {
+      this.remove(indexedService);
+      return true;
+    }
+
+    return false;
+  }
+
+  private void add(@NonNull IndexedService service) {
+    var provider = service.provider();
+    var snapshot = service.snapshot();
+    var serviceId = snapshot.serviceId();
+
+    this.services.put(serviceId.uniqueId(), service);
+    this.byName.put(serviceId.name(), provider);
+    if (provider instanceof CloudService localService) {
+      this.localServices.add(localService);
+    }
+
+    index(this.byTask, serviceId.taskName(), provider);
+    index(this.byEnvironment, serviceId.environmentName(), provider);
+    for (var group : snapshot.configuration().groups()) {
+      index(this.byGroup, group, provider);
+    }
+
+    this.byLifeCycle.get(snapshot.lifeCycle()).add(provider);
+    if (serviceId.nodeUniqueId() != null) {
+      index(this.byNode, serviceId.nodeUniqueId(), provider);
+      this.reservedMemoryByNode.merge(serviceId.nodeUniqueId(), reservedMemory(snapshot), Integer::sum);
+    }
+  }
+
+  private void reindex(@NonNull IndexedService previous, @NonNull IndexedService current) {
+    var provider = current.provider();
+    var previousSnapshot = previous.snapshot();
+    var currentSnapshot = current.snapshot();
+    this.services.put(currentSnapshot.serviceId().uniqueId(), current);
+
+    // add the service to the new keys before removing it from the previous ones, so that a service is never missing
+    // from the indexes of which the key did not change
+    var previousName = previousSnapshot.serviceId().name();
+    if (!previousName.equals(currentSnapshot.serviceId().name())) {
+      this.byName.put(currentSnapshot.serviceId().name(), provider);
+      this.byName.remove(previousName, provider);
+    }
+
+    reindex(this.byTask, provider, previousSnapshot.serviceId().taskName(), currentSnapshot.serviceId().taskName());
+    reindex(
+      this.byEnvironment,
+      provider,
+      previousSnapshot.serviceId().environmentName(),
+      currentSnapshot.serviceId().environmentName());
+
+    var previousGroups = previousSnapshot.configuration().groups();
+    var currentGroups = currentSnapshot.configuration().groups();
+    for (var group : currentGroups) {
+      index(this.byGroup, group, provider);
+    }
+    for (var group : previousGroups) {
+      if (!currentGroups.contains(group)) {
+        deindex(this.byGroup, group, provider);
+      }
+    }
+
+    if (previousSnapshot.lifeCycle() != currentSnapshot.lifeCycle()) {
+      this.byLifeCycle.get(currentSnapshot.lifeCycle()).add(provider);
+      this.byLifeCycle.get(previousSnapshot.lifeCycle()).remove(provider);
+    }
+
+    var previousNode = previousSnapshot.serviceId().nodeUniqueId();
+    var currentNode = currentSnapshot.serviceId().nodeUniqueId();
+    if (previousNode != null) {
+      this.releaseMemory(previousNode, reservedMemory(previousSnapshot));
+    }
+    if (currentNode != null) {
+      this.reservedMemoryByNode.merge(currentNode, reservedMemory(currentSnapshot), Integer::sum);
+      index(this.byNode, currentNode, provider);
+    }
+    if (previousNode != null && !previousNode.equals(currentNode)) {
+      deindex(this.byNode, previousNode, provider);
+    }
+  }
+
+  private void remove(@NonNull IndexedService service) {
+    var provider = service.provider();
+    var snapshot = service.snapshot();
+    var serviceId = snapshot.serviceId();
+
+    this.services.remove(serviceId.uniqueId());
+    this.byName.remove(serviceId.name(), provider);
+    if (provider instanceof CloudService localService) {
+      this.localServices.remove(localService);
+    }
+
+    deindex(this.byTask, serviceId.taskName(), provider);
+    deindex(this.byEnvironment, serviceId.environmentName(), provider);
+    for (var group : snapshot.configuration().groups()) {
+      deindex(this.byGroup, group, provider);
+    }
+
+    this.byLifeCycle.get(snapshot.lifeCycle()).remove(provider);
+    if (serviceId.nodeUniqueId() != null) {
+      deindex(this.byNode, serviceId.nodeUniqueId(), provider);
+      this.releaseMemory(serviceId.nodeUniqueId(), reservedMemory(snapshot));
+    }
+  }
+
+  private void releaseMemory(@NonNull String node, int memory) {
+    this.reservedMemoryByNode.computeIfPresent(node, ($, reservedMemory) -> {
+      var remainingMemory = reservedMemory - memory;
+      return remainingMemory == 0 ? null : remainingMemory;
+    });
+  }
+
+  private static int reservedMemory(@NonNull ServiceInfoSnapshot snapshot) {
+    return snapshot.configuration().processConfig().maxHeapMemorySize();
+  }
+
+  private static @NonNull Collection<SpecificCloudServiceProvider> lookup(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key
+  ) {
+    var providers = index.get(key);
+    return providers == null ? Set.of() : Collections.unmodifiableCollection(providers);
+  }
+
+  private static void index(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    index.computeIfAbsent(key, $ -> ConcurrentHashMap.newKeySet()).add(provider);
+  }
+
+  private static void reindex(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull SpecificCloudServiceProvider provider,
+    @NonNull String previousKey,
+    @NonNull String currentKey
+  ) {
+    if (!previousKey.equals(currentKey)) {
+      index(index, currentKey, provider);
+      deindex(index, previousKey, provider);
+    }
+  }
+
+  private static void deindex(
+    @NonNull Map<String, Set<SpecificCloudServiceProvider>> index,
+    @NonNull String key,
+    @NonNull SpecificCloudServiceProvider provider
+  ) {
+    // remove the key from the index if no provider is left
+    index.computeIfPresent(key, ($, providers) -> {
+      providers.remove(provider);
+      return providers.isEmpty() ? null : providers;
+    });
+  }
+
+  private record IndexedService(@NonNull SpecificCloudServiceProvider provider, @NonNull ServiceInfoSnapshot snapshot) {
+
+  }
+}
@@ -28,7 +28,6 @@
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import lombok.NonNull;
 import org.jetbrains.annotations.UnmodifiableView;
 
@@ -38,15 +37,14 @@ public abstract class AbstractServiceLogCache implements ServiceConsoleLogCache
 
   protected final CloudService service;
 
-  protected final Queue<String> cachedLogMessages = new ConcurrentLinkedQueue<>();
   protected final Set<ServiceConsoleLineHandler> handlers = ConcurrentHashMap.newKeySet();
 
-  protected volatile int logCacheSize;
+  protected volatile LogLineRingBuffer cachedLines;
   protected volatile boolean alwaysPrintErrorStreamToConsole;
 
   public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull CloudService service) {
     this.service = service;
-    this.logCacheSize = configuration.maxServiceConsoleLogCacheSize();
+    this.cachedLines = new LogLineRingBuffer(configuration.maxServiceConsoleLogCacheSize());
     this.alwaysPrintErrorStreamToConsole = configuration.printErrorStreamLinesFromServices();
   }
 
@@ -57,18 +55,21 @@ public AbstractServiceLogCache(@NonNull Configuration configuration, @NonNull Cl
 
   @Override
   public @NonNull Queue<String> cachedLogMessages() {
-    return this.cachedLogMessages;
+    return this.cachedLines.snapshot();
   }
 
   @Override
   public int logCacheSize() {
-    return this.logCacheSize;
+    return this.cachedLines.capacity();
   }
 
   @Override
   public void logCacheSize(int cacheSize) {
     Preconditions.checkArgument(cacheSize >= 0, "Cache size must be higher or equal to 0");
-    this.logCacheSize = cacheSize;
+    // move the latest lines into a buffer with the new size, lines added during the move might get lost
+    var cachedLines = new LogLineRingBuffer(cacheSize);
+    this.cachedLines.snapshot().forEach(cachedLines::add);
+    this.cachedLines = cachedLines;
   }
 
   @Override
@@ -97,16 +98,12 @@ public void removeHandler(@NonNull ServiceConsoleLineHandler handler) {
   }
 
   protected void handleItem(@NonNull String entry, boolean comesFromErrorStream) {
-    // drain the cache
-    while (this.cachedLogMessages.size() > this.logCacheSize) {
-      this.cachedLogMessages.poll();
-    }
     // print the line to the console if enabled
     if (this.alwaysPrintErrorStreamToConsole && comesFromErrorStream) {
       LOGGER.warning(String.format("[%s/SERR]: %s", this.service.serviceId().name(), entry));
     }
-    // add the line
-    this.cachedLogMessages.add(entry);
+    // add the line, overwriting the oldest line if the cache is full
+    this.cachedLines.add(entry);
     // call all handlers
     if (!this.handlers.isEmpty()) {
       for (var handler : this.handlers) {
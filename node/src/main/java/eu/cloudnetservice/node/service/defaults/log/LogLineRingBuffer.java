@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import lombok.NonNull;
+
+/**
+ * A fixed-capacity buffer holding the latest lines which were added to it. Adding a line overwrites the oldest line
+ * once the buffer is full, which makes adding a constant-time operation that does not need to lock.
+ * <p>
+ * Lines can be added by multiple threads at the same time. Snapshots are weakly consistent, a line which is added
+ * or overwritten while a snapshot is taken might be missing from the snapshot.
+ *
+ * @since 4.0
+ */
+public final class LogLineRingBuffer {
+
+  private final int capacity;
+  private final AtomicReferenceArray<Slot> lines;
+  private final AtomicLong writeIndex = new AtomicLong();
+
+  /**
+   * Constructs a new, empty ring buffer.
+   *
+   * @param capacity the maximum number of lines which are held by the buffer.
+   * @throws IllegalArgumentException if the given capacity is negative.
+   */
+  public LogLineRingBuffer(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Capacity must be higher or equal to 0");
+    }
+
+    this.capacity = capacity;
+    this.lines = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Get the maximum number of lines which are held by this buffer.
+   *
+   * @return the capacity of this buffer.
+   */
+  public int capacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Adds the given line to this buffer, overwriting the oldest line if this buffer is full.
+   *
+   * @param line the line to add.
+   * @throws NullPointerException if the given line is null.
+   */
+  public void add(@NonNull String line) {
+    if (this.capacity > 0) {
+      var index = this.writeIndex.getAndIncrement();
+      this.lines.set((int) (index % this.capacity), new Slot(index, line));
+    }
+  }
+
+  /**
+   * Copies the lines which are currently held by this buffer into a new queue, ordered from the oldest to the newest.
+   *
+   * @return a snapshot of the lines in this buffer.
+   */
+  public @NonNull Queue<String> snapshot() {
+    var end = this.writeIndex.get();
+    var start = Math.max(0, end - this.capacity);
+
+    Queue<String> snapshot = new ArrayDeque<>((int) (end - start));
+    for (var index = start; index < end; index++) {
+      // the slot holds a line with another index if the writer claimed the index but did not write the line yet (the
+      // slot is either empty or holds an older line) or if the line was overwritten by a newer line in the meantime
+      var slot = this.lines.get((int) (index % this.capacity));
+      if (slot != null && slot.index() == index) {
+        snapshot.add(slot.line());
+      }
+    }
+    return snapshot;
+  }
+
+  /**
+   * A line which was written into a slot of the buffer.
+   *
+   * @param index the write index of the line, used to detect slots which were overwritten.
+   * @param line  the line which was written into the slot.
+   * @since 4.0
+   */
+  private record Slot(long index, @NonNull String line) {
+
+  }
+}
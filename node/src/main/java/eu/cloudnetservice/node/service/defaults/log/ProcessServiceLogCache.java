@@ -16,21 +16,30 @@
 
 package eu.cloudnetservice.node.service.defaults.log;
 
+import eu.cloudnetservice.driver.util.ExecutorServiceUtil;
 import eu.cloudnetservice.node.config.Configuration;
 import eu.cloudnetservice.node.service.CloudService;
 import eu.cloudnetservice.node.service.ServiceConsoleLogCache;
+import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 import lombok.NonNull;
 
 public class ProcessServiceLogCache extends AbstractServiceLogCache {
 
+  // each stream of a process is read by a dedicated reader which blocks until the next line is available
+  protected static final ExecutorService STREAM_READER_EXECUTOR = ExecutorServiceUtil.newVirtualThreadExecutor(
+    "Service-Console-Reader-",
+    Executors::newCachedThreadPool);
+
   protected final Supplier<Process> processSupplier;
 
-  protected final byte[] buffer = new byte[2048];
-  protected final StringBuffer stringBuffer = new StringBuffer();
+  protected volatile Process readProcess;
 
   public ProcessServiceLogCache(
     @NonNull Supplier<Process> processSupplier,
@@ -43,43 +52,46 @@ public ProcessServiceLogCache(
 
   @Override
   public @NonNull ServiceConsoleLogCache update() {
-    // check if we can currently update
+    // start reading the streams of the process if it was (re-) started since the last call
     var process = this.processSupplier.get();
-    if (process != null) {
-      try {
-        this.readStream(process.getInputStream(), false);
-        this.readStream(process.getErrorStream(), true);
-      } catch (IOException exception) {
-        LOGGER.severe("Exception updating content of console for service %s",
-          exception,
-          this.service.serviceId().name());
-        // reset the string buffer
-        this.stringBuffer.setLength(0);
+    if (process != null && process != this.readProcess) {
+      synchronized (this) {
+        if (process != this.readProcess) {
+          this.readProcess = process;
+          this.startReader(process, process.getInputStream(), false);
+          this.startReader(process, process.getErrorStream(), true);
+        }
       }
     }
     // for chaining
     return this;
   }
 
-  protected void readStream(@NonNull InputStream stream, boolean isErrorStream) throws IOException {
-    int len;
-    while (stream.available() > 0 && (len = stream.read(this.buffer, 0, this.buffer.length)) != -1) {
-      this.stringBuffer.append(new String(this.buffer, 0, len, StandardCharsets.UTF_8));
-    }
-
-    // check if we got a result we can work with
-    var content = this.stringBuffer.toString();
-    if (content.contains("\n") || content.contains("\r")) {
-      for (var input : content.split("\r")) {
-        for (var text : input.split("\n")) {
-          if (!text.trim().isEmpty()) {
-            this.handleItem(text, isErrorStream);
+  protected void startReader(@NonNull Process process, @NonNull InputStream stream, boolean isErrorStream) {
+    STREAM_READER_EXECUTOR.execute(() -> {
+      // the reader decodes complete characters and handles all line separators, lines are passed on as they arrive
+      try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.isBlank()) {
+            this.handleLine(line, isErrorStream);
           }
         }
+      } catch (IOException exception) {
+        // the stream gets closed when the process is destroyed, only report exceptions of live processes
+        if (process.isAlive()) {
+          LOGGER.severe("Exception reading console of service %s", exception, this.service.serviceId().name());
+        }
       }
-    }
+    });
+  }
 
-    // reset the string buffer
-    this.stringBuffer.setLength(0);
+  protected void handleLine(@NonNull String line, boolean isErrorStream) {
+    try {
+      this.handleItem(line, isErrorStream);
+    } catch (Exception exception) {
+      // a failing handler must not stop the reader, the next lines would never be read otherwise
+      LOGGER.severe("Exception handling console line of service %s", exception, this.service.serviceId().name());
+    }
   }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.placement;
+
+import lombok.NonNull;
+
+/**
+ * A node which is able to pick up a service, as seen by a placement strategy. The reserved memory and service count
+ * include the services which were placed on the node but are not yet registered.
+ *
+ * @param name           the name of the node.
+ * @param reservedMemory the heap memory (in MB) which is reserved by the services on the node.
+ * @param maxMemory      the maximum heap memory (in MB) which can be reserved by services on the node.
+ * @param serviceCount   the number of services on the node.
+ * @param cpuUsage       the system cpu usage of the node, negative if unknown.
+ * @since 4.0
+ */
+public record NodeCandidate(
+  @NonNull String name,
+  int reservedMemory,
+  int maxMemory,
+  int serviceCount,
+  double cpuUsage
+) {
+
+  /**
+   * Get the heap memory (in MB) which is not yet reserved by a service on the node.
+   *
+   * @return the free heap memory of the node.
+   */
+  public int freeMemory() {
+    return this.maxMemory - this.reservedMemory;
+  }
+
+  /**
+   * Get the percentage of the maximum heap memory of the node which is reserved by services.
+   *
+   * @return the reserved memory percentage of the node.
+   */
+  public int reservedMemoryPercentage() {
+    return this.maxMemory <= 0 ? 100 : (this.reservedMemory * 100) / this.maxMemory;
+  }
+
+  /**
+   * Get if a service with the given heap memory fits on the node without exceeding its maximum heap memory.
+   *
+   * @param memory the heap memory (in MB) of the service.
+   * @return true if the service fits on the node, false otherwise.
+   */
+  public boolean fits(int memory) {
+    return this.reservedMemory + memory <= this.maxMemory;
+  }
+
+  /**
+   * Creates a copy of this candidate which includes a service with the given heap memory.
+   *
+   * @param memory the heap memory (in MB) of the service to include.
+   * @return a copy of this candidate including the given service.
+   */
+  public @NonNull NodeCandidate withReservation(int memory) {
+    return new NodeCandidate(
+      this.name,
+      this.reservedMemory + memory,
+      this.maxMemory,
+      this.serviceCount + 1,
+      this.cpuUsage);
+  }
+}
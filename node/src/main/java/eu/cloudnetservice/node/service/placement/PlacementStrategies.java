@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.placement;
+
+import java.util.Comparator;
+import java.util.Locale;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * The placement strategies provided by default.
+ *
+ * @since 4.0
+ */
+public final class PlacementStrategies {
+
+  /**
+   * Compares the cpu usage of two nodes, treating both as equal if one of them is unknown.
+   */
+  private static final Comparator<NodeCandidate> CPU_USAGE = (left, right) -> left.cpuUsage() >= 0
+    && right.cpuUsage() >= 0 ? Double.compare(left.cpuUsage(), right.cpuUsage()) : 0;
+
+  /**
+   * Selects the node with the lowest reserved memory percentage, using the cpu usage of the nodes as tie-breaker.
+   */
+  public static final PlacementStrategy LEAST_LOADED = (requiredMemory, candidates) -> candidates.stream()
+    .min(Comparator.comparingInt(NodeCandidate::reservedMemoryPercentage).thenComparing(CPU_USAGE))
+    .orElse(null);
+
+  /**
+   * Selects the node with the lowest number of services, using the reserved memory percentage as tie-breaker.
+   */
+  public static final PlacementStrategy SPREAD = (requiredMemory, candidates) -> candidates.stream()
+    .min(Comparator.comparingInt(NodeCandidate::serviceCount)
+      .thenComparingInt(NodeCandidate::reservedMemoryPercentage)
+      .thenComparing(CPU_USAGE))
+    .orElse(null);
+
+  /**
+   * Selects the node with the lowest free memory which is still able to fit the service, filling up nodes before
+   * using the next one. Falls back to the least loaded node if the service does not fit onto any node.
+   */
+  public static final PlacementStrategy BIN_PACKING = (requiredMemory, candidates) -> candidates.stream()
+    .filter(candidate -> candidate.fits(requiredMemory))
+    .min(Comparator.comparingInt(NodeCandidate::freeMemory).thenComparing(NodeCandidate::name))
+    .orElseGet(() -> LEAST_LOADED.select(requiredMemory, candidates));
+
+  private PlacementStrategies() {
+    throw new UnsupportedOperationException();
+  }
+
+  /**
+   * Get the default placement strategy with the given name, the name is case-insensitive.
+   *
+   * @param name the name of the strategy, either least-loaded, spread or bin-packing.
+   * @return the strategy with the given name, null if no strategy with the given name exists.
+   * @throws NullPointerException if the given name is null.
+   */
+  public static @Nullable PlacementStrategy byName(@NonNull String name) {
+    return switch (name.toLowerCase(Locale.ROOT)) {
+      case "least-loaded" -> LEAST_LOADED;
+      case "spread" -> SPREAD;
+      case "bin-packing" -> BIN_PACKING;
+      default -> null;
+    };
+  }
+}
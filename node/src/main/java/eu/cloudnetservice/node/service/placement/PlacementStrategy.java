@@ -0,0 +1,41 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.placement;
+
+import java.util.List;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A strategy which selects the node on which a service should be started.
+ *
+ * @see PlacementStrategies
+ * @since 4.0
+ */
+@FunctionalInterface
+public interface PlacementStrategy {
+
+  /**
+   * Selects the node out of the given candidates on which a service with the given heap memory should be started.
+   *
+   * @param requiredMemory the heap memory (in MB) of the service to place.
+   * @param candidates     the nodes which are able to pick up the service.
+   * @return the node to start the service on, null if none of the candidates should pick up the service.
+   * @throws NullPointerException if the given candidate list is null.
+   */
+  @Nullable NodeCandidate select(int requiredMemory, @NonNull List<NodeCandidate> candidates);
+}
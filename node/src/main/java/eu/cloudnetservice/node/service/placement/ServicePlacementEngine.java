@@ -0,0 +1,102 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.placement;
+
+import eu.cloudnetservice.driver.service.ServiceConfiguration;
+import eu.cloudnetservice.node.cluster.NodeServer;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * Selects the nodes on which services are started. Each placement reserves the heap memory of the service on the
+ * selected node until the service is registered, the reservation is released or it expires. Reservations are taken
+ * into account by all following placements, so that concurrent placements do not select the same node based on
+ * outdated information.
+ *
+ * @since 4.0
+ */
+public interface ServicePlacementEngine {
+
+  /**
+   * Get the strategy which is used to select the node for a service.
+   *
+   * @return the current placement strategy.
+   */
+  @NonNull PlacementStrategy strategy();
+
+  /**
+   * Sets the strategy which should be used to select the node for a service.
+   *
+   * @param strategy the new placement strategy.
+   * @throws NullPointerException if the given strategy is null.
+   */
+  void strategy(@NonNull PlacementStrategy strategy);
+
+  /**
+   * Selects the node on which the service with the given configuration should be started and reserves the heap memory
+   * of the service on the node.
+   *
+   * @param configuration the configuration of the service to place.
+   * @return the node to start the service on, null if no node is able to pick up the service.
+   * @throws NullPointerException if the given configuration is null.
+   */
+  @Nullable NodeServer place(@NonNull ServiceConfiguration configuration);
+
+  /**
+   * Selects the nodes for all given service configurations at once. Each placement takes the placements before it
+   * into account. The heap memory of each placed service is reserved on the selected node.
+   *
+   * @param configurations the configurations of the services to place.
+   * @return the selected nodes mapped by the unique id of the services, services which could not be placed are absent.
+   * @throws NullPointerException if the given configuration list is null.
+   */
+  @Unmodifiable
+  @NonNull Map<UUID, NodeServer> placeAll(@NonNull List<ServiceConfiguration> configurations);
+
+  /**
+   * Reserves the heap memory of the service with the given configuration on the given node, replacing the previous
+   * reservation of the service. This method is used when the node of a service was selected without this engine, for
+   * example because the node was requested explicitly.
+   *
+   * @param configuration the configuration of the service to reserve the memory of.
+   * @param nodeServer    the node on which the service is started.
+   * @throws NullPointerException if the given configuration or node is null.
+   */
+  void reserve(@NonNull ServiceConfiguration configuration, @NonNull NodeServer nodeServer);
+
+  /**
+   * Releases the reservation of the service with the given unique id. This method has no effect if there is no
+   * reservation for the service.
+   *
+   * @param serviceUniqueId the unique id of the service to release the reservation of.
+   * @throws NullPointerException if the given unique id is null.
+   */
+  void release(@NonNull UUID serviceUniqueId);
+
+  /**
+   * Get the heap memory (in MB) which is reserved on the given node by services which are placed but not registered.
+   *
+   * @param nodeName the name of the node.
+   * @return the heap memory reserved by in-flight placements on the node.
+   * @throws NullPointerException if the given node name is null.
+   */
+  int reservedMemory(@NonNull String nodeName);
+}
@@ -44,9 +44,15 @@ public class LocalTemplateStorage implements TemplateStorage {
   public static final String LOCAL_TEMPLATE_STORAGE = "local";
 
   private final Path storageDirectory;
+  private final TemplateMaterializer materializer;
 
   public LocalTemplateStorage(@NonNull Path storageDirectory) {
+    this(storageDirectory, TemplateMaterializer.DEFAULT);
+  }
+
+  public LocalTemplateStorage(@NonNull Path storageDirectory, @NonNull TemplateMaterializer materializer) {
     this.storageDirectory = storageDirectory;
+    this.materializer = materializer;
     FileUtil.createDirectory(storageDirectory);
   }
 
@@ -79,7 +85,10 @@ public boolean deploy(@NonNull ServiceTemplate target, @NonNull InputStream inpu
 
   @Override
   public boolean pull(@NonNull ServiceTemplate template, @NonNull Path directory) {
-    FileUtil.copyDirectory(this.getTemplatePath(template), directory);
+    var templateDirectory = this.getTemplatePath(template);
+    if (Files.exists(templateDirectory)) {
+      this.materializer.materialize(templateDirectory, directory);
+    }
     return true;
   }
 
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.log.LogManager;
+import eu.cloudnetservice.common.log.Logger;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.EnumSet;
+import java.util.Locale;
+import lombok.NonNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Materializes the files of a template into a service directory. Files which are already present in the target
+ * directory with the same size and modification time as in the template are skipped, copied files keep the
+ * modification time of the template file to allow this. In link mode, files which are considered immutable are hard
+ * linked instead of copied, falling back to a copy if the file system does not support hard links.
+ * <p>
+ * Note that a hard linked file shares its content with the template file. Replacing a linked file (for example when
+ * updating a plugin) is safe, but writing into it changes the template as well, therefore only files which are never
+ * written by a service should be considered immutable.
+ *
+ * @since 4.0
+ */
+public final class TemplateMaterializer {
+
+  private static final Logger LOGGER = LogManager.logger(TemplateMaterializer.class);
+
+  /**
+   * The materializer used by the local template storage if none is given explicitly.
+   */
+  public static final TemplateMaterializer DEFAULT = new TemplateMaterializer(
+    parseMode(System.getProperty("cloudnet.template.materialization")),
+    FileSystems.getDefault().getPathMatcher(System.getProperty("cloudnet.template.immutable-files", "glob:**.jar")));
+
+  private final Mode mode;
+  private final PathMatcher immutableFiles;
+
+  /**
+   * Constructs a new template materializer.
+   *
+   * @param mode           the mode to use when materializing files.
+   * @param immutableFiles the matcher for the paths, relative to the template, of the files which are never written.
+   * @throws NullPointerException if the given mode or matcher is null.
+   */
+  public TemplateMaterializer(@NonNull Mode mode, @NonNull PathMatcher immutableFiles) {
+    this.mode = mode;
+    this.immutableFiles = immutableFiles;
+  }
+
+  /**
+   * Parses the given materialization mode, ignoring the case of the given value. The copy mode is used if the given
+   * value is null or does not name a mode.
+   *
+   * @param value the name of the mode to parse.
+   * @return the parsed mode, or the copy mode if the value is invalid.
+   */
+  static @NonNull Mode parseMode(@Nullable String value) {
+    if (value != null) {
+      try {
+        return Mode.valueOf(value.toUpperCase(Locale.ROOT));
+      } catch (IllegalArgumentException exception) {
+        LOGGER.warning("Unknown template materialization mode %s, using the copy mode instead", null, value);
+      }
+    }
+
+    return Mode.COPY;
+  }
+
+  /**
+   * Get the mode which is used when materializing files.
+   *
+   * @return the materialization mode.
+   */
+  public @NonNull Mode mode() {
+    return this.mode;
+  }
+
+  /**
+   * Get if the file at the given path, relative to the template, is never written and can therefore be linked.
+   *
+   * @param relativePath the path of the file relative to the template directory.
+   * @return true if the file can be linked into a service directory, false otherwise.
+   * @throws NullPointerException if the given path is null.
+   */
+  public boolean linkable(@NonNull Path relativePath) {
+    return this.mode == Mode.LINK && this.immutableFiles.matches(relativePath);
+  }
+
+  /**
+   * Materializes all files in the given template directory into the given target directory, creating all needed
+   * directories. Files in the target directory which are not part of the template are left untouched.
+   *
+   * @param template the directory of the template to materialize.
+   * @param target   the directory to materialize the template into.
+   * @return the number of files which were copied, linked and skipped.
+   * @throws NullPointerException if the given template or target directory is null.
+   */
+  public @NonNull Result materialize(@NonNull Path template, @NonNull Path target) {
+    var visitor = new MaterializingFileVisitor(template, target);
+    try {
+      Files.walkFileTree(template, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE, visitor);
+    } catch (IOException exception) {
+      LOGGER.severe("Exception materializing template %s into %s", exception, template, target);
+    }
+
+    return new Result(visitor.copiedFiles, visitor.linkedFiles, visitor.skippedFiles);
+  }
+
+  private final class MaterializingFileVisitor extends SimpleFileVisitor<Path> {
+
+    private final Path template;
+    private final Path target;
+
+    private int copiedFiles;
+    private int linkedFiles;
+    private int skippedFiles;
+
+    public MaterializingFileVisitor(@NonNull Path template, @NonNull Path target) {
+      this.template = template;
+      this.target = target;
+    }
+
+    @Override
+    public @NonNull FileVisitResult preVisitDirectory(
+      @NonNull Path dir,
+      @NonNull BasicFileAttributes attrs
+    ) throws IOException {
+      Files.createDirectories(this.target.resolve(this.template.relativize(dir)));
+      return FileVisitResult.CONTINUE;
+    }
+
+    @Override
+    public @NonNull FileVisitResult visitFile(@NonNull Path file, @NonNull BasicFileAttributes attrs) {
+      var relativePath = this.template.relativize(file);
+      var target = this.target.resolve(relativePath);
+      try {
+        // skip the file if it is unchanged since it was materialized the last time
+        if (Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+          var targetAttributes = Files.readAttributes(target, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+          if (targetAttributes.isRegularFile()
+            && targetAttributes.size() == attrs.size()
+            && targetAttributes.lastModifiedTime().equals(attrs.lastModifiedTime())) {
+            this.skippedFiles++;
+            return FileVisitResult.CONTINUE;
+          }
+        }
+
+        // try to link the file if it is never written, fall back to a copy if linking is not possible
+        if (TemplateMaterializer.this.linkable(relativePath)) {
+          try {
+            Files.deleteIfExists(target);
+            Files.createLink(target, file);
+            this.linkedFiles++;
+            return FileVisitResult.CONTINUE;
+          } catch (IOException | UnsupportedOperationException exception) {
+            LOGGER.fine("Unable to link %s to %s, copying the file instead", exception, file, target);
+          }
+        }
+
+        // keep the modification time of the template file to detect unchanged files on the next materialization
+        Files.copy(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
+        this.copiedFiles++;
+      } catch (IOException exception) {
+        LOGGER.severe("Exception copying file from %s to %s", exception, file, target);
+      }
+
+      return FileVisitResult.CONTINUE;
+    }
+  }
+
+  /**
+   * The modes in which the files of a template can be materialized.
+   */
+  public enum Mode {
+
+    /**
+     * All files are copied into the target directory.
+     */
+    COPY,
+    /**
+     * Files which are considered immutable are hard linked into the target directory, all other files are copied.
+     */
+    LINK
+  }
+
+  /**
+   * The result of a template materialization.
+   *
+   * @param copiedFiles  the number of files which were copied into the target directory.
+   * @param linkedFiles  the number of files which were hard linked into the target directory.
+   * @param skippedFiles the number of files which were skipped as they were unchanged.
+   */
+  public record Result(int copiedFiles, int linkedFiles, int skippedFiles) {
+
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class TickTaskWheelTest {
+
+  @Test
+  void testDelayedTaskExecution() {
+    var wheel = new TickTaskWheel();
+    var executionTick = new AtomicLong(-1);
+    var currentTick = new AtomicLong();
+
+    // schedule the task into a later rotation of the wheel
+    var dueTick = TickTaskWheel.WHEEL_SIZE + 10;
+    var task = wheel.schedule(() -> executionTick.getAndSet(currentTick.get()), 0, 1, dueTick);
+
+    for (var tick = 1; tick <= dueTick + 5; tick++) {
+      currentTick.set(tick);
+      wheel.process(tick);
+    }
+
+    Assertions.assertTrue(task.isDone());
+    Assertions.assertEquals(dueTick, executionTick.get());
+    Assertions.assertEquals(0, wheel.scheduledTasks());
+  }
+
+  @Test
+  void testPeriodicTaskExecution() {
+    var wheel = new TickTaskWheel();
+    var executions = new AtomicInteger();
+
+    var task = wheel.schedule(executions::incrementAndGet, 2, 5, 1);
+    for (var tick = 1; tick <= 20; tick++) {
+      wheel.process(tick);
+    }
+
+    // executed in tick 1, 3, 5, 7 and 9
+    Assertions.assertEquals(5, executions.get());
+    Assertions.assertEquals(5, task.getNow(-1));
+    Assertions.assertEquals(0, wheel.scheduledTasks());
+  }
+
+  @Test
+  void testCancelledTaskIsRemoved() {
+    var wheel = new TickTaskWheel();
+    var executions = new AtomicInteger();
+
+    var task = wheel.schedule(executions::incrementAndGet, 1, -1, 1);
+    wheel.process(1);
+    wheel.process(2);
+    task.cancel(true);
+    wheel.process(3);
+
+    Assertions.assertEquals(2, executions.get());
+    Assertions.assertEquals(0, wheel.scheduledTasks());
+  }
+
+  @Test
+  void testSkippedTicksAreCaughtUp() {
+    var wheel = new TickTaskWheel();
+    var executions = new AtomicInteger();
+
+    wheel.schedule(executions::incrementAndGet, 0, 1, 5);
+    wheel.process(1);
+    // ticks 2 to 9 were not processed, for example because the tick loop was paused
+    wheel.process(10);
+
+    Assertions.assertEquals(1, executions.get());
+  }
+
+  @Test
+  void testTenThousandScheduledTasks() {
+    var wheel = new TickTaskWheel();
+    var executions = new AtomicInteger();
+
+    // 1000 periodic tasks and 9000 delayed tasks spread over 30 seconds of ticks
+    var taskCount = 10_000;
+    for (var i = 0; i < taskCount; i++) {
+      if (i % 10 == 0) {
+        wheel.schedule(executions::incrementAndGet, TickLoop.TPS, -1, 1 + i % TickLoop.TPS);
+      } else {
+        wheel.schedule(executions::incrementAndGet, 0, 1, 1 + i % (30 * TickLoop.TPS));
+      }
+    }
+
+    var ticks = 30 * TickLoop.TPS;
+    for (var tick = 1; tick <= ticks; tick++) {
+      wheel.process(tick);
+    }
+
+    // each delayed task runs once, each periodic task once per second
+    var expectedExecutions = 9000 + 1000 * 30;
+    Assertions.assertEquals(expectedExecutions, executions.get());
+    Assertions.assertEquals(1000, wheel.scheduledTasks());
+
+    // only the tasks which were due were visited, a scan of all tasks in each tick would visit 3 million tasks
+    Assertions.assertEquals(expectedExecutions, wheel.visitedTasks());
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.xodus.XodusDatabaseProvider;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachedDatabaseTest {
+
+  private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "cached-database").toAbsolutePath();
+
+  private XodusDatabaseProvider databaseProvider;
+
+  @BeforeEach
+  void setup() {
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false);
+    this.databaseProvider.init();
+  }
+
+  @AfterEach
+  void closeEnvironment() throws Exception {
+    this.databaseProvider.close();
+    FileUtil.delete(BASE_DIRECTORY);
+  }
+
+  @Test
+  void testDocumentsAreCached() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertInstanceOf(CachedDatabase.class, database);
+
+    var document = Document.newJsonDocument().append("name", "derklaro");
+    database.insert("1", document);
+
+    Assertions.assertEquals(document, database.get("1"));
+    Assertions.assertEquals(document, database.get("1"));
+    Assertions.assertNull(database.get("2"));
+    Assertions.assertNull(database.get("2"));
+
+    var stats = this.databaseProvider.cacheStats().get("test");
+    Assertions.assertEquals(2, stats.hitCount());
+    Assertions.assertEquals(2, stats.missCount());
+  }
+
+  @Test
+  void testWritesInvalidateCachedDocuments() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNull(database.get("1"));
+
+    database.insert("1", Document.newJsonDocument().append("value", 1));
+    Assertions.assertEquals(1, database.get("1").getInt("value"));
+
+    database.writeBatch(Map.of("1", Document.newJsonDocument().append("value", 2)));
+    Assertions.assertEquals(2, database.get("1").getInt("value"));
+
+    database.delete("1");
+    Assertions.assertNull(database.get("1"));
+    Assertions.assertFalse(database.contains("1"));
+  }
+
+  @Test
+  void testInvalidateCachedDocuments() {
+    var database = this.databaseProvider.database("test");
+    var delegate = ((CachedDatabase) database).delegate();
+
+    database.insert("1", Document.newJsonDocument().append("value", 1));
+    Assertions.assertEquals(1, database.get("1").getInt("value"));
+
+    // simulate a write of another node which is not seen by the cache
+    delegate.insert("1", Document.newJsonDocument().append("value", 2));
+    Assertions.assertEquals(1, database.get("1").getInt("value"));
+
+    this.databaseProvider.invalidateCachedDocuments("test", Set.of("1"));
+    Assertions.assertEquals(2, database.get("1").getInt("value"));
+  }
+
+  @Test
+  void testDisabledCache() {
+    this.databaseProvider.cacheConfiguration("test", DatabaseCacheConfiguration.DISABLED);
+    Assertions.assertFalse(this.databaseProvider.database("test") instanceof CachedDatabase);
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.xodus.XodusDatabaseProvider;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class WriteBehindDatabaseTest {
+
+  private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "write-behind").toAbsolutePath();
+
+  private XodusDatabaseProvider databaseProvider;
+  private ScheduledExecutorService flushExecutor;
+
+  @BeforeEach
+  void setup() {
+    this.databaseProvider = new XodusDatabaseProvider(BASE_DIRECTORY.toFile(), false);
+    this.databaseProvider.init();
+    this.flushExecutor = Executors.newSingleThreadScheduledExecutor();
+  }
+
+  @AfterEach
+  void closeEnvironment() throws Exception {
+    this.flushExecutor.shutdownNow();
+    this.databaseProvider.close();
+    FileUtil.delete(BASE_DIRECTORY);
+  }
+
+  @Test
+  void testReadYourWrites() {
+    var delegate = this.databaseProvider.database("test");
+    var database = new WriteBehindDatabase(delegate, Duration.ofHours(1), 1000, this.flushExecutor);
+
+    var document = Document.newJsonDocument().append("name", "derklaro");
+    Assertions.assertTrue(database.insert("1", document));
+
+    // the write is only visible through the pending writes
+    Assertions.assertEquals(1, database.pendingWrites());
+    Assertions.assertNull(delegate.get("1"));
+    Assertions.assertEquals(document, database.get("1"));
+    Assertions.assertTrue(database.contains("1"));
+
+    Assertions.assertTrue(database.delete("1"));
+    Assertions.assertNull(database.get("1"));
+    Assertions.assertFalse(database.contains("1"));
+    Assertions.assertFalse(database.delete("1"));
+  }
+
+  @Test
+  void testWritesAreCoalesced() {
+    var delegate = this.databaseProvider.database("test");
+    var database = new WriteBehindDatabase(delegate, Duration.ofHours(1), 1000, this.flushExecutor);
+
+    var firstWrite = database.insertAsync("1", Document.newJsonDocument().append("value", 1));
+    var secondWrite = database.insertAsync("1", Document.newJsonDocument().append("value", 2));
+    database.insertAsync("2", Document.newJsonDocument().append("value", 3));
+    Assertions.assertEquals(2, database.pendingWrites());
+
+    // both writes to the same key are acknowledged by the same flush
+    database.flush().join();
+    Assertions.assertTrue(firstWrite.isDone());
+    Assertions.assertTrue(secondWrite.join());
+    Assertions.assertEquals(0, database.pendingWrites());
+    Assertions.assertEquals(2, delegate.get("1").getInt("value"));
+    Assertions.assertEquals(3, delegate.get("2").getInt("value"));
+  }
+
+  @Test
+  void testWritesAreFlushedAfterWindow() throws Exception {
+    var delegate = this.databaseProvider.database("test");
+    var database = new WriteBehindDatabase(delegate, Duration.ofMillis(10), 1000, this.flushExecutor);
+
+    var write = database.insertAsync("1", Document.newJsonDocument().append("value", 1));
+    Assertions.assertTrue(write.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, delegate.get("1").getInt("value"));
+
+    var delete = database.deleteAsync("1");
+    Assertions.assertTrue(delete.get(5, TimeUnit.SECONDS));
+    Assertions.assertNull(delegate.get("1"));
+  }
+
+  @Test
+  void testFailedWritesAreRetried() throws Exception {
+    var delegate = Mockito.spy(this.databaseProvider.database("test"));
+    var database = new WriteBehindDatabase(delegate, Duration.ofMillis(500), 1000, this.flushExecutor);
+
+    // the first batch fails, all following batches are written
+    Mockito.doThrow(new IllegalStateException("database unavailable"))
+      .doCallRealMethod()
+      .when(delegate)
+      .writeBatch(Mockito.<Map<String, Document>>any());
+
+    var write = database.insertAsync("1", Document.newJsonDocument().append("value", 1));
+    Assertions.assertThrows(CompletionException.class, () -> database.flush().join());
+    Assertions.assertFalse(write.isDone());
+    Assertions.assertEquals(1, database.pendingWrites());
+
+    // the retry writes the pending write
+    Assertions.assertTrue(write.get(5, TimeUnit.SECONDS));
+    Assertions.assertEquals(1, delegate.get("1").getInt("value"));
+    Assertions.assertEquals(0, database.pendingWrites());
+  }
+
+  @Test
+  void testQueriesSeePendingWrites() {
+    var delegate = this.databaseProvider.database("test");
+    var database = new WriteBehindDatabase(delegate, Duration.ofHours(1), 1000, this.flushExecutor);
+
+    database.insert("1", Document.newJsonDocument().append("name", "derklaro"));
+    database.insert("2", Document.newJsonDocument().append("name", "0utplay"));
+
+    Assertions.assertEquals(2, database.documentCount());
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(0, database.pendingWrites());
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.database.codec;
+
+import eu.cloudnetservice.driver.document.Document;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class BinaryDocumentCodecTest {
+
+  private static Document testDocument() {
+    return Document.newJsonDocument()
+      .append("name", "derklaro")
+      .append("int", 1234)
+      .append("long", Long.MAX_VALUE)
+      .append("double", 12.5D)
+      .append("bool", true)
+      .append("null", null)
+      .append("list", List.of("a", "b", "c"))
+      .append("map", Map.of("inner", "value"))
+      .append("nested", Document.newJsonDocument().append("name", "0utplay").append("int", 5));
+  }
+
+  @Test
+  void testRoundTrip() {
+    var document = testDocument();
+    var codec = DocumentCodec.binary();
+
+    var encoded = codec.encode(document);
+    Assertions.assertTrue(codec.currentFormat(encoded));
+
+    var decoded = codec.decode(encoded);
+    Assertions.assertEquals(document, decoded);
+    Assertions.assertEquals(Long.MAX_VALUE, decoded.getLong("long"));
+    Assertions.assertEquals("0utplay", decoded.readDocument("nested").getString("name"));
+
+    // a document which was parsed from json must keep its values as well
+    var parsedDocument = DocumentCodec.json().decode(DocumentCodec.json().encode(document));
+    Assertions.assertEquals(document, codec.decode(codec.encode(parsedDocument)));
+  }
+
+  @Test
+  void testLazyFieldRead() {
+    var codec = DocumentCodec.binary();
+    var encoded = codec.encode(testDocument());
+
+    Assertions.assertEquals("derklaro", codec.readString(encoded, "name"));
+    Assertions.assertNull(codec.readString(encoded, "int"));
+    Assertions.assertNull(codec.readString(encoded, "nested"));
+    Assertions.assertNull(codec.readString(encoded, "null"));
+    Assertions.assertNull(codec.readString(encoded, "missing"));
+  }
+
+  @Test
+  void testJsonDataIsReadable() {
+    var document = testDocument();
+    var jsonData = DocumentCodec.json().encode(document);
+    Assertions.assertEquals('{', (char) jsonData[0]);
+
+    var codec = DocumentCodec.binary();
+    Assertions.assertFalse(codec.currentFormat(jsonData));
+    Assertions.assertEquals(document, codec.decode(jsonData));
+    Assertions.assertEquals("derklaro", codec.readString(jsonData, "name"));
+
+    // the json codec must be able to read binary data as well
+    var binaryData = codec.encode(document);
+    Assertions.assertFalse(DocumentCodec.json().currentFormat(binaryData));
+    Assertions.assertEquals(document, DocumentCodec.json().decode(binaryData));
+  }
+}
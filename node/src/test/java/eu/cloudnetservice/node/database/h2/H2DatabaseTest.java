@@ -20,8 +20,10 @@
 import eu.cloudnetservice.driver.document.Document;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
@@ -159,4 +161,69 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // documents inserted before the index creation must be indexed as well
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro").append("x", "1")));
+    Assertions.assertTrue(database.createIndex("name"));
+    Assertions.assertEquals(List.of("name"), List.copyOf(database.indexedFields()));
+
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay").append("x", "1")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "derklaro").append("x", "2")));
+    Assertions.assertTrue(database.insert("4", Document.newJsonDocument().append("x", "3")));
+
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+    Assertions.assertEquals(0, database.find("name", "_xdark").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro", "x", "2")).size());
+
+    // updating a document must move it to the new index value
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "0utplay").append("x", "2")));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(2, database.find("name", "0utplay").size());
+
+    // deleting a document must remove it from the index
+    Assertions.assertTrue(database.delete("2"));
+    var documents = database.find("name", "0utplay");
+    Assertions.assertEquals(1, documents.size());
+    Assertions.assertEquals("2", documents.get(0).getString("x"));
+
+    database.clear();
+    Assertions.assertEquals(0, database.find("name", "derklaro").size());
+  }
+
+  @Test
+  void testKeysetChunkedDataRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    Set<String> keys = new HashSet<>();
+    for (var i = 0; i < 1235; i++) {
+      var key = UUID.randomUUID().toString();
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    String lastKey = null;
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunk(lastKey, 50)) != null) {
+      Assertions.assertFalse(currentChunk.size() > 50);
+      Assertions.assertTrue(keys.removeAll(currentChunk.keySet()));
+
+      // the keys must be returned in order
+      var chunkKeys = List.copyOf(currentChunk.keySet());
+      Assertions.assertEquals(chunkKeys.stream().sorted().toList(), chunkKeys);
+      if (lastKey != null) {
+        Assertions.assertTrue(lastKey.compareTo(chunkKeys.get(0)) < 0);
+      }
+
+      lastKey = chunkKeys.get(chunkKeys.size() - 1);
+    }
+
+    Assertions.assertTrue(keys.isEmpty());
+  }
 }
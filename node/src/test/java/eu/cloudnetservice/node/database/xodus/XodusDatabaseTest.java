@@ -18,11 +18,19 @@
 
 import eu.cloudnetservice.common.io.FileUtil;
 import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.node.database.DatabaseCacheConfiguration;
+import eu.cloudnetservice.node.database.codec.DocumentCodec;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import jetbrains.exodus.ArrayByteIterable;
+import jetbrains.exodus.bindings.StringBinding;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -165,4 +173,121 @@ void testChunkedDataRead() {
     Assertions.assertEquals(expectedReadCounts, readsCalled);
     Assertions.assertTrue(keys.isEmpty());
   }
+
+  @Test
+  void testIndexedFind() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    // documents inserted before the index creation must be indexed as well
+    Assertions.assertTrue(database.insert("1", Document.newJsonDocument().append("name", "derklaro").append("x", "1")));
+    Assertions.assertTrue(database.createIndex("name"));
+    Assertions.assertEquals(List.of("name"), List.copyOf(database.indexedFields()));
+
+    Assertions.assertTrue(database.insert("2", Document.newJsonDocument().append("name", "0utplay").append("x", "1")));
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "derklaro").append("x", "2")));
+    Assertions.assertTrue(database.insert("4", Document.newJsonDocument().append("x", "3")));
+
+    // the index stores must not be visible as databases
+    Assertions.assertEquals(List.of("test"), List.copyOf(this.databaseProvider.databaseNames()));
+
+    Assertions.assertEquals(2, database.find("name", "derklaro").size());
+    Assertions.assertEquals(1, database.find("name", "0utplay").size());
+    Assertions.assertEquals(0, database.find("name", "_xdark").size());
+    Assertions.assertEquals(1, database.find(Map.of("name", "derklaro", "x", "2")).size());
+
+    // updating a document must move it to the new index value
+    Assertions.assertTrue(database.insert("3", Document.newJsonDocument().append("name", "0utplay").append("x", "2")));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+    Assertions.assertEquals(2, database.find("name", "0utplay").size());
+
+    // deleting a document must remove it from the index
+    Assertions.assertTrue(database.delete("2"));
+    var documents = database.find("name", "0utplay");
+    Assertions.assertEquals(1, documents.size());
+    Assertions.assertEquals("2", documents.get(0).getString("x"));
+
+    database.clear();
+    Assertions.assertEquals(0, database.find("name", "derklaro").size());
+  }
+
+  @Test
+  void testKeysetChunkedDataRead() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    Set<String> keys = new HashSet<>();
+    for (var i = 0; i < 1235; i++) {
+      var key = UUID.randomUUID().toString();
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    String lastKey = null;
+    Map<String, Document> currentChunk;
+    while ((currentChunk = database.readChunk(lastKey, 50)) != null) {
+      Assertions.assertFalse(currentChunk.size() > 50);
+      Assertions.assertTrue(keys.removeAll(currentChunk.keySet()));
+
+      // the keys must be returned in order
+      var chunkKeys = List.copyOf(currentChunk.keySet());
+      Assertions.assertEquals(chunkKeys.stream().sorted().toList(), chunkKeys);
+      if (lastKey != null) {
+        Assertions.assertTrue(lastKey.compareTo(chunkKeys.get(0)) < 0);
+      }
+
+      lastKey = chunkKeys.get(chunkKeys.size() - 1);
+    }
+
+    Assertions.assertTrue(keys.isEmpty());
+  }
+
+  @Test
+  void testParallelIteration() {
+    var database = this.databaseProvider.database("test");
+    Assertions.assertNotNull(database);
+
+    Set<String> keys = new HashSet<>();
+    for (var i = 0; i < 1235; i++) {
+      var key = UUID.randomUUID().toString();
+      keys.add(key);
+      database.insert(key, Document.newJsonDocument().append("this_is", "a_world_test"));
+    }
+
+    Set<String> visitedKeys = ConcurrentHashMap.newKeySet();
+    var visits = new AtomicInteger();
+    database.iterateParallel((key, $) -> {
+      visits.incrementAndGet();
+      visitedKeys.add(key);
+    }, 50, 4);
+
+    // each entry must be visited exactly once
+    Assertions.assertEquals(keys, visitedKeys);
+    Assertions.assertEquals(keys.size(), visits.get());
+  }
+
+  @Test
+  void testStorageFormatMigration() {
+    // the entry is written to the store directly, the document cache would not see it
+    this.databaseProvider.cacheConfiguration("test", DatabaseCacheConfiguration.DISABLED);
+    var database = (XodusDatabase) this.databaseProvider.database("test");
+    var document = Document.newJsonDocument().append("name", "derklaro");
+
+    // put in an entry which is stored as json
+    var legacyData = DocumentCodec.json().encode(document);
+    database.environment.executeInTransaction(txn -> database.store().put(
+      txn,
+      StringBinding.stringToEntry("legacy"),
+      new ArrayByteIterable(legacyData)));
+
+    // the entry must be readable before the migration
+    Assertions.assertEquals(document, database.get("legacy"));
+    Assertions.assertEquals(1, database.find("name", "derklaro").size());
+
+    database.migrateStorageFormat();
+    var storedData = database.environment.computeInReadonlyTransaction(
+      txn -> database.store().get(txn, StringBinding.stringToEntry("legacy")).getBytesUnsafe());
+    Assertions.assertTrue(DocumentCodec.binary().currentFormat(storedData));
+    Assertions.assertEquals(document, database.get("legacy"));
+  }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.http;
+
+import eu.cloudnetservice.driver.document.Document;
+import eu.cloudnetservice.driver.document.DocumentFactory;
+import io.leangen.geantyref.TypeFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class JsonListInputStreamTest {
+
+  private static final List<TestElement> ELEMENTS = IntStream.range(0, 10)
+    .mapToObj(index -> new TestElement("Lobby-" + index, index % 2 == 0 ? "Lobby" : "Proxy", index % 3 == 0))
+    .toList();
+
+  private static Document list(V2ListQuery query) {
+    var stream = new JsonListInputStream<>("elements", ELEMENTS.iterator(), TestElement::name, query);
+    return DocumentFactory.json().parse(stream);
+  }
+
+  private static List<TestElement> elements(Document response) {
+    return response.readObject("elements", TypeFactory.parameterizedClass(List.class, TestElement.class));
+  }
+
+  @Test
+  void testStreamsAllElements() {
+    var response = list(new V2ListQuery(-1, null, Set.of(), Map.of()));
+    Assertions.assertTrue(response.getBoolean("success"));
+    Assertions.assertEquals(ELEMENTS, elements(response));
+    Assertions.assertNull(response.getString("nextCursor"));
+  }
+
+  @Test
+  void testStreamsEmptyList() {
+    var stream = new JsonListInputStream<>(
+      "elements",
+      List.<TestElement>of().iterator(),
+      TestElement::name,
+      new V2ListQuery(-1, null, Set.of(), Map.of()));
+    Assertions.assertEquals(List.of(), elements(DocumentFactory.json().parse(stream)));
+  }
+
+  @Test
+  void testLimitReturnsNextCursor() {
+    var response = list(new V2ListQuery(4, null, Set.of(), Map.of()));
+    Assertions.assertEquals(ELEMENTS.subList(0, 4), elements(response));
+    Assertions.assertEquals("Lobby-3", response.getString("nextCursor"));
+
+    // no cursor if the limit is exactly reached by the last element
+    response = list(new V2ListQuery(10, null, Set.of(), Map.of()));
+    Assertions.assertEquals(ELEMENTS, elements(response));
+    Assertions.assertNull(response.getString("nextCursor"));
+  }
+
+  @Test
+  void testFiltersAndProjection() {
+    var response = list(new V2ListQuery(-1, null, Set.of("name"), Map.of("task", "Lobby", "staticService", "true")));
+    var elements = elements(response);
+
+    Assertions.assertEquals(List.of("Lobby-0", "Lobby-6"), elements.stream().map(TestElement::name).toList());
+    // the other fields are not included in the response
+    Assertions.assertTrue(elements.stream().allMatch(element -> element.task() == null));
+  }
+
+  @Test
+  void testFilterNestedPath() {
+    var document = Document.newJsonDocument()
+      .append("serviceId", Document.newJsonDocument().append("taskName", "Lobby").append("taskServiceId", 1));
+    Assertions.assertTrue(JsonListInputStream.matches(document, "serviceId.taskName", "Lobby"));
+    Assertions.assertTrue(JsonListInputStream.matches(document, "serviceId.taskServiceId", "1"));
+    Assertions.assertFalse(JsonListInputStream.matches(document, "serviceId.taskName", "Proxy"));
+    Assertions.assertFalse(JsonListInputStream.matches(document, "serviceId.nodeUniqueId", "Node-1"));
+    Assertions.assertFalse(JsonListInputStream.matches(document, "unknown.taskName", "Lobby"));
+  }
+
+  record TestElement(String name, String task, boolean staticService) {
+
+  }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.provider;
+
+import eu.cloudnetservice.driver.DriverEnvironment;
+import eu.cloudnetservice.driver.channel.ChannelMessage;
+import eu.cloudnetservice.driver.channel.ChannelMessageSender;
+import eu.cloudnetservice.driver.network.NetworkChannel;
+import eu.cloudnetservice.driver.network.buffer.DataBuf;
+import eu.cloudnetservice.driver.network.def.PacketServerChannelMessage;
+import eu.cloudnetservice.driver.network.protocol.Packet;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
+import eu.cloudnetservice.node.cluster.NodeServerProvider;
+import eu.cloudnetservice.node.service.CloudService;
+import eu.cloudnetservice.node.service.CloudServiceManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class NodeMessengerTest {
+
+  private static final int CHANNELS = 500;
+
+  @Test
+  void testFanOutSendsEncodedMessageToAllChannels() {
+    List<Packet> packets = new ArrayList<>();
+    var messenger = newMessenger(mockServices(CHANNELS, packets));
+
+    messenger.sendChannelMessage(newMessage());
+    Assertions.assertEquals(CHANNELS, packets.size());
+
+    // all packets must carry the same encoded message
+    var expectedContent = new PacketServerChannelMessage(newMessage(), false).content();
+    var expected = expectedContent.toByteArray();
+    expectedContent.release();
+
+    for (var packet : packets) {
+      Assertions.assertArrayEquals(expected, packet.content().toByteArray());
+      packet.content().release();
+    }
+  }
+
+  @Test
+  void testBroadcastChannelsFollowServiceChannels() {
+    var services = mockServices(3, new ArrayList<>());
+    var messenger = newMessenger(services);
+
+    var channels = messenger.broadcastChannels(false);
+    Assertions.assertEquals(3, channels.size());
+    Assertions.assertSame(channels, messenger.broadcastChannels(false));
+
+    // services without a channel are not targeted
+    Mockito.when(services.get(0).networkChannel()).thenReturn(null);
+    Assertions.assertEquals(2, messenger.broadcastChannels(false).size());
+
+    // a reconnected service is targeted with its new channel
+    var newChannel = Mockito.mock(NetworkChannel.class);
+    Mockito.when(services.get(0).networkChannel()).thenReturn(newChannel);
+    Assertions.assertTrue(messenger.broadcastChannels(false).contains(newChannel));
+
+    // removed services are no longer targeted
+    services.remove(1);
+    Assertions.assertEquals(2, messenger.broadcastChannels(false).size());
+  }
+
+  @Test
+  void testSnapshotUpdatesAreOnlySentToSubscribedChannels() {
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class, Mockito.RETURNS_DEEP_STUBS);
+    Mockito.when(snapshot.serviceId().taskName()).thenReturn("Lobby");
+    var subscriptionRegistry = new ServiceSubscriptionRegistry() {
+      @Override
+      public ServiceInfoSnapshot updatedSnapshot(ChannelMessage message) {
+        return snapshot;
+      }
+    };
+
+    List<Packet> packets = new ArrayList<>();
+    var services = mockServices(3, packets);
+    var messenger = newMessenger(services, subscriptionRegistry);
+
+    // the third service has no subscription and receives all updates
+    var lobbyChannel = services.get(0).networkChannel();
+    subscriptionRegistry.subscribe(lobbyChannel, ServiceUpdateSubscription.tasks(Set.of("Lobby")));
+    subscriptionRegistry.subscribe(services.get(1).networkChannel(), ServiceUpdateSubscription.tasks(Set.of("Proxy")));
+
+    messenger.sendChannelMessage(newMessage());
+    Assertions.assertEquals(2, packets.size());
+    releaseAll(packets);
+  }
+
+  private static void releaseAll(List<Packet> packets) {
+    packets.forEach(packet -> packet.content().release());
+    packets.clear();
+  }
+
+  private static ChannelMessage newMessage() {
+    return ChannelMessage.builder()
+      .targetAll()
+      .channel("update_service_info")
+      .message("update_service_info")
+      .sender(ChannelMessageSender.of("Node-1", DriverEnvironment.NODE))
+      .buffer(DataBuf.empty().writeString("x".repeat(2048)))
+      .build();
+  }
+
+  private static List<CloudService> mockServices(int amount, List<Packet> packets) {
+    List<CloudService> services = new ArrayList<>();
+    for (var i = 0; i < amount; i++) {
+      var channel = Mockito.mock(NetworkChannel.class);
+      Mockito.doAnswer(invocation -> packets.add(invocation.getArgument(0)))
+        .when(channel)
+        .sendPacket(Mockito.any(Packet.class));
+
+      var service = Mockito.mock(CloudService.class);
+      Mockito.when(service.networkChannel()).thenReturn(channel);
+      services.add(service);
+    }
+
+    return services;
+  }
+
+  private static NodeMessenger newMessenger(List<CloudService> services) {
+    return newMessenger(services, new ServiceSubscriptionRegistry());
+  }
+
+  private static NodeMessenger newMessenger(
+    List<CloudService> services,
+    ServiceSubscriptionRegistry subscriptionRegistry
+  ) {
+    var nodeServerProvider = Mockito.mock(NodeServerProvider.class);
+    Mockito.when(nodeServerProvider.connectedNodeChannels()).thenReturn(List.of());
+
+    var cloudServiceManager = Mockito.mock(CloudServiceManager.class);
+    Mockito.when(cloudServiceManager.localCloudServices()).thenReturn(services);
+    return new NodeMessenger(nodeServerProvider, cloudServiceManager, subscriptionRegistry);
+  }
+}
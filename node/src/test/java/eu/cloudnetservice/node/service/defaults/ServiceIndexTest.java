@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults;
+
+import eu.cloudnetservice.driver.provider.SpecificCloudServiceProvider;
+import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class ServiceIndexTest {
+
+  @Test
+  void testRegister() {
+    var index = new ServiceIndex();
+    var lobby = mockProvider(mockSnapshot(UUID.randomUUID(), "Lobby-1", "Lobby", Set.of("Lobby", "Global-Server")));
+    var proxy = mockProvider(mockSnapshot(UUID.randomUUID(), "Proxy-1", "Proxy", Set.of("Global-Proxy")));
+
+    Assertions.assertNull(index.register(lobby));
+    Assertions.assertNull(index.register(proxy));
+    Assertions.assertEquals(2, index.size());
+
+    // lookups by the indexed properties
+    Assertions.assertSame(lobby, index.byName("Lobby-1"));
+    Assertions.assertEquals(Set.of(lobby), Set.copyOf(index.byTask("Lobby")));
+    Assertions.assertEquals(Set.of(lobby), Set.copyOf(index.byGroup("Global-Server")));
+    Assertions.assertEquals(Set.of(proxy), Set.copyOf(index.byGroup("Global-Proxy")));
+    Assertions.assertEquals(Set.of(lobby, proxy), Set.copyOf(index.byLifeCycle(ServiceLifeCycle.PREPARED)));
+    Assertions.assertEquals(Set.of(lobby, proxy), Set.copyOf(index.byNode("Node-1")));
+    Assertions.assertTrue(index.byLifeCycle(ServiceLifeCycle.RUNNING).isEmpty());
+    Assertions.assertTrue(index.byTask("Unknown").isEmpty());
+    Assertions.assertEquals(1024, index.reservedMemory("Node-1"));
+
+    // the provider of a known service is not replaced
+    var lobbyId = lobby.serviceInfo().serviceId().uniqueId();
+    var duplicate = mockProvider(mockSnapshot(lobbyId, "Lobby-1", "Lobby", Set.of("Lobby")));
+    Assertions.assertSame(lobby, index.register(duplicate));
+    Assertions.assertSame(lobby, index.get(lobbyId));
+    Assertions.assertEquals(2, index.size());
+  }
+
+  @Test
+  void testUpdate() {
+    var index = new ServiceIndex();
+    var uniqueId = UUID.randomUUID();
+    var provider = mockProvider(mockSnapshot(uniqueId, "Lobby-1", "Lobby", Set.of("Lobby", "Global-Server")));
+    index.register(provider);
+
+    // the service is now running in another group on another node
+    var snapshot = mockSnapshot(uniqueId, "Lobby-1", "Lobby", Set.of("Lobby", "Event"));
+    Mockito.when(snapshot.lifeCycle()).thenReturn(ServiceLifeCycle.RUNNING);
+    Mockito.when(snapshot.serviceId().nodeUniqueId()).thenReturn("Node-2");
+    Mockito.when(provider.serviceInfo()).thenReturn(snapshot);
+    index.update(uniqueId);
+
+    Assertions.assertEquals(Set.of(provider), Set.copyOf(index.byTask("Lobby")));
+    Assertions.assertEquals(Set.of(provider), Set.copyOf(index.byGroup("Lobby")));
+    Assertions.assertEquals(Set.of(provider), Set.copyOf(index.byGroup("Event")));
+    Assertions.assertTrue(index.byGroup("Global-Server").isEmpty());
+
+    Assertions.assertEquals(Set.of(provider), Set.copyOf(index.byLifeCycle(ServiceLifeCycle.RUNNING)));
+    Assertions.assertTrue(index.byLifeCycle(ServiceLifeCycle.PREPARED).isEmpty());
+
+    Assertions.assertEquals(Set.of(provider), Set.copyOf(index.byNode("Node-2")));
+    Assertions.assertTrue(index.byNode("Node-1").isEmpty());
+    Assertions.assertEquals(0, index.reservedMemory("Node-1"));
+    Assertions.assertEquals(512, index.reservedMemory("Node-2"));
+  }
+
+  @Test
+  void testRemove() {
+    var index = new ServiceIndex();
+    var uniqueId = UUID.randomUUID();
+    var provider = mockProvider(mockSnapshot(uniqueId, "Lobby-1", "Lobby", Set.of("Lobby")));
+    index.register(provider);
+
+    // only the registered provider of the service can be removed
+    Assertions.assertFalse(index.remove(uniqueId, Mockito.mock(SpecificCloudServiceProvider.class)));
+    Assertions.assertTrue(index.contains(uniqueId));
+
+    Assertions.assertTrue(index.remove(uniqueId, provider));
+    Assertions.assertFalse(index.remove(uniqueId));
+    Assertions.assertFalse(index.contains(uniqueId));
+    Assertions.assertEquals(0, index.size());
+
+    Assertions.assertNull(index.byName("Lobby-1"));
+    Assertions.assertTrue(index.byTask("Lobby").isEmpty());
+    Assertions.assertTrue(index.byGroup("Lobby").isEmpty());
+    Assertions.assertTrue(index.byLifeCycle(ServiceLifeCycle.PREPARED).isEmpty());
+    Assertions.assertTrue(index.byNode("Node-1").isEmpty());
+    Assertions.assertEquals(0, index.reservedMemory("Node-1"));
+  }
+
+  private static SpecificCloudServiceProvider mockProvider(ServiceInfoSnapshot snapshot) {
+    var provider = Mockito.mock(SpecificCloudServiceProvider.class);
+    Mockito.when(provider.serviceInfo()).thenReturn(snapshot);
+    return provider;
+  }
+
+  private static ServiceInfoSnapshot mockSnapshot(UUID uniqueId, String name, String task, Set<String> groups) {
+    var snapshot = Mockito.mock(ServiceInfoSnapshot.class, Mockito.RETURNS_DEEP_STUBS);
+    Mockito.when(snapshot.serviceId().uniqueId()).thenReturn(uniqueId);
+    Mockito.when(snapshot.serviceId().name()).thenReturn(name);
+    Mockito.when(snapshot.serviceId().taskName()).thenReturn(task);
+    Mockito.when(snapshot.serviceId().environmentName()).thenReturn("minecraft_server");
+    Mockito.when(snapshot.serviceId().nodeUniqueId()).thenReturn("Node-1");
+    Mockito.when(snapshot.configuration().groups()).thenReturn(groups);
+    Mockito.when(snapshot.configuration().processConfig().maxHeapMemorySize()).thenReturn(512);
+    Mockito.when(snapshot.lifeCycle()).thenReturn(ServiceLifeCycle.PREPARED);
+    return snapshot;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.defaults.log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class LogLineRingBufferTest {
+
+  @Test
+  void testOldestLinesAreOverwritten() {
+    var buffer = new LogLineRingBuffer(3);
+    Assertions.assertTrue(buffer.snapshot().isEmpty());
+
+    buffer.add("1");
+    buffer.add("2");
+    Assertions.assertEquals(List.of("1", "2"), new ArrayList<>(buffer.snapshot()));
+
+    buffer.add("3");
+    buffer.add("4");
+    buffer.add("5");
+    Assertions.assertEquals(List.of("3", "4", "5"), new ArrayList<>(buffer.snapshot()));
+  }
+
+  @Test
+  void testZeroCapacity() {
+    var buffer = new LogLineRingBuffer(0);
+    buffer.add("1");
+    Assertions.assertTrue(buffer.snapshot().isEmpty());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LogLineRingBuffer(-1));
+  }
+
+  @Test
+  void testConcurrentWriters() throws Exception {
+    var buffer = new LogLineRingBuffer(64);
+    var executor = Executors.newFixedThreadPool(4);
+    var latch = new CountDownLatch(4);
+
+    try {
+      for (var writer = 0; writer < 4; writer++) {
+        executor.execute(() -> {
+          for (var line = 0; line < 10_000; line++) {
+            buffer.add("line " + line);
+          }
+          latch.countDown();
+        });
+      }
+
+      Assertions.assertTrue(latch.await(10, TimeUnit.SECONDS));
+      // the buffer never holds more lines than its capacity, even with concurrent writers
+      Assertions.assertEquals(64, buffer.snapshot().size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void testSnapshotDuringWrap() throws Exception {
+    var buffer = new LogLineRingBuffer(8);
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      var writer = executor.submit(() -> {
+        for (var line = 0; line < 100_000; line++) {
+          buffer.add(Integer.toString(line));
+        }
+      });
+
+      // snapshots taken while the writer overwrites the oldest lines never contain overwritten lines
+      while (!writer.isDone()) {
+        var snapshot = new ArrayList<>(buffer.snapshot());
+        Assertions.assertTrue(snapshot.size() <= 8);
+        for (var index = 1; index < snapshot.size(); index++) {
+          Assertions.assertTrue(Integer.parseInt(snapshot.get(index - 1)) < Integer.parseInt(snapshot.get(index)));
+        }
+      }
+      writer.get();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.service.placement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class PlacementStrategyTest {
+
+  private static List<NodeCandidate> cluster() {
+    return List.of(
+      new NodeCandidate("Node-1", 0, 4096, 0, 0.2),
+      new NodeCandidate("Node-2", 512, 4096, 1, 0.1),
+      new NodeCandidate("Node-3", 1024, 8192, 2, 0.5));
+  }
+
+  // simulates a burst of service starts, optionally applying the reservation of each placement to the candidates
+  private static Map<String, Integer> simulateBurst(
+    PlacementStrategy strategy,
+    int services,
+    int memory,
+    boolean reserve
+  ) {
+    Map<String, NodeCandidate> candidates = new HashMap<>();
+    cluster().forEach(candidate -> candidates.put(candidate.name(), candidate));
+
+    Map<String, Integer> placements = new HashMap<>();
+    for (var i = 0; i < services; i++) {
+      var selected = strategy.select(memory, new ArrayList<>(candidates.values()));
+      Assertions.assertNotNull(selected);
+
+      placements.merge(selected.name(), 1, Integer::sum);
+      if (reserve) {
+        candidates.put(selected.name(), selected.withReservation(memory));
+      }
+    }
+
+    return placements;
+  }
+
+  @Test
+  void testReservationsPreventHerding() {
+    // without reservations every placement of the burst sees the same load and picks the same node
+    var herded = simulateBurst(PlacementStrategies.LEAST_LOADED, 30, 256, false);
+    Assertions.assertEquals(Map.of("Node-1", 30), herded);
+
+    // with reservations the burst is distributed based on the memory reserved by the previous placements
+    var balanced = simulateBurst(PlacementStrategies.LEAST_LOADED, 30, 256, true);
+    Assertions.assertEquals(3, balanced.size());
+    Assertions.assertEquals(30, balanced.values().stream().mapToInt(Integer::intValue).sum());
+    // node 3 has twice the memory, therefore it picks up more services than the others
+    Assertions.assertTrue(balanced.get("Node-3") > balanced.get("Node-1"));
+  }
+
+  @Test
+  void testSpreadBalancesServiceCount() {
+    var placements = simulateBurst(PlacementStrategies.SPREAD, 27, 256, true);
+    // each node ends up with the same amount of services, including the ones it had before
+    Assertions.assertEquals(10, placements.get("Node-1"));
+    Assertions.assertEquals(9, placements.get("Node-2"));
+    Assertions.assertEquals(8, placements.get("Node-3"));
+  }
+
+  @Test
+  void testBinPackingFillsNodes() {
+    var placements = simulateBurst(PlacementStrategies.BIN_PACKING, 14, 256, true);
+    // node 2 has the least free memory and is filled first (14 services), the other nodes stay empty
+    Assertions.assertEquals(Map.of("Node-2", 14), placements);
+
+    // once node 2 is full the next fullest node is used
+    var overflow = simulateBurst(PlacementStrategies.BIN_PACKING, 16, 256, true);
+    Assertions.assertEquals(14, overflow.get("Node-2"));
+    Assertions.assertEquals(2, overflow.get("Node-1"));
+  }
+
+  @Test
+  void testLeastLoadedUsesCpuUsageAsTieBreaker() {
+    var candidates = List.of(
+      new NodeCandidate("Node-1", 1024, 4096, 0, 0.8),
+      new NodeCandidate("Node-2", 1024, 4096, 0, 0.3));
+
+    var selected = PlacementStrategies.LEAST_LOADED.select(256, candidates);
+    Assertions.assertNotNull(selected);
+    Assertions.assertEquals("Node-2", selected.name());
+  }
+
+  @Test
+  void testStrategyByName() {
+    Assertions.assertSame(PlacementStrategies.SPREAD, PlacementStrategies.byName("Spread"));
+    Assertions.assertSame(PlacementStrategies.BIN_PACKING, PlacementStrategies.byName("bin-packing"));
+    Assertions.assertNull(PlacementStrategies.byName("random"));
+  }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2019-2023 CloudNetService team & contributors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package eu.cloudnetservice.node.template;
+
+import eu.cloudnetservice.common.io.FileUtil;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TemplateMaterializerTest {
+
+  private static final Path BASE_DIRECTORY = Path.of("build", "tmp", "materializer").toAbsolutePath();
+  private static final Path TEMPLATE_DIRECTORY = BASE_DIRECTORY.resolve("template");
+
+  private static final TemplateMaterializer COPY = new TemplateMaterializer(
+    TemplateMaterializer.Mode.COPY,
+    FileSystems.getDefault().getPathMatcher("glob:**.jar"));
+  private static final TemplateMaterializer LINK = new TemplateMaterializer(
+    TemplateMaterializer.Mode.LINK,
+    FileSystems.getDefault().getPathMatcher("glob:**.jar"));
+
+  @BeforeEach
+  void setup() throws IOException {
+    Files.createDirectories(TEMPLATE_DIRECTORY.resolve("plugins"));
+    Files.writeString(TEMPLATE_DIRECTORY.resolve("server.properties"), "online-mode=false");
+    Files.write(TEMPLATE_DIRECTORY.resolve("server.jar"), new byte[1024]);
+    Files.write(TEMPLATE_DIRECTORY.resolve("plugins").resolve("plugin.jar"), new byte[512]);
+  }
+
+  @AfterEach
+  void cleanup() {
+    FileUtil.delete(BASE_DIRECTORY);
+  }
+
+  @Test
+  void testUnchangedFilesAreSkipped() throws IOException {
+    var target = BASE_DIRECTORY.resolve("service");
+
+    var result = COPY.materialize(TEMPLATE_DIRECTORY, target);
+    Assertions.assertEquals(new TemplateMaterializer.Result(3, 0, 0), result);
+    Assertions.assertEquals("online-mode=false", Files.readString(target.resolve("server.properties")));
+
+    // a second materialization only copies the file which was changed by the service
+    Files.writeString(target.resolve("server.properties"), "online-mode=true");
+    result = COPY.materialize(TEMPLATE_DIRECTORY, target);
+    Assertions.assertEquals(new TemplateMaterializer.Result(1, 0, 2), result);
+    Assertions.assertEquals("online-mode=false", Files.readString(target.resolve("server.properties")));
+  }
+
+  @Test
+  void testImmutableFilesAreLinked() throws IOException {
+    var target = BASE_DIRECTORY.resolve("service");
+
+    var result = LINK.materialize(TEMPLATE_DIRECTORY, target);
+    Assertions.assertEquals(3, result.copiedFiles() + result.linkedFiles());
+    // configuration files are always copied, as the service might change them
+    Assertions.assertFalse(Files.isSameFile(
+      TEMPLATE_DIRECTORY.resolve("server.properties"),
+      target.resolve("server.properties")));
+
+    if (result.linkedFiles() > 0) {
+      Assertions.assertEquals(2, result.linkedFiles());
+      Assertions.assertTrue(Files.isSameFile(TEMPLATE_DIRECTORY.resolve("server.jar"), target.resolve("server.jar")));
+
+      // replacing a linked file does not change the template
+      Files.delete(target.resolve("server.jar"));
+      Files.write(target.resolve("server.jar"), new byte[16]);
+      Assertions.assertEquals(1024, Files.size(TEMPLATE_DIRECTORY.resolve("server.jar")));
+    }
+  }
+
+  @Test
+  void testRepeatedMaterialization() throws IOException {
+    // a template with a few large immutable files and many small configuration files
+    var random = new Random(0);
+    var content = new byte[1024 * 1024];
+    for (var i = 0; i < 16; i++) {
+      random.nextBytes(content);
+      Files.write(TEMPLATE_DIRECTORY.resolve("plugins").resolve("plugin-" + i + ".jar"), content);
+    }
+    for (var i = 0; i < 200; i++) {
+      Files.writeString(TEMPLATE_DIRECTORY.resolve("config-" + i + ".yml"), "value: " + i);
+    }
+
+    var writtenBytes = new long[2];
+    var materializers = new TemplateMaterializer[]{COPY, LINK};
+    for (var i = 0; i < materializers.length; i++) {
+      var materializer = materializers[i];
+      var target = BASE_DIRECTORY.resolve("service-" + materializer.mode());
+
+      var result = materializer.materialize(TEMPLATE_DIRECTORY, target);
+      var secondResult = materializer.materialize(TEMPLATE_DIRECTORY, target);
+
+      // the second materialization skips all files as none of them changed
+      Assertions.assertEquals(result.copiedFiles() + result.linkedFiles(), secondResult.skippedFiles());
+      Assertions.assertEquals(0, secondResult.copiedFiles() + secondResult.linkedFiles());
+      writtenBytes[i] = writtenBytes(target);
+    }
+
+    // linked files do not use additional disk space
+    Assertions.assertTrue(writtenBytes[1] <= writtenBytes[0]);
+  }
+
+  @Test
+  void testParseMode() {
+    Assertions.assertEquals(TemplateMaterializer.Mode.LINK, TemplateMaterializer.parseMode("link"));
+    Assertions.assertEquals(TemplateMaterializer.Mode.COPY, TemplateMaterializer.parseMode("COPY"));
+    Assertions.assertEquals(TemplateMaterializer.Mode.COPY, TemplateMaterializer.parseMode("symlink"));
+    Assertions.assertEquals(TemplateMaterializer.Mode.COPY, TemplateMaterializer.parseMode(null));
+  }
+
+  private static long writtenBytes(Path directory) throws IOException {
+    // linked files share their content with the template and do not use additional disk space
+    try (var files = Files.walk(directory)) {
+      return files
+        .filter(Files::isRegularFile)
+        .filter(file -> {
+          try {
+            return !Files.isSameFile(file, TEMPLATE_DIRECTORY.resolve(directory.relativize(file)));
+          } catch (IOException exception) {
+            return true;
+          }
+        })
+        .mapToLong(file -> file.toFile().length())
+        .sum();
+    }
+  }
+}
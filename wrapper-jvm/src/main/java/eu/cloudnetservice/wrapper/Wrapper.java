@@ -29,6 +29,7 @@
 import eu.cloudnetservice.driver.module.ModuleProvider;
 import eu.cloudnetservice.driver.network.NetworkClient;
 import eu.cloudnetservice.driver.network.chunk.defaults.factory.EventChunkHandlerFactory;
+import eu.cloudnetservice.driver.network.chunk.network.ChunkSessionStatePacketListener;
 import eu.cloudnetservice.driver.network.chunk.network.ChunkedPacketListener;
 import eu.cloudnetservice.driver.network.def.NetworkConstants;
 import eu.cloudnetservice.driver.permission.PermissionManagement;
@@ -148,6 +149,9 @@ private void connectToNode(
     networkClient.packetRegistry().addListener(
       NetworkConstants.CHUNKED_PACKET_COM_CHANNEL,
       new ChunkedPacketListener(EventChunkHandlerFactory.withEventManager(eventManager)));
+    networkClient.packetRegistry().addListener(
+      NetworkConstants.CHUNKED_PACKET_STATE_CHANNEL,
+      new ChunkSessionStatePacketListener());
     networkClient.packetRegistry().addListener(
       NetworkConstants.CHANNEL_MESSAGING_CHANNEL,
       PacketServerChannelMessageListener.class);
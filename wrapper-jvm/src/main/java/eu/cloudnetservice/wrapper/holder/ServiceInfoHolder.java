@@ -18,6 +18,7 @@
 
 import eu.cloudnetservice.driver.document.Document;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import lombok.NonNull;
 
 /**
@@ -97,4 +98,55 @@ public interface ServiceInfoHolder {
    * @throws NullPointerException if the given service snapshot is null.
    */
   void publishServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSnapshot);
+
+  /**
+   * Get the subscription of this service to the updates of other services, combining all registered subscriptions.
+   * The updates of this service itself are always requested. If no subscription is registered the updates of all
+   * services are requested.
+   * <p>
+   * The default implementation does not support subscriptions and always requests the updates of all services.
+   *
+   * @return the combined subscription of this service.
+   */
+  default @NonNull ServiceUpdateSubscription serviceUpdateSubscription() {
+    return ServiceUpdateSubscription.all();
+  }
+
+  /**
+   * Registers the given subscription to the updates of other services, replacing the subscription which was previously
+   * registered with the same key. The node will only send the updates of services matching any of the registered
+   * subscriptions to this service from now on.
+   * <p>
+   * A subscription to all services is registered with the key {@code all} if the system property
+   * {@code cloudnet.wrapper.subscribe-all-services} is set to true, for plugins which rely on receiving the updates of
+   * all services.
+   * <p>
+   * The default implementation does not support subscriptions and ignores the given subscription.
+   *
+   * @param key          the key of the subscription, used to replace or remove the subscription later.
+   * @param subscription the subscription to register.
+   * @throws NullPointerException if the given key or subscription is null.
+   */
+  default void subscribeServiceUpdates(@NonNull String key, @NonNull ServiceUpdateSubscription subscription) {
+  }
+
+  /**
+   * Removes the subscription to the updates of other services which was registered with the given key.
+   * <p>
+   * The default implementation does not support subscriptions and does nothing.
+   *
+   * @param key the key of the subscription to remove.
+   * @throws NullPointerException if the given key is null.
+   */
+  default void unsubscribeServiceUpdates(@NonNull String key) {
+  }
+
+  /**
+   * Sends the current combined subscription of this service to the node. The node only keeps the subscription of the
+   * channel it was received from, therefore the subscription must be published again after (re-)connecting.
+   * <p>
+   * The default implementation does not support subscriptions and does nothing.
+   */
+  default void publishServiceUpdateSubscription() {
+  }
 }
@@ -26,6 +26,7 @@
 import eu.cloudnetservice.driver.service.ProcessSnapshot;
 import eu.cloudnetservice.driver.service.ServiceInfoSnapshot;
 import eu.cloudnetservice.driver.service.ServiceLifeCycle;
+import eu.cloudnetservice.driver.service.ServiceUpdateSubscription;
 import eu.cloudnetservice.driver.util.VarHandleUtil;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
 import eu.cloudnetservice.wrapper.event.ServiceInfoPropertiesConfigureEvent;
@@ -34,6 +35,9 @@
 import jakarta.inject.Singleton;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.NonNull;
 
 /**
@@ -64,8 +68,13 @@ public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
       ServiceInfoSnapshot.class);
   }
 
+  private static final String SUBSCRIBE_ALL_KEY = "all";
+  private static final boolean SUBSCRIBE_ALL_SERVICES = Boolean.parseBoolean(
+    System.getProperty("cloudnet.wrapper.subscribe-all-services"));
+
   private final EventManager eventManager;
   private final WrapperConfiguration configuration;
+  private final Map<String, ServiceUpdateSubscription> subscriptions = new ConcurrentHashMap<>();
 
   // both of these fields are only accessed from the associated var handles
   @SuppressWarnings({"FieldCanBeLocal", "unused", "FieldMayBeFinal"})
@@ -77,6 +86,11 @@ public final class WrapperServiceInfoHolder implements ServiceInfoHolder {
   private WrapperServiceInfoHolder(@NonNull EventManager eventManager, @NonNull WrapperConfiguration configuration) {
     this.eventManager = eventManager;
     this.configuration = configuration;
+
+    // plugins might rely on receiving the updates of all services, allow to opt in to receiving all of them
+    if (SUBSCRIBE_ALL_SERVICES) {
+      this.subscriptions.put(SUBSCRIBE_ALL_KEY, ServiceUpdateSubscription.all());
+    }
   }
 
   /**
@@ -181,6 +195,60 @@ public void publishServiceInfoUpdate(@NonNull ServiceInfoSnapshot serviceInfoSna
       .send();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public @NonNull ServiceUpdateSubscription serviceUpdateSubscription() {
+    if (this.subscriptions.isEmpty()) {
+      return ServiceUpdateSubscription.all();
+    }
+
+    // always receive the updates of the current service
+    var uniqueId = this.configuration.serviceConfiguration().serviceId().uniqueId();
+    var subscription = ServiceUpdateSubscription.services(Set.of(uniqueId));
+    for (var registeredSubscription : this.subscriptions.values()) {
+      subscription = subscription.union(registeredSubscription);
+    }
+
+    return subscription;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void subscribeServiceUpdates(@NonNull String key, @NonNull ServiceUpdateSubscription subscription) {
+    var previousSubscription = this.subscriptions.put(key, subscription);
+    if (!subscription.equals(previousSubscription)) {
+      this.publishServiceUpdateSubscription();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void unsubscribeServiceUpdates(@NonNull String key) {
+    if (this.subscriptions.remove(key) != null) {
+      this.publishServiceUpdateSubscription();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public synchronized void publishServiceUpdateSubscription() {
+    ChannelMessage.builder()
+      .targetNode(this.configuration.serviceConfiguration().serviceId().nodeUniqueId())
+      .message(ServiceUpdateSubscription.UPDATE_SUBSCRIPTION_MESSAGE)
+      .channel(NetworkConstants.INTERNAL_MSG_CHANNEL)
+      .buffer(DataBuf.empty().writeObject(this.serviceUpdateSubscription()))
+      .build()
+      .send();
+  }
+
   /**
    * Configures the given service info snapshot and updates the current and old service snapshot.
    *
@@ -27,6 +27,7 @@
 import eu.cloudnetservice.driver.network.def.PacketClientAuthorization;
 import eu.cloudnetservice.driver.network.protocol.Packet;
 import eu.cloudnetservice.wrapper.configuration.WrapperConfiguration;
+import eu.cloudnetservice.wrapper.holder.ServiceInfoHolder;
 import jakarta.inject.Inject;
 import lombok.NonNull;
 
@@ -34,11 +35,17 @@ public final class NetworkClientChannelHandler implements NetworkChannelHandler
 
   private final EventManager eventManager;
   private final WrapperConfiguration wrapperConfiguration;
+  private final ServiceInfoHolder serviceInfoHolder;
 
   @Inject
-  public NetworkClientChannelHandler(@NonNull EventManager eventManager, @NonNull WrapperConfiguration configuration) {
+  public NetworkClientChannelHandler(
+    @NonNull EventManager eventManager,
+    @NonNull WrapperConfiguration configuration,
+    @NonNull ServiceInfoHolder serviceInfoHolder
+  ) {
     this.eventManager = eventManager;
     this.wrapperConfiguration = configuration;
+    this.serviceInfoHolder = serviceInfoHolder;
   }
 
   @Override
@@ -54,6 +61,9 @@ public void handleChannelInitialize(@NonNull NetworkChannel channel) {
       DataBuf.empty()
         .writeString(this.wrapperConfiguration.connectionKey())
         .writeObject(this.wrapperConfiguration.serviceConfiguration().serviceId())));
+
+    // the node drops the subscription of the previous channel, publish it again for the new channel
+    this.serviceInfoHolder.publishServiceUpdateSubscription();
   }
 
   @Override
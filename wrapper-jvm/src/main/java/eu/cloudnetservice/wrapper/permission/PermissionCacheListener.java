@@ -38,6 +38,7 @@ public PermissionCacheListener(@NonNull WrapperPermissionManagement permissionMa
   @EventListener
   public void handle(@NonNull PermissionUpdateUserEvent event) {
     var user = event.permissionUser();
+    this.permissionManagement.invalidateCompiledPermissions(user);
     if (this.permissionManagement.cachedPermissionUsers().containsKey(user.uniqueId())) {
       this.permissionManagement.cachedPermissionUsers().put(user.uniqueId(), user);
     }
@@ -45,11 +46,13 @@ public void handle(@NonNull PermissionUpdateUserEvent event) {
 
   @EventListener
   public void handle(@NonNull PermissionDeleteUserEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions(event.permissionUser());
     this.permissionManagement.cachedPermissionUsers().remove(event.permissionUser().uniqueId());
   }
 
   @EventListener
   public void handle(@NonNull PermissionAddGroupEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
     this.permissionManagement.cachedPermissionGroups().put(
       event.permissionGroup().name(),
       event.permissionGroup());
@@ -57,6 +60,7 @@ public void handle(@NonNull PermissionAddGroupEvent event) {
 
   @EventListener
   public void handle(@NonNull PermissionUpdateGroupEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
     this.permissionManagement.cachedPermissionGroups().put(
       event.permissionGroup().name(),
       event.permissionGroup());
@@ -64,12 +68,14 @@ public void handle(@NonNull PermissionUpdateGroupEvent event) {
 
   @EventListener
   public void handle(@NonNull PermissionDeleteGroupEvent event) {
+    this.permissionManagement.invalidateCompiledPermissions();
     this.permissionManagement.cachedPermissionGroups().remove(event.permissionGroup().name());
   }
 
   @EventListener
   public void handle(@NonNull PermissionSetGroupsEvent event) {
     this.permissionManagement.cachedPermissionGroups().clear();
+    this.permissionManagement.invalidateCompiledPermissions();
 
     for (var permissionGroup : event.groups()) {
       this.permissionManagement.cachedPermissionGroups().put(permissionGroup.name(), permissionGroup);